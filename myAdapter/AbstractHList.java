@@ -0,0 +1,631 @@
+package myAdapter;
+
+import java.util.NoSuchElementException;
+
+/**
+ * <p>
+ * A skeletal implementation of the {@link HList} interface, which takes the place of
+ * {@code java.util.AbstractList}. To implement an unmodifiable list it is enough to
+ * implement {@link #get(int)} and {@link #size()}; to implement a modifiable list,
+ * {@link #set(int, Object)} must be overridden as well, and a variable-size list must also
+ * override {@link #add(int, Object)} and {@link #remove(int)}.
+ * </p>
+ * <p>
+ * Every other operation, including iterators and subLists, is implemented in terms of those
+ * methods. The optional operations that are not overridden throw
+ * {@link UnsupportedOperationException}. Subclasses are free to override any method with a
+ * more efficient implementation.
+ * </p>
+ */
+public abstract class AbstractHList implements HList {
+
+    /**
+     * Sole constructor, for invocation by subclass constructors.
+     */
+    protected AbstractHList() {
+    }
+
+    /**
+     * Returns the element at the specified position in this list.
+     *
+     * @param index index of element to return.
+     * @return the element at the specified position in this list.
+     * @throws IndexOutOfBoundsException if the index is out of range {@code (index < 0 || index >= size())}.
+     */
+    public abstract Object get(int index);
+
+    /**
+     * Returns the number of elements in this list.
+     *
+     * @return the number of elements in this list.
+     */
+    public abstract int size();
+
+    /**
+     * Replaces the element at the specified position in this list with the specified element.
+     * This implementation always throws an {@link UnsupportedOperationException}.
+     *
+     * @param index   index of element to replace.
+     * @param element element to be stored at the specified position.
+     * @return the element previously at the specified position.
+     * @throws UnsupportedOperationException if the {@code set} method is not supported by this list.
+     */
+    public Object set(int index, Object element) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Inserts the specified element at the specified position in this list.
+     * This implementation always throws an {@link UnsupportedOperationException}.
+     *
+     * @param index   index at which the specified element is to be inserted.
+     * @param element element to be inserted.
+     * @throws UnsupportedOperationException if the {@code add} method is not supported by this list.
+     */
+    public void add(int index, Object element) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Removes the element at the specified position in this list.
+     * This implementation always throws an {@link UnsupportedOperationException}.
+     *
+     * @param index the index of the element to removed.
+     * @return the element previously at the specified position.
+     * @throws UnsupportedOperationException if the {@code remove} method is not supported by this list.
+     */
+    public Object remove(int index) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Returns {@code true} if this list contains no elements.
+     *
+     * @return {@code true} if this list contains no elements.
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Returns {@code true} if this list contains the specified element.
+     *
+     * @param o element whose presence in this list is to be tested.
+     * @return {@code true} if this list contains the specified element.
+     */
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    /**
+     * Returns an iterator over the elements in this list in proper sequence.
+     *
+     * @return an iterator over the elements in this list in proper sequence.
+     */
+    public HIterator iterator() {
+        return new ListItr(0);
+    }
+
+    /**
+     * Returns an array containing all the elements in this list in proper sequence.
+     *
+     * @return an array containing all the elements in this list in proper sequence.
+     */
+    public Object[] toArray() {
+        Object[] array = new Object[size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = get(i);
+        }
+        return array;
+    }
+
+    /**
+     * Returns an array containing all the elements in this list in proper sequence, stored in
+     * the specified array if it is big enough.
+     *
+     * @param a the array into which the elements of this list are to be stored, if it is big enough.
+     * @return an array containing the elements of this list.
+     * @throws NullPointerException if the specified array is {@code null}.
+     */
+    public Object[] toArray(Object[] a) {
+        if (a == null)
+            throw new NullPointerException();
+        int size = size();
+        if (a.length < size)
+            a = new Object[size];
+        for (int i = 0; i < size; i++) {
+            a[i] = get(i);
+        }
+        if (a.length > size)
+            a[size] = null;
+        return a;
+    }
+
+    /**
+     * Appends the specified element to the end of this list, by calling {@code add(size(), o)}.
+     *
+     * @param o element to be appended to this list.
+     * @return {@code true}.
+     * @throws UnsupportedOperationException if the {@code add} method is not supported by this list.
+     */
+    public boolean add(Object o) {
+        add(size(), o);
+        return true;
+    }
+
+    /**
+     * Removes the first occurrence in this list of the specified element.
+     *
+     * @param o element to be removed from this list, if present.
+     * @return {@code true} if this list contained the specified element.
+     * @throws UnsupportedOperationException if the {@code remove} method is not supported by this list.
+     */
+    public boolean remove(Object o) {
+        int index = indexOf(o);
+        if (index < 0)
+            return false;
+        remove(index);
+        return true;
+    }
+
+    /**
+     * Returns {@code true} if this list contains all the elements of the specified collection.
+     *
+     * @param c collection to be checked for containment in this list.
+     * @return {@code true} if this list contains all the elements of the specified collection.
+     * @throws NullPointerException if the specified collection is {@code null}.
+     */
+    public boolean containsAll(HCollection c) {
+        if (c == null)
+            throw new NullPointerException();
+        HIterator it = c.iterator();
+        while (it.hasNext()) {
+            if (!contains(it.next()))
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Appends all the elements in the specified collection to the end of this list.
+     *
+     * @param c collection whose elements are to be added to this list.
+     * @return {@code true} if this list changed as a result of the call.
+     * @throws NullPointerException          if the specified collection is {@code null}.
+     * @throws UnsupportedOperationException if the {@code add} method is not supported by this list.
+     */
+    public boolean addAll(HCollection c) {
+        return addAll(size(), c);
+    }
+
+    /**
+     * Inserts all the elements in the specified collection into this list at the specified
+     * position. The elements of the collection are read before the first one is inserted, so the
+     * collection may be this list or one of its subLists.
+     *
+     * @param index index at which to insert first element from the specified collection.
+     * @param c     elements to be inserted into this list.
+     * @return {@code true} if this list changed as a result of the call.
+     * @throws NullPointerException          if the specified collection is {@code null}.
+     * @throws IndexOutOfBoundsException     if the index is out of range {@code (index < 0 || index > size())}.
+     * @throws UnsupportedOperationException if the {@code add} method is not supported by this list.
+     */
+    public boolean addAll(int index, HCollection c) {
+        if (c == null)
+            throw new NullPointerException();
+        if (index < 0 || index > size())
+            throw new IndexOutOfBoundsException();
+        Object[] elements = c.toArray();
+        for (int i = 0; i < elements.length; i++) {
+            add(index++, elements[i]);
+        }
+        return elements.length != 0;
+    }
+
+    /**
+     * Removes from this list all the elements that are contained in the specified collection.
+     *
+     * @param c collection that defines which elements will be removed from this list.
+     * @return {@code true} if this list changed as a result of the call.
+     * @throws NullPointerException          if the specified collection is {@code null}.
+     * @throws UnsupportedOperationException if the {@code set} or {@code remove} method is not supported by this list.
+     */
+    public boolean removeAll(HCollection c) {
+        return batchRemove(c, true);
+    }
+
+    /**
+     * Retains only the elements in this list that are contained in the specified collection.
+     *
+     * @param c collection that defines which elements this list will retain.
+     * @return {@code true} if this list changed as a result of the call.
+     * @throws NullPointerException          if the specified collection is {@code null}.
+     * @throws UnsupportedOperationException if the {@code set} or {@code remove} method is not supported by this list.
+     */
+    public boolean retainAll(HCollection c) {
+        return batchRemove(c, false);
+    }
+
+    /**
+     * Removes the elements whose presence in the specified collection is equal to {@code removePresent}.
+     * The elements of the collection are read first, since it may be a view of this list. The
+     * elements that are kept are then compacted with {@code set} in a single pass, and the tail
+     * left free is removed with a single call to {@code removeRange}, so that the cost is linear
+     * in the size of this list, instead of one {@code remove(int)} for every element removed.
+     *
+     * @param c             the collection to test the elements against.
+     * @param removePresent {@code true} to remove the elements contained in the collection, {@code false} to remove the others.
+     * @return {@code true} if this list changed as a result of the call.
+     * @throws NullPointerException if the specified collection is {@code null}.
+     */
+    private boolean batchRemove(HCollection c, boolean removePresent) {
+        if (c == null)
+            throw new NullPointerException();
+        Object[] elements = c.toArray();
+        int size = size();
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            Object current = get(i);
+            if (arrayContains(elements, current) != removePresent) {
+                if (kept != i)
+                    set(kept, current);
+                kept++;
+            }
+        }
+        if (kept == size)
+            return false;
+        removeRange(kept, size);
+        return true;
+    }
+
+    /**
+     * Returns {@code true} if the specified array contains the specified element.
+     *
+     * @param a the array to search.
+     * @param o element to search for.
+     * @return {@code true} if the array contains the element.
+     */
+    private static boolean arrayContains(Object[] a, Object o) {
+        for (int i = 0; i < a.length; i++) {
+            if (o == null ? a[i] == null : o.equals(a[i]))
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * Removes all the elements from this list, by calling {@code removeRange(0, size())}.
+     *
+     * @throws UnsupportedOperationException if the {@code remove} method is not supported by this list.
+     */
+    public void clear() {
+        removeRange(0, size());
+    }
+
+    /**
+     * Removes the elements whose index is between {@code fromIndex}, inclusive, and
+     * {@code toIndex}, exclusive. This implementation removes them from the last one, so that
+     * array based subclasses only shift the elements that follow the range.
+     *
+     * @param fromIndex index of the first element to be removed.
+     * @param toIndex   index after the last element to be removed.
+     * @throws UnsupportedOperationException if the {@code remove} method is not supported by this list.
+     */
+    protected void removeRange(int fromIndex, int toIndex) {
+        for (int i = toIndex - 1; i >= fromIndex; i--) {
+            remove(i);
+        }
+    }
+
+    /**
+     * Compares the specified object with this list for equality. Returns {@code true} if and
+     * only if the specified object is also an {@link HList} with the same elements in the same order.
+     *
+     * @param o the object to be compared for equality with this list.
+     * @return {@code true} if the specified object is equal to this list.
+     */
+    public boolean equals(Object o) {
+        if (o == this)
+            return true;
+        if (!(o instanceof HList))
+            return false;
+        HIterator it1 = iterator();
+        HIterator it2 = ((HList) o).iterator();
+        while (it1.hasNext() && it2.hasNext()) {
+            Object o1 = it1.next();
+            Object o2 = it2.next();
+            if (!(o1 == null ? o2 == null : o1.equals(o2)))
+                return false;
+        }
+        return !(it1.hasNext() || it2.hasNext());
+    }
+
+    /**
+     * Returns the hash code value for this list, computed as specified by {@link HList#hashCode()}.
+     *
+     * @return the hash code value for this list.
+     */
+    public int hashCode() {
+        int hashCode = 1;
+        HIterator it = iterator();
+        while (it.hasNext()) {
+            Object obj = it.next();
+            hashCode = 31 * hashCode + (obj == null ? 0 : obj.hashCode());
+        }
+        return hashCode;
+    }
+
+    /**
+     * Returns a string representation of this list, made of the string representations of its
+     * elements, in order, separated by {@code ", "} and enclosed in square brackets.
+     *
+     * @return a string representation of this list.
+     */
+    public String toString() {
+        StringBuffer sb = new StringBuffer("[");
+        HIterator it = iterator();
+        while (it.hasNext()) {
+            sb.append(it.next());
+            if (it.hasNext())
+                sb.append(", ");
+        }
+        return sb.append(']').toString();
+    }
+
+    /**
+     * Returns the index in this list of the first occurrence of the specified element, or -1.
+     *
+     * @param o element to search for.
+     * @return the index of the first occurrence of the element, or -1 if this list does not contain it.
+     */
+    public int indexOf(Object o) {
+        int size = size();
+        for (int i = 0; i < size; i++) {
+            Object current = get(i);
+            if (o == null ? current == null : o.equals(current))
+                return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index in this list of the last occurrence of the specified element, or -1.
+     *
+     * @param o element to search for.
+     * @return the index of the last occurrence of the element, or -1 if this list does not contain it.
+     */
+    public int lastIndexOf(Object o) {
+        for (int i = size() - 1; i >= 0; i--) {
+            Object current = get(i);
+            if (o == null ? current == null : o.equals(current))
+                return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns a list iterator of the elements in this list (in proper sequence).
+     *
+     * @return a list iterator of the elements in this list.
+     */
+    public HListIterator listIterator() {
+        return new ListItr(0);
+    }
+
+    /**
+     * Returns a list iterator of the elements in this list (in proper sequence), starting at the
+     * specified position in this list.
+     *
+     * @param index index of first element to be returned from the list iterator.
+     * @return a list iterator of the elements in this list, starting at the specified position.
+     * @throws IndexOutOfBoundsException if the index is out of range {@code (index < 0 || index > size())}.
+     */
+    public HListIterator listIterator(int index) {
+        if (index < 0 || index > size())
+            throw new IndexOutOfBoundsException();
+        return new ListItr(index);
+    }
+
+    /**
+     * Returns a view of the portion of this list between the specified {@code fromIndex},
+     * inclusive, and {@code toIndex}, exclusive. The view is backed by this list and supports
+     * the same optional operations.
+     *
+     * @param fromIndex low endpoint (inclusive) of the subList.
+     * @param toIndex   high endpoint (exclusive) of the subList.
+     * @return a view of the specified range within this list.
+     * @throws IndexOutOfBoundsException for an illegal endpoint index value {@code (fromIndex < 0 || toIndex > size || fromIndex > toIndex)}.
+     */
+    public HList subList(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size() || fromIndex > toIndex)
+            throw new IndexOutOfBoundsException();
+        return new SubList(this, fromIndex, toIndex);
+    }
+
+    /**
+     * Returns {@code n} iterators over disjoint consecutive ranges of this list, which read the
+     * elements with {@link #get(int)}.
+     *
+     * @param n the number of ranges.
+     * @return the iterators, in the order of their ranges.
+     * @throws IllegalArgumentException if {@code n} is not positive.
+     */
+    public HIterator[] partition(int n) {
+        return HRangeIterator.partition(this, n);
+    }
+
+    /**
+     * An index based list iterator, which uses the positional methods of the list.
+     */
+    private class ListItr implements HListIterator {
+        /**
+         * The index of the element that would be returned by a subsequent call to next.
+         */
+        private int cursor;
+
+        /**
+         * The index of the last element returned by next or previous, or -1 if it has been removed or no element has been returned.
+         */
+        private int lastRet = -1;
+
+        /**
+         * Constructs an iterator positioned at the specified index.
+         *
+         * @param index the initial position of the cursor.
+         */
+        ListItr(int index) {
+            cursor = index;
+        }
+
+        public boolean hasNext() {
+            return cursor < size();
+        }
+
+        /**
+         * Returns the next element in the list.
+         *
+         * @return the next element in the list.
+         * @throws NoSuchElementException if the iteration has no next element.
+         */
+        public Object next() {
+            if (cursor >= size())
+                throw new NoSuchElementException();
+            Object o = get(cursor);
+            lastRet = cursor++;
+            return o;
+        }
+
+        public boolean hasPrevious() {
+            return cursor > 0;
+        }
+
+        /**
+         * Returns the previous element in the list.
+         *
+         * @return the previous element in the list.
+         * @throws NoSuchElementException if the iteration has no previous element.
+         */
+        public Object previous() {
+            if (cursor <= 0)
+                throw new NoSuchElementException();
+            Object o = get(cursor - 1);
+            lastRet = --cursor;
+            return o;
+        }
+
+        public int nextIndex() {
+            return cursor;
+        }
+
+        public int previousIndex() {
+            return cursor - 1;
+        }
+
+        /**
+         * Removes from the list the last element that was returned by next or previous.
+         *
+         * @throws IllegalStateException neither next nor previous have been called, or remove or add have been called after the last call to next or previous.
+         */
+        public void remove() {
+            if (lastRet < 0)
+                throw new IllegalStateException();
+            AbstractHList.this.remove(lastRet);
+            cursor = lastRet;
+            lastRet = -1;
+        }
+
+        /**
+         * Replaces the last element returned by next or previous with the specified element.
+         *
+         * @param o the element with which to replace the last element returned by next or previous.
+         * @throws IllegalStateException neither next nor previous have been called, or remove or add have been called after the last call to next or previous.
+         */
+        public void set(Object o) {
+            if (lastRet < 0)
+                throw new IllegalStateException();
+            AbstractHList.this.set(lastRet, o);
+        }
+
+        public void add(Object o) {
+            AbstractHList.this.add(cursor++, o);
+            lastRet = -1;
+        }
+    }
+
+    /**
+     * A view of a range of another list, which translates every index by the offset of the range.
+     */
+    private static class SubList extends AbstractHList {
+        /**
+         * The list this view was created from.
+         */
+        private final AbstractHList parent;
+
+        /**
+         * The index in the parent list of the first element of the view.
+         */
+        private final int offset;
+
+        /**
+         * The number of elements of the view.
+         */
+        private int size;
+
+        /**
+         * Constructs a view of the range {@code [fromIndex, toIndex)} of the specified list.
+         *
+         * @param parent    the list to view.
+         * @param fromIndex low endpoint (inclusive) of the range.
+         * @param toIndex   high endpoint (exclusive) of the range.
+         */
+        SubList(AbstractHList parent, int fromIndex, int toIndex) {
+            this.parent = parent;
+            this.offset = fromIndex;
+            this.size = toIndex - fromIndex;
+        }
+
+        /**
+         * Checks that the specified index is a valid element index of this view.
+         *
+         * @param index the index to check.
+         * @throws IndexOutOfBoundsException if the index is out of range {@code (index < 0 || index >= size())}.
+         */
+        private void checkIndex(int index) {
+            if (index < 0 || index >= size)
+                throw new IndexOutOfBoundsException();
+        }
+
+        public Object get(int index) {
+            checkIndex(index);
+            return parent.get(offset + index);
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public Object set(int index, Object element) {
+            checkIndex(index);
+            return parent.set(offset + index, element);
+        }
+
+        public void add(int index, Object element) {
+            if (index < 0 || index > size)
+                throw new IndexOutOfBoundsException();
+            parent.add(offset + index, element);
+            size++;
+        }
+
+        public Object remove(int index) {
+            checkIndex(index);
+            Object old = parent.remove(offset + index);
+            size--;
+            return old;
+        }
+
+        protected void removeRange(int fromIndex, int toIndex) {
+            parent.removeRange(offset + fromIndex, offset + toIndex);
+            size -= toIndex - fromIndex;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package myAdapter;
+
+/**
+ * <p>
+ * Represents an operation upon two operands of the same type, producing a
+ * result of the same type as the operands.
+ * Since cldc 1.1 does not provide {@code java.util.function}, this interface
+ * is used by {@link HPipeline#reduce(Object, HBinaryOperator)}.
+ * </p>
+ */
+public interface HBinaryOperator {
+
+    /**
+     * Applies this operator to the given operands.
+     *
+     * @param a the first operand.
+     * @param b the second operand.
+     * @return the operator result.
+     */
+    Object apply(Object a, Object b);
+}
@@ -0,0 +1,172 @@
+package myAdapter;
+
+/**
+ * <p>
+ * The locking strategy used by a {@link ListAdapter} to protect its operations. A policy is
+ * chosen when the list is constructed and is shared by all its subLists, so that every
+ * operation, including compound ones such as {@code remove(int)} or {@code addAll}, runs
+ * under a single acquisition of the same lock.
+ * </p>
+ * <p>
+ * Read operations are bracketed by {@link #readLock()} and {@link #readUnlock()}, write
+ * operations by {@link #writeLock()} and {@link #writeUnlock()}. A policy may also support
+ * optimistic reads: {@link #tryOptimisticRead()} returns a non-zero stamp, the caller reads
+ * without locking and then keeps the result only if {@link #validate(long)} confirms that no
+ * write happened in the meantime, otherwise it reads again under the read lock.
+ * </p>
+ * <p>
+ * Two policies are available in cldc 1.1: {@link #NONE}, for lists owned by a single thread,
+ * and {@link #monitor()}, a reentrant mutual exclusion lock built on the object monitor.
+ * Policies based on {@code java.util.concurrent} locks are in the myConcurrent package.
+ * </p>
+ */
+public abstract class HConcurrencyPolicy {
+
+    /**
+     * The policy for lists that are only accessed by one thread: it never locks and every
+     * optimistic read is valid.
+     */
+    public static final HConcurrencyPolicy NONE = new NoLockPolicy();
+
+    /**
+     * Returns a new reentrant mutual exclusion policy based on the object monitor. Readers
+     * exclude each other as well as writers, as with a synchronized collection.
+     *
+     * @return a new monitor policy.
+     */
+    public static HConcurrencyPolicy monitor() {
+        return new MonitorPolicy();
+    }
+
+    /**
+     * Acquires the lock for a read operation, blocking if necessary.
+     */
+    public abstract void readLock();
+
+    /**
+     * Releases the lock acquired by {@link #readLock()}.
+     */
+    public abstract void readUnlock();
+
+    /**
+     * Acquires the lock for a write operation, blocking if necessary.
+     */
+    public abstract void writeLock();
+
+    /**
+     * Releases the lock acquired by {@link #writeLock()}.
+     */
+    public abstract void writeUnlock();
+
+    /**
+     * Returns a stamp for an optimistic read, or zero if optimistic reads are not supported or
+     * a write is in progress. The default implementation returns zero.
+     *
+     * @return a non-zero stamp, or zero.
+     */
+    public long tryOptimisticRead() {
+        return 0L;
+    }
+
+    /**
+     * Returns {@code true} if no write has happened since the specified stamp was issued by
+     * {@link #tryOptimisticRead()}. The default implementation returns {@code false}.
+     *
+     * @param stamp a stamp returned by {@link #tryOptimisticRead()}.
+     * @return {@code true} if the values read since the stamp was issued are consistent.
+     */
+    public boolean validate(long stamp) {
+        return false;
+    }
+
+    /**
+     * The policy that never locks.
+     */
+    private static class NoLockPolicy extends HConcurrencyPolicy {
+        public void readLock() {
+        }
+
+        public void readUnlock() {
+        }
+
+        public void writeLock() {
+        }
+
+        public void writeUnlock() {
+        }
+
+        public long tryOptimisticRead() {
+            return 1L;
+        }
+
+        public boolean validate(long stamp) {
+            return true;
+        }
+
+        public String toString() {
+            return "none";
+        }
+    }
+
+    /**
+     * A reentrant mutual exclusion lock built on the monitor of the policy object with
+     * {@code wait} and {@code notify}, which are the only synchronization primitives of cldc 1.1.
+     */
+    private static class MonitorPolicy extends HConcurrencyPolicy {
+        /**
+         * The thread that holds the lock, or null if the lock is free.
+         */
+        private Thread owner;
+
+        /**
+         * The number of times the owner has acquired the lock without releasing it.
+         */
+        private int holds;
+
+        public void readLock() {
+            writeLock();
+        }
+
+        public void readUnlock() {
+            writeUnlock();
+        }
+
+        public synchronized void writeLock() {
+            Thread current = Thread.currentThread();
+            if (owner == current) {
+                holds++;
+                return;
+            }
+            boolean interrupted = false;
+            while (owner != null) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            owner = current;
+            holds = 1;
+            if (interrupted)
+                current.interrupt();
+        }
+
+        /**
+         * Releases the lock.
+         *
+         * @throws IllegalStateException if the current thread does not hold the lock.
+         */
+        public synchronized void writeUnlock() {
+            if (owner != Thread.currentThread())
+                throw new IllegalStateException();
+            if (--holds == 0) {
+                owner = null;
+                notify();
+            }
+        }
+
+        public String toString() {
+            return "monitor";
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package myAdapter;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * <p>
+ * Encodes and decodes the elements of one type for an {@link HListCodec}. A codec is
+ * registered with a tag, which is written before every element it encodes (or once for a whole
+ * block of elements of the same type), so it must decode exactly the bytes it encoded.
+ * </p>
+ */
+public interface HElementCodec {
+
+    /**
+     * Returns {@code true} if this codec can encode the specified element, which is never {@code null}.
+     *
+     * @param o the element.
+     * @return {@code true} if the element can be encoded by this codec.
+     */
+    boolean accepts(Object o);
+
+    /**
+     * Writes the specified element, which has been accepted by this codec.
+     *
+     * @param o   the element.
+     * @param out the output to write to.
+     * @throws IOException if an I/O error occurs.
+     */
+    void write(Object o, DataOutput out) throws IOException;
+
+    /**
+     * Reads an element written by {@link #write(Object, DataOutput)}.
+     *
+     * @param in the input to read from.
+     * @return the element.
+     * @throws IOException if an I/O error occurs or the data is malformed.
+     */
+    Object read(DataInput in) throws IOException;
+}
@@ -0,0 +1,163 @@
+package myAdapter;
+
+/**
+ * <p>
+ * The estimated memory footprint of a list, returned by {@link HMeasurable#footprint()}. The
+ * bytes are split by what holds them:
+ * </p>
+ * <ul>
+ * <li>the shallow bytes of the objects of the list itself, including the lists it keeps alive, as
+ * a subList does with the list it was created from;</li>
+ * <li>the bytes of the arrays or buffers on the heap that store the elements, or their encoded
+ * form, with their spare capacity;</li>
+ * <li>the bytes of the elements, if they were requested;</li>
+ * <li>the bytes outside the heap, in direct buffers or mapped files.</li>
+ * </ul>
+ * <p>
+ * All the values are estimates of an {@link HSizeModel}, taken at one moment.
+ * </p>
+ */
+public class HFootprint {
+
+    /**
+     * The number of elements of the list.
+     */
+    private final int size;
+
+    /**
+     * The shallow bytes of the objects of the list.
+     */
+    private final long shallowBytes;
+
+    /**
+     * The bytes of the arrays that store the elements.
+     */
+    private final long backingBytes;
+
+    /**
+     * The number of elements that fit in the backing arrays without growing them.
+     */
+    private final long spareCapacity;
+
+    /**
+     * The bytes of the spare capacity.
+     */
+    private final long spareBytes;
+
+    /**
+     * The bytes of the elements, or -1 if they were not measured.
+     */
+    private final long elementBytes;
+
+    /**
+     * The bytes outside the heap.
+     */
+    private final long offHeapBytes;
+
+    /**
+     * Constructs a footprint.
+     *
+     * @param size          the number of elements of the list.
+     * @param shallowBytes  the shallow bytes of the objects of the list.
+     * @param backingBytes  the bytes of the arrays that store the elements, including the spare capacity.
+     * @param spareCapacity the number of elements that fit in the backing arrays without growing them.
+     * @param spareBytes    the bytes of the spare capacity.
+     * @param elementBytes  the bytes of the elements, or -1 if they were not measured.
+     * @param offHeapBytes  the bytes outside the heap.
+     */
+    public HFootprint(int size, long shallowBytes, long backingBytes, long spareCapacity, long spareBytes,
+                      long elementBytes, long offHeapBytes) {
+        this.size = size;
+        this.shallowBytes = shallowBytes;
+        this.backingBytes = backingBytes;
+        this.spareCapacity = spareCapacity;
+        this.spareBytes = spareBytes;
+        this.elementBytes = elementBytes;
+        this.offHeapBytes = offHeapBytes;
+    }
+
+    /**
+     * Returns the number of elements of the list.
+     *
+     * @return the number of elements.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the shallow bytes of the objects of the list, including the lists it keeps alive.
+     *
+     * @return the bytes.
+     */
+    public long shallowBytes() {
+        return shallowBytes;
+    }
+
+    /**
+     * Returns the bytes of the arrays or heap buffers that store the elements, including the spare capacity.
+     *
+     * @return the bytes.
+     */
+    public long backingBytes() {
+        return backingBytes;
+    }
+
+    /**
+     * Returns the number of elements that fit in the backing arrays without growing them.
+     *
+     * @return the number of elements.
+     */
+    public long spareCapacity() {
+        return spareCapacity;
+    }
+
+    /**
+     * Returns the bytes of the spare capacity, which are part of the backing bytes, or of the bytes
+     * outside the heap if the elements are stored there.
+     *
+     * @return the bytes.
+     */
+    public long spareBytes() {
+        return spareBytes;
+    }
+
+    /**
+     * Returns the bytes of the elements, as estimated by {@link HSizeModel#sizeOf(Object)}.
+     *
+     * @return the bytes, or -1 if they were not measured.
+     */
+    public long elementBytes() {
+        return elementBytes;
+    }
+
+    /**
+     * Returns the bytes outside the heap, in direct buffers or mapped files.
+     *
+     * @return the bytes.
+     */
+    public long offHeapBytes() {
+        return offHeapBytes;
+    }
+
+    /**
+     * Returns the bytes on the heap: the shallow and backing bytes, and the bytes of the elements if they were measured.
+     *
+     * @return the bytes.
+     */
+    public long heapBytes() {
+        return shallowBytes + backingBytes + Math.max(elementBytes, 0);
+    }
+
+    /**
+     * Returns a string representation of the footprint.
+     *
+     * @return the string.
+     */
+    public String toString() {
+        return "HFootprint[size=" + size + ", shallow=" + shallowBytes + ", backing=" + backingBytes
+                + ", spare=" + spareCapacity + " (" + spareBytes + " bytes), elements="
+                + (elementBytes < 0 ? "unmeasured" : String.valueOf(elementBytes))
+                + ", offHeap=" + offHeapBytes + "]";
+    }
+}
@@ -0,0 +1,19 @@
+package myAdapter;
+
+/**
+ * <p>
+ * Represents a function that accepts one argument and produces a result.
+ * Since cldc 1.1 does not provide {@code java.util.function}, this interface
+ * is used by {@link HPipeline} for the {@code map} and {@code flatMap} stages.
+ * </p>
+ */
+public interface HFunction {
+
+    /**
+     * Applies this function to the given argument.
+     *
+     * @param o the function argument.
+     * @return the function result.
+     */
+    Object apply(Object o);
+}
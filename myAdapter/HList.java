@@ -488,4 +488,20 @@ public interface HList extends HCollection {
      */
     HList subList(int fromIndex, int toIndex);
 
+    /**
+     * <p>
+     * Returns {@code n} iterators over disjoint consecutive ranges of this list, of nearly equal
+     * length, which together cover the whole list in order. Some of the ranges are empty if the
+     * list has fewer than {@code n} elements.</p>
+     * <p>
+     * The iterators are independent of each other, so each one can be consumed by a different
+     * thread, and they do not support {@code remove}. The ranges are computed when this method
+     * is called: the behavior of the iterators is unspecified if this list is structurally
+     * modified before they are exhausted.</p>
+     *
+     * @param n the number of ranges.
+     * @return the iterators, in the order of their ranges.
+     * @throws IllegalArgumentException if {@code n} is not positive.
+     */
+    HIterator[] partition(int n);
 }
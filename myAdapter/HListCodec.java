@@ -0,0 +1,732 @@
+package myAdapter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * <p>
+ * A compact binary format for lists, written to a {@link DataOutputStream} and read back from
+ * a {@link DataInputStream}. It replaces {@code toString()} and hand-written parsing: the
+ * type of every element is preserved and {@code null} elements are supported.
+ * </p>
+ * <p>
+ * The elements are encoded by {@link HElementCodec}s, each identified by a tag. Strings and
+ * the wrappers of the primitive types are built in; other types can be added with
+ * {@link #register(int, HElementCodec)}, using the tags from {@link #FIRST_USER_TAG} to
+ * {@link #MAX_TAG}. The wrappers are created with their constructors, the only way CLDC has to
+ * box a primitive value: on the JDK they are deprecated for removal, and the warnings they
+ * cause are expected (javac {@code -Xlint:-removal} silences them).
+ * </p>
+ * <p>
+ * The format is a header (the magic number {@code 0x484C}, the version and the number of
+ * elements as a varint) followed by blocks of up to {@link #BLOCK_SIZE} elements. Every block
+ * is framed by its length in bytes, so that a reader can skip it, and starts with a header
+ * byte that holds a flag for the presence of {@code null} elements and the tag of the block:
+ * </p>
+ * <ul>
+ *     <li>if the block contains {@code null} elements, a bitmap with one bit per element
+ *     (set for {@code null}) follows the header byte;</li>
+ *     <li>if all the other elements are encoded by the same codec (the common case of a list of
+ *     Integers or Strings), its tag is written once in the header byte and the elements follow
+ *     without any tag: Integers and Longs are then written back to back as zigzag varints;</li>
+ *     <li>otherwise the tag of the block is 0 and every element is preceded by its own tag.</li>
+ * </ul>
+ * <p>
+ * Sizes and lengths are written as unsigned varints (7 bits per byte, low bits first). Only
+ * one block is buffered at a time while writing, and {@link #read(DataInputStream)} decodes
+ * the elements directly into the array that becomes the backing storage of the returned
+ * ListAdapter, without calling {@code add}.
+ * </p>
+ */
+public class HListCodec {
+
+    /**
+     * The first tag that can be used by a registered codec.
+     */
+    public static final int FIRST_USER_TAG = 16;
+
+    /**
+     * The greatest tag that can be used by a registered codec.
+     */
+    public static final int MAX_TAG = 127;
+
+    /**
+     * The maximum number of elements of a block.
+     */
+    public static final int BLOCK_SIZE = 64;
+
+    /**
+     * The magic number at the start of an encoded list.
+     */
+    public static final int MAGIC = 0x484C;
+
+    /**
+     * The version of the format.
+     */
+    public static final int VERSION = 1;
+
+    /**
+     * The tag of a block whose elements have different codecs.
+     */
+    public static final int MIXED = 0;
+
+    /**
+     * The tag of {@link String}.
+     */
+    static final int STRING = 1;
+
+    /**
+     * The tag of {@link Integer}.
+     */
+    static final int INTEGER = 2;
+
+    /**
+     * The tag of {@link Long}.
+     */
+    static final int LONG = 3;
+
+    /**
+     * The tag of {@link Boolean}.
+     */
+    static final int BOOLEAN = 4;
+
+    /**
+     * The tag of {@link Byte}.
+     */
+    static final int BYTE = 5;
+
+    /**
+     * The tag of {@link Short}.
+     */
+    static final int SHORT = 6;
+
+    /**
+     * The tag of {@link Character}.
+     */
+    static final int CHARACTER = 7;
+
+    /**
+     * The tag of {@link Float}.
+     */
+    static final int FLOAT = 8;
+
+    /**
+     * The tag of {@link Double}.
+     */
+    static final int DOUBLE = 9;
+
+    /**
+     * The maximum number of elements allocated before they have actually been read, so that a
+     * corrupted size cannot exhaust the memory.
+     */
+    private static final int MAX_PRESIZE = 1 << 16;
+
+    /**
+     * The codecs, indexed by tag.
+     */
+    private final HElementCodec[] codecs = new HElementCodec[MAX_TAG + 1];
+
+    /**
+     * The tags of the registered codecs, in order of registration.
+     */
+    private int[] userTags = new int[4];
+
+    /**
+     * The number of registered codecs.
+     */
+    private int userCount;
+
+    /**
+     * Constructs a codec that knows the built in types.
+     */
+    public HListCodec() {
+        for (int tag = STRING; tag <= DOUBLE; tag++) {
+            codecs[tag] = new BuiltinCodec(tag);
+        }
+    }
+
+    /**
+     * Registers a codec for another type of elements. The built in types are always encoded by
+     * the built in codecs; the other elements by the first registered codec that accepts them.
+     *
+     * @param tag   the tag of the codec, between {@link #FIRST_USER_TAG} and {@link #MAX_TAG}.
+     * @param codec the codec.
+     * @throws NullPointerException     if the specified codec is {@code null}.
+     * @throws IllegalArgumentException if the tag is out of range or already in use.
+     */
+    public void register(int tag, HElementCodec codec) {
+        if (codec == null)
+            throw new NullPointerException();
+        if (tag < FIRST_USER_TAG || tag > MAX_TAG || codecs[tag] != null)
+            throw new IllegalArgumentException("invalid tag: " + tag);
+        codecs[tag] = codec;
+        if (userCount == userTags.length) {
+            int[] grown = new int[userCount * 2];
+            System.arraycopy(userTags, 0, grown, 0, userCount);
+            userTags = grown;
+        }
+        userTags[userCount++] = tag;
+    }
+
+    /**
+     * Returns the tag of the codec of the specified element.
+     *
+     * @param o the element, not {@code null}.
+     * @return the tag.
+     * @throws IllegalArgumentException if no codec accepts the element.
+     */
+    private int tagOf(Object o) {
+        if (o instanceof String)
+            return STRING;
+        if (o instanceof Integer)
+            return INTEGER;
+        if (o instanceof Long)
+            return LONG;
+        if (o instanceof Boolean)
+            return BOOLEAN;
+        if (o instanceof Byte)
+            return BYTE;
+        if (o instanceof Short)
+            return SHORT;
+        if (o instanceof Character)
+            return CHARACTER;
+        if (o instanceof Float)
+            return FLOAT;
+        if (o instanceof Double)
+            return DOUBLE;
+        for (int i = 0; i < userCount; i++) {
+            if (codecs[userTags[i]].accepts(o))
+                return userTags[i];
+        }
+        throw new IllegalArgumentException("no codec for " + o.getClass().getName());
+    }
+
+    /**
+     * Returns the codec of the specified tag read from the input.
+     *
+     * @param tag the tag.
+     * @return the codec.
+     * @throws IOException if no codec has that tag.
+     */
+    private HElementCodec codec(int tag) throws IOException {
+        HElementCodec codec = tag > 0 && tag <= MAX_TAG ? codecs[tag] : null;
+        if (codec == null)
+            throw new IOException("unknown element tag: " + tag);
+        return codec;
+    }
+
+    /**
+     * Writes the elements of the specified collection, in the order of its {@code toArray()}.
+     *
+     * @param c   the collection to write.
+     * @param out the stream to write to.
+     * @throws NullPointerException     if the collection or the stream is {@code null}.
+     * @throws IllegalArgumentException if no codec accepts one of the elements.
+     * @throws IOException              if an I/O error occurs.
+     */
+    public void write(HCollection c, DataOutputStream out) throws IOException {
+        if (out == null)
+            throw new NullPointerException();
+        Object[] elements = c.toArray();
+        out.writeShort(MAGIC);
+        out.writeByte(VERSION);
+        writeVarInt(out, elements.length);
+        BlockBuffer buffer = new BlockBuffer();
+        DataOutputStream block = new DataOutputStream(buffer);
+        int[] tags = new int[BLOCK_SIZE];
+        for (int from = 0; from < elements.length; from += BLOCK_SIZE) {
+            int n = Math.min(BLOCK_SIZE, elements.length - from);
+            buffer.reset();
+            writeBlock(elements, from, n, tags, block);
+            block.flush();
+            writeVarInt(out, buffer.size());
+            buffer.copyTo(out);
+        }
+        out.flush();
+    }
+
+    /**
+     * Encodes one block of elements.
+     *
+     * @param elements the elements.
+     * @param from     the index of the first element of the block.
+     * @param n        the number of elements of the block.
+     * @param tags     an array of at least {@code n} positions for the tags of the elements.
+     * @param out      the output to write to.
+     * @throws IOException if an I/O error occurs.
+     */
+    private void writeBlock(Object[] elements, int from, int n, int[] tags, DataOutput out) throws IOException {
+        boolean hasNulls = false;
+        int blockTag = -1;
+        for (int i = 0; i < n; i++) {
+            Object o = elements[from + i];
+            if (o == null) {
+                hasNulls = true;
+                tags[i] = MIXED;
+                continue;
+            }
+            tags[i] = tagOf(o);
+            if (blockTag == -1)
+                blockTag = tags[i];
+            else if (blockTag != tags[i])
+                blockTag = MIXED;
+        }
+        if (blockTag == -1)
+            blockTag = MIXED;
+        out.writeByte(blockTag << 1 | (hasNulls ? 1 : 0));
+        if (hasNulls) {
+            for (int i = 0; i < n; i += 8) {
+                int bits = 0;
+                for (int j = i; j < n && j < i + 8; j++) {
+                    if (elements[from + j] == null)
+                        bits |= 1 << (j - i);
+                }
+                out.writeByte(bits);
+            }
+        }
+        for (int i = 0; i < n; i++) {
+            Object o = elements[from + i];
+            if (o == null)
+                continue;
+            if (blockTag == MIXED)
+                out.writeByte(tags[i]);
+            codecs[tags[i]].write(o, out);
+        }
+    }
+
+    /**
+     * Reads a list written by {@link #write(HCollection, DataOutputStream)} into a new
+     * ListAdapter protected by a {@link HConcurrencyPolicy#monitor()} policy.
+     *
+     * @param in the stream to read from.
+     * @return the list.
+     * @throws NullPointerException if the specified stream is {@code null}.
+     * @throws IOException          if an I/O error occurs or the data is malformed.
+     */
+    public ListAdapter read(DataInputStream in) throws IOException {
+        return read(in, HConcurrencyPolicy.monitor());
+    }
+
+    /**
+     * Reads a list written by {@link #write(HCollection, DataOutputStream)} into a new
+     * ListAdapter protected by the specified policy. The elements are decoded directly into the
+     * backing storage of the list, which is allocated with the size read from the header. Every
+     * block must take exactly the number of bytes of its frame.
+     *
+     * @param in     the stream to read from.
+     * @param policy the concurrency policy of the list.
+     * @return the list.
+     * @throws NullPointerException if the stream or the policy is {@code null}.
+     * @throws IOException          if an I/O error occurs or the data is malformed.
+     */
+    public ListAdapter read(DataInputStream in, HConcurrencyPolicy policy) throws IOException {
+        if (policy == null)
+            throw new NullPointerException();
+        int size = readHeader(in);
+        if (size < 0)
+            throw new IOException("malformed size: " + size);
+        CountingInputStream counter = new CountingInputStream(in);
+        DataInputStream blocks = new DataInputStream(counter);
+        Object[] elements = new Object[Math.min(size, MAX_PRESIZE)];
+        for (int from = 0; from < size; from += BLOCK_SIZE) {
+            int n = Math.min(BLOCK_SIZE, size - from);
+            if (from + n > elements.length) {
+                Object[] grown = new Object[(int) Math.min(size, 2L * elements.length)];
+                System.arraycopy(elements, 0, grown, 0, from);
+                elements = grown;
+            }
+            int length = readVarInt(blocks);
+            if (length <= 0)
+                throw new IOException("malformed block length: " + length);
+            long start = counter.count;
+            readBlock(blocks, elements, from, n);
+            if (counter.count - start != length)
+                throw new IOException("block length mismatch: " + length + " declared, " + (counter.count - start) + " read");
+        }
+        return new ListAdapter(elements, size, policy);
+    }
+
+    /**
+     * Reads the header of an encoded list. Together with {@link #readBlock}, it lets a reader
+     * that knows the format decode the blocks it needs and skip the others.
+     *
+     * @param in the input to read from.
+     * @return the number of elements of the list.
+     * @throws IOException if an I/O error occurs or the header is malformed.
+     */
+    public int readHeader(DataInput in) throws IOException {
+        if (in.readUnsignedShort() != MAGIC)
+            throw new IOException("not an encoded list");
+        int version = in.readUnsignedByte();
+        if (version != VERSION)
+            throw new IOException("unsupported version: " + version);
+        return readVarInt(in);
+    }
+
+    /**
+     * Decodes one block of elements, whose length has already been read.
+     *
+     * @param in       the input to read from.
+     * @param elements the array to store the elements into.
+     * @param from     the index of the array of the first element of the block.
+     * @param n        the number of elements of the block.
+     * @throws IOException if an I/O error occurs or the block is malformed.
+     */
+    public void readBlock(DataInput in, Object[] elements, int from, int n) throws IOException {
+        int header = in.readUnsignedByte();
+        int blockTag = header >>> 1;
+        HElementCodec blockCodec = blockTag == MIXED ? null : codec(blockTag);
+        long nulls = 0;
+        if ((header & 1) != 0) {
+            for (int i = 0; i < n; i += 8) {
+                nulls |= (long) in.readUnsignedByte() << i;
+            }
+        }
+        for (int i = 0; i < n; i++) {
+            if ((nulls & 1L << i) != 0)
+                elements[from + i] = null;
+            else if (blockCodec != null)
+                elements[from + i] = blockCodec.read(in);
+            else
+                elements[from + i] = codec(in.readUnsignedByte()).read(in);
+        }
+    }
+
+    /**
+     * Writes one element preceded by the tag of its codec, or the tag {@link #MIXED} alone for
+     * {@code null}, outside of a list.
+     *
+     * @param out the output to write to.
+     * @param o   the element.
+     * @throws IllegalArgumentException if no codec accepts the element.
+     * @throws IOException              if an I/O error occurs.
+     */
+    public void writeElement(DataOutput out, Object o) throws IOException {
+        if (o == null) {
+            out.writeByte(MIXED);
+            return;
+        }
+        int tag = tagOf(o);
+        out.writeByte(tag);
+        codecs[tag].write(o, out);
+    }
+
+    /**
+     * Reads one element written by {@link #writeElement(DataOutput, Object)}.
+     *
+     * @param in the input to read from.
+     * @return the element.
+     * @throws IOException if an I/O error occurs, the data is malformed or no codec has the tag read.
+     */
+    public Object readElement(DataInput in) throws IOException {
+        int tag = in.readUnsignedByte();
+        return tag == MIXED ? null : readElement(in, tag);
+    }
+
+    /**
+     * Reads one element encoded by the codec with the specified tag.
+     *
+     * @param in  the input to read from.
+     * @param tag the tag of the codec.
+     * @return the element.
+     * @throws IOException if an I/O error occurs, the data is malformed or no codec has that tag.
+     */
+    public Object readElement(DataInput in, int tag) throws IOException {
+        return codec(tag).read(in);
+    }
+
+    /**
+     * Skips one element encoded by the codec with the specified tag. The built in types are
+     * skipped without creating the element; the elements of registered codecs are read and
+     * discarded.
+     *
+     * @param in  the input to read from.
+     * @param tag the tag of the codec.
+     * @throws IOException if an I/O error occurs, the data is malformed or no codec has that tag.
+     */
+    public void skipElement(DataInput in, int tag) throws IOException {
+        HElementCodec codec = codec(tag);
+        if (codec instanceof BuiltinCodec)
+            ((BuiltinCodec) codec).skip(in);
+        else
+            codec.read(in);
+    }
+
+    /**
+     * Writes an int as an unsigned varint: 7 bits per byte, low bits first, with the high bit
+     * of every byte but the last one set. Negative values take five bytes.
+     *
+     * @param out the output to write to.
+     * @param v   the value.
+     * @throws IOException if an I/O error occurs.
+     */
+    public static void writeVarInt(DataOutput out, int v) throws IOException {
+        while ((v & ~0x7F) != 0) {
+            out.writeByte((v & 0x7F) | 0x80);
+            v >>>= 7;
+        }
+        out.writeByte(v);
+    }
+
+    /**
+     * Reads an int written by {@link #writeVarInt(DataOutput, int)}.
+     *
+     * @param in the input to read from.
+     * @return the value.
+     * @throws IOException if an I/O error occurs or the varint is longer than five bytes.
+     */
+    public static int readVarInt(DataInput in) throws IOException {
+        int v = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = in.readUnsignedByte();
+            v |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0)
+                return v;
+        }
+        throw new IOException("malformed varint");
+    }
+
+    /**
+     * Writes a long as an unsigned varint.
+     *
+     * @param out the output to write to.
+     * @param v   the value.
+     * @throws IOException if an I/O error occurs.
+     */
+    public static void writeVarLong(DataOutput out, long v) throws IOException {
+        while ((v & ~0x7FL) != 0) {
+            out.writeByte((int) (v & 0x7F) | 0x80);
+            v >>>= 7;
+        }
+        out.writeByte((int) v);
+    }
+
+    /**
+     * Reads a long written by {@link #writeVarLong(DataOutput, long)}.
+     *
+     * @param in the input to read from.
+     * @return the value.
+     * @throws IOException if an I/O error occurs or the varint is longer than ten bytes.
+     */
+    public static long readVarLong(DataInput in) throws IOException {
+        long v = 0;
+        for (int shift = 0; shift < 70; shift += 7) {
+            int b = in.readUnsignedByte();
+            v |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0)
+                return v;
+        }
+        throw new IOException("malformed varint");
+    }
+
+    /**
+     * A byte buffer that can copy its contents to a stream without creating an array.
+     */
+    private static class BlockBuffer extends ByteArrayOutputStream {
+        /**
+         * Writes the contents of the buffer to the specified stream.
+         *
+         * @param out the stream.
+         * @throws IOException if an I/O error occurs.
+         */
+        void copyTo(DataOutputStream out) throws IOException {
+            out.write(buf, 0, count);
+        }
+    }
+
+    /**
+     * An input stream that counts the bytes read from another one, so that the blocks can be
+     * checked against their frame.
+     */
+    private static class CountingInputStream extends InputStream {
+        /**
+         * The stream to read from.
+         */
+        private final InputStream in;
+
+        /**
+         * The number of bytes read so far.
+         */
+        long count;
+
+        /**
+         * Constructs a stream that counts the bytes read from the specified one.
+         *
+         * @param in the stream to read from.
+         */
+        CountingInputStream(InputStream in) {
+            this.in = in;
+        }
+
+        public int read() throws IOException {
+            int b = in.read();
+            if (b >= 0)
+                count++;
+            return b;
+        }
+
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = in.read(b, off, len);
+            if (n > 0)
+                count += n;
+            return n;
+        }
+    }
+
+    /**
+     * The codec of the built in types. Integers and Longs are written as zigzag varints, so that
+     * small values of either sign take one byte; Strings as the number of chars followed by
+     * every char as a varint, which takes one byte per ASCII char.
+     */
+    private static class BuiltinCodec implements HElementCodec {
+        /**
+         * The tag of the type.
+         */
+        private final int tag;
+
+        /**
+         * Constructs the codec of the type with the specified tag.
+         *
+         * @param tag the tag.
+         */
+        BuiltinCodec(int tag) {
+            this.tag = tag;
+        }
+
+        public boolean accepts(Object o) {
+            switch (tag) {
+                case STRING:
+                    return o instanceof String;
+                case INTEGER:
+                    return o instanceof Integer;
+                case LONG:
+                    return o instanceof Long;
+                case BOOLEAN:
+                    return o instanceof Boolean;
+                case BYTE:
+                    return o instanceof Byte;
+                case SHORT:
+                    return o instanceof Short;
+                case CHARACTER:
+                    return o instanceof Character;
+                case FLOAT:
+                    return o instanceof Float;
+                default:
+                    return o instanceof Double;
+            }
+        }
+
+        public void write(Object o, DataOutput out) throws IOException {
+            switch (tag) {
+                case STRING:
+                    String s = (String) o;
+                    int length = s.length();
+                    writeVarInt(out, length);
+                    for (int i = 0; i < length; i++) {
+                        writeVarInt(out, s.charAt(i));
+                    }
+                    break;
+                case INTEGER:
+                    int i = ((Integer) o).intValue();
+                    writeVarInt(out, i << 1 ^ i >> 31);
+                    break;
+                case LONG:
+                    long l = ((Long) o).longValue();
+                    writeVarLong(out, l << 1 ^ l >> 63);
+                    break;
+                case BOOLEAN:
+                    out.writeBoolean(((Boolean) o).booleanValue());
+                    break;
+                case BYTE:
+                    out.writeByte(((Byte) o).byteValue());
+                    break;
+                case SHORT:
+                    out.writeShort(((Short) o).shortValue());
+                    break;
+                case CHARACTER:
+                    out.writeChar(((Character) o).charValue());
+                    break;
+                case FLOAT:
+                    out.writeFloat(((Float) o).floatValue());
+                    break;
+                default:
+                    out.writeDouble(((Double) o).doubleValue());
+            }
+        }
+
+        /**
+         * Skips an element written by this codec.
+         *
+         * @param in the input to read from.
+         * @throws IOException if an I/O error occurs or the data is malformed.
+         */
+        void skip(DataInput in) throws IOException {
+            switch (tag) {
+                case STRING:
+                    int length = readVarInt(in);
+                    if (length < 0)
+                        throw new IOException("malformed string length: " + length);
+                    for (int i = 0; i < length; i++) {
+                        readVarInt(in);
+                    }
+                    break;
+                case INTEGER:
+                    readVarInt(in);
+                    break;
+                case LONG:
+                    readVarLong(in);
+                    break;
+                case BOOLEAN:
+                case BYTE:
+                    in.readUnsignedByte();
+                    break;
+                case SHORT:
+                case CHARACTER:
+                    in.readUnsignedShort();
+                    break;
+                case FLOAT:
+                    in.readInt();
+                    break;
+                default:
+                    in.readLong();
+            }
+        }
+
+        public Object read(DataInput in) throws IOException {
+            switch (tag) {
+                case STRING:
+                    int length = readVarInt(in);
+                    if (length < 0)
+                        throw new IOException("malformed string length: " + length);
+                    StringBuffer sb = new StringBuffer(Math.min(length, MAX_PRESIZE));
+                    for (int i = 0; i < length; i++) {
+                        sb.append((char) readVarInt(in));
+                    }
+                    return sb.toString();
+                case INTEGER:
+                    int i = readVarInt(in);
+                    return new Integer(i >>> 1 ^ -(i & 1));
+                case LONG:
+                    long l = readVarLong(in);
+                    return new Long(l >>> 1 ^ -(l & 1));
+                case BOOLEAN:
+                    return in.readBoolean() ? Boolean.TRUE : Boolean.FALSE;
+                case BYTE:
+                    return new Byte(in.readByte());
+                case SHORT:
+                    return new Short(in.readShort());
+                case CHARACTER:
+                    return new Character(in.readChar());
+                case FLOAT:
+                    return new Float(in.readFloat());
+                default:
+                    return new Double(in.readDouble());
+            }
+        }
+    }
+}
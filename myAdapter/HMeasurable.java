@@ -0,0 +1,28 @@
+package myAdapter;
+
+/**
+ * <p>
+ * Interface implemented by the {@link HList} implementations that can estimate their memory
+ * footprint. The estimate walks the internal structure of the list, not the heap, so it is cheap
+ * unless the elements are measured too, which takes a pass over the list.
+ * </p>
+ */
+public interface HMeasurable {
+
+    /**
+     * Returns the footprint of this list estimated by {@link HSizeModel#DEFAULT}, without the elements.
+     *
+     * @return the footprint.
+     */
+    HFootprint footprint();
+
+    /**
+     * Returns the footprint of this list estimated by the specified model.
+     *
+     * @param model    the model of the sizes of the objects.
+     * @param elements {@code true} to measure the elements too, with {@link HSizeModel#sizeOf(Object)}.
+     * @return the footprint.
+     * @throws NullPointerException if the model is {@code null}.
+     */
+    HFootprint footprint(HSizeModel model, boolean elements);
+}
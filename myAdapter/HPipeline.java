@@ -0,0 +1,502 @@
+package myAdapter;
+
+/**
+ * <p>
+ * A lazy sequence of elements supporting {@code map}, {@code filter},
+ * {@code flatMap}, {@code limit}, {@code skip} and {@code takeWhile} stages,
+ * built over an {@link HCollection} or an {@link HIterator}. It takes the place of
+ * {@code java.util.stream}, which is not available in cldc 1.1.
+ * </p>
+ * <p>
+ * Intermediate operations only record a stage and return a new pipeline: no element is
+ * read and no intermediate list is created. When a terminal operation ({@code collect},
+ * {@code count}, {@code reduce}, {@code anyMatch}) is invoked, the stages are fused into a
+ * single chain of sinks and the source is traversed once, pushing every element through
+ * the whole chain before the next one is pulled. Short-circuiting stages ({@code limit},
+ * {@code takeWhile}, {@code anyMatch}) stop the traversal as soon as no more elements are
+ * needed, so the source is read only on demand.
+ * </p>
+ * <p>
+ * A pipeline built over an {@link HCollection} asks the collection for a new iterator on
+ * every terminal operation and can therefore be evaluated more than once. A pipeline built
+ * over an {@link HIterator} consumes it and can be evaluated only once.
+ * </p>
+ */
+public class HPipeline {
+    /**
+     * The collection that provides the elements, or null if the pipeline was built over an iterator.
+     */
+    private final HCollection collection;
+
+    /**
+     * The iterator that provides the elements, or null if the pipeline was built over a collection.
+     */
+    private HIterator source;
+
+    /**
+     * The pipeline this one was derived from, or null if this is the head of the pipeline.
+     */
+    private final HPipeline upstream;
+
+    /**
+     * The stage added by this pipeline, or null if this is the head of the pipeline.
+     */
+    private final Stage stage;
+
+    /**
+     * Private Constructor for the head of a pipeline.
+     *
+     * @param collection the collection that provides the elements, or null.
+     * @param source     the iterator that provides the elements, or null.
+     */
+    private HPipeline(HCollection collection, HIterator source) {
+        this.collection = collection;
+        this.source = source;
+        this.upstream = null;
+        this.stage = null;
+    }
+
+    /**
+     * Private Constructor for a pipeline that appends a stage to another pipeline.
+     *
+     * @param upstream the pipeline the stage is appended to.
+     * @param stage    the stage to append.
+     */
+    private HPipeline(HPipeline upstream, Stage stage) {
+        this.collection = null;
+        this.source = null;
+        this.upstream = upstream;
+        this.stage = stage;
+    }
+
+    /**
+     * Returns a pipeline whose source is the specified collection.
+     *
+     * @param c the collection that provides the elements.
+     * @return a new pipeline over the elements of the collection.
+     * @throws NullPointerException if the specified collection is {@code null}.
+     */
+    public static HPipeline of(HCollection c) {
+        if (c == null)
+            throw new NullPointerException();
+        return new HPipeline(c, null);
+    }
+
+    /**
+     * Returns a pipeline whose source is the specified iterator. The pipeline can be evaluated only once.
+     *
+     * @param it the iterator that provides the elements.
+     * @return a new pipeline over the remaining elements of the iterator.
+     * @throws NullPointerException if the specified iterator is {@code null}.
+     */
+    public static HPipeline of(HIterator it) {
+        if (it == null)
+            throw new NullPointerException();
+        return new HPipeline(null, it);
+    }
+
+    /*
+     * Intermediate operations
+     */
+
+    /**
+     * Returns a pipeline whose elements are the results of applying the specified function to the elements of this pipeline.
+     *
+     * @param f the function to apply to each element.
+     * @return the new pipeline.
+     * @throws NullPointerException if the specified function is {@code null}.
+     */
+    public HPipeline map(final HFunction f) {
+        if (f == null)
+            throw new NullPointerException();
+        return new HPipeline(this, new Stage() {
+            Sink wrap(final Sink down) {
+                return new Sink(down) {
+                    void accept(Object o) {
+                        down.accept(f.apply(o));
+                    }
+                };
+            }
+        });
+    }
+
+    /**
+     * Returns a pipeline made of the elements of this pipeline that match the specified predicate.
+     *
+     * @param p the predicate each element must satisfy to be kept.
+     * @return the new pipeline.
+     * @throws NullPointerException if the specified predicate is {@code null}.
+     */
+    public HPipeline filter(final HPredicate p) {
+        if (p == null)
+            throw new NullPointerException();
+        return new HPipeline(this, new Stage() {
+            Sink wrap(final Sink down) {
+                return new Sink(down) {
+                    void accept(Object o) {
+                        if (p.test(o))
+                            down.accept(o);
+                    }
+                };
+            }
+        });
+    }
+
+    /**
+     * <p>
+     * Returns a pipeline made of the elements of the collections obtained by applying the
+     * specified function to each element of this pipeline. </p>
+     * <p>
+     * The function must return an {@link HCollection} (or null, which is treated as an empty collection). </p>
+     *
+     * @param f the function returning the collection of elements that replaces each element.
+     * @return the new pipeline.
+     * @throws NullPointerException if the specified function is {@code null}.
+     * @throws ClassCastException   if the function returns an object that is not an {@link HCollection}.
+     */
+    public HPipeline flatMap(final HFunction f) {
+        if (f == null)
+            throw new NullPointerException();
+        return new HPipeline(this, new Stage() {
+            Sink wrap(final Sink down) {
+                return new Sink(down) {
+                    void accept(Object o) {
+                        HCollection c = (HCollection) f.apply(o);
+                        if (c == null)
+                            return;
+                        HIterator it = c.iterator();
+                        while (!down.cancellationRequested() && it.hasNext()) {
+                            down.accept(it.next());
+                        }
+                    }
+                };
+            }
+        });
+    }
+
+    /**
+     * Returns a pipeline made of at most the first {@code maxSize} elements of this pipeline.
+     * Once {@code maxSize} elements have been produced, no further element is read from the source.
+     *
+     * @param maxSize the number of elements the pipeline should be limited to.
+     * @return the new pipeline.
+     * @throws IllegalArgumentException if {@code maxSize} is negative.
+     */
+    public HPipeline limit(final long maxSize) {
+        if (maxSize < 0)
+            throw new IllegalArgumentException();
+        return new HPipeline(this, new Stage() {
+            Sink wrap(final Sink down) {
+                return new Sink(down) {
+                    private long remaining = maxSize;
+
+                    void accept(Object o) {
+                        if (remaining > 0) {
+                            remaining--;
+                            down.accept(o);
+                        }
+                    }
+
+                    boolean cancellationRequested() {
+                        return remaining == 0 || down.cancellationRequested();
+                    }
+                };
+            }
+        });
+    }
+
+    /**
+     * Returns a pipeline made of the elements of this pipeline after discarding the first {@code n} elements.
+     *
+     * @param n the number of leading elements to skip.
+     * @return the new pipeline.
+     * @throws IllegalArgumentException if {@code n} is negative.
+     */
+    public HPipeline skip(final long n) {
+        if (n < 0)
+            throw new IllegalArgumentException();
+        return new HPipeline(this, new Stage() {
+            Sink wrap(final Sink down) {
+                return new Sink(down) {
+                    private long toSkip = n;
+
+                    void accept(Object o) {
+                        if (toSkip > 0)
+                            toSkip--;
+                        else
+                            down.accept(o);
+                    }
+                };
+            }
+        });
+    }
+
+    /**
+     * Returns a pipeline made of the longest prefix of elements of this pipeline that match the specified predicate.
+     * The first element that does not match ends the traversal.
+     *
+     * @param p the predicate the leading elements must satisfy.
+     * @return the new pipeline.
+     * @throws NullPointerException if the specified predicate is {@code null}.
+     */
+    public HPipeline takeWhile(final HPredicate p) {
+        if (p == null)
+            throw new NullPointerException();
+        return new HPipeline(this, new Stage() {
+            Sink wrap(final Sink down) {
+                return new Sink(down) {
+                    private boolean taking = true;
+
+                    void accept(Object o) {
+                        if (taking && p.test(o))
+                            down.accept(o);
+                        else
+                            taking = false;
+                    }
+
+                    boolean cancellationRequested() {
+                        return !taking || down.cancellationRequested();
+                    }
+                };
+            }
+        });
+    }
+
+    /*
+     * Terminal operations
+     */
+
+    /**
+     * Appends the elements of this pipeline to the specified list, in encounter order.
+     *
+     * @param target the list the elements are appended to.
+     * @return the specified list.
+     * @throws NullPointerException if the specified list is {@code null}.
+     */
+    public HList collect(final HList target) {
+        if (target == null)
+            throw new NullPointerException();
+        evaluate(new Sink(null) {
+            void accept(Object o) {
+                target.add(o);
+            }
+        });
+        return target;
+    }
+
+    /**
+     * Returns a new {@link ListAdapter} containing the elements of this pipeline, in encounter order.
+     *
+     * @return a new list containing the elements of this pipeline.
+     */
+    public HList collect() {
+        return collect(new ListAdapter());
+    }
+
+    /**
+     * Returns the number of elements of this pipeline.
+     *
+     * @return the number of elements of this pipeline.
+     */
+    public long count() {
+        CountSink sink = new CountSink();
+        evaluate(sink);
+        return sink.count;
+    }
+
+    /**
+     * Performs a reduction on the elements of this pipeline, using the specified identity value and accumulation function.
+     * The result is {@code op.apply(...op.apply(op.apply(identity, e0), e1)..., en)}.
+     *
+     * @param identity the initial value of the reduction.
+     * @param op       the function combining the partial result with the next element.
+     * @return the result of the reduction, or {@code identity} if the pipeline is empty.
+     * @throws NullPointerException if the specified operator is {@code null}.
+     */
+    public Object reduce(Object identity, HBinaryOperator op) {
+        if (op == null)
+            throw new NullPointerException();
+        ReduceSink sink = new ReduceSink(identity, op);
+        evaluate(sink);
+        return sink.result;
+    }
+
+    /**
+     * Returns whether any element of this pipeline matches the specified predicate.
+     * The traversal stops at the first matching element.
+     *
+     * @param p the predicate to apply to the elements.
+     * @return {@code true} if at least one element matches the predicate, otherwise {@code false}.
+     * @throws NullPointerException if the specified predicate is {@code null}.
+     */
+    public boolean anyMatch(HPredicate p) {
+        if (p == null)
+            throw new NullPointerException();
+        MatchSink sink = new MatchSink(p);
+        evaluate(sink);
+        return sink.found;
+    }
+
+    /**
+     * Fuses the stages of this pipeline in front of the specified terminal sink and pushes the
+     * elements of the source through the resulting chain, until the source is exhausted or the
+     * chain requests cancellation.
+     *
+     * @param terminal the sink of the terminal operation.
+     * @throws IllegalStateException if the pipeline was built over an iterator that has already been consumed.
+     */
+    private void evaluate(Sink terminal) {
+        Sink sink = terminal;
+        HPipeline p = this;
+        while (p.upstream != null) {
+            sink = p.stage.wrap(sink);
+            p = p.upstream;
+        }
+        HIterator it;
+        if (p.collection != null) {
+            it = p.collection.iterator();
+        } else {
+            if (p.source == null)
+                throw new IllegalStateException();
+            it = p.source;
+            p.source = null;
+        }
+        while (!sink.cancellationRequested() && it.hasNext()) {
+            sink.accept(it.next());
+        }
+    }
+
+    /**
+     * An intermediate operation, which creates a new sink every time the pipeline is evaluated.
+     */
+    private abstract static class Stage {
+        /**
+         * Returns a sink that performs this stage and forwards its results to the specified sink.
+         *
+         * @param down the sink receiving the results of this stage.
+         * @return the sink performing this stage.
+         */
+        abstract Sink wrap(Sink down);
+    }
+
+    /**
+     * A link of a fused chain, which receives the elements one at a time.
+     */
+    private abstract static class Sink {
+        /**
+         * The next sink of the chain, or null if this is the terminal sink.
+         */
+        private final Sink down;
+
+        /**
+         * Constructs a sink forwarding to the specified sink.
+         *
+         * @param down the next sink of the chain, or null.
+         */
+        Sink(Sink down) {
+            this.down = down;
+        }
+
+        /**
+         * Receives the next element.
+         *
+         * @param o the element.
+         */
+        abstract void accept(Object o);
+
+        /**
+         * Returns {@code true} if this sink, or any sink after it, does not want to receive more elements.
+         *
+         * @return {@code true} if the traversal should stop.
+         */
+        boolean cancellationRequested() {
+            return down != null && down.cancellationRequested();
+        }
+    }
+
+    /**
+     * Terminal sink of the {@code count} operation.
+     */
+    private static class CountSink extends Sink {
+        /**
+         * The number of elements received.
+         */
+        private long count;
+
+        /**
+         * Constructs a new CountSink.
+         */
+        CountSink() {
+            super(null);
+        }
+
+        void accept(Object o) {
+            count++;
+        }
+    }
+
+    /**
+     * Terminal sink of the {@code reduce} operation.
+     */
+    private static class ReduceSink extends Sink {
+        /**
+         * The accumulation function.
+         */
+        private final HBinaryOperator op;
+
+        /**
+         * The partial result of the reduction.
+         */
+        private Object result;
+
+        /**
+         * Constructs a new ReduceSink.
+         *
+         * @param identity the initial value of the reduction.
+         * @param op       the accumulation function.
+         */
+        ReduceSink(Object identity, HBinaryOperator op) {
+            super(null);
+            this.result = identity;
+            this.op = op;
+        }
+
+        void accept(Object o) {
+            result = op.apply(result, o);
+        }
+    }
+
+    /**
+     * Terminal sink of the {@code anyMatch} operation.
+     */
+    private static class MatchSink extends Sink {
+        /**
+         * The predicate to match.
+         */
+        private final HPredicate p;
+
+        /**
+         * Whether a matching element has been received.
+         */
+        private boolean found;
+
+        /**
+         * Constructs a new MatchSink.
+         *
+         * @param p the predicate to match.
+         */
+        MatchSink(HPredicate p) {
+            super(null);
+            this.p = p;
+        }
+
+        void accept(Object o) {
+            if (p.test(o))
+                found = true;
+        }
+
+        boolean cancellationRequested() {
+            return found;
+        }
+    }
+}
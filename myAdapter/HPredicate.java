@@ -0,0 +1,20 @@
+package myAdapter;
+
+/**
+ * <p>
+ * Represents a predicate (boolean-valued function) of one argument.
+ * Since cldc 1.1 does not provide {@code java.util.function}, this interface
+ * is used by {@link HPipeline} for the {@code filter}, {@code takeWhile} and
+ * {@code anyMatch} operations.
+ * </p>
+ */
+public interface HPredicate {
+
+    /**
+     * Evaluates this predicate on the given argument.
+     *
+     * @param o the input argument.
+     * @return {@code true} if the input argument matches the predicate, otherwise {@code false}.
+     */
+    boolean test(Object o);
+}
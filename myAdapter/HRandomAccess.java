@@ -0,0 +1,15 @@
+package myAdapter;
+
+/**
+ * <p>
+ * Marker interface used by {@link HList} implementations to indicate that they support fast
+ * (generally constant time) random access. It takes the place of {@code java.util.RandomAccess},
+ * which is not available in cldc 1.1.
+ * </p>
+ * <p>
+ * Generic algorithms can check for this interface to choose between indexed access with
+ * {@code get(int)} and sequential access through an iterator.
+ * </p>
+ */
+public interface HRandomAccess {
+}
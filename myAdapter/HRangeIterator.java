@@ -0,0 +1,113 @@
+package myAdapter;
+
+import java.util.NoSuchElementException;
+
+/**
+ * <p>
+ * An iterator over a fixed range of positions of an {@link HList}, which reads every element
+ * with {@code get}. It is the iterator returned by {@link HList#partition(int)}: the ranges of
+ * the iterators of a partition are disjoint, so each of them can be consumed by a different
+ * thread. For the same reason, {@link #remove()} is not supported, since removing an element
+ * would move the ranges of the other iterators.
+ * </p>
+ */
+public class HRangeIterator implements HIterator {
+    /**
+     * The list to iterate.
+     */
+    private final HList list;
+
+    /**
+     * The position of the next element.
+     */
+    private int cursor;
+
+    /**
+     * The position after the last element of the range.
+     */
+    private final int end;
+
+    /**
+     * Constructs an iterator over the positions between {@code from}, inclusive, and {@code to}, exclusive, of the specified list.
+     *
+     * @param list the list to iterate.
+     * @param from the position of the first element.
+     * @param to   the position after the last element.
+     * @throws NullPointerException      if the specified list is {@code null}.
+     * @throws IndexOutOfBoundsException if {@code from < 0 || from > to}.
+     */
+    public HRangeIterator(HList list, int from, int to) {
+        if (list == null)
+            throw new NullPointerException();
+        if (from < 0 || from > to)
+            throw new IndexOutOfBoundsException();
+        this.list = list;
+        this.cursor = from;
+        this.end = to;
+    }
+
+    /**
+     * Returns the bounds of {@code n} consecutive ranges of nearly equal length that cover the
+     * positions from 0 to {@code size}: range {@code i} goes from {@code bounds[i]} to {@code bounds[i + 1]}.
+     *
+     * @param size the number of positions.
+     * @param n    the number of ranges.
+     * @return the {@code n + 1} bounds.
+     * @throws IllegalArgumentException if {@code n} is not positive.
+     */
+    public static int[] bounds(int size, int n) {
+        if (n <= 0)
+            throw new IllegalArgumentException("partitions: " + n);
+        int[] bounds = new int[n + 1];
+        for (int i = 0; i <= n; i++) {
+            bounds[i] = (int) ((long) size * i / n);
+        }
+        return bounds;
+    }
+
+    /**
+     * Returns {@code n} iterators over disjoint consecutive ranges of nearly equal length that
+     * together cover the specified list, some of which are empty if the list has fewer than
+     * {@code n} elements.
+     *
+     * @param list the list to partition.
+     * @param n    the number of ranges.
+     * @return the iterators, in the order of their ranges.
+     * @throws NullPointerException     if the specified list is {@code null}.
+     * @throws IllegalArgumentException if {@code n} is not positive.
+     */
+    public static HIterator[] partition(HList list, int n) {
+        int[] bounds = bounds(list.size(), n);
+        HIterator[] partitions = new HIterator[n];
+        for (int i = 0; i < n; i++) {
+            partitions[i] = new HRangeIterator(list, bounds[i], bounds[i + 1]);
+        }
+        return partitions;
+    }
+
+    public boolean hasNext() {
+        return cursor < end;
+    }
+
+    /**
+     * Returns the next element of the range.
+     *
+     * @return the next element of the range.
+     * @throws NoSuchElementException    if the range has no more elements.
+     * @throws IndexOutOfBoundsException if the list has been shortened below the range in the meantime.
+     */
+    public Object next() {
+        if (cursor >= end)
+            throw new NoSuchElementException();
+        return list.get(cursor++);
+    }
+
+    /**
+     * Not supported, since it would move the ranges of the other iterators of the partition.
+     *
+     * @throws UnsupportedOperationException always.
+     */
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -0,0 +1,170 @@
+package myAdapter;
+
+/**
+ * <p>
+ * A model of the sizes of objects on the heap, used by {@link HMeasurable} lists to estimate
+ * their footprint. The model is described by four numbers: the bytes of the header of an object,
+ * of a reference and of the header of an array, and the alignment of every object. An instance
+ * is the header followed by its fields, and an array is its header followed by its elements,
+ * both rounded up to the alignment.
+ * </p>
+ * <p>
+ * {@link #sizeOf(Object)} estimates the shallow size of an element from its class, and knows
+ * the wrappers of the primitive types and Strings; any other object is counted as an object
+ * without fields. A subclass can override it to measure its own element classes, or to return
+ * the retained size of composite elements.
+ * </p>
+ */
+public class HSizeModel {
+
+    /**
+     * The model of a 64 bit virtual machine with compressed references, the default of HotSpot for heaps under 32 GB.
+     */
+    public static final HSizeModel COMPRESSED_OOPS = new HSizeModel(12, 4, 16, 8);
+
+    /**
+     * The model of a 64 bit virtual machine with uncompressed references.
+     */
+    public static final HSizeModel UNCOMPRESSED_OOPS = new HSizeModel(16, 8, 24, 8);
+
+    /**
+     * The model used when none is specified.
+     */
+    public static final HSizeModel DEFAULT = COMPRESSED_OOPS;
+
+    /**
+     * The bytes of the header of an object.
+     */
+    private final int objectHeader;
+
+    /**
+     * The bytes of a reference.
+     */
+    private final int referenceSize;
+
+    /**
+     * The bytes of the header of an array, including its length.
+     */
+    private final int arrayHeader;
+
+    /**
+     * The alignment of every object, a power of two.
+     */
+    private final int alignment;
+
+    /**
+     * Constructs a model.
+     *
+     * @param objectHeader  the bytes of the header of an object.
+     * @param referenceSize the bytes of a reference.
+     * @param arrayHeader   the bytes of the header of an array, including its length.
+     * @param alignment     the alignment of every object, a power of two.
+     * @throws IllegalArgumentException if a size is not positive or the alignment is not a power of two.
+     */
+    public HSizeModel(int objectHeader, int referenceSize, int arrayHeader, int alignment) {
+        if (objectHeader <= 0 || referenceSize <= 0 || arrayHeader <= 0 || alignment <= 0
+                || (alignment & (alignment - 1)) != 0)
+            throw new IllegalArgumentException();
+        this.objectHeader = objectHeader;
+        this.referenceSize = referenceSize;
+        this.arrayHeader = arrayHeader;
+        this.alignment = alignment;
+    }
+
+    /**
+     * Returns the bytes of a reference.
+     *
+     * @return the bytes of a reference.
+     */
+    public int referenceSize() {
+        return referenceSize;
+    }
+
+    /**
+     * Rounds the specified number of bytes up to the alignment of the objects.
+     *
+     * @param bytes the bytes.
+     * @return the aligned bytes.
+     */
+    public long align(long bytes) {
+        return (bytes + alignment - 1) & -alignment;
+    }
+
+    /**
+     * Returns the size of an object with the specified fields.
+     *
+     * @param references     the number of reference fields.
+     * @param primitiveBytes the bytes of the primitive fields.
+     * @return the size in bytes.
+     */
+    public long instanceSize(int references, int primitiveBytes) {
+        return align(objectHeader + (long) references * referenceSize + primitiveBytes);
+    }
+
+    /**
+     * Returns the size of an array of primitives.
+     *
+     * @param length       the length of the array.
+     * @param elementBytes the bytes of an element.
+     * @return the size in bytes.
+     */
+    public long arraySize(int length, int elementBytes) {
+        return align(arrayHeader + (long) length * elementBytes);
+    }
+
+    /**
+     * Returns the size of an array of references.
+     *
+     * @param length the length of the array.
+     * @return the size in bytes.
+     */
+    public long referenceArraySize(int length) {
+        return arraySize(length, referenceSize);
+    }
+
+    /**
+     * Returns the estimated size of the specified element, not counting the objects it refers to
+     * except the characters of a String.
+     *
+     * @param element the element, possibly {@code null}.
+     * @return the size in bytes, 0 for {@code null}.
+     */
+    public long sizeOf(Object element) {
+        if (element == null)
+            return 0;
+        if (element instanceof Integer || element instanceof Float)
+            return instanceSize(0, 4);
+        if (element instanceof Long || element instanceof Double)
+            return instanceSize(0, 8);
+        if (element instanceof Short || element instanceof Character)
+            return instanceSize(0, 2);
+        if (element instanceof Byte || element instanceof Boolean)
+            return instanceSize(0, 1);
+        if (element instanceof String) {
+            String s = (String) element;
+            int bytesPerChar = 1;
+            for (int i = 0; i < s.length() && bytesPerChar == 1; i++) {
+                if (s.charAt(i) > 0xFF)
+                    bytesPerChar = 2;
+            }
+            return instanceSize(1, 6) + arraySize(s.length(), bytesPerChar);
+        }
+        return instanceSize(0, 0);
+    }
+
+    /**
+     * Returns the sum of the estimated sizes of the elements of the specified collection.
+     *
+     * @param c the collection.
+     * @return the size in bytes.
+     * @throws NullPointerException if the collection is {@code null}.
+     */
+    public long sizeOfAll(HCollection c) {
+        long bytes = 0;
+        HIterator it = c.iterator();
+        while (it.hasNext()) {
+            bytes += sizeOf(it.next());
+        }
+        return bytes;
+    }
+}
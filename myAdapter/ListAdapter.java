@@ -7,8 +7,23 @@ import java.util.Vector;
  * <p>
  * An implementation of the HListIterator interface that adapts a Vector to the HList interface.
  * </p>
+ * <p>
+ * Every list has an {@link HConcurrencyPolicy}, chosen at construction and shared with its
+ * subLists. Each operation, including the compound ones such as {@code remove(int)},
+ * {@code addAll} and {@code removeAll}, runs under a single acquisition of the lock of the policy,
+ * and {@code size}, {@code get}, {@code contains} and {@code indexOf} use optimistic reads when
+ * the policy supports them. Since the policy protects the whole operation, the backing Vector
+ * does not synchronize its own methods. The elements of a collection passed as argument are
+ * read before the lock is taken, so that a list can be compared with, or updated from, one of
+ * its own subLists even when the lock is not reentrant.
+ * </p>
+ * <p>
+ * {@code get}, {@code set}, {@code contains}, {@code indexOf} and {@code lastIndexOf} do not
+ * allocate memory, and neither do appends, except when the backing storage grows, which
+ * {@link #ensureCapacity(int)} can do in advance.
+ * </p>
  */
-public class ListAdapter implements HList {
+public class ListAdapter implements HList, HRandomAccess, HMeasurable {
     /**
      * The vector that contains the elements of the list.
      */
@@ -30,13 +45,47 @@ public class ListAdapter implements HList {
     protected ListAdapter oldList;
 
     /**
-     * Constructs an empty list.
+     * The concurrency policy of the list, shared with the list it was created from, if it is a sublist.
+     */
+    protected HConcurrencyPolicy policy;
+
+    /**
+     * Constructs an empty list protected by a new {@link HConcurrencyPolicy#monitor()} policy.
      */
     public ListAdapter() {
-        vec = new Vector();
+        this(HConcurrencyPolicy.monitor());
+    }
+
+    /**
+     * Constructs an empty list protected by the specified concurrency policy.
+     * Lists that are only accessed by one thread should use {@link HConcurrencyPolicy#NONE}.
+     *
+     * @param policy the concurrency policy of the list.
+     * @throws NullPointerException if the specified policy is {@code null}.
+     */
+    public ListAdapter(HConcurrencyPolicy policy) {
+        if (policy == null)
+            throw new NullPointerException();
+        vec = new UnsynchronizedVector();
         offset = 0;
         size = 0;
         oldList = null;
+        this.policy = policy;
+    }
+
+    /**
+     * Constructs a list whose backing storage is the specified array, without copying it.
+     *
+     * @param elements the array, whose first {@code count} positions are the elements of the list.
+     * @param count    the number of elements.
+     * @param policy   the concurrency policy of the list.
+     */
+    ListAdapter(Object[] elements, int count, HConcurrencyPolicy policy) {
+        vec = new UnsynchronizedVector(elements, count);
+        offset = 0;
+        size = count;
+        oldList = null;
+        this.policy = policy;
     }
 
     /**
@@ -45,10 +94,7 @@ public class ListAdapter implements HList {
      * @param list the collection whose elements are to be placed into this list
      */
     public ListAdapter(ListAdapter list) {
-        vec = new Vector();
-        offset = 0;
-        size = 0;
-        oldList = null;
+        this();
         addAll(list);
     }
 
@@ -62,6 +108,7 @@ public class ListAdapter implements HList {
     private ListAdapter(ListAdapter list, int start, int end) {
         oldList = list;
         vec = list.vec;
+        policy = list.policy;
         offset = list.offset + start;
         size = end - start;
     }
@@ -86,12 +133,175 @@ public class ListAdapter implements HList {
         }
     }
 
+    /**
+     * Adds the specified amount to the size of the list and of the lists it was created from.
+     *
+     * @param delta the change of the size.
+     */
+    private void addToSize(int delta) {
+        size += delta;
+        if (oldList != null) {
+            oldList.addToSize(delta);
+        }
+    }
+
+    /**
+     * Inserts an element at the specified position, without locking or checking the index.
+     *
+     * @param index   index in this list at which the element is to be inserted.
+     * @param element element to be inserted.
+     */
+    private void insertUnlocked(int index, Object element) {
+        vec.insertElementAt(element, offset + index);
+        incrementSize();
+    }
+
+    /**
+     * Removes the element at the specified position, without locking or checking the index.
+     *
+     * @param index index in this list of the element to remove.
+     * @return the element previously at the specified position.
+     */
+    private Object removeUnlocked(int index) {
+        Object old = vec.elementAt(offset + index);
+        vec.removeElementAt(offset + index);
+        decrementSize();
+        return old;
+    }
+
+    /**
+     * Inserts the specified elements at the specified position, without locking or checking the
+     * index. The elements that follow the position are moved once, by the number of elements inserted.
+     *
+     * @param index    index in this list at which the first element is to be inserted.
+     * @param elements elements to be inserted.
+     */
+    private void insertAllUnlocked(int index, Object[] elements) {
+        int n = elements.length;
+        if (n == 0)
+            return;
+        int count = vec.size();
+        vec.setSize(count + n);
+        for (int i = count - 1; i >= offset + index; i--) {
+            vec.setElementAt(vec.elementAt(i), i + n);
+        }
+        for (int i = 0; i < n; i++) {
+            vec.setElementAt(elements[i], offset + index + i);
+        }
+        addToSize(n);
+    }
+
+    /**
+     * Removes the elements whose index is between {@code from}, inclusive, and {@code to},
+     * exclusive, without locking or checking the indexes. The elements that follow the range are
+     * moved once, by the length of the range.
+     *
+     * @param from index in this list of the first element to remove.
+     * @param to   index in this list after the last element to remove.
+     */
+    private void removeRangeUnlocked(int from, int to) {
+        int n = to - from;
+        if (n <= 0)
+            return;
+        int count = vec.size();
+        for (int i = offset + to; i < count; i++) {
+            vec.setElementAt(vec.elementAt(i), i - n);
+        }
+        vec.setSize(count - n);
+        addToSize(-n);
+    }
+
+    /**
+     * Removes the elements whose presence in the specified array is equal to {@code removePresent},
+     * without locking. The elements that are kept are compacted in a single pass and the tail
+     * left free is removed at once, so every element is moved at most twice.
+     *
+     * @param elements      the elements to test the list against.
+     * @param removePresent {@code true} to remove the elements contained in the array, {@code false} to remove the others.
+     * @return {@code true} if this list changed as a result of the call.
+     */
+    private boolean batchRemoveUnlocked(Object[] elements, boolean removePresent) {
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            Object current = vec.elementAt(offset + i);
+            if (arrayContains(elements, current) != removePresent) {
+                if (kept != i)
+                    vec.setElementAt(current, offset + kept);
+                kept++;
+            }
+        }
+        if (kept == size)
+            return false;
+        removeRangeUnlocked(kept, size);
+        return true;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified element, without locking.
+     *
+     * @param o element to search for.
+     * @return the index in this list of the first occurrence of the element, or -1.
+     */
+    private int indexOfUnlocked(Object o) {
+        for (int i = offset; i < offset + size; i++) {
+            Object current = vec.elementAt(i);
+            if (o == null ? current == null : o.equals(current)) {
+                return i - offset;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns {@code true} if the specified array contains the specified element.
+     *
+     * @param a the array to search.
+     * @param o element to search for.
+     * @return {@code true} if the array contains the element.
+     */
+    private static boolean arrayContains(Object[] a, Object o) {
+        for (int i = 0; i < a.length; i++) {
+            if (o == null ? a[i] == null : o.equals(a[i])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Increases the capacity of the backing storage, if necessary, so that this list can hold
+     * at least the specified number of elements. Once the capacity is reserved, appending up to
+     * that number of elements does not allocate memory.
+     *
+     * @param minCapacity the desired minimum number of elements of this list.
+     */
+    public void ensureCapacity(int minCapacity) {
+        policy.writeLock();
+        try {
+            if (minCapacity > size)
+                vec.ensureCapacity(vec.size() + minCapacity - size);
+        } finally {
+            policy.writeUnlock();
+        }
+    }
+
     /**
      * Returns the number of elements in this list.
      * @return the number of elements in this list.
      */
     public int size() {
-        return size;
+        long stamp = policy.tryOptimisticRead();
+        if (stamp != 0L) {
+            int s = size;
+            if (policy.validate(stamp))
+                return s;
+        }
+        policy.readLock();
+        try {
+            return size;
+        } finally {
+            policy.readUnlock();
+        }
     }
 
     /**
@@ -99,7 +309,7 @@ public class ListAdapter implements HList {
      * @return {@code true} if this list contains no elements.
      */
     public boolean isEmpty() {
-        return size == 0;
+        return size() == 0;
     }
 
     /**
@@ -112,17 +322,7 @@ public class ListAdapter implements HList {
      * @return {@code true} if this list contains the specified element.
      */
     public boolean contains(Object o) {
-        HIterator it = this.iterator();
-        while (it.hasNext()) {
-            Object current = it.next();
-            if (current == null && o == null) {
-                return true;
-            }
-            if (current != null && current.equals(o)) {
-                return true;
-            }
-        }
-        return false;
+        return indexOf(o) >= 0;
     }
 
     /**
@@ -140,11 +340,16 @@ public class ListAdapter implements HList {
      * @return an array containing all the elements in this list in proper sequence.
      */
     public Object[] toArray() {
-        Object[] array = new Object[size];
-        for (int i = offset; i < offset + size; i++) {
-            array[i - offset] = vec.elementAt(i);
+        policy.readLock();
+        try {
+            Object[] array = new Object[size];
+            for (int i = offset; i < offset + size; i++) {
+                array[i - offset] = vec.elementAt(i);
+            }
+            return array;
+        } finally {
+            policy.readUnlock();
         }
-        return array;
     }
 
     /**
@@ -161,13 +366,11 @@ public class ListAdapter implements HList {
     public Object[] toArray(Object[] a) {
         if (a == null)
             throw new NullPointerException();
-        if (a.length < vec.size()) {
-            Object[] newArr = new Object[size];
-            for (int i = offset; i < offset + size; i++) {
-                newArr[i - offset] = vec.elementAt(i);
+        policy.readLock();
+        try {
+            if (a.length < size) {
+                a = new Object[size];
             }
-            return newArr;
-        } else {
             for (int i = offset; i < offset + size; i++) {
                 a[i - offset] = vec.elementAt(i);
             }
@@ -175,6 +378,8 @@ public class ListAdapter implements HList {
                 a[size] = null;
             }
             return a;
+        } finally {
+            policy.readUnlock();
         }
     }
 
@@ -189,9 +394,13 @@ public class ListAdapter implements HList {
      * {@code Collection.add} method).
      */
     public boolean add(Object o) {
-        vec.insertElementAt(o, offset + size);
-        incrementSize();
-        return true;
+        policy.writeLock();
+        try {
+            insertUnlocked(size, o);
+            return true;
+        } finally {
+            policy.writeUnlock();
+        }
     }
 
     /**
@@ -205,14 +414,16 @@ public class ListAdapter implements HList {
      * @return {@code true} if this list contained the specified element.
      */
     public boolean remove(Object o) {
-        for (int i = offset; i < offset + size; i++) {
-            if (vec.elementAt(i).equals(o)) {
-                vec.removeElementAt(i);
-                decrementSize();
-                return true;
-            }
+        policy.writeLock();
+        try {
+            int index = indexOfUnlocked(o);
+            if (index < 0)
+                return false;
+            removeUnlocked(index);
+            return true;
+        } finally {
+            policy.writeUnlock();
         }
-        return false;
     }
 
     /**
@@ -227,13 +438,18 @@ public class ListAdapter implements HList {
     public boolean containsAll(HCollection c) {
         if (c == null)
             throw new NullPointerException();
-        HIterator it = c.iterator();
-        while (it.hasNext()) {
-            if (!contains(it.next())) {
-                return false;
+        Object[] elements = c.toArray();
+        policy.readLock();
+        try {
+            for (int i = 0; i < elements.length; i++) {
+                if (indexOfUnlocked(elements[i]) < 0) {
+                    return false;
+                }
             }
+            return true;
+        } finally {
+            policy.readUnlock();
         }
-        return true;
     }
 
     /**
@@ -251,13 +467,16 @@ public class ListAdapter implements HList {
     public boolean addAll(HCollection c) {
         if (c == null)
             throw new NullPointerException();
-        HIterator it = c.iterator();
-        if (c.isEmpty())
+        Object[] elements = c.toArray();
+        if (elements.length == 0)
             return false;
-        while (it.hasNext()) {
-            add(it.next());
+        policy.writeLock();
+        try {
+            insertAllUnlocked(size, elements);
+            return true;
+        } finally {
+            policy.writeUnlock();
         }
-        return true;
     }
 
     /**
@@ -279,16 +498,18 @@ public class ListAdapter implements HList {
      * @throws IndexOutOfBoundsException     if the index is out of range {@code (index < 0 || index > size())}.
      */
     public boolean addAll(int index, HCollection c) {
-        if (index < 0 || index >  size)
-            throw new IndexOutOfBoundsException();
         if (c == null)
             throw new NullPointerException();
-        index += offset;
-        HIterator it = c.iterator();
-        while (it.hasNext()) {
-            add(index++, it.next());
+        Object[] elements = c.toArray();
+        policy.writeLock();
+        try {
+            if (index < 0 || index > size)
+                throw new IndexOutOfBoundsException();
+            insertAllUnlocked(index, elements);
+            return elements.length != 0;
+        } finally {
+            policy.writeUnlock();
         }
-        return true;
     }
 
     /**
@@ -303,15 +524,13 @@ public class ListAdapter implements HList {
     public boolean removeAll(HCollection c) {
         if (c == null)
             throw new NullPointerException();
-        HIterator it = iterator();
-        boolean modified = false;
-        while (it.hasNext()) {
-            if (c.contains(it.next())) {
-                it.remove();
-                modified = true;
-            }
+        Object[] elements = c.toArray();
+        policy.writeLock();
+        try {
+            return batchRemoveUnlocked(elements, true);
+        } finally {
+            policy.writeUnlock();
         }
-        return modified;
     }
 
     /**
@@ -327,15 +546,13 @@ public class ListAdapter implements HList {
     public boolean retainAll(HCollection c) {
         if (c == null)
             throw new NullPointerException();
-        boolean modified = false;
-        HIterator it = iterator();
-        while (it.hasNext()) {
-            if (!c.contains(it.next())) {
-                it.remove();
-                modified = true;
-            }
+        Object[] elements = c.toArray();
+        policy.writeLock();
+        try {
+            return batchRemoveUnlocked(elements, false);
+        } finally {
+            policy.writeUnlock();
         }
-        return modified;
     }
 
     /**
@@ -343,10 +560,11 @@ public class ListAdapter implements HList {
      * list will be empty after this call returns.
      */
     public void clear() {
-        HListIterator it = this.listIterator();
-        while (it.hasNext()) {
-            it.next();
-            it.remove();
+        policy.writeLock();
+        try {
+            removeRangeUnlocked(0, size);
+        } finally {
+            policy.writeUnlock();
         }
     }
 
@@ -365,23 +583,29 @@ public class ListAdapter implements HList {
      * @return {@code true} if the specified object is equal to this list.
      */
     public boolean equals(Object o) {
-        if(!(o instanceof HList)) {
-            return false;
+        if (o == this) {
+            return true;
         }
-        HList list = (HList) o;
-        if (list.size() != size) {
+        if(!(o instanceof HList)) {
             return false;
         }
-        HIterator it = list.iterator();
-        HIterator it2 = iterator();
-        while (it.hasNext()) {
-            Object obj1 = it.next();
-            Object obj2 = it2.next();
-            if (!(obj1 == null ? obj2 == null : obj1.equals(obj2))) {
+        Object[] other = ((HList) o).toArray();
+        policy.readLock();
+        try {
+            if (other.length != size) {
                 return false;
             }
+            for (int i = 0; i < size; i++) {
+                Object obj1 = other[i];
+                Object obj2 = vec.elementAt(offset + i);
+                if (!(obj1 == null ? obj2 == null : obj1.equals(obj2))) {
+                    return false;
+                }
+            }
+            return true;
+        } finally {
+            policy.readUnlock();
         }
-        return true;
     }
 
     /**
@@ -402,13 +626,17 @@ public class ListAdapter implements HList {
      * @return the hash code value for this list.
      */
     public int hashCode() {
-        int hashCode = 1;
-        HListIterator  i = listIterator();
-        while (i.hasNext()) {
-            Object obj = i.next();
-            hashCode = 31*hashCode + (obj==null ? 0 : obj.hashCode());
+        policy.readLock();
+        try {
+            int hashCode = 1;
+            for (int i = offset; i < offset + size; i++) {
+                Object obj = vec.elementAt(i);
+                hashCode = 31*hashCode + (obj==null ? 0 : obj.hashCode());
+            }
+            return hashCode;
+        } finally {
+            policy.readUnlock();
         }
-        return hashCode;
     }
 
     /**
@@ -419,23 +647,61 @@ public class ListAdapter implements HList {
      * @throws IndexOutOfBoundsException if the index is out of range {@code (index < 0 || index >= size())}.
      */
     public Object get(int index) {
-        if (index < 0 || index >  size)
-            throw new IndexOutOfBoundsException();
-        index += offset;
-        return vec.elementAt(index);
+        long stamp = policy.tryOptimisticRead();
+        if (stamp != 0L) {
+            try {
+                Object o = getUnlocked(index);
+                if (policy.validate(stamp))
+                    return o;
+            } catch (RuntimeException e) {
+                if (policy.validate(stamp))
+                    throw e;
+            }
+        }
+        policy.readLock();
+        try {
+            return getUnlocked(index);
+        } finally {
+            policy.readUnlock();
+        }
     }
 
+    /**
+     * Returns the element at the specified position in this list, without locking.
+     *
+     * @param index index of element to return.
+     * @return the element at the specified position in this list.
+     * @throws IndexOutOfBoundsException if the index is out of range {@code (index < 0 || index >= size())}.
+     */
+    private Object getUnlocked(int index) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException();
+        return vec.elementAt(offset + index);
+    }
 
+    /**
+     * Returns a string representation of this list: its elements in order, separated by
+     * {@code ", "} and enclosed in square brackets, with {@code "null"} for the null elements.
+     * The string is built in a single buffer, in time linear in its length.
+     *
+     * @return a string representation of this list.
+     */
     public String toString() {
-        String str = "[";
-        for (int i = offset; i < offset + size; i++) {
-            str += vec.elementAt(i).toString();
-            if (i != offset + size - 1) {
-                str += ", ";
+        policy.readLock();
+        try {
+            StringBuffer str = new StringBuffer("[");
+            for (int i = offset; i < offset + size; i++) {
+                if (i != offset) {
+                    str.append(", ");
+                }
+                Object obj = vec.elementAt(i);
+                str.append(obj == this ? "(this Collection)" : String.valueOf(obj));
             }
+            str.append(']');
+            return str.toString();
+        } finally {
+            policy.readUnlock();
         }
-        str += "]";
-        return str;
     }
 
     /**
@@ -448,15 +714,14 @@ public class ListAdapter implements HList {
      * @throws IndexOutOfBoundsException     if the index is out of range {@code (index < 0 || index >= size())}.
      */
     public Object set(int index, Object element) {
-        if (index < 0 || index >  size)
-            throw new IndexOutOfBoundsException();
-        Object old = get(index);
+        policy.writeLock();
         try {
-            vec.setElementAt(element, index + offset);
-        } catch (ArrayIndexOutOfBoundsException e) {
-            throw new IndexOutOfBoundsException();
+            Object old = getUnlocked(index);
+            vec.setElementAt(element, offset + index);
+            return old;
+        } finally {
+            policy.writeUnlock();
         }
-        return old;
     }
 
     /**
@@ -470,14 +735,13 @@ public class ListAdapter implements HList {
      * @throws IndexOutOfBoundsException     if the index is out of range {@code (index < 0 || index > size())}.
      */
     public void add(int index, Object element) {
-        if (index < 0 || index >  size)
-            throw new IndexOutOfBoundsException();
-        index += offset;
+        policy.writeLock();
         try {
-            vec.insertElementAt(element, index);
-            incrementSize();
-        } catch (ArrayIndexOutOfBoundsException e) {
-            throw new IndexOutOfBoundsException();
+            if (index < 0 || index > size)
+                throw new IndexOutOfBoundsException();
+            insertUnlocked(index, element);
+        } finally {
+            policy.writeUnlock();
         }
     }
 
@@ -492,17 +756,14 @@ public class ListAdapter implements HList {
      * @throws IndexOutOfBoundsException     if the index is out of range {@code (index < 0 || index >= size())}.
      */
     public Object remove(int index) {
-        if (index < 0 || index >  size)
-            throw new IndexOutOfBoundsException();
-        index += offset;
-        Object old = get(index - offset);
+        policy.writeLock();
         try {
-            vec.removeElementAt(index);
-            decrementSize();
-        } catch (ArrayIndexOutOfBoundsException e) {
-            throw new IndexOutOfBoundsException();
+            if (index < 0 || index >= size)
+                throw new IndexOutOfBoundsException();
+            return removeUnlocked(index);
+        } finally {
+            policy.writeUnlock();
         }
-        return old;
     }
 
     /**
@@ -517,12 +778,23 @@ public class ListAdapter implements HList {
      * element, or -1 if this list does not contain this element.
      */
     public int indexOf(Object o) {
-        for (int i = offset; i < offset + size; i++) {
-            if (vec.elementAt(i).equals(o)) {
-                return i - offset;
+        long stamp = policy.tryOptimisticRead();
+        if (stamp != 0L) {
+            try {
+                int index = indexOfUnlocked(o);
+                if (policy.validate(stamp))
+                    return index;
+            } catch (RuntimeException e) {
+                if (policy.validate(stamp))
+                    throw e;
             }
         }
-        return -1;
+        policy.readLock();
+        try {
+            return indexOfUnlocked(o);
+        } finally {
+            policy.readUnlock();
+        }
     }
 
     /**
@@ -537,12 +809,18 @@ public class ListAdapter implements HList {
      * element, or -1 if this list does not contain this element.
      */
     public int lastIndexOf(Object o) {
-        for (int i = offset + size - 1; i >= offset; i--) {
-            if (vec.elementAt(i).equals(o)) {
-                return i - offset;
+        policy.readLock();
+        try {
+            for (int i = offset + size - 1; i >= offset; i--) {
+                Object current = vec.elementAt(i);
+                if (o == null ? current == null : o.equals(current)) {
+                    return i - offset;
+                }
             }
+            return -1;
+        } finally {
+            policy.readUnlock();
         }
-        return -1;
     }
 
     /**
@@ -571,9 +849,8 @@ public class ListAdapter implements HList {
      * @throws IndexOutOfBoundsException if the index is out of range {@code (index < 0 || index > size())}.
      */
     public HListIterator listIterator(int index) {
-        if (index < 0 || index >  size)
+        if (index < 0 || index >  size())
             throw new IndexOutOfBoundsException();
-        index += offset;
         return new HListIteratorAdapter(index);
     }
 
@@ -610,9 +887,177 @@ public class ListAdapter implements HList {
      * @throws IndexOutOfBoundsException for an illegal endpoint index value {@code (fromIndex < 0 || toIndex > size || fromIndex > toIndex)}.
      */
     public HList subList(int fromIndex, int toIndex) {
-        if (fromIndex < 0 || toIndex >  size || fromIndex > toIndex)
-            throw new IndexOutOfBoundsException();
-        return new ListAdapter(this, fromIndex, toIndex);
+        policy.readLock();
+        try {
+            if (fromIndex < 0 || toIndex >  size || fromIndex > toIndex)
+                throw new IndexOutOfBoundsException();
+            return new ListAdapter(this, fromIndex, toIndex);
+        } finally {
+            policy.readUnlock();
+        }
+    }
+
+    /**
+     * Returns {@code n} iterators over disjoint consecutive ranges of this list, which read every
+     * element with {@link #get(int)}. Under a policy with optimistic reads, such as a
+     * {@code StampedLock} based one, the iterators of different threads do not contend.
+     *
+     * @param n the number of ranges.
+     * @return the iterators, in the order of their ranges.
+     * @throws IllegalArgumentException if {@code n} is not positive.
+     */
+    public HIterator[] partition(int n) {
+        return partition(n, false);
+    }
+
+    /**
+     * Returns {@code n} iterators over disjoint consecutive ranges of this list. If
+     * {@code lockPerPartition} is {@code true}, each iterator takes the read lock of the list only
+     * once, when it is first used, to copy the elements of its range, and then iterates the copy
+     * without any further locking; it sees its range as it was at that moment. Otherwise every
+     * element is read with {@link #get(int)}.
+     *
+     * @param n                the number of ranges.
+     * @param lockPerPartition {@code true} to take the read lock once per partition instead of once per element.
+     * @return the iterators, in the order of their ranges.
+     * @throws IllegalArgumentException if {@code n} is not positive.
+     */
+    public HIterator[] partition(int n, boolean lockPerPartition) {
+        int[] bounds = HRangeIterator.bounds(size(), n);
+        HIterator[] partitions = new HIterator[n];
+        for (int i = 0; i < n; i++) {
+            if (lockPerPartition)
+                partitions[i] = new PartitionIterator(bounds[i], bounds[i + 1]);
+            else
+                partitions[i] = new HRangeIterator(this, bounds[i], bounds[i + 1]);
+        }
+        return partitions;
+    }
+
+    /**
+     * Returns the footprint of this list estimated by {@link HSizeModel#DEFAULT}, without the elements.
+     *
+     * @return the footprint.
+     */
+    public HFootprint footprint() {
+        return footprint(HSizeModel.DEFAULT, false);
+    }
+
+    /**
+     * Returns the footprint of this list estimated by the specified model. The shallow bytes are
+     * those of this list, of the lists it was created from, which a subList keeps alive, and of
+     * the backing Vector. The backing bytes are those of the whole array of the Vector, shared by
+     * a list and its subLists, and the spare capacity is the part of the array not used by any of
+     * them. The elements measured are only those of this list.
+     *
+     * @param model    the model of the sizes of the objects.
+     * @param elements {@code true} to measure the elements too.
+     * @return the footprint.
+     * @throws NullPointerException if the model is {@code null}.
+     */
+    public HFootprint footprint(HSizeModel model, boolean elements) {
+        policy.readLock();
+        try {
+            long shallow = model.instanceSize(1, 12);
+            for (ListAdapter l = this; l != null; l = l.oldList) {
+                shallow += model.instanceSize(3, 8);
+            }
+            int capacity = vec.capacity();
+            long spare = capacity - vec.size();
+            long elementBytes = -1;
+            if (elements) {
+                elementBytes = 0;
+                for (int i = offset; i < offset + size; i++) {
+                    elementBytes += model.sizeOf(vec.elementAt(i));
+                }
+            }
+            return new HFootprint(size, shallow, model.referenceArraySize(capacity), spare,
+                    spare * model.referenceSize(), elementBytes, 0);
+        } finally {
+            policy.readUnlock();
+        }
+    }
+
+    /**
+     * Private class that iterates a copy of a range of the list, taken under a single read lock.
+     */
+    private class PartitionIterator implements HIterator {
+        /**
+         * The first position of the range.
+         */
+        private final int from;
+
+        /**
+         * The position after the last element of the range.
+         */
+        private final int to;
+
+        /**
+         * The copy of the range, or {@code null} until the iterator is first used.
+         */
+        private Object[] elements;
+
+        /**
+         * The index in the copy of the next element.
+         */
+        private int cursor;
+
+        /**
+         * Constructs an iterator over the specified range.
+         *
+         * @param from the first position of the range.
+         * @param to   the position after the last element of the range.
+         */
+        PartitionIterator(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        /**
+         * Copies the range, if it has not been copied yet. The part of the range beyond the end of the list, if it has been shortened, is left out.
+         */
+        private void load() {
+            if (elements != null)
+                return;
+            policy.readLock();
+            try {
+                int end = Math.min(to, size);
+                Object[] copy = new Object[Math.max(0, end - from)];
+                for (int i = 0; i < copy.length; i++) {
+                    copy[i] = vec.elementAt(offset + from + i);
+                }
+                elements = copy;
+            } finally {
+                policy.readUnlock();
+            }
+        }
+
+        public boolean hasNext() {
+            load();
+            return cursor < elements.length;
+        }
+
+        /**
+         * Returns the next element of the range.
+         *
+         * @return the next element of the range.
+         * @throws NoSuchElementException if the range has no more elements.
+         */
+        public Object next() {
+            load();
+            if (cursor >= elements.length)
+                throw new NoSuchElementException();
+            return elements[cursor++];
+        }
+
+        /**
+         * Not supported, since it would move the ranges of the other iterators of the partition.
+         *
+         * @throws UnsupportedOperationException always.
+         */
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
     }
 
     /**
@@ -620,7 +1065,7 @@ public class ListAdapter implements HList {
      */
     private class HListIteratorAdapter implements HListIterator {
         /**
-         * The cursor position of the iterator.
+         * The cursor position of the iterator, relative to the start of this list.
          */
         private int cursor;
 
@@ -633,7 +1078,7 @@ public class ListAdapter implements HList {
          * Constructs a new HListIteratorAdapter with the cursor at the beginning of the list.
          */
         public HListIteratorAdapter() {
-            cursor = offset;
+            cursor = 0;
         }
 
         /**
@@ -643,7 +1088,7 @@ public class ListAdapter implements HList {
          * @throws IndexOutOfBoundsException if the cursor is out of range {@code (cursor < 0 || cursor > size())}.
          */
         public HListIteratorAdapter(int cursor) {
-            if (cursor < offset || cursor > offset + size)
+            if (cursor < 0 || cursor > size)
                 throw new IndexOutOfBoundsException();
             this.cursor = cursor;
         }
@@ -660,7 +1105,7 @@ public class ListAdapter implements HList {
          * traversing the list in the forward direction.
          */
         public boolean hasNext() {
-            return cursor != offset + size;
+            return cursor != size;
         }
 
         /**
@@ -677,10 +1122,10 @@ public class ListAdapter implements HList {
          */
         public Object next() {
             int i = cursor;
-            if (i >= offset + size)
+            if (i >= size)
                 throw new NoSuchElementException();
             cursor = i + 1;
-            return get(lastRet = i - offset);
+            return get(lastRet = i);
         }
 
         /**
@@ -695,7 +1140,7 @@ public class ListAdapter implements HList {
          * traversing the list in the reverse direction.
          */
         public boolean hasPrevious() {
-            return cursor != offset;
+            return cursor != 0;
         }
 
         /**
@@ -712,7 +1157,7 @@ public class ListAdapter implements HList {
          */
         public Object previous() {
             int i = cursor - 1;
-            if (i < offset)
+            if (i < 0)
                 throw new NoSuchElementException();
             cursor = i;
             return get(lastRet = i);
@@ -768,7 +1213,7 @@ public class ListAdapter implements HList {
 
             ListAdapter.this.remove(lastRet);
 
-            cursor = lastRet + offset;
+            cursor = lastRet;
             lastRet = -1;
         }
 
@@ -0,0 +1,24 @@
+package myAdapter;
+/**
+ * Copied from java.lang.UnsupportedOperationException, necessary since cldc 1.1 does not have this class.
+ * <br>
+ * Thrown to indicate that the requested operation is not supported, for example by the optional
+ * operations of an {@link HList} implementation that does not support them.
+ */
+public class UnsupportedOperationException extends RuntimeException{
+    /**
+     * Constructs an UnsupportedOperationException with no detail message. A detail message is a String that describes this particular exception.
+     */
+    public UnsupportedOperationException() {
+        super();
+    }
+
+    /**
+     * Constructs an UnsupportedOperationException with the specified detail message. A detail message is a String that describes this particular exception.
+     *
+     * @param s the String that contains a detailed message
+     */
+    public UnsupportedOperationException(String s) {
+        super(s);
+    }
+}
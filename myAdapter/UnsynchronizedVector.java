@@ -0,0 +1,153 @@
+package myAdapter;
+
+import java.util.Vector;
+
+/**
+ * <p>
+ * A Vector whose element access and insertion/removal methods are not synchronized.
+ * It is used as the backing storage of {@link ListAdapter}, whose operations are already
+ * protected as a whole by the {@link HConcurrencyPolicy} of the list, so the per-call
+ * monitor of Vector would only add cost.
+ * </p>
+ * <p>
+ * The overridden methods work directly on the protected {@code elementData} and
+ * {@code elementCount} fields, which are available both in cldc 1.1 and in the JDK.
+ * The methods that are not overridden keep the synchronized implementation of Vector and
+ * remain consistent with the overridden ones.
+ * </p>
+ */
+class UnsynchronizedVector extends Vector {
+
+    /**
+     * Constructs an empty vector with the default initial capacity of Vector.
+     */
+    UnsynchronizedVector() {
+        super();
+    }
+
+    /**
+     * Constructs an empty vector with the specified initial capacity.
+     *
+     * @param initialCapacity the initial capacity of the vector.
+     * @throws IllegalArgumentException if the specified initial capacity is negative.
+     */
+    UnsynchronizedVector(int initialCapacity) {
+        super(initialCapacity);
+    }
+
+    /**
+     * Constructs a vector that takes ownership of the specified array, whose first {@code count} positions are its elements.
+     *
+     * @param elements the array of the elements, which must not be used by the caller afterwards.
+     * @param count    the number of elements.
+     */
+    UnsynchronizedVector(Object[] elements, int count) {
+        super(0);
+        elementData = elements;
+        elementCount = count;
+    }
+
+    /**
+     * Returns the number of elements in this vector.
+     *
+     * @return the number of elements in this vector.
+     */
+    public int size() {
+        return elementCount;
+    }
+
+    /**
+     * Returns {@code true} if this vector has no elements.
+     *
+     * @return {@code true} if this vector has no elements.
+     */
+    public boolean isEmpty() {
+        return elementCount == 0;
+    }
+
+    /**
+     * Returns the element at the specified index.
+     *
+     * @param index an index into this vector.
+     * @return the element at the specified index.
+     * @throws ArrayIndexOutOfBoundsException if the index is out of range {@code (index < 0 || index >= size())}.
+     */
+    public Object elementAt(int index) {
+        if (index >= elementCount)
+            throw new ArrayIndexOutOfBoundsException(index);
+        return elementData[index];
+    }
+
+    /**
+     * Sets the element at the specified index of this vector to be the specified object.
+     *
+     * @param obj   what the element is to be set to.
+     * @param index the specified index.
+     * @throws ArrayIndexOutOfBoundsException if the index is out of range {@code (index < 0 || index >= size())}.
+     */
+    public void setElementAt(Object obj, int index) {
+        if (index >= elementCount)
+            throw new ArrayIndexOutOfBoundsException(index);
+        elementData[index] = obj;
+    }
+
+    /**
+     * Inserts the specified object as an element at the specified index, shifting the
+     * elements at that index and after it one position to the right.
+     *
+     * @param obj   the element to insert.
+     * @param index where to insert the new element.
+     * @throws ArrayIndexOutOfBoundsException if the index is out of range {@code (index < 0 || index > size())}.
+     */
+    public void insertElementAt(Object obj, int index) {
+        if (index < 0 || index > elementCount)
+            throw new ArrayIndexOutOfBoundsException(index);
+        if (elementCount == elementData.length)
+            grow(elementCount + 1);
+        System.arraycopy(elementData, index, elementData, index + 1, elementCount - index);
+        elementData[index] = obj;
+        elementCount++;
+    }
+
+    /**
+     * Adds the specified element to the end of this vector.
+     *
+     * @param obj the element to be added.
+     */
+    public void addElement(Object obj) {
+        if (elementCount == elementData.length)
+            grow(elementCount + 1);
+        elementData[elementCount++] = obj;
+    }
+
+    /**
+     * Deletes the element at the specified index, shifting the elements after it one
+     * position to the left.
+     *
+     * @param index the index of the element to remove.
+     * @throws ArrayIndexOutOfBoundsException if the index is out of range {@code (index < 0 || index >= size())}.
+     */
+    public void removeElementAt(int index) {
+        if (index < 0 || index >= elementCount)
+            throw new ArrayIndexOutOfBoundsException(index);
+        int moved = elementCount - index - 1;
+        if (moved > 0)
+            System.arraycopy(elementData, index + 1, elementData, index, moved);
+        elementData[--elementCount] = null;
+    }
+
+    /**
+     * Increases the capacity of this vector so that it can hold at least the specified number
+     * of elements, growing by {@code capacityIncrement} if it is positive, otherwise doubling.
+     *
+     * @param minCapacity the desired minimum capacity.
+     */
+    private void grow(int minCapacity) {
+        int newCapacity = capacityIncrement > 0 ? elementData.length + capacityIncrement : elementData.length * 2;
+        if (newCapacity < minCapacity)
+            newCapacity = minCapacity;
+        Object[] newData = new Object[newCapacity];
+        System.arraycopy(elementData, 0, newData, 0, elementCount);
+        elementData = newData;
+    }
+}
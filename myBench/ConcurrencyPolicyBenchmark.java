@@ -0,0 +1,142 @@
+package myBench;
+
+import myAdapter.HConcurrencyPolicy;
+import myAdapter.ListAdapter;
+import myConcurrent.ReadWriteConcurrencyPolicy;
+import myConcurrent.StampedConcurrencyPolicy;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>
+ * Measures the throughput of a shared ListAdapter under each {@link HConcurrencyPolicy}
+ * with 1, 4 and 16 threads. Every thread runs a read-mostly mix (90% {@code get}, 5% {@code size},
+ * 5% {@code set}) on a list of 10000 elements for a fixed time, after a warm-up run of the same length.
+ * The policy {@code none} is only measured with one thread, since it is not safe to share.
+ * </p>
+ * <p>
+ * Usage: {@code java myBench.ConcurrencyPolicyBenchmark [milliseconds per run]}.
+ * The results are printed as one CSV line per policy and thread count.
+ * </p>
+ */
+public class ConcurrencyPolicyBenchmark {
+
+    /**
+     * The number of elements of the list.
+     */
+    private static final int SIZE = 10000;
+
+    /**
+     * The thread counts to measure.
+     */
+    private static final int[] THREADS = {1, 4, 16};
+
+    /**
+     * Private Constructor, this class only contains static methods.
+     */
+    private ConcurrencyPolicyBenchmark() {
+    }
+
+    /**
+     * Runs the benchmark and prints the results.
+     *
+     * @param args the duration of each run in milliseconds (default 1000).
+     * @throws InterruptedException if the main thread is interrupted while waiting for the workers.
+     */
+    public static void main(String[] args) throws InterruptedException {
+        long millis = args.length > 0 ? Long.parseLong(args[0]) : 1000L;
+        System.out.println("policy,threads,ops_per_second");
+        for (int t = 0; t < THREADS.length; t++) {
+            String[] policies = {"none", "monitor", "read-write", "stamped"};
+            for (int p = 0; p < policies.length; p++) {
+                if (policies[p].equals("none") && THREADS[t] > 1)
+                    continue;
+                run(policies[p], THREADS[t], millis);
+                double opsPerSecond = run(policies[p], THREADS[t], millis);
+                System.out.println(policies[p] + "," + THREADS[t] + "," + Math.round(opsPerSecond));
+            }
+        }
+    }
+
+    /**
+     * Returns a new policy of the specified kind.
+     *
+     * @param name the name of the policy.
+     * @return the new policy.
+     */
+    static HConcurrencyPolicy policy(String name) {
+        if (name.equals("none"))
+            return HConcurrencyPolicy.NONE;
+        if (name.equals("monitor"))
+            return HConcurrencyPolicy.monitor();
+        if (name.equals("read-write"))
+            return new ReadWriteConcurrencyPolicy();
+        if (name.equals("stamped"))
+            return new StampedConcurrencyPolicy();
+        throw new IllegalArgumentException("unknown policy: " + name);
+    }
+
+    /**
+     * Runs the workload on a new list for the specified time.
+     *
+     * @param policyName the name of the policy of the list.
+     * @param threads    the number of threads.
+     * @param millis     the duration of the run in milliseconds.
+     * @return the number of operations per second completed by all the threads.
+     * @throws InterruptedException if the main thread is interrupted while waiting for the workers.
+     */
+    private static double run(String policyName, int threads, long millis) throws InterruptedException {
+        final ListAdapter list = new ListAdapter(policy(policyName));
+        for (int i = 0; i < SIZE; i++) {
+            list.add(Integer.valueOf(i));
+        }
+        final AtomicBoolean running = new AtomicBoolean(true);
+        final LongAdder operations = new LongAdder();
+        final CountDownLatch start = new CountDownLatch(1);
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            final int seed = 0x9E3779B9 * (t + 1);
+            workers[t] = new Thread(() -> {
+                int x = seed;
+                long ops = 0;
+                long sink = 0;
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                while (running.get()) {
+                    for (int i = 0; i < 64; i++) {
+                        x ^= x << 13;
+                        x ^= x >>> 17;
+                        x ^= x << 5;
+                        int index = (x & 0x7FFFFFFF) % SIZE;
+                        int op = ((x >>> 8) & 0x7FFFFF) % 100;
+                        if (op < 90)
+                            sink += list.get(index).hashCode();
+                        else if (op < 95)
+                            sink += list.size();
+                        else
+                            list.set(index, Integer.valueOf(index));
+                    }
+                    ops += 64;
+                }
+                operations.add(ops);
+                if (sink == 42)
+                    System.out.print("");
+            });
+            workers[t].start();
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        Thread.sleep(millis);
+        running.set(false);
+        for (int t = 0; t < threads; t++) {
+            workers[t].join();
+        }
+        long elapsed = System.nanoTime() - begin;
+        return operations.sum() * 1e9 / elapsed;
+    }
+}
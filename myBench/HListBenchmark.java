@@ -0,0 +1,426 @@
+package myBench;
+
+import myAdapter.HCollection;
+import myAdapter.HIterator;
+import myAdapter.HList;
+import myAdapter.ListAdapter;
+import myBridge.HViews;
+import myConcurrent.AppendOnlyConcurrentList;
+import myConcurrent.SegmentedConcurrentList;
+import myConcurrent.VersionedList;
+import myIO.IntBufferHList;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+
+/**
+ * <p>
+ * Measures the time per operation of every {@link HList} implementation, and of
+ * {@link ArrayList} and {@link LinkedList} through {@link HViews#asHList(java.util.List)}, for
+ * each operation of the interface and for lists of several sizes. The lists contain Integers,
+ * so that {@link IntBufferHList} can take part.
+ * </p>
+ * <p>
+ * Every measurement runs batches of the same operation on a list of the given size. The batch
+ * length is calibrated so that a batch lasts at least a millisecond, within a limit that keeps
+ * the size of the list nearly constant for the operations that change it; after each batch the
+ * list is restored to its size outside the timed section, and after the measurement it is
+ * built again, so that the next operation finds the same elements. A measurement runs batches
+ * for the given time after a warm-up of the same length and reports the mean time per
+ * operation. The operations that a list does not support are skipped.
+ * </p>
+ * <p>
+ * Usage: {@code java myBench.HListBenchmark [milliseconds per measurement] [sizes] [lists] [operations]},
+ * where the last three are comma separated lists, by default {@code 10,1000,100000} and all
+ * the lists and operations; sizes up to 10000000 are supported, given enough heap. The results
+ * are printed as one CSV line per list, operation and size; the skipped measurements are
+ * reported on the standard error.
+ * </p>
+ */
+public class HListBenchmark {
+
+    /**
+     * The names of the lists.
+     */
+    private static final String[] LISTS = {"ListAdapter", "ArrayList", "LinkedList", "SegmentedConcurrentList",
+            "VersionedList", "AppendOnlyConcurrentList", "IntBufferHList"};
+
+    /**
+     * The default sizes of the lists.
+     */
+    private static final String DEFAULT_SIZES = "10,1000,100000";
+
+    /**
+     * The maximum number of operations of a batch that changes the size of the list.
+     */
+    private static final int MAX_MUTATIONS = 1000;
+
+    /**
+     * The number of random indexes used by the operations on single elements.
+     */
+    private static final int INDEXES = 1024;
+
+    /**
+     * The value of the elements added by the operations, which never occurs in a list.
+     */
+    private static final Integer ABSENT = Integer.valueOf(-1);
+
+    /**
+     * A ListAdapter with the elements of the lists of the current size, used to fill them and compared with them by {@code equals}.
+     */
+    private static HCollection reference;
+
+    /**
+     * The timed part of an operation.
+     */
+    private interface Timed {
+        /**
+         * Runs a batch of operations.
+         *
+         * @param list    the list, of the size of the measurement.
+         * @param n       the size of the measurement.
+         * @param k       the number of operations.
+         * @param indexes random indexes in {@code [0, n)}.
+         * @return a value computed from the results, to keep them alive.
+         */
+        long run(HList list, int n, int k, int[] indexes);
+    }
+
+    /**
+     * The untimed part of an operation, which restores the list after a batch.
+     */
+    private interface Restore {
+        /**
+         * Restores the list to the size of the measurement.
+         *
+         * @param list the list.
+         * @param n    the size of the measurement.
+         * @param k    the number of operations of the batch.
+         */
+        void run(HList list, int n, int k);
+    }
+
+    /**
+     * An operation to measure.
+     */
+    private static final class Operation {
+        /**
+         * The name of the operation.
+         */
+        final String name;
+
+        /**
+         * Whether the batches of the operation change the size of the list, so their length is limited.
+         */
+        final boolean resizes;
+
+        /**
+         * The timed part.
+         */
+        final Timed timed;
+
+        /**
+         * The untimed part, or {@code null}.
+         */
+        final Restore restore;
+
+        /**
+         * Constructs an operation.
+         *
+         * @param name    the name.
+         * @param resizes whether the batches change the size of the list.
+         * @param timed   the timed part.
+         * @param restore the untimed part, or {@code null}.
+         */
+        Operation(String name, boolean resizes, Timed timed, Restore restore) {
+            this.name = name;
+            this.resizes = resizes;
+            this.timed = timed;
+            this.restore = restore;
+        }
+    }
+
+    /**
+     * The operations.
+     */
+    private static final Operation[] OPERATIONS = {
+            new Operation("get", false, (list, n, k, idx) -> {
+                long sink = 0;
+                for (int i = 0; i < k; i++) {
+                    sink += list.get(idx[i & (INDEXES - 1)]).hashCode();
+                }
+                return sink;
+            }, null),
+            new Operation("set", false, (list, n, k, idx) -> {
+                long sink = 0;
+                for (int i = 0; i < k; i++) {
+                    int index = idx[i & (INDEXES - 1)];
+                    sink += list.set(index, list.get(index)).hashCode();
+                }
+                return sink;
+            }, null),
+            new Operation("append", true, (list, n, k, idx) -> {
+                for (int i = 0; i < k; i++) {
+                    list.add(ABSENT);
+                }
+                return list.size();
+            }, (list, n, k) -> list.subList(n, n + k).clear()),
+            new Operation("insert-head", true, (list, n, k, idx) -> {
+                for (int i = 0; i < k; i++) {
+                    list.add(0, ABSENT);
+                }
+                return list.size();
+            }, (list, n, k) -> list.subList(0, k).clear()),
+            new Operation("insert-middle", true, (list, n, k, idx) -> {
+                for (int i = 0; i < k; i++) {
+                    list.add(n / 2, ABSENT);
+                }
+                return list.size();
+            }, (list, n, k) -> list.subList(n / 2, n / 2 + k).clear()),
+            new Operation("insert-tail", true, (list, n, k, idx) -> {
+                for (int i = 0; i < k; i++) {
+                    list.add(list.size() - 1, ABSENT);
+                }
+                return list.size();
+            }, (list, n, k) -> list.subList(n - 1, n - 1 + k).clear()),
+            new Operation("remove", true, (list, n, k, idx) -> {
+                long sink = 0;
+                for (int i = 0; i < k; i++) {
+                    sink += list.remove(list.size() / 2).hashCode();
+                }
+                return sink;
+            }, (list, n, k) -> list.addAll((n - k) / 2, fill(k))),
+            new Operation("contains", false, (list, n, k, idx) -> {
+                long sink = 0;
+                for (int i = 0; i < k; i++) {
+                    sink += list.contains(ABSENT) ? 1 : 0;
+                }
+                return sink;
+            }, null),
+            new Operation("indexOf", false, (list, n, k, idx) -> {
+                long sink = 0;
+                for (int i = 0; i < k; i++) {
+                    sink += list.indexOf(Integer.valueOf(n / 2));
+                }
+                return sink;
+            }, null),
+            new Operation("iterate", false, (list, n, k, idx) -> {
+                long sink = 0;
+                for (int i = 0; i < k; i++) {
+                    HIterator it = list.iterator();
+                    while (it.hasNext()) {
+                        sink += it.next().hashCode();
+                    }
+                }
+                return sink;
+            }, null),
+            new Operation("subList-iterate", false, (list, n, k, idx) -> {
+                long sink = 0;
+                for (int i = 0; i < k; i++) {
+                    HIterator it = list.subList(n / 4, n - n / 4).iterator();
+                    while (it.hasNext()) {
+                        sink += it.next().hashCode();
+                    }
+                }
+                return sink;
+            }, null),
+            new Operation("subList-clear", true, (list, n, k, idx) -> {
+                list.subList(n / 4, n / 4 + k).clear();
+                return list.size();
+            }, (list, n, k) -> list.addAll(n / 4, fill(k))),
+            new Operation("addAll", true, (list, n, k, idx) -> {
+                list.addAll(fill(k));
+                return list.size();
+            }, (list, n, k) -> list.subList(n, n + k).clear()),
+            new Operation("removeAll", false, (list, n, k, idx) -> {
+                long sink = 0;
+                ListAdapter absent = new ListAdapter();
+                absent.add(ABSENT);
+                for (int i = 0; i < k; i++) {
+                    sink += list.removeAll(absent) ? 1 : 0;
+                }
+                return sink;
+            }, null),
+            new Operation("equals", false, (list, n, k, idx) -> {
+                long sink = 0;
+                for (int i = 0; i < k; i++) {
+                    sink += list.equals(reference) ? 1 : 0;
+                }
+                return sink;
+            }, null),
+            new Operation("hashCode", false, (list, n, k, idx) -> {
+                long sink = 0;
+                for (int i = 0; i < k; i++) {
+                    sink += list.hashCode();
+                }
+                return sink;
+            }, null),
+            new Operation("toString", false, (list, n, k, idx) -> {
+                long sink = 0;
+                for (int i = 0; i < k; i++) {
+                    sink += list.toString().length();
+                }
+                return sink;
+            }, null),
+    };
+
+    /**
+     * Private Constructor, this class only contains static methods.
+     */
+    private HListBenchmark() {
+    }
+
+    /**
+     * Runs the benchmark and prints the results.
+     *
+     * @param args the duration of each measurement in milliseconds (default 500), the sizes, the lists and the operations.
+     */
+    public static void main(String[] args) {
+        long millis = args.length > 0 ? Long.parseLong(args[0]) : 500L;
+        String[] sizes = (args.length > 1 ? args[1] : DEFAULT_SIZES).split(",");
+        String[] lists = args.length > 2 ? args[2].split(",") : LISTS;
+        String[] operations = args.length > 3 ? args[3].split(",") : names();
+        System.out.println("list,operation,size,ns_per_op,operations");
+        for (int s = 0; s < sizes.length; s++) {
+            int n = Integer.parseInt(sizes[s].trim());
+            reference = fill(n);
+            int[] indexes = new int[INDEXES];
+            int x = 0x9E3779B9;
+            for (int i = 0; i < INDEXES; i++) {
+                x ^= x << 13;
+                x ^= x >>> 17;
+                x ^= x << 5;
+                indexes[i] = (x & 0x7FFFFFFF) % n;
+            }
+            for (int l = 0; l < lists.length; l++) {
+                String name = lists[l].trim();
+                HList list = filled(name);
+                for (int o = 0; o < operations.length; o++) {
+                    Operation operation = operation(operations[o].trim());
+                    try {
+                        measure(list, n, operation, indexes, millis);
+                        double[] result = measure(list, n, operation, indexes, millis);
+                        System.out.println(name + "," + operation.name + "," + n + ","
+                                + Math.round(result[0] * 10) / 10.0 + "," + (long) result[1]);
+                    } catch (myAdapter.UnsupportedOperationException | UnsupportedOperationException e) {
+                        System.err.println("skipped " + name + "," + operation.name + "," + n + ": unsupported");
+                    }
+                    if (operation.resizes)
+                        list = filled(name);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the names of all the operations.
+     *
+     * @return the names.
+     */
+    private static String[] names() {
+        String[] names = new String[OPERATIONS.length];
+        for (int i = 0; i < OPERATIONS.length; i++) {
+            names[i] = OPERATIONS[i].name;
+        }
+        return names;
+    }
+
+    /**
+     * Returns the operation with the specified name.
+     *
+     * @param name the name.
+     * @return the operation.
+     * @throws IllegalArgumentException if there is no operation with that name.
+     */
+    private static Operation operation(String name) {
+        for (int i = 0; i < OPERATIONS.length; i++) {
+            if (OPERATIONS[i].name.equals(name))
+                return OPERATIONS[i];
+        }
+        throw new IllegalArgumentException("unknown operation: " + name);
+    }
+
+    /**
+     * Returns a new empty list of the specified kind.
+     *
+     * @param name the name of the list.
+     * @return the new list.
+     * @throws IllegalArgumentException if there is no list with that name.
+     */
+    static HList list(String name) {
+        if (name.equals("ListAdapter"))
+            return new ListAdapter();
+        if (name.equals("ArrayList"))
+            return HViews.asHList(new ArrayList<Object>());
+        if (name.equals("LinkedList"))
+            return HViews.asHList(new LinkedList<Object>());
+        if (name.equals("SegmentedConcurrentList"))
+            return new SegmentedConcurrentList();
+        if (name.equals("VersionedList"))
+            return new VersionedList();
+        if (name.equals("AppendOnlyConcurrentList"))
+            return new AppendOnlyConcurrentList();
+        if (name.equals("IntBufferHList"))
+            return new IntBufferHList();
+        throw new IllegalArgumentException("unknown list: " + name);
+    }
+
+    /**
+     * Returns a new list of the specified kind with the elements of the reference list.
+     *
+     * @param name the name of the list.
+     * @return the new list.
+     */
+    private static HList filled(String name) {
+        HList list = list(name);
+        list.addAll(reference);
+        return list;
+    }
+
+    /**
+     * Returns a ListAdapter of the Integers from 0 to {@code n - 1}.
+     *
+     * @param n the number of elements.
+     * @return the list.
+     */
+    static HCollection fill(int n) {
+        ListAdapter list = new ListAdapter();
+        for (int i = 0; i < n; i++) {
+            list.add(Integer.valueOf(i));
+        }
+        return list;
+    }
+
+    /**
+     * Calibrates the length of the batches and runs them for the specified time.
+     *
+     * @param list      the list, of size {@code n}.
+     * @param n         the size of the list.
+     * @param operation the operation.
+     * @param indexes   random indexes in {@code [0, n)}.
+     * @param millis    the duration of the measurement in milliseconds.
+     * @return the mean time per operation in nanoseconds and the number of operations.
+     */
+    private static double[] measure(HList list, int n, Operation operation, int[] indexes, long millis) {
+        int limit = operation.resizes ? Math.max(1, Math.min(MAX_MUTATIONS, n / 2)) : Integer.MAX_VALUE;
+        int k = 1;
+        long sink = 0;
+        long time = 0;
+        long count = 0;
+        long deadline = System.nanoTime() + millis * 1000000L;
+        while (System.nanoTime() < deadline || count == 0) {
+            long begin = System.nanoTime();
+            sink += operation.timed.run(list, n, k, indexes);
+            long elapsed = System.nanoTime() - begin;
+            if (operation.restore != null)
+                operation.restore.run(list, n, k);
+            time += elapsed;
+            count += k;
+            if (elapsed < 1000000L && k <= limit / 2)
+                k *= 2;
+        }
+        if (sink == 42)
+            System.out.print("");
+        return new double[]{(double) time / count, count};
+    }
+}
@@ -0,0 +1,146 @@
+package myBench;
+
+import myAdapter.HList;
+import myAdapter.ListAdapter;
+import myConcurrent.SegmentedConcurrentList;
+import myConcurrent.StampedConcurrencyPolicy;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>
+ * Measures how the throughput of a shared list scales with the number of threads under a
+ * write-heavy workload (90% {@code set}, 10% {@code get} at random indexes of a list of 100000
+ * elements). It compares a ListAdapter under the monitor and stamped policies, where every
+ * {@code set} takes the lock of the whole list, with a SegmentedConcurrentList, where it only
+ * locks one segment. Every run lasts a fixed time, after a warm-up run of the same length.
+ * </p>
+ * <p>
+ * Usage: {@code java myBench.SegmentedListBenchmark [milliseconds per run]}.
+ * The results are printed as one CSV line per list and thread count; the last column is the
+ * throughput relative to the same list with one thread.
+ * </p>
+ */
+public class SegmentedListBenchmark {
+
+    /**
+     * The number of elements of the list.
+     */
+    private static final int SIZE = 100000;
+
+    /**
+     * The thread counts to measure.
+     */
+    private static final int[] THREADS = {1, 2, 4, 8, 16};
+
+    /**
+     * The lists to measure.
+     */
+    private static final String[] LISTS = {"monitor", "stamped", "segmented"};
+
+    /**
+     * Private Constructor, this class only contains static methods.
+     */
+    private SegmentedListBenchmark() {
+    }
+
+    /**
+     * Runs the benchmark and prints the results.
+     *
+     * @param args the duration of each run in milliseconds (default 1000).
+     * @throws InterruptedException if the main thread is interrupted while waiting for the workers.
+     */
+    public static void main(String[] args) throws InterruptedException {
+        long millis = args.length > 0 ? Long.parseLong(args[0]) : 1000L;
+        System.out.println("list,threads,ops_per_second,scaling");
+        for (int l = 0; l < LISTS.length; l++) {
+            double single = 0;
+            for (int t = 0; t < THREADS.length; t++) {
+                run(LISTS[l], THREADS[t], millis);
+                double opsPerSecond = run(LISTS[l], THREADS[t], millis);
+                if (t == 0)
+                    single = opsPerSecond;
+                System.out.println(LISTS[l] + "," + THREADS[t] + "," + Math.round(opsPerSecond) + ","
+                        + Math.round(opsPerSecond / single * 100) / 100.0);
+            }
+        }
+    }
+
+    /**
+     * Returns a new empty list of the specified kind.
+     *
+     * @param name the name of the list.
+     * @return the new list.
+     */
+    static HList list(String name) {
+        if (name.equals("monitor"))
+            return new ListAdapter();
+        if (name.equals("stamped"))
+            return new ListAdapter(new StampedConcurrencyPolicy());
+        if (name.equals("segmented"))
+            return new SegmentedConcurrentList();
+        throw new IllegalArgumentException("unknown list: " + name);
+    }
+
+    /**
+     * Runs the workload on a new list for the specified time.
+     *
+     * @param listName the name of the list.
+     * @param threads  the number of threads.
+     * @param millis   the duration of the run in milliseconds.
+     * @return the number of operations per second completed by all the threads.
+     * @throws InterruptedException if the main thread is interrupted while waiting for the workers.
+     */
+    private static double run(String listName, int threads, long millis) throws InterruptedException {
+        final HList list = list(listName);
+        for (int i = 0; i < SIZE; i++) {
+            list.add(Integer.valueOf(i));
+        }
+        final AtomicBoolean running = new AtomicBoolean(true);
+        final LongAdder operations = new LongAdder();
+        final CountDownLatch start = new CountDownLatch(1);
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            final int seed = 0x9E3779B9 * (t + 1);
+            workers[t] = new Thread(() -> {
+                int x = seed;
+                long ops = 0;
+                long sink = 0;
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                while (running.get()) {
+                    for (int i = 0; i < 64; i++) {
+                        x ^= x << 13;
+                        x ^= x >>> 17;
+                        x ^= x << 5;
+                        int index = (x & 0x7FFFFFFF) % SIZE;
+                        int op = ((x >>> 8) & 0x7FFFFF) % 100;
+                        if (op < 90)
+                            list.set(index, Integer.valueOf(index));
+                        else
+                            sink += list.get(index).hashCode();
+                    }
+                    ops += 64;
+                }
+                operations.add(ops);
+                if (sink == 42)
+                    System.out.print("");
+            });
+            workers[t].start();
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        Thread.sleep(millis);
+        running.set(false);
+        for (int t = 0; t < threads; t++) {
+            workers[t].join();
+        }
+        long elapsed = System.nanoTime() - begin;
+        return operations.sum() * 1e9 / elapsed;
+    }
+}
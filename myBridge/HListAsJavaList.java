@@ -0,0 +1,107 @@
+package myBridge;
+
+import myAdapter.HList;
+
+import java.util.AbstractList;
+import java.util.List;
+
+/**
+ * <p>
+ * A {@link java.util.List} view of an {@link HList}. Every operation is delegated to the
+ * wrapped list, so changes made through the view are reflected in the list and vice-versa,
+ * and no element is ever copied.
+ * </p>
+ * <p>
+ * Iterators and list iterators are the index based ones of {@link AbstractList}.
+ * Instances are created through {@link HViews#asList(HList)}, which returns a
+ * {@link java.util.RandomAccess} view when the wrapped list is an {@link myAdapter.HRandomAccess}.
+ * </p>
+ */
+public class HListAsJavaList extends AbstractList<Object> {
+    /**
+     * The wrapped list.
+     */
+    protected final HList list;
+
+    /**
+     * Constructs a view of the specified list.
+     *
+     * @param list the list to wrap.
+     * @throws NullPointerException if the specified list is {@code null}.
+     */
+    HListAsJavaList(HList list) {
+        if (list == null)
+            throw new NullPointerException();
+        this.list = list;
+    }
+
+    /**
+     * Returns the wrapped list.
+     *
+     * @return the wrapped list.
+     */
+    public HList unwrap() {
+        return list;
+    }
+
+    public int size() {
+        return list.size();
+    }
+
+    public boolean isEmpty() {
+        return list.isEmpty();
+    }
+
+    public Object get(int index) {
+        return list.get(index);
+    }
+
+    public Object set(int index, Object element) {
+        return list.set(index, element);
+    }
+
+    public boolean add(Object o) {
+        return list.add(o);
+    }
+
+    public void add(int index, Object element) {
+        list.add(index, element);
+    }
+
+    public Object remove(int index) {
+        return list.remove(index);
+    }
+
+    public boolean contains(Object o) {
+        return list.contains(o);
+    }
+
+    public int indexOf(Object o) {
+        return list.indexOf(o);
+    }
+
+    public int lastIndexOf(Object o) {
+        return list.lastIndexOf(o);
+    }
+
+    public Object[] toArray() {
+        return list.toArray();
+    }
+
+    public void clear() {
+        list.clear();
+    }
+
+    /**
+     * Returns a view of the portion of this list between the specified indexes, obtained by
+     * wrapping the subList of the wrapped list.
+     *
+     * @param fromIndex low endpoint (inclusive) of the subList.
+     * @param toIndex   high endpoint (exclusive) of the subList.
+     * @return a view of the specified range within this list.
+     * @throws IndexOutOfBoundsException for an illegal endpoint index value.
+     */
+    public List<Object> subList(int fromIndex, int toIndex) {
+        return HViews.asList(list.subList(fromIndex, toIndex));
+    }
+}
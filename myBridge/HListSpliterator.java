@@ -0,0 +1,139 @@
+package myBridge;
+
+import myAdapter.HList;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * <p>
+ * A {@link Spliterator} over a range of an {@link HList}, which reads the elements by index
+ * and splits the range by offset, so that no element is ever copied.
+ * </p>
+ * <p>
+ * The spliterator is late-binding: the end of the range is read from the list size when the
+ * spliterator is first traversed, split or sized, not when it is created.
+ * It reports {@code SIZED}, {@code SUBSIZED} and {@code ORDERED}.
+ * The list must not be structurally modified while the spliterator is in use.
+ * </p>
+ */
+public class HListSpliterator implements Spliterator<Object> {
+    /**
+     * The list that contains the elements.
+     */
+    private final HList list;
+
+    /**
+     * The index of the next element to be returned.
+     */
+    private int index;
+
+    /**
+     * The index after the last element of the range, or -1 until the spliterator is first used.
+     */
+    private int fence;
+
+    /**
+     * Constructs a spliterator over the whole list.
+     *
+     * @param list the list that contains the elements.
+     * @throws NullPointerException if the specified list is {@code null}.
+     */
+    public HListSpliterator(HList list) {
+        this(list, 0, -1);
+    }
+
+    /**
+     * Private Constructor for trySplit, to create a spliterator over a range of the list.
+     *
+     * @param list   the list that contains the elements.
+     * @param origin the index of the first element of the range.
+     * @param fence  the index after the last element of the range, or -1 to bind it to the list size.
+     */
+    private HListSpliterator(HList list, int origin, int fence) {
+        if (list == null)
+            throw new NullPointerException();
+        this.list = list;
+        this.index = origin;
+        this.fence = fence;
+    }
+
+    /**
+     * Returns the end of the range, reading it from the list size on first use.
+     *
+     * @return the index after the last element of the range.
+     */
+    private int getFence() {
+        if (fence < 0)
+            fence = list.size();
+        return fence;
+    }
+
+    /**
+     * Performs the given action on the next element, if any.
+     *
+     * @param action the action to perform.
+     * @return {@code false} if no element remained, otherwise {@code true}.
+     * @throws NullPointerException if the specified action is {@code null}.
+     */
+    public boolean tryAdvance(Consumer<? super Object> action) {
+        if (action == null)
+            throw new NullPointerException();
+        int hi = getFence();
+        if (index >= hi)
+            return false;
+        action.accept(list.get(index++));
+        return true;
+    }
+
+    /**
+     * Performs the given action on each remaining element, sequentially.
+     *
+     * @param action the action to perform.
+     * @throws NullPointerException if the specified action is {@code null}.
+     */
+    public void forEachRemaining(Consumer<? super Object> action) {
+        if (action == null)
+            throw new NullPointerException();
+        int hi = getFence();
+        int i = index;
+        index = hi;
+        for (; i < hi; i++) {
+            action.accept(list.get(i));
+        }
+    }
+
+    /**
+     * Splits the remaining range in two halves by offset. This spliterator keeps the upper half
+     * and the returned one covers the lower half.
+     *
+     * @return a spliterator over the lower half of the range, or null if the range is too small to be split.
+     */
+    public Spliterator<Object> trySplit() {
+        int hi = getFence();
+        int lo = index;
+        int mid = (lo + hi) >>> 1;
+        if (lo >= mid)
+            return null;
+        index = mid;
+        return new HListSpliterator(list, lo, mid);
+    }
+
+    /**
+     * Returns the exact number of elements that remain to be traversed.
+     *
+     * @return the number of remaining elements.
+     */
+    public long estimateSize() {
+        return getFence() - index;
+    }
+
+    /**
+     * Returns {@code SIZED | SUBSIZED | ORDERED}.
+     *
+     * @return the characteristics of this spliterator.
+     */
+    public int characteristics() {
+        return Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED;
+    }
+}
@@ -0,0 +1,91 @@
+package myBridge;
+
+import myAdapter.HCollection;
+import myAdapter.HIterator;
+import myAdapter.HList;
+
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * <p>
+ * Static methods that expose the elements of an {@link HCollection} as a
+ * {@link java.util.stream.Stream}, without copying them into a {@code java.util} collection.
+ * </p>
+ * <p>
+ * An {@link HList} is exposed through an {@link HListSpliterator}, which splits by index and
+ * therefore lets {@link #parallelStream(HCollection)} divide the work evenly across the common pool.
+ * Any other collection is exposed through its iterator, which splits poorly.
+ * </p>
+ */
+public class HStreams {
+
+    /**
+     * Private Constructor, this class only contains static methods.
+     */
+    private HStreams() {
+    }
+
+    /**
+     * Returns a spliterator over the elements of the specified collection.
+     *
+     * @param c the collection that contains the elements.
+     * @return a {@code SIZED | SUBSIZED | ORDERED} spliterator if the collection is an {@link HList},
+     * otherwise a {@code SIZED} spliterator over its iterator.
+     * @throws NullPointerException if the specified collection is {@code null}.
+     */
+    public static Spliterator<Object> spliterator(HCollection c) {
+        if (c == null)
+            throw new NullPointerException();
+        if (c instanceof HList)
+            return new HListSpliterator((HList) c);
+        return Spliterators.spliterator(iterator(c.iterator()), c.size(), 0);
+    }
+
+    /**
+     * Returns a sequential stream over the elements of the specified collection.
+     *
+     * @param c the collection that contains the elements.
+     * @return a sequential stream.
+     * @throws NullPointerException if the specified collection is {@code null}.
+     */
+    public static Stream<Object> stream(HCollection c) {
+        return StreamSupport.stream(spliterator(c), false);
+    }
+
+    /**
+     * Returns a parallel stream over the elements of the specified collection.
+     *
+     * @param c the collection that contains the elements.
+     * @return a parallel stream.
+     * @throws NullPointerException if the specified collection is {@code null}.
+     */
+    public static Stream<Object> parallelStream(HCollection c) {
+        return StreamSupport.stream(spliterator(c), true);
+    }
+
+    /**
+     * Returns a {@link java.util.Iterator} that delegates to the specified {@link HIterator}.
+     *
+     * @param it the iterator to delegate to.
+     * @return a java.util iterator over the same elements.
+     */
+    static Iterator<Object> iterator(final HIterator it) {
+        return new Iterator<Object>() {
+            public boolean hasNext() {
+                return it.hasNext();
+            }
+
+            public Object next() {
+                return it.next();
+            }
+
+            public void remove() {
+                it.remove();
+            }
+        };
+    }
+}
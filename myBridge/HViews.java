@@ -0,0 +1,119 @@
+package myBridge;
+
+import myAdapter.HCollection;
+import myAdapter.HIterator;
+import myAdapter.HList;
+import myAdapter.HRandomAccess;
+
+import java.util.AbstractCollection;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * <p>
+ * Static methods that wrap an {@link HList} as a {@link java.util.List} and a
+ * {@link java.util.List} as an {@link HList}. The views delegate every operation to the
+ * wrapped list, so crossing the boundary between the two hierarchies takes constant time
+ * and no element is copied.
+ * </p>
+ * <p>
+ * Wrapping a view again returns the original list instead of a view of a view.
+ * </p>
+ */
+public class HViews {
+
+    /**
+     * Private Constructor, this class only contains static methods.
+     */
+    private HViews() {
+    }
+
+    /**
+     * Returns a {@link java.util.List} view of the specified list. The view implements
+     * {@link java.util.RandomAccess} if the list implements {@link HRandomAccess}.
+     *
+     * @param list the list to wrap.
+     * @return a view of the list, or the wrapped list if the argument is itself a view.
+     * @throws NullPointerException if the specified list is {@code null}.
+     */
+    public static List<Object> asList(HList list) {
+        if (list instanceof JavaListAsHList)
+            return ((JavaListAsHList) list).unwrap();
+        if (list instanceof HRandomAccess)
+            return new RandomAccessHListAsJavaList(list);
+        return new HListAsJavaList(list);
+    }
+
+    /**
+     * Returns an {@link HList} view of the specified list. The view implements
+     * {@link HRandomAccess} if the list implements {@link java.util.RandomAccess}.
+     *
+     * @param list the list to wrap.
+     * @return a view of the list, or the wrapped list if the argument is itself a view.
+     * @throws NullPointerException if the specified list is {@code null}.
+     */
+    public static HList asHList(List<Object> list) {
+        if (list instanceof HListAsJavaList)
+            return ((HListAsJavaList) list).unwrap();
+        if (list instanceof RandomAccess)
+            return new RandomAccessJavaListAsHList(list);
+        return new JavaListAsHList(list);
+    }
+
+    /**
+     * Returns a read-only {@link java.util.Collection} view of the specified collection, used to
+     * pass an {@link HCollection} to the bulk operations of a {@link java.util.List}.
+     *
+     * @param c the collection to wrap.
+     * @return a view of the collection.
+     * @throws NullPointerException if the specified collection is {@code null}.
+     */
+    static Collection<Object> asCollection(final HCollection c) {
+        if (c == null)
+            throw new NullPointerException();
+        if (c instanceof JavaListAsHList)
+            return ((JavaListAsHList) c).unwrap();
+        return new AbstractCollection<Object>() {
+            public Iterator<Object> iterator() {
+                final HIterator it = c.iterator();
+                return new Iterator<Object>() {
+                    public boolean hasNext() {
+                        return it.hasNext();
+                    }
+
+                    public Object next() {
+                        return it.next();
+                    }
+                };
+            }
+
+            public int size() {
+                return c.size();
+            }
+
+            public boolean contains(Object o) {
+                return c.contains(o);
+            }
+        };
+    }
+
+    /**
+     * A {@link HListAsJavaList} that also implements {@link java.util.RandomAccess}.
+     */
+    private static class RandomAccessHListAsJavaList extends HListAsJavaList implements RandomAccess {
+        RandomAccessHListAsJavaList(HList list) {
+            super(list);
+        }
+    }
+
+    /**
+     * A {@link JavaListAsHList} that also implements {@link HRandomAccess}.
+     */
+    private static class RandomAccessJavaListAsHList extends JavaListAsHList implements HRandomAccess {
+        RandomAccessJavaListAsHList(List<Object> list) {
+            super(list);
+        }
+    }
+}
@@ -0,0 +1,314 @@
+package myBridge;
+
+import myAdapter.HCollection;
+import myAdapter.HIterator;
+import myAdapter.HList;
+import myAdapter.HListIterator;
+import myAdapter.HRangeIterator;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.ListIterator;
+
+/**
+ * <p>
+ * An {@link HList} view of a {@link java.util.List}. Every operation is delegated to the
+ * wrapped list, so changes made through the view are reflected in the list and vice-versa,
+ * and no element is ever copied, except for the bulk insertions which pass the elements of
+ * the argument to the wrapped list as one array so that it shifts its elements only once.
+ * </p>
+ * <p>
+ * The exceptions of the wrapped list are propagated unchanged, except for
+ * {@code java.lang.IllegalStateException}, which is translated to
+ * {@link myAdapter.IllegalStateException} as required by {@link HListIterator}.
+ * Instances are created through {@link HViews#asHList(List)}, which returns an
+ * {@link myAdapter.HRandomAccess} view when the wrapped list is a {@link java.util.RandomAccess}.
+ * </p>
+ */
+public class JavaListAsHList implements HList {
+    /**
+     * The wrapped list.
+     */
+    protected final List<Object> list;
+
+    /**
+     * Constructs a view of the specified list.
+     *
+     * @param list the list to wrap.
+     * @throws NullPointerException if the specified list is {@code null}.
+     */
+    JavaListAsHList(List<Object> list) {
+        if (list == null)
+            throw new NullPointerException();
+        this.list = list;
+    }
+
+    /**
+     * Returns the wrapped list.
+     *
+     * @return the wrapped list.
+     */
+    public List<Object> unwrap() {
+        return list;
+    }
+
+    public int size() {
+        return list.size();
+    }
+
+    public boolean isEmpty() {
+        return list.isEmpty();
+    }
+
+    public boolean contains(Object o) {
+        return list.contains(o);
+    }
+
+    public HIterator iterator() {
+        return new ListIteratorView(list.listIterator());
+    }
+
+    public Object[] toArray() {
+        return list.toArray();
+    }
+
+    /**
+     * Returns an array containing all the elements in this list in proper sequence.
+     *
+     * @param a the array into which the elements of this list are to be stored, if it is big enough.
+     * @return an array containing the elements of this list.
+     * @throws NullPointerException if the specified array is {@code null}.
+     */
+    public Object[] toArray(Object[] a) {
+        return list.toArray(a);
+    }
+
+    public boolean add(Object o) {
+        return list.add(o);
+    }
+
+    public boolean remove(Object o) {
+        return list.remove(o);
+    }
+
+    /**
+     * Returns {@code true} if this list contains all the elements of the specified collection.
+     *
+     * @param c collection to be checked for containment in this list.
+     * @return {@code true} if this list contains all the elements of the specified collection.
+     * @throws NullPointerException if the specified collection is {@code null}.
+     */
+    public boolean containsAll(HCollection c) {
+        return list.containsAll(HViews.asCollection(c));
+    }
+
+    /**
+     * Appends all the elements in the specified collection to the end of this list.
+     *
+     * @param c collection whose elements are to be added to this list.
+     * @return {@code true} if this list changed as a result of the call.
+     * @throws NullPointerException if the specified collection is {@code null}.
+     */
+    public boolean addAll(HCollection c) {
+        return list.addAll(Arrays.asList(c.toArray()));
+    }
+
+    /**
+     * Inserts all the elements in the specified collection into this list at the specified position.
+     *
+     * @param index index at which to insert first element from the specified collection.
+     * @param c     elements to be inserted into this list.
+     * @return {@code true} if this list changed as a result of the call.
+     * @throws NullPointerException      if the specified collection is {@code null}.
+     * @throws IndexOutOfBoundsException if the index is out of range {@code (index < 0 || index > size())}.
+     */
+    public boolean addAll(int index, HCollection c) {
+        return list.addAll(index, Arrays.asList(c.toArray()));
+    }
+
+    /**
+     * Removes from this list all the elements that are contained in the specified collection.
+     *
+     * @param c collection that defines which elements will be removed from this list.
+     * @return {@code true} if this list changed as a result of the call.
+     * @throws NullPointerException if the specified collection is {@code null}.
+     */
+    public boolean removeAll(HCollection c) {
+        return list.removeAll(HViews.asCollection(c));
+    }
+
+    /**
+     * Retains only the elements in this list that are contained in the specified collection.
+     *
+     * @param c collection that defines which elements this list will retain.
+     * @return {@code true} if this list changed as a result of the call.
+     * @throws NullPointerException if the specified collection is {@code null}.
+     */
+    public boolean retainAll(HCollection c) {
+        return list.retainAll(HViews.asCollection(c));
+    }
+
+    public void clear() {
+        list.clear();
+    }
+
+    /**
+     * Compares the specified object with this list for equality. Returns {@code true} if and only
+     * if the specified object is also an {@link HList} with the same elements in the same order.
+     *
+     * @param o the object to be compared for equality with this list.
+     * @return {@code true} if the specified object is equal to this list.
+     */
+    public boolean equals(Object o) {
+        if (o == this)
+            return true;
+        if (!(o instanceof HList))
+            return false;
+        HList other = (HList) o;
+        if (other.size() != list.size())
+            return false;
+        HIterator it = other.iterator();
+        for (Object e : list) {
+            Object oe = it.next();
+            if (!(e == null ? oe == null : e.equals(oe)))
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns the hash code value for this list, which is computed with the same formula as {@link HList#hashCode()}.
+     *
+     * @return the hash code value for this list.
+     */
+    public int hashCode() {
+        return list.hashCode();
+    }
+
+    public String toString() {
+        return list.toString();
+    }
+
+    public Object get(int index) {
+        return list.get(index);
+    }
+
+    public Object set(int index, Object element) {
+        return list.set(index, element);
+    }
+
+    public void add(int index, Object element) {
+        list.add(index, element);
+    }
+
+    public Object remove(int index) {
+        return list.remove(index);
+    }
+
+    public int indexOf(Object o) {
+        return list.indexOf(o);
+    }
+
+    public int lastIndexOf(Object o) {
+        return list.lastIndexOf(o);
+    }
+
+    public HListIterator listIterator() {
+        return new ListIteratorView(list.listIterator());
+    }
+
+    public HListIterator listIterator(int index) {
+        return new ListIteratorView(list.listIterator(index));
+    }
+
+    /**
+     * Returns a view of the portion of this list between the specified indexes, obtained by
+     * wrapping the subList of the wrapped list. Endpoints in the wrong order are reported as
+     * required by {@link HList}, since the lists of java.util throw an IllegalArgumentException.
+     *
+     * @param fromIndex low endpoint (inclusive) of the subList.
+     * @param toIndex   high endpoint (exclusive) of the subList.
+     * @return a view of the specified range within this list.
+     * @throws IndexOutOfBoundsException for an illegal endpoint index value {@code (fromIndex < 0 || toIndex > size || fromIndex > toIndex)}.
+     */
+    public HList subList(int fromIndex, int toIndex) {
+        if (fromIndex > toIndex)
+            throw new IndexOutOfBoundsException("fromIndex(" + fromIndex + ") > toIndex(" + toIndex + ")");
+        return HViews.asHList(list.subList(fromIndex, toIndex));
+    }
+
+    /**
+     * Returns {@code n} iterators over disjoint consecutive ranges of this list, which read the
+     * elements with {@code get} on the wrapped list.
+     *
+     * @param n the number of ranges.
+     * @return the iterators, in the order of their ranges.
+     * @throws IllegalArgumentException if {@code n} is not positive.
+     */
+    public HIterator[] partition(int n) {
+        return HRangeIterator.partition(this, n);
+    }
+
+    /**
+     * An {@link HListIterator} that delegates to a {@link java.util.ListIterator}.
+     */
+    private static class ListIteratorView implements HListIterator {
+        /**
+         * The wrapped iterator.
+         */
+        private final ListIterator<Object> it;
+
+        /**
+         * Constructs a view of the specified iterator.
+         *
+         * @param it the iterator to wrap.
+         */
+        ListIteratorView(ListIterator<Object> it) {
+            this.it = it;
+        }
+
+        public boolean hasNext() {
+            return it.hasNext();
+        }
+
+        public Object next() {
+            return it.next();
+        }
+
+        public boolean hasPrevious() {
+            return it.hasPrevious();
+        }
+
+        public Object previous() {
+            return it.previous();
+        }
+
+        public int nextIndex() {
+            return it.nextIndex();
+        }
+
+        public int previousIndex() {
+            return it.previousIndex();
+        }
+
+        public void remove() {
+            try {
+                it.remove();
+            } catch (java.lang.IllegalStateException e) {
+                throw new myAdapter.IllegalStateException(e.getMessage());
+            }
+        }
+
+        public void set(Object o) {
+            try {
+                it.set(o);
+            } catch (java.lang.IllegalStateException e) {
+                throw new myAdapter.IllegalStateException(e.getMessage());
+            }
+        }
+
+        public void add(Object o) {
+            it.add(o);
+        }
+    }
+}
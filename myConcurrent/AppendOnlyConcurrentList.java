@@ -0,0 +1,319 @@
+package myConcurrent;
+
+import myAdapter.AbstractHList;
+import myAdapter.HCollection;
+import myAdapter.HFootprint;
+import myAdapter.HMeasurable;
+import myAdapter.HRandomAccess;
+import myAdapter.HSizeModel;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p>
+ * A concurrent {@link myAdapter.HList} optimized for many threads appending at the same time.
+ * The elements are stored in a fixed table of segments whose lengths double (16, 32, 64, ...),
+ * so the list grows without ever copying or moving an element, and an index is mapped to its
+ * segment with a few bit operations.
+ * </p>
+ * <p>
+ * An append reserves its slot with a single compare-and-set on a counter, writes the element
+ * into the slot and then publishes it. The published size only moves over slots that have been
+ * written, so readers always see a consistent prefix of the appends: {@code size()} is the
+ * length of the prefix, and {@code get} and iteration, which never lock or retry, only read
+ * inside it. A thread that publishes also publishes the slots written by other threads in the
+ * meantime, so no append waits for another one to finish; an element becomes visible as soon as
+ * all the slots before it have been written.
+ * </p>
+ * <p>
+ * {@code set} is supported and atomic. Positional insertions and every kind of removal throw
+ * {@link myAdapter.UnsupportedOperationException}. Null elements are allowed.
+ * </p>
+ */
+public class AppendOnlyConcurrentList extends AbstractHList implements HRandomAccess, HMeasurable {
+
+    /**
+     * The base 2 logarithm of the length of the first segment.
+     */
+    private static final int FIRST_SEGMENT_BITS = 4;
+
+    /**
+     * The length of the first segment.
+     */
+    private static final int FIRST_SEGMENT = 1 << FIRST_SEGMENT_BITS;
+
+    /**
+     * The maximum number of elements of the list.
+     */
+    private static final int MAX_SIZE = Integer.MAX_VALUE - FIRST_SEGMENT;
+
+    /**
+     * The value stored in a slot for a null element, since a null slot means "not yet written".
+     */
+    private static final Object NULL = new Object();
+
+    /**
+     * Access to the slots of a segment.
+     */
+    private static final VarHandle SLOTS = MethodHandles.arrayElementVarHandle(Object[].class);
+
+    /**
+     * Access to the segments of the table.
+     */
+    private static final VarHandle SEGMENTS = MethodHandles.arrayElementVarHandle(Object[][].class);
+
+    /**
+     * The table of segments, allocated on first use. Segment {@code k} has length {@code FIRST_SEGMENT << k}.
+     */
+    private final Object[][] segments = new Object[32 - FIRST_SEGMENT_BITS][];
+
+    /**
+     * The number of slots reserved by appends.
+     */
+    private final AtomicInteger reserved = new AtomicInteger();
+
+    /**
+     * The number of elements visible to readers: all the slots before it have been written.
+     */
+    private final AtomicInteger published = new AtomicInteger();
+
+    /**
+     * Constructs an empty list.
+     */
+    public AppendOnlyConcurrentList() {
+    }
+
+    /**
+     * Constructs a list containing the elements of the specified collection, in the order they are returned by the collection's iterator.
+     *
+     * @param c the collection whose elements are to be placed into this list.
+     * @throws NullPointerException if the specified collection is {@code null}.
+     */
+    public AppendOnlyConcurrentList(HCollection c) {
+        addAll(c);
+    }
+
+    /**
+     * Returns the index of the segment that contains the specified slot.
+     *
+     * @param slot the slot index.
+     * @return the segment index.
+     */
+    private static int segmentOf(int slot) {
+        return 31 - Integer.numberOfLeadingZeros(slot + FIRST_SEGMENT) - FIRST_SEGMENT_BITS;
+    }
+
+    /**
+     * Returns the position of the specified slot in its segment.
+     *
+     * @param slot the slot index.
+     * @return the position in the segment.
+     */
+    private static int positionOf(int slot) {
+        int pos = slot + FIRST_SEGMENT;
+        return pos - Integer.highestOneBit(pos);
+    }
+
+    /**
+     * Returns the specified segment, allocating it if no thread has done so yet.
+     *
+     * @param k the segment index.
+     * @return the segment.
+     */
+    private Object[] segment(int k) {
+        Object[] seg = (Object[]) SEGMENTS.getAcquire(segments, k);
+        if (seg == null) {
+            Object[] created = new Object[FIRST_SEGMENT << k];
+            Object witness = SEGMENTS.compareAndExchange(segments, k, (Object[]) null, created);
+            seg = witness == null ? created : (Object[]) witness;
+        }
+        return seg;
+    }
+
+    /**
+     * Reserves the specified number of consecutive slots.
+     *
+     * @param n the number of slots.
+     * @return the index of the first reserved slot.
+     * @throws IllegalStateException if the list would exceed its maximum size.
+     */
+    private int reserve(int n) {
+        for (;;) {
+            int first = reserved.get();
+            if (first > MAX_SIZE - n)
+                throw new IllegalStateException("list is full");
+            if (reserved.compareAndSet(first, first + n))
+                return first;
+        }
+    }
+
+    /**
+     * Writes the specified element into a reserved slot.
+     *
+     * @param slot    the slot index.
+     * @param element the element to write.
+     */
+    private void write(int slot, Object element) {
+        SLOTS.setVolatile(segment(segmentOf(slot)), positionOf(slot), element == null ? NULL : element);
+    }
+
+    /**
+     * Returns {@code true} if the specified reserved slot has been written.
+     *
+     * @param slot the slot index.
+     * @return {@code true} if the slot has been written.
+     */
+    private boolean isWritten(int slot) {
+        Object[] seg = (Object[]) SEGMENTS.getVolatile(segments, segmentOf(slot));
+        return seg != null && SLOTS.getVolatile(seg, positionOf(slot)) != null;
+    }
+
+    /**
+     * Moves the published size over every written slot that follows it.
+     */
+    private void publish() {
+        for (;;) {
+            int p = published.get();
+            if (p >= reserved.get() || !isWritten(p))
+                return;
+            published.compareAndSet(p, p + 1);
+        }
+    }
+
+    /**
+     * Returns the number of elements visible to readers.
+     *
+     * @return the number of elements in this list.
+     */
+    public int size() {
+        return published.get();
+    }
+
+    /**
+     * Returns the element at the specified position in this list. This method is wait-free.
+     *
+     * @param index index of element to return.
+     * @return the element at the specified position in this list.
+     * @throws IndexOutOfBoundsException if the index is out of range {@code (index < 0 || index >= size())}.
+     */
+    public Object get(int index) {
+        if (index < 0 || index >= published.get())
+            throw new IndexOutOfBoundsException();
+        Object e = SLOTS.getAcquire(segments[segmentOf(index)], positionOf(index));
+        return e == NULL ? null : e;
+    }
+
+    /**
+     * Atomically replaces the element at the specified position in this list.
+     *
+     * @param index   index of element to replace.
+     * @param element element to be stored at the specified position.
+     * @return the element previously at the specified position.
+     * @throws IndexOutOfBoundsException if the index is out of range {@code (index < 0 || index >= size())}.
+     */
+    public Object set(int index, Object element) {
+        if (index < 0 || index >= published.get())
+            throw new IndexOutOfBoundsException();
+        Object old = SLOTS.getAndSet(segments[segmentOf(index)], positionOf(index), element == null ? NULL : element);
+        return old == NULL ? null : old;
+    }
+
+    /**
+     * Appends the specified element to the end of this list. The element is visible to readers
+     * once every append that reserved an earlier slot has written its element.
+     *
+     * @param o element to be appended to this list.
+     * @return {@code true}.
+     * @throws IllegalStateException if the list is full.
+     */
+    public boolean add(Object o) {
+        int slot = reserve(1);
+        write(slot, o);
+        publish();
+        return true;
+    }
+
+    /**
+     * Appends all the elements in the specified collection to the end of this list, in
+     * consecutive slots reserved with a single compare-and-set.
+     *
+     * @param c collection whose elements are to be added to this list.
+     * @return {@code true} if this list changed as a result of the call.
+     * @throws NullPointerException  if the specified collection is {@code null}.
+     * @throws IllegalStateException if the list is full.
+     */
+    public boolean addAll(HCollection c) {
+        if (c == null)
+            throw new NullPointerException();
+        Object[] elements = c.toArray();
+        if (elements.length == 0)
+            return false;
+        int first = reserve(elements.length);
+        for (int i = 0; i < elements.length; i++) {
+            write(first + i, elements[i]);
+        }
+        publish();
+        return true;
+    }
+
+    /**
+     * Inserts all the elements of the specified collection at the specified position, which is
+     * only supported at the end of the list.
+     *
+     * @param index index at which to insert first element from the specified collection.
+     * @param c     elements to be inserted into this list.
+     * @return {@code true} if this list changed as a result of the call.
+     * @throws UnsupportedOperationException if the index is not the size of the list.
+     * @throws NullPointerException          if the specified collection is {@code null}.
+     */
+    public boolean addAll(int index, HCollection c) {
+        if (index != size())
+            throw new myAdapter.UnsupportedOperationException();
+        return addAll(c);
+    }
+
+    /**
+     * Returns the footprint of this list estimated by {@link HSizeModel#DEFAULT}, without the elements.
+     *
+     * @return the footprint.
+     */
+    public HFootprint footprint() {
+        return footprint(HSizeModel.DEFAULT, false);
+    }
+
+    /**
+     * Returns the footprint of this list estimated by the specified model. The backing bytes are
+     * those of the segments allocated so far, and the spare capacity is the slots of the segments
+     * that are not published yet. The appends that run meanwhile may or may not be counted.
+     *
+     * @param model    the model of the sizes of the objects.
+     * @param elements {@code true} to measure the elements too.
+     * @return the footprint.
+     * @throws NullPointerException if the model is {@code null}.
+     */
+    public HFootprint footprint(HSizeModel model, boolean elements) {
+        int n = published.get();
+        long shallow = model.instanceSize(3, 0) + 2 * model.instanceSize(0, 4)
+                + model.referenceArraySize(segments.length);
+        long backing = 0;
+        long capacity = 0;
+        for (int k = 0; k < segments.length; k++) {
+            Object[] seg = (Object[]) SEGMENTS.getAcquire(segments, k);
+            if (seg != null) {
+                backing += model.referenceArraySize(seg.length);
+                capacity += seg.length;
+            }
+        }
+        long elementBytes = -1;
+        if (elements) {
+            elementBytes = 0;
+            for (int i = 0; i < n; i++) {
+                elementBytes += model.sizeOf(get(i));
+            }
+        }
+        return new HFootprint(n, shallow, backing, capacity - n, (capacity - n) * model.referenceSize(),
+                elementBytes, 0);
+    }
+}
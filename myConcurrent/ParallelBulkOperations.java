@@ -0,0 +1,393 @@
+package myConcurrent;
+
+import myAdapter.HCollection;
+import myAdapter.HList;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntPredicate;
+
+/**
+ * <p>
+ * Static methods that run the scanning bulk operations of an {@link HList} ({@code indexOf},
+ * {@code containsAll}, {@code equals} and {@code hashCode}) in parallel on a {@link ForkJoinPool}.
+ * Every method returns exactly what the method of the list with the same name returns.
+ * </p>
+ * <p>
+ * The elements are first copied with a single {@code toArray()}, which takes the lock of the list
+ * once, instead of once per element, and gives every task a consistent view; the copy only moves
+ * references, so it costs far less than the {@code equals} calls that are then split across the
+ * pool. The index range is divided recursively down to chunks of a few thousand elements. The
+ * searches stop early: as soon as a task finds a match, the tasks whose range lies after it are
+ * skipped or stop scanning. The hash code is computed per chunk and the chunks are combined with
+ * the powers of 31, so the result is the same as the sequential one.
+ * </p>
+ * <p>
+ * Lists smaller than the threshold ({@link #DEFAULT_THRESHOLD} elements unless specified) are
+ * left to the sequential methods of the list, since splitting them costs more than it saves.
+ * </p>
+ */
+public class ParallelBulkOperations {
+
+    /**
+     * The default size below which the sequential methods of the list are used.
+     */
+    public static final int DEFAULT_THRESHOLD = 1 << 15;
+
+    /**
+     * The minimum number of elements scanned by a single task.
+     */
+    private static final int MIN_CHUNK = 1024;
+
+    /**
+     * Private Constructor, this class only contains static methods.
+     */
+    private ParallelBulkOperations() {
+    }
+
+    /**
+     * Returns the number of elements below which a task scans its range instead of splitting it.
+     *
+     * @param n    the number of elements.
+     * @param pool the pool that runs the tasks.
+     * @return the chunk size.
+     */
+    private static int chunk(int n, ForkJoinPool pool) {
+        return Math.max(MIN_CHUNK, n / (pool.getParallelism() * 8));
+    }
+
+    /**
+     * Returns {@code true} if the specified elements are equal, like {@code Objects.equals}.
+     *
+     * @param a the first element.
+     * @param b the second element.
+     * @return {@code true} if the elements are equal.
+     */
+    private static boolean eq(Object a, Object b) {
+        return a == null ? b == null : a.equals(b);
+    }
+
+    /**
+     * Returns the lowest index in the specified range that satisfies the predicate, or -1.
+     *
+     * @param from      the first index.
+     * @param to        the index after the last one.
+     * @param predicate the predicate.
+     * @param chunk     the number of indexes below which a task stops splitting.
+     * @param pool      the pool that runs the tasks.
+     * @return the lowest matching index, or -1.
+     */
+    private static int firstMatch(int from, int to, IntPredicate predicate, int chunk, ForkJoinPool pool) {
+        AtomicInteger found = new AtomicInteger(Integer.MAX_VALUE);
+        pool.invoke(new FirstMatch(from, to, predicate, chunk, found));
+        int index = found.get();
+        return index == Integer.MAX_VALUE ? -1 : index;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified element in the specified list, or -1.
+     *
+     * @param list the list to search.
+     * @param o    the element to search for.
+     * @return the index of the first occurrence, or -1 if the list does not contain the element.
+     * @throws NullPointerException if the specified list is {@code null}.
+     */
+    public static int indexOf(HList list, Object o) {
+        return indexOf(list, o, ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified element in the specified list, or -1.
+     *
+     * @param list      the list to search.
+     * @param o         the element to search for.
+     * @param pool      the pool that runs the tasks.
+     * @param threshold the size below which {@code list.indexOf(o)} is used.
+     * @return the index of the first occurrence, or -1 if the list does not contain the element.
+     * @throws NullPointerException if the specified list or pool is {@code null}.
+     */
+    public static int indexOf(HList list, Object o, ForkJoinPool pool, int threshold) {
+        if (pool == null)
+            throw new NullPointerException();
+        if (list.size() < threshold)
+            return list.indexOf(o);
+        final Object[] elements = list.toArray();
+        return firstMatch(0, elements.length, i -> eq(o, elements[i]), chunk(elements.length, pool), pool);
+    }
+
+    /**
+     * Returns {@code true} if the specified list contains all the elements of the specified collection.
+     *
+     * @param list the list to search.
+     * @param c    the collection whose elements are to be searched.
+     * @return {@code true} if the list contains all the elements of the collection.
+     * @throws NullPointerException if the list or the collection is {@code null}.
+     */
+    public static boolean containsAll(HList list, HCollection c) {
+        return containsAll(list, c, ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Returns {@code true} if the specified list contains all the elements of the specified
+     * collection. A few elements are searched one after the other, each with a parallel scan of
+     * the list; many elements are split across the pool, each searched by a sequential scan.
+     * Either way the search stops at the first missing element.
+     *
+     * @param list      the list to search.
+     * @param c         the collection whose elements are to be searched.
+     * @param pool      the pool that runs the tasks.
+     * @param threshold the size below which {@code list.containsAll(c)} is used.
+     * @return {@code true} if the list contains all the elements of the collection.
+     * @throws NullPointerException if the list, the collection or the pool is {@code null}.
+     */
+    public static boolean containsAll(HList list, HCollection c, ForkJoinPool pool, int threshold) {
+        if (c == null || pool == null)
+            throw new NullPointerException();
+        if (list.size() < threshold)
+            return list.containsAll(c);
+        final Object[] elements = list.toArray();
+        final Object[] searched = c.toArray();
+        if (searched.length < pool.getParallelism()) {
+            int chunk = chunk(elements.length, pool);
+            for (int s = 0; s < searched.length; s++) {
+                final Object o = searched[s];
+                if (firstMatch(0, elements.length, i -> eq(o, elements[i]), chunk, pool) < 0)
+                    return false;
+            }
+            return true;
+        }
+        return firstMatch(0, searched.length, s -> indexOf(elements, searched[s]) < 0, 1, pool) < 0;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified element in the specified array, or -1.
+     *
+     * @param elements the array.
+     * @param o        the element.
+     * @return the index of the first occurrence, or -1.
+     */
+    private static int indexOf(Object[] elements, Object o) {
+        for (int i = 0; i < elements.length; i++) {
+            if (eq(o, elements[i]))
+                return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Compares the specified list with the specified object for equality, as specified by {@link HList#equals(Object)}.
+     *
+     * @param list the list.
+     * @param o    the object to be compared with the list.
+     * @return {@code true} if the object is an {@link HList} with the same elements in the same order.
+     * @throws NullPointerException if the specified list is {@code null}.
+     */
+    public static boolean equals(HList list, Object o) {
+        return equals(list, o, ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Compares the specified list with the specified object for equality, as specified by {@link HList#equals(Object)}.
+     *
+     * @param list      the list.
+     * @param o         the object to be compared with the list.
+     * @param pool      the pool that runs the tasks.
+     * @param threshold the size below which {@code list.equals(o)} is used.
+     * @return {@code true} if the object is an {@link HList} with the same elements in the same order.
+     * @throws NullPointerException if the specified list or pool is {@code null}.
+     */
+    public static boolean equals(HList list, Object o, ForkJoinPool pool, int threshold) {
+        if (pool == null)
+            throw new NullPointerException();
+        if (o == list)
+            return true;
+        if (!(o instanceof HList))
+            return false;
+        HList other = (HList) o;
+        if (list.size() < threshold)
+            return list.equals(other);
+        final Object[] a = list.toArray();
+        final Object[] b = other.toArray();
+        if (a.length != b.length)
+            return false;
+        return firstMatch(0, a.length, i -> !eq(a[i], b[i]), chunk(a.length, pool), pool) < 0;
+    }
+
+    /**
+     * Returns the hash code of the specified list, as specified by {@link HList#hashCode()}.
+     *
+     * @param list the list.
+     * @return the hash code of the list.
+     * @throws NullPointerException if the specified list is {@code null}.
+     */
+    public static int hashCode(HList list) {
+        return hashCode(list, ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Returns the hash code of the specified list, as specified by {@link HList#hashCode()}.
+     * Every chunk computes {@code h = 31 * h + hash(e)} starting from 0, and two adjacent chunks
+     * combine into {@code left * 31^length(right) + right}; the result is {@code 31^size} plus
+     * the hash of the whole range, which is what the sequential loop starting from 1 computes.
+     *
+     * @param list      the list.
+     * @param pool      the pool that runs the tasks.
+     * @param threshold the size below which {@code list.hashCode()} is used.
+     * @return the hash code of the list.
+     * @throws NullPointerException if the specified list or pool is {@code null}.
+     */
+    public static int hashCode(HList list, ForkJoinPool pool, int threshold) {
+        if (pool == null)
+            throw new NullPointerException();
+        if (list.size() < threshold)
+            return list.hashCode();
+        Object[] elements = list.toArray();
+        int hash = pool.invoke(new Hash(elements, 0, elements.length, chunk(elements.length, pool))).intValue();
+        return pow31(elements.length) + hash;
+    }
+
+    /**
+     * Returns 31 raised to the specified power, with int overflow.
+     *
+     * @param n the exponent.
+     * @return {@code 31^n}, modulo {@code 2^32}.
+     */
+    private static int pow31(int n) {
+        int result = 1;
+        int base = 31;
+        while (n > 0) {
+            if ((n & 1) != 0)
+                result *= base;
+            base *= base;
+            n >>>= 1;
+        }
+        return result;
+    }
+
+    /**
+     * A task that finds the lowest index of a range that satisfies a predicate. The lowest index
+     * found so far is shared by all the tasks, which skip or stop scanning the indexes above it.
+     */
+    private static final class FirstMatch extends RecursiveAction {
+        /**
+         * The first index of the range.
+         */
+        private final int from;
+
+        /**
+         * The index after the last one of the range.
+         */
+        private final int to;
+
+        /**
+         * The predicate.
+         */
+        private final IntPredicate predicate;
+
+        /**
+         * The number of indexes below which the task scans its range.
+         */
+        private final int chunk;
+
+        /**
+         * The lowest matching index found so far by any task, or {@code Integer.MAX_VALUE}.
+         */
+        private final AtomicInteger found;
+
+        /**
+         * Constructs a task.
+         *
+         * @param from      the first index.
+         * @param to        the index after the last one.
+         * @param predicate the predicate.
+         * @param chunk     the number of indexes below which the task scans its range.
+         * @param found     the lowest matching index found so far.
+         */
+        FirstMatch(int from, int to, IntPredicate predicate, int chunk, AtomicInteger found) {
+            this.from = from;
+            this.to = to;
+            this.predicate = predicate;
+            this.chunk = chunk;
+            this.found = found;
+        }
+
+        protected void compute() {
+            if (from >= found.get())
+                return;
+            if (to - from <= chunk) {
+                for (int i = from; i < to; i++) {
+                    if ((i & 255) == 0 && i > found.get())
+                        return;
+                    if (predicate.test(i)) {
+                        found.accumulateAndGet(i, Math::min);
+                        return;
+                    }
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new FirstMatch(from, mid, predicate, chunk, found),
+                    new FirstMatch(mid, to, predicate, chunk, found));
+        }
+    }
+
+    /**
+     * A task that computes the polynomial hash of a range of elements, starting from 0.
+     */
+    private static final class Hash extends RecursiveTask<Integer> {
+        /**
+         * The elements.
+         */
+        private final Object[] elements;
+
+        /**
+         * The first index of the range.
+         */
+        private final int from;
+
+        /**
+         * The index after the last one of the range.
+         */
+        private final int to;
+
+        /**
+         * The number of elements below which the task hashes its range.
+         */
+        private final int chunk;
+
+        /**
+         * Constructs a task.
+         *
+         * @param elements the elements.
+         * @param from     the first index.
+         * @param to       the index after the last one.
+         * @param chunk    the number of elements below which the task hashes its range.
+         */
+        Hash(Object[] elements, int from, int to, int chunk) {
+            this.elements = elements;
+            this.from = from;
+            this.to = to;
+            this.chunk = chunk;
+        }
+
+        protected Integer compute() {
+            if (to - from <= chunk) {
+                int hash = 0;
+                for (int i = from; i < to; i++) {
+                    Object e = elements[i];
+                    hash = 31 * hash + (e == null ? 0 : e.hashCode());
+                }
+                return Integer.valueOf(hash);
+            }
+            int mid = (from + to) >>> 1;
+            Hash left = new Hash(elements, from, mid, chunk);
+            Hash right = new Hash(elements, mid, to, chunk);
+            left.fork();
+            int rightHash = right.compute().intValue();
+            int leftHash = left.join().intValue();
+            return Integer.valueOf(leftHash * pow31(to - mid) + rightHash);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package myConcurrent;
+
+import myAdapter.HConcurrencyPolicy;
+
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * <p>
+ * An {@link HConcurrencyPolicy} based on a {@link ReentrantReadWriteLock}: read operations
+ * run in parallel with each other and are excluded only by write operations.
+ * The lock is reentrant and does not support optimistic reads.
+ * </p>
+ */
+public class ReadWriteConcurrencyPolicy extends HConcurrencyPolicy {
+    /**
+     * The lock that protects the list.
+     */
+    private final ReentrantReadWriteLock lock;
+
+    /**
+     * Constructs a policy based on a non-fair read-write lock.
+     */
+    public ReadWriteConcurrencyPolicy() {
+        this(false);
+    }
+
+    /**
+     * Constructs a policy based on a read-write lock with the specified fairness.
+     *
+     * @param fair {@code true} if the lock should use a fair ordering policy.
+     */
+    public ReadWriteConcurrencyPolicy(boolean fair) {
+        lock = new ReentrantReadWriteLock(fair);
+    }
+
+    public void readLock() {
+        lock.readLock().lock();
+    }
+
+    public void readUnlock() {
+        lock.readLock().unlock();
+    }
+
+    public void writeLock() {
+        lock.writeLock().lock();
+    }
+
+    public void writeUnlock() {
+        lock.writeLock().unlock();
+    }
+
+    public String toString() {
+        return "read-write";
+    }
+}
@@ -0,0 +1,824 @@
+package myConcurrent;
+
+import myAdapter.AbstractHList;
+import myAdapter.HCollection;
+import myAdapter.HFootprint;
+import myAdapter.HMeasurable;
+import myAdapter.HRandomAccess;
+import myAdapter.HSizeModel;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * <p>
+ * A concurrent {@link myAdapter.HList} split into segments of bounded capacity, each guarded by
+ * its own lock. {@code get}, {@code set}, positional inserts and removals lock only the segment
+ * that contains their index, so threads working on unrelated parts of the list do not contend.
+ * </p>
+ * <p>
+ * The size of the list is striped over the segments: every segment counts its own elements and
+ * {@code size()} adds the counts up. An index is mapped to its segment through a table of
+ * segment start indexes, which is rebuilt lazily after an insert or a removal and is otherwise
+ * shared by all threads. Since an insert or a removal shifts the indexes of every following
+ * element, the mapping is validated after the segment lock is taken: two counters record the
+ * structural changes that have started and finished, and an operation that sees either of them
+ * move retries. Inserts and removals therefore make the concurrent operations retry, while
+ * {@code get} and {@code set}, which do not change the structure, scale with the number of
+ * segments. Appends only lock the last segment and do not invalidate the mapping.
+ * </p>
+ * <p>
+ * When an insert finds its segment full, the list is rebalanced: all the segment locks are taken
+ * in order, the full segment is split in two (or a new last segment is added for an append) and
+ * empty segments are dropped. {@code clear()}, {@code toArray} and the removals by element,
+ * {@code remove(Object)}, {@code removeAll} and {@code retainAll}, also take all the segment
+ * locks, so they see a consistent snapshot and are atomic. The searches lock one segment at a
+ * time and start again if the structure changes, so they do not block each other. The other
+ * bulk operations, the iterators and the subLists are made of single operations, which are
+ * atomic one by one but not together.
+ * </p>
+ * <p>
+ * Null elements are allowed.
+ * </p>
+ */
+public class SegmentedConcurrentList extends AbstractHList implements HRandomAccess, HMeasurable {
+
+    /**
+     * The default capacity of a segment.
+     */
+    public static final int DEFAULT_SEGMENT_CAPACITY = 1024;
+
+    /**
+     * A segment of the list: a bounded array of elements and its lock.
+     */
+    private static final class Segment {
+        /**
+         * The lock that guards the elements and the count of this segment.
+         */
+        final ReentrantLock lock = new ReentrantLock();
+
+        /**
+         * The elements of this segment, in the first {@code count} positions.
+         */
+        final Object[] elements;
+
+        /**
+         * The number of elements in this segment, written while holding the lock.
+         */
+        volatile int count;
+
+        /**
+         * Constructs an empty segment.
+         *
+         * @param capacity the capacity of the segment.
+         */
+        Segment(int capacity) {
+            elements = new Object[capacity];
+        }
+    }
+
+    /**
+     * The segments of the list together with their start indexes, valid for one version of the structure.
+     */
+    private static final class Layout {
+        /**
+         * The segments, in order.
+         */
+        final Segment[] segments;
+
+        /**
+         * The index of the first element of each segment.
+         */
+        final int[] starts;
+
+        /**
+         * The number of structural changes that had finished when the start indexes were computed.
+         */
+        final long version;
+
+        /**
+         * Constructs a layout.
+         *
+         * @param segments the segments.
+         * @param starts   the start indexes.
+         * @param version  the version of the structure.
+         */
+        Layout(Segment[] segments, int[] starts, long version) {
+            this.segments = segments;
+            this.starts = starts;
+            this.version = version;
+        }
+    }
+
+    /**
+     * The capacity of every segment.
+     */
+    private final int segmentCapacity;
+
+    /**
+     * The current layout. Only a rebalance replaces the array of segments.
+     */
+    private final AtomicReference<Layout> layout;
+
+    /**
+     * The number of structural changes that have started.
+     */
+    private final AtomicLong started = new AtomicLong();
+
+    /**
+     * The number of structural changes that have finished.
+     */
+    private final AtomicLong finished = new AtomicLong();
+
+    /**
+     * Constructs an empty list with the default segment capacity.
+     */
+    public SegmentedConcurrentList() {
+        this(DEFAULT_SEGMENT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty list with the specified segment capacity.
+     *
+     * @param segmentCapacity the maximum number of elements of a segment.
+     * @throws IllegalArgumentException if the capacity is less than 2.
+     */
+    public SegmentedConcurrentList(int segmentCapacity) {
+        if (segmentCapacity < 2)
+            throw new IllegalArgumentException("segment capacity: " + segmentCapacity);
+        this.segmentCapacity = segmentCapacity;
+        layout = new AtomicReference<Layout>(new Layout(new Segment[]{new Segment(segmentCapacity)}, new int[1], 0));
+    }
+
+    /**
+     * Waits until no structural change is in progress and returns the number of finished ones.
+     *
+     * @return the version of the structure.
+     */
+    private long stableVersion() {
+        for (int spins = 0; ; spins++) {
+            long f = finished.get();
+            if (started.get() == f)
+                return f;
+            if (spins < 64)
+                Thread.onSpinWait();
+            else
+                Thread.yield();
+        }
+    }
+
+    /**
+     * Returns a layout whose start indexes are valid for the specified version, computing it if
+     * needed, or {@code null} if the structure changed in the meantime.
+     *
+     * @param version the version returned by {@link #stableVersion()}.
+     * @return the layout, or {@code null}.
+     */
+    private Layout layout(long version) {
+        Layout current = layout.get();
+        if (current.version == version)
+            return current;
+        Segment[] segments = current.segments;
+        int[] starts = new int[segments.length];
+        int start = 0;
+        for (int k = 0; k < segments.length; k++) {
+            starts[k] = start;
+            start += segments[k].count;
+        }
+        if (started.get() != version)
+            return null;
+        Layout computed = new Layout(segments, starts, version);
+        layout.compareAndSet(current, computed);
+        return computed;
+    }
+
+    /**
+     * Returns the last segment whose start index is not greater than the specified index.
+     *
+     * @param l     the layout.
+     * @param index the index.
+     * @return the index of the segment.
+     */
+    private static int segmentFor(Layout l, int index) {
+        int low = 0;
+        int high = l.starts.length - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (l.starts[mid] <= index)
+                low = mid;
+            else
+                high = mid - 1;
+        }
+        return low;
+    }
+
+    /**
+     * Locks the segment that contains the specified index and returns the layout it was found
+     * in. On return, the lock of segment {@code segmentFor(layout, index)} is held and the layout
+     * is valid until it is released, or until the caller starts a structural change.
+     *
+     * @param index the index, which must not be negative.
+     * @return the validated layout.
+     */
+    private Layout lockIndex(int index) {
+        for (;;) {
+            long version = stableVersion();
+            Layout l = layout(version);
+            if (l == null)
+                continue;
+            Segment segment = l.segments[segmentFor(l, index)];
+            segment.lock.lock();
+            if (started.get() == version)
+                return l;
+            segment.lock.unlock();
+        }
+    }
+
+    /**
+     * Locks every segment, in order, and returns the segments that have been locked.
+     *
+     * @return the locked segments.
+     */
+    private Segment[] lockAll() {
+        for (;;) {
+            Segment[] segments = layout.get().segments;
+            for (int k = 0; k < segments.length; k++) {
+                segments[k].lock.lock();
+            }
+            if (layout.get().segments == segments)
+                return segments;
+            unlockAll(segments);
+        }
+    }
+
+    /**
+     * Unlocks the specified segments.
+     *
+     * @param segments the segments locked by {@link #lockAll()}.
+     */
+    private static void unlockAll(Segment[] segments) {
+        for (int k = segments.length - 1; k >= 0; k--) {
+            segments[k].lock.unlock();
+        }
+    }
+
+    /**
+     * Replaces the segments with the specified ones. All the current segments must be locked.
+     *
+     * @param segments the new segments.
+     */
+    private void install(Segment[] segments) {
+        long version = started.incrementAndGet();
+        int[] starts = new int[segments.length];
+        int start = 0;
+        for (int k = 0; k < segments.length; k++) {
+            starts[k] = start;
+            start += segments[k].count;
+        }
+        layout.set(new Layout(segments, starts, version));
+        finished.incrementAndGet();
+    }
+
+    /**
+     * Makes room in the specified segment, if it is still full, by splitting it in two or, if it
+     * is the last one and {@code append} is {@code true}, by adding a new last segment. Empty
+     * segments are dropped.
+     *
+     * @param full   the segment that was found full.
+     * @param append {@code true} if the element is to be appended after the full segment.
+     */
+    private void rebalance(Segment full, boolean append) {
+        Segment[] segments = lockAll();
+        try {
+            if (full.count < segmentCapacity || !contains(segments, full, append))
+                return;
+            int n = 0;
+            Segment[] rebalanced = new Segment[segments.length + 1];
+            for (int k = 0; k < segments.length; k++) {
+                Segment segment = segments[k];
+                if (segment == full && !append) {
+                    int half = segmentCapacity / 2;
+                    Segment first = new Segment(segmentCapacity);
+                    Segment second = new Segment(segmentCapacity);
+                    System.arraycopy(full.elements, 0, first.elements, 0, half);
+                    System.arraycopy(full.elements, half, second.elements, 0, segmentCapacity - half);
+                    first.count = half;
+                    second.count = segmentCapacity - half;
+                    rebalanced[n++] = first;
+                    rebalanced[n++] = second;
+                } else if (segment.count > 0) {
+                    rebalanced[n++] = segment;
+                }
+            }
+            if (append || n == 0)
+                rebalanced[n++] = new Segment(segmentCapacity);
+            Segment[] trimmed = new Segment[n];
+            System.arraycopy(rebalanced, 0, trimmed, 0, n);
+            install(trimmed);
+        } finally {
+            unlockAll(segments);
+        }
+    }
+
+    /**
+     * Returns {@code true} if the specified segment is still in use: for an append, it must still
+     * be the last segment.
+     *
+     * @param segments the segments.
+     * @param segment  the segment to look for.
+     * @param last     {@code true} if the segment must be the last one.
+     * @return {@code true} if the segment was found.
+     */
+    private static boolean contains(Segment[] segments, Segment segment, boolean last) {
+        if (last)
+            return segments[segments.length - 1] == segment;
+        for (int k = 0; k < segments.length; k++) {
+            if (segments[k] == segment)
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * Returns the number of elements in this list, the sum of the counts of the segments.
+     *
+     * @return the number of elements in this list.
+     */
+    public int size() {
+        for (;;) {
+            long version = stableVersion();
+            Layout l = layout(version);
+            if (l == null)
+                continue;
+            int last = l.segments.length - 1;
+            int size = l.starts[last] + l.segments[last].count;
+            if (started.get() == version)
+                return size;
+        }
+    }
+
+    /**
+     * Returns the element at the specified position in this list, locking only its segment.
+     *
+     * @param index index of element to return.
+     * @return the element at the specified position in this list.
+     * @throws IndexOutOfBoundsException if the index is out of range {@code (index < 0 || index >= size())}.
+     */
+    public Object get(int index) {
+        if (index < 0)
+            throw new IndexOutOfBoundsException();
+        Layout l = lockIndex(index);
+        int k = segmentFor(l, index);
+        Segment segment = l.segments[k];
+        try {
+            int offset = index - l.starts[k];
+            if (offset >= segment.count)
+                throw new IndexOutOfBoundsException();
+            return segment.elements[offset];
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    /**
+     * Replaces the element at the specified position in this list, locking only its segment.
+     *
+     * @param index   index of element to replace.
+     * @param element element to be stored at the specified position.
+     * @return the element previously at the specified position.
+     * @throws IndexOutOfBoundsException if the index is out of range {@code (index < 0 || index >= size())}.
+     */
+    public Object set(int index, Object element) {
+        if (index < 0)
+            throw new IndexOutOfBoundsException();
+        Layout l = lockIndex(index);
+        int k = segmentFor(l, index);
+        Segment segment = l.segments[k];
+        try {
+            int offset = index - l.starts[k];
+            if (offset >= segment.count)
+                throw new IndexOutOfBoundsException();
+            Object old = segment.elements[offset];
+            segment.elements[offset] = element;
+            return old;
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    /**
+     * Inserts the specified element at the specified position in this list, locking only its
+     * segment unless the segment is full and the list has to be rebalanced.
+     *
+     * @param index   index at which the specified element is to be inserted.
+     * @param element element to be inserted.
+     * @throws IndexOutOfBoundsException if the index is out of range {@code (index < 0 || index > size())}.
+     */
+    public void add(int index, Object element) {
+        if (index < 0)
+            throw new IndexOutOfBoundsException();
+        for (;;) {
+            Layout l = lockIndex(index);
+            int k = segmentFor(l, index);
+            Segment segment = l.segments[k];
+            boolean full;
+            try {
+                int offset = index - l.starts[k];
+                int count = segment.count;
+                if (offset > count)
+                    throw new IndexOutOfBoundsException();
+                full = count == segmentCapacity;
+                if (!full) {
+                    started.incrementAndGet();
+                    System.arraycopy(segment.elements, offset, segment.elements, offset + 1, count - offset);
+                    segment.elements[offset] = element;
+                    segment.count = count + 1;
+                    finished.incrementAndGet();
+                }
+            } finally {
+                segment.lock.unlock();
+            }
+            if (!full)
+                return;
+            rebalance(segment, false);
+        }
+    }
+
+    /**
+     * Appends the specified element to the end of this list, locking only the last segment.
+     *
+     * @param o element to be appended to this list.
+     * @return {@code true}.
+     */
+    public boolean add(Object o) {
+        for (;;) {
+            Segment[] segments = layout.get().segments;
+            Segment last = segments[segments.length - 1];
+            boolean full;
+            last.lock.lock();
+            try {
+                if (layout.get().segments != segments)
+                    continue;
+                int count = last.count;
+                full = count == segmentCapacity;
+                if (!full) {
+                    last.elements[count] = o;
+                    last.count = count + 1;
+                }
+            } finally {
+                last.lock.unlock();
+            }
+            if (!full)
+                return true;
+            rebalance(last, true);
+        }
+    }
+
+    /**
+     * Removes the element at the specified position in this list, locking only its segment.
+     *
+     * @param index the index of the element to be removed.
+     * @return the element previously at the specified position.
+     * @throws IndexOutOfBoundsException if the index is out of range {@code (index < 0 || index >= size())}.
+     */
+    public Object remove(int index) {
+        if (index < 0)
+            throw new IndexOutOfBoundsException();
+        Layout l = lockIndex(index);
+        int k = segmentFor(l, index);
+        Segment segment = l.segments[k];
+        try {
+            int offset = index - l.starts[k];
+            int count = segment.count;
+            if (offset >= count)
+                throw new IndexOutOfBoundsException();
+            started.incrementAndGet();
+            Object old = segment.elements[offset];
+            System.arraycopy(segment.elements, offset + 1, segment.elements, offset, count - offset - 1);
+            segment.elements[count - 1] = null;
+            segment.count = count - 1;
+            finished.incrementAndGet();
+            return old;
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    /**
+     * Returns an array containing all the elements in this list in proper sequence, copied while
+     * every segment is locked.
+     *
+     * @return an array containing all the elements in this list in proper sequence.
+     */
+    public Object[] toArray() {
+        Segment[] segments = lockAll();
+        try {
+            int size = 0;
+            for (int k = 0; k < segments.length; k++) {
+                size += segments[k].count;
+            }
+            Object[] array = new Object[size];
+            int start = 0;
+            for (int k = 0; k < segments.length; k++) {
+                System.arraycopy(segments[k].elements, 0, array, start, segments[k].count);
+                start += segments[k].count;
+            }
+            return array;
+        } finally {
+            unlockAll(segments);
+        }
+    }
+
+    /**
+     * Returns an array containing all the elements in this list in proper sequence, stored in
+     * the specified array if it is big enough.
+     *
+     * @param a the array into which the elements of this list are to be stored, if it is big enough.
+     * @return an array containing the elements of this list.
+     * @throws NullPointerException if the specified array is {@code null}.
+     */
+    public Object[] toArray(Object[] a) {
+        if (a == null)
+            throw new NullPointerException();
+        Object[] elements = toArray();
+        if (a.length < elements.length)
+            return elements;
+        System.arraycopy(elements, 0, a, 0, elements.length);
+        if (a.length > elements.length)
+            a[elements.length] = null;
+        return a;
+    }
+
+    /**
+     * Returns the index in this list of the first occurrence of the specified element, or -1,
+     * searched in place one segment at a time, without copying the list.
+     *
+     * @param o element to search for.
+     * @return the index of the first occurrence of the element, or -1 if this list does not contain it.
+     */
+    public int indexOf(Object o) {
+        return search(o, false);
+    }
+
+    /**
+     * Returns the index in this list of the last occurrence of the specified element, or -1,
+     * searched in place one segment at a time, without copying the list.
+     *
+     * @param o element to search for.
+     * @return the index of the last occurrence of the element, or -1 if this list does not contain it.
+     */
+    public int lastIndexOf(Object o) {
+        return search(o, true);
+    }
+
+    /**
+     * Searches the specified element, locking one segment at a time as {@code get} does: the
+     * start index of a segment is valid while its lock is held and no structural change has
+     * started since the layout was read. If one has, the search starts again on the new layout.
+     *
+     * @param o    element to search for.
+     * @param last {@code true} to search the last occurrence, {@code false} the first.
+     * @return the index of the occurrence, or -1 if this list does not contain the element.
+     */
+    private int search(Object o, boolean last) {
+        retry:
+        for (;;) {
+            long version = stableVersion();
+            Layout l = layout(version);
+            if (l == null)
+                continue;
+            int n = l.segments.length;
+            for (int j = 0; j < n; j++) {
+                int k = last ? n - 1 - j : j;
+                Segment segment = l.segments[k];
+                segment.lock.lock();
+                try {
+                    if (started.get() != version)
+                        continue retry;
+                    Object[] elements = segment.elements;
+                    int count = segment.count;
+                    for (int i = 0; i < count; i++) {
+                        int offset = last ? count - 1 - i : i;
+                        if (o == null ? elements[offset] == null : o.equals(elements[offset]))
+                            return l.starts[k] + offset;
+                    }
+                } finally {
+                    segment.lock.unlock();
+                }
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * Removes the first occurrence of the specified element, atomically: the element is searched
+     * and removed while every segment is locked, so a concurrent insert or removal cannot make
+     * another element be removed in its place.
+     *
+     * @param o element to be removed from this list, if present.
+     * @return {@code true} if this list contained the specified element.
+     */
+    public boolean remove(Object o) {
+        Segment[] segments = lockAll();
+        try {
+            for (int k = 0; k < segments.length; k++) {
+                Segment segment = segments[k];
+                Object[] elements = segment.elements;
+                int count = segment.count;
+                for (int i = 0; i < count; i++) {
+                    if (o == null ? elements[i] == null : o.equals(elements[i])) {
+                        started.incrementAndGet();
+                        System.arraycopy(elements, i + 1, elements, i, count - i - 1);
+                        elements[count - 1] = null;
+                        segment.count = count - 1;
+                        finished.incrementAndGet();
+                        return true;
+                    }
+                }
+            }
+            return false;
+        } finally {
+            unlockAll(segments);
+        }
+    }
+
+    /**
+     * Removes from this list all the elements that are contained in the specified collection, atomically.
+     *
+     * @param c collection that defines which elements will be removed from this list.
+     * @return {@code true} if this list changed as a result of the call.
+     * @throws NullPointerException if the specified collection is {@code null}.
+     */
+    public boolean removeAll(HCollection c) {
+        return batchRemove(c, true);
+    }
+
+    /**
+     * Retains only the elements in this list that are contained in the specified collection, atomically.
+     *
+     * @param c collection that defines which elements this list will retain.
+     * @return {@code true} if this list changed as a result of the call.
+     * @throws NullPointerException if the specified collection is {@code null}.
+     */
+    public boolean retainAll(HCollection c) {
+        return batchRemove(c, false);
+    }
+
+    /**
+     * Removes the elements whose presence in the specified collection is equal to
+     * {@code removePresent}. The elements of the collection are read before the locks are taken,
+     * since it may be a view of this list. Then, while every segment is locked, each segment is
+     * compacted in place in a single pass and the segments left empty are dropped.
+     *
+     * @param c             the collection to test the elements against.
+     * @param removePresent {@code true} to remove the elements contained in the collection, {@code false} to remove the others.
+     * @return {@code true} if this list changed as a result of the call.
+     * @throws NullPointerException if the specified collection is {@code null}.
+     */
+    private boolean batchRemove(HCollection c, boolean removePresent) {
+        if (c == null)
+            throw new NullPointerException();
+        Object[] removed = c.toArray();
+        Segment[] segments = lockAll();
+        try {
+            boolean modified = false;
+            int empty = 0;
+            for (int k = 0; k < segments.length; k++) {
+                Segment segment = segments[k];
+                Object[] elements = segment.elements;
+                int count = segment.count;
+                int kept = 0;
+                for (int i = 0; i < count; i++) {
+                    Object current = elements[i];
+                    if (arrayContains(removed, current) != removePresent)
+                        elements[kept++] = current;
+                }
+                if (kept != count) {
+                    if (!modified)
+                        started.incrementAndGet();
+                    modified = true;
+                    for (int i = kept; i < count; i++) {
+                        elements[i] = null;
+                    }
+                    segment.count = kept;
+                }
+                if (kept == 0)
+                    empty++;
+            }
+            if (!modified)
+                return false;
+            finished.incrementAndGet();
+            if (empty > 0 && segments.length > 1)
+                install(nonEmpty(segments, empty));
+            return true;
+        } finally {
+            unlockAll(segments);
+        }
+    }
+
+    /**
+     * Returns the segments that are not empty, or a single empty segment if all of them are.
+     *
+     * @param segments the segments.
+     * @param empty    the number of empty segments.
+     * @return the segments to keep.
+     */
+    private static Segment[] nonEmpty(Segment[] segments, int empty) {
+        if (empty == segments.length)
+            return new Segment[]{segments[0]};
+        Segment[] kept = new Segment[segments.length - empty];
+        int n = 0;
+        for (int k = 0; k < segments.length; k++) {
+            if (segments[k].count > 0)
+                kept[n++] = segments[k];
+        }
+        return kept;
+    }
+
+    /**
+     * Returns {@code true} if the specified array contains the specified element.
+     *
+     * @param a the array to search.
+     * @param o element to search for.
+     * @return {@code true} if the array contains the element.
+     */
+    private static boolean arrayContains(Object[] a, Object o) {
+        for (int i = 0; i < a.length; i++) {
+            if (o == null ? a[i] == null : o.equals(a[i]))
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * Removes all the elements from this list, atomically.
+     */
+    public void clear() {
+        Segment[] segments = lockAll();
+        try {
+            install(new Segment[]{new Segment(segmentCapacity)});
+        } finally {
+            unlockAll(segments);
+        }
+    }
+
+    /**
+     * Returns the number of segments the list is currently split into.
+     *
+     * @return the number of segments.
+     */
+    public int segmentCount() {
+        return layout.get().segments.length;
+    }
+
+    /**
+     * Returns the footprint of this list estimated by {@link HSizeModel#DEFAULT}, without the elements.
+     *
+     * @return the footprint.
+     */
+    public HFootprint footprint() {
+        return footprint(HSizeModel.DEFAULT, false);
+    }
+
+    /**
+     * Returns the footprint of this list estimated by the specified model. The shallow bytes
+     * include the segments, with their locks, and the current layout; the backing bytes are the
+     * arrays of the segments, and the spare capacity is the free slots of all the segments. The
+     * segments are read optimistically, like {@link #size()}, so the footprint is consistent
+     * with one state of the list.
+     *
+     * @param model    the model of the sizes of the objects.
+     * @param elements {@code true} to measure the elements too.
+     * @return the footprint.
+     * @throws NullPointerException if the model is {@code null}.
+     */
+    public HFootprint footprint(HSizeModel model, boolean elements) {
+        long segmentObjects = model.instanceSize(2, 4) + model.instanceSize(1, 0) + model.instanceSize(3, 4);
+        for (;;) {
+            long version = stableVersion();
+            Segment[] segments = layout.get().segments;
+            long shallow = model.instanceSize(3, 4) + model.instanceSize(1, 0) + 2 * model.instanceSize(0, 8)
+                    + model.instanceSize(2, 8) + model.referenceArraySize(segments.length)
+                    + model.arraySize(segments.length, 4) + segments.length * segmentObjects;
+            long backing = 0;
+            long spare = 0;
+            int size = 0;
+            long elementBytes = elements ? 0 : -1;
+            for (int k = 0; k < segments.length; k++) {
+                Segment seg = segments[k];
+                int count = seg.count;
+                backing += model.referenceArraySize(seg.elements.length);
+                spare += seg.elements.length - count;
+                size += count;
+                if (elements) {
+                    for (int i = 0; i < count; i++) {
+                        elementBytes += model.sizeOf(seg.elements[i]);
+                    }
+                }
+            }
+            if (started.get() == version)
+                return new HFootprint(size, shallow, backing, spare, spare * model.referenceSize(), elementBytes, 0);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package myConcurrent;
+
+import myAdapter.HConcurrencyPolicy;
+
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * <p>
+ * An {@link HConcurrencyPolicy} based on a {@link StampedLock}. Besides shared read and
+ * exclusive write locking, it supports optimistic reads, which let {@code size}, {@code get},
+ * {@code contains} and {@code indexOf} run without writing to shared memory when no write is
+ * in progress.
+ * </p>
+ * <p>
+ * The lock is not reentrant: code that runs while the lock is held, such as the
+ * {@code equals} method of the elements, must not call back into the list. A release that
+ * does not match an acquisition in the same mode throws an IllegalMonitorStateException.
+ * </p>
+ */
+public class StampedConcurrencyPolicy extends HConcurrencyPolicy {
+    /**
+     * The lock that protects the list.
+     */
+    private final StampedLock lock = new StampedLock();
+
+    public void readLock() {
+        lock.readLock();
+    }
+
+    public void readUnlock() {
+        lock.asReadLock().unlock();
+    }
+
+    public void writeLock() {
+        lock.writeLock();
+    }
+
+    public void writeUnlock() {
+        lock.asWriteLock().unlock();
+    }
+
+    public long tryOptimisticRead() {
+        return lock.tryOptimisticRead();
+    }
+
+    public boolean validate(long stamp) {
+        return lock.validate(stamp);
+    }
+
+    public String toString() {
+        return "stamped";
+    }
+}
@@ -0,0 +1,798 @@
+package myConcurrent;
+
+import myAdapter.AbstractHList;
+import myAdapter.HCollection;
+import myAdapter.HIterator;
+import myAdapter.HFootprint;
+import myAdapter.HListIterator;
+import myAdapter.HMeasurable;
+import myAdapter.HRandomAccess;
+import myAdapter.HSizeModel;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * <p>
+ * A concurrent {@link myAdapter.HList} that keeps multiple versions of its contents. Every
+ * version is an immutable balanced tree indexed by position; a change copies only the path
+ * from the root to the changed position, in {@code O(log n)}, and shares the rest of the tree
+ * with the previous version. The current version is replaced with a single compare-and-set, so
+ * writers never block each other or the readers: a writer that loses the race retries on the
+ * new version.
+ * </p>
+ * <p>
+ * {@link #snapshot()} pins the current version in {@code O(1)} and returns it as a read-only
+ * list, whose contents never change however long it is used. The iterators of this list
+ * iterate a snapshot taken when they are created, so they never skip or repeat elements; they
+ * do not support {@code remove}, {@code set} and {@code add}. An old version is reclaimed by
+ * the garbage collector as soon as no snapshot and no iterator refers to it, except for the
+ * parts it shares with the versions still in use.
+ * </p>
+ * <p>
+ * Every operation, including the bulk ones, is applied to one version and published atomically.
+ * {@code get}, {@code set}, {@code add} and {@code remove} take {@code O(log n)} time. Null
+ * elements are allowed.
+ * </p>
+ */
+public class VersionedList extends AbstractHList implements HRandomAccess, HMeasurable {
+
+    /**
+     * An immutable node of the tree of a version.
+     */
+    private static final class Node {
+        /**
+         * The subtree of the elements before this one, or {@code null}.
+         */
+        final Node left;
+
+        /**
+         * The subtree of the elements after this one, or {@code null}.
+         */
+        final Node right;
+
+        /**
+         * The element.
+         */
+        final Object value;
+
+        /**
+         * The number of elements in this subtree.
+         */
+        final int size;
+
+        /**
+         * The height of this subtree.
+         */
+        final int height;
+
+        /**
+         * Constructs a node.
+         *
+         * @param left  the left subtree.
+         * @param value the element.
+         * @param right the right subtree.
+         */
+        Node(Node left, Object value, Node right) {
+            this.left = left;
+            this.value = value;
+            this.right = right;
+            this.size = size(left) + size(right) + 1;
+            this.height = Math.max(height(left), height(right)) + 1;
+        }
+    }
+
+    /**
+     * A version of the list: the root of its tree and its number.
+     */
+    private static final class Version {
+        /**
+         * The root of the tree, or {@code null} if the version is empty.
+         */
+        final Node root;
+
+        /**
+         * The number of the version.
+         */
+        final long number;
+
+        /**
+         * Constructs a version.
+         *
+         * @param root   the root of the tree.
+         * @param number the number of the version.
+         */
+        Version(Node root, long number) {
+            this.root = root;
+            this.number = number;
+        }
+    }
+
+    /**
+     * The current version.
+     */
+    private final AtomicReference<Version> current = new AtomicReference<Version>(new Version(null, 0));
+
+    /**
+     * Constructs an empty list.
+     */
+    public VersionedList() {
+    }
+
+    /**
+     * Constructs a list containing the elements of the specified collection, in the order they are returned by the collection's iterator.
+     *
+     * @param c the collection whose elements are to be placed into this list.
+     * @throws NullPointerException if the specified collection is {@code null}.
+     */
+    public VersionedList(HCollection c) {
+        addAll(c);
+    }
+
+    /**
+     * Returns the number of elements of the specified subtree.
+     *
+     * @param n the subtree, or {@code null}.
+     * @return the number of elements.
+     */
+    private static int size(Node n) {
+        return n == null ? 0 : n.size;
+    }
+
+    /**
+     * Returns the height of the specified subtree.
+     *
+     * @param n the subtree, or {@code null}.
+     * @return the height.
+     */
+    private static int height(Node n) {
+        return n == null ? 0 : n.height;
+    }
+
+    /**
+     * Returns a balanced subtree made of the specified subtrees and element, whose heights
+     * differ by at most two.
+     *
+     * @param left  the left subtree.
+     * @param value the element.
+     * @param right the right subtree.
+     * @return the balanced subtree.
+     */
+    private static Node balance(Node left, Object value, Node right) {
+        int diff = height(left) - height(right);
+        if (diff > 1) {
+            if (height(left.left) >= height(left.right))
+                return new Node(left.left, left.value, new Node(left.right, value, right));
+            return new Node(new Node(left.left, left.value, left.right.left), left.right.value,
+                    new Node(left.right.right, value, right));
+        }
+        if (diff < -1) {
+            if (height(right.right) >= height(right.left))
+                return new Node(new Node(left, value, right.left), right.value, right.right);
+            return new Node(new Node(left, value, right.left.left), right.left.value,
+                    new Node(right.left.right, right.value, right.right));
+        }
+        return new Node(left, value, right);
+    }
+
+    /**
+     * Returns the element at the specified position of the specified tree.
+     *
+     * @param n     the tree.
+     * @param index the position, which must be valid.
+     * @return the element.
+     */
+    private static Object get(Node n, int index) {
+        for (;;) {
+            int leftSize = size(n.left);
+            if (index < leftSize) {
+                n = n.left;
+            } else if (index == leftSize) {
+                return n.value;
+            } else {
+                index -= leftSize + 1;
+                n = n.right;
+            }
+        }
+    }
+
+    /**
+     * Returns a copy of the specified tree with the element at the specified position replaced.
+     *
+     * @param n     the tree.
+     * @param index the position, which must be valid.
+     * @param value the new element.
+     * @return the new tree.
+     */
+    private static Node set(Node n, int index, Object value) {
+        int leftSize = size(n.left);
+        if (index < leftSize)
+            return new Node(set(n.left, index, value), n.value, n.right);
+        if (index == leftSize)
+            return new Node(n.left, value, n.right);
+        return new Node(n.left, n.value, set(n.right, index - leftSize - 1, value));
+    }
+
+    /**
+     * Returns a copy of the specified tree with an element inserted at the specified position.
+     *
+     * @param n     the tree, or {@code null}.
+     * @param index the position, between 0 and the size of the tree.
+     * @param value the element.
+     * @return the new tree.
+     */
+    private static Node insert(Node n, int index, Object value) {
+        if (n == null)
+            return new Node(null, value, null);
+        int leftSize = size(n.left);
+        if (index <= leftSize)
+            return balance(insert(n.left, index, value), n.value, n.right);
+        return balance(n.left, n.value, insert(n.right, index - leftSize - 1, value));
+    }
+
+    /**
+     * Returns a copy of the specified tree without the element at the specified position.
+     *
+     * @param n     the tree.
+     * @param index the position, which must be valid.
+     * @return the new tree, or {@code null} if it is empty.
+     */
+    private static Node delete(Node n, int index) {
+        int leftSize = size(n.left);
+        if (index < leftSize)
+            return balance(delete(n.left, index), n.value, n.right);
+        if (index > leftSize)
+            return balance(n.left, n.value, delete(n.right, index - leftSize - 1));
+        if (n.right == null)
+            return n.left;
+        if (n.left == null)
+            return n.right;
+        return balance(n.left, get(n.right, 0), delete(n.right, 0));
+    }
+
+    /**
+     * Returns a balanced tree containing the specified elements.
+     *
+     * @param elements the elements.
+     * @param from     the index of the first element.
+     * @param to       the index after the last element.
+     * @return the tree, or {@code null} if the range is empty.
+     */
+    private static Node build(Object[] elements, int from, int to) {
+        if (from >= to)
+            return null;
+        int mid = (from + to) >>> 1;
+        return new Node(build(elements, from, mid), elements[mid], build(elements, mid + 1, to));
+    }
+
+    /**
+     * Copies the elements of the specified tree into the specified array, in order.
+     *
+     * @param n     the tree, or {@code null}.
+     * @param array the array.
+     * @param start the index of the array at which the first element is to be stored.
+     * @return the index after the last stored element.
+     */
+    private static int copy(Node n, Object[] array, int start) {
+        while (n != null) {
+            start = copy(n.left, array, start);
+            array[start++] = n.value;
+            n = n.right;
+        }
+        return start;
+    }
+
+    /**
+     * Publishes the specified tree as the next version, if the current version is still the specified one.
+     *
+     * @param expected the version the tree was derived from.
+     * @param root     the new tree.
+     * @return {@code true} if the tree was published.
+     */
+    private boolean publish(Version expected, Node root) {
+        return current.compareAndSet(expected, new Version(root, expected.number + 1));
+    }
+
+    /**
+     * Returns a read-only view of the current version of this list, in {@code O(1)} time. The
+     * snapshot does not change when this list is modified.
+     *
+     * @return the snapshot.
+     */
+    public Snapshot snapshot() {
+        return new Snapshot(current.get());
+    }
+
+    /**
+     * Returns the number of the current version, which grows by one with every change.
+     *
+     * @return the number of the current version.
+     */
+    public long version() {
+        return current.get().number;
+    }
+
+    /**
+     * Returns the number of elements in this list.
+     *
+     * @return the number of elements in this list.
+     */
+    public int size() {
+        return size(current.get().root);
+    }
+
+    /**
+     * Returns the element at the specified position in this list.
+     *
+     * @param index index of element to return.
+     * @return the element at the specified position in this list.
+     * @throws IndexOutOfBoundsException if the index is out of range {@code (index < 0 || index >= size())}.
+     */
+    public Object get(int index) {
+        Node root = current.get().root;
+        if (index < 0 || index >= size(root))
+            throw new IndexOutOfBoundsException();
+        return get(root, index);
+    }
+
+    /**
+     * Replaces the element at the specified position in this list.
+     *
+     * @param index   index of element to replace.
+     * @param element element to be stored at the specified position.
+     * @return the element previously at the specified position.
+     * @throws IndexOutOfBoundsException if the index is out of range {@code (index < 0 || index >= size())}.
+     */
+    public Object set(int index, Object element) {
+        for (;;) {
+            Version v = current.get();
+            if (index < 0 || index >= size(v.root))
+                throw new IndexOutOfBoundsException();
+            Object old = get(v.root, index);
+            if (publish(v, set(v.root, index, element)))
+                return old;
+        }
+    }
+
+    /**
+     * Inserts the specified element at the specified position in this list.
+     *
+     * @param index   index at which the specified element is to be inserted.
+     * @param element element to be inserted.
+     * @throws IndexOutOfBoundsException if the index is out of range {@code (index < 0 || index > size())}.
+     */
+    public void add(int index, Object element) {
+        for (;;) {
+            Version v = current.get();
+            if (index < 0 || index > size(v.root))
+                throw new IndexOutOfBoundsException();
+            if (publish(v, insert(v.root, index, element)))
+                return;
+        }
+    }
+
+    /**
+     * Appends the specified element to the end of this list.
+     *
+     * @param o element to be appended to this list.
+     * @return {@code true}.
+     */
+    public boolean add(Object o) {
+        for (;;) {
+            Version v = current.get();
+            if (publish(v, insert(v.root, size(v.root), o)))
+                return true;
+        }
+    }
+
+    /**
+     * Removes the element at the specified position in this list.
+     *
+     * @param index the index of the element to be removed.
+     * @return the element previously at the specified position.
+     * @throws IndexOutOfBoundsException if the index is out of range {@code (index < 0 || index >= size())}.
+     */
+    public Object remove(int index) {
+        for (;;) {
+            Version v = current.get();
+            if (index < 0 || index >= size(v.root))
+                throw new IndexOutOfBoundsException();
+            Object old = get(v.root, index);
+            if (publish(v, delete(v.root, index)))
+                return old;
+        }
+    }
+
+    /**
+     * Removes the first occurrence in this list of the specified element, atomically.
+     *
+     * @param o element to be removed from this list, if present.
+     * @return {@code true} if this list contained the specified element.
+     */
+    public boolean remove(Object o) {
+        for (;;) {
+            Version v = current.get();
+            int index = new Snapshot(v).indexOf(o);
+            if (index < 0)
+                return false;
+            if (publish(v, delete(v.root, index)))
+                return true;
+        }
+    }
+
+    /**
+     * Inserts all the elements of the specified collection at the specified position, atomically.
+     *
+     * @param index index at which to insert first element from the specified collection.
+     * @param c     elements to be inserted into this list.
+     * @return {@code true} if this list changed as a result of the call.
+     * @throws NullPointerException      if the specified collection is {@code null}.
+     * @throws IndexOutOfBoundsException if the index is out of range {@code (index < 0 || index > size())}.
+     */
+    public boolean addAll(int index, HCollection c) {
+        if (c == null)
+            throw new NullPointerException();
+        Object[] elements = c.toArray();
+        for (;;) {
+            Version v = current.get();
+            if (index < 0 || index > size(v.root))
+                throw new IndexOutOfBoundsException();
+            if (elements.length == 0)
+                return false;
+            Node root = v.root;
+            if (root == null) {
+                root = build(elements, 0, elements.length);
+            } else {
+                for (int i = 0; i < elements.length; i++) {
+                    root = insert(root, index + i, elements[i]);
+                }
+            }
+            if (publish(v, root))
+                return true;
+        }
+    }
+
+    /**
+     * Appends all the elements in the specified collection to the end of this list, atomically.
+     *
+     * @param c collection whose elements are to be added to this list.
+     * @return {@code true} if this list changed as a result of the call.
+     * @throws NullPointerException if the specified collection is {@code null}.
+     */
+    public boolean addAll(HCollection c) {
+        if (c == null)
+            throw new NullPointerException();
+        Object[] elements = c.toArray();
+        for (;;) {
+            Version v = current.get();
+            if (elements.length == 0)
+                return false;
+            Node root = v.root;
+            for (int i = 0; i < elements.length; i++) {
+                root = insert(root, size(root), elements[i]);
+            }
+            if (publish(v, root))
+                return true;
+        }
+    }
+
+    /**
+     * Removes from this list all the elements that are contained in the specified collection, atomically.
+     *
+     * @param c collection that defines which elements will be removed from this list.
+     * @return {@code true} if this list changed as a result of the call.
+     * @throws NullPointerException if the specified collection is {@code null}.
+     */
+    public boolean removeAll(HCollection c) {
+        return filter(c, true);
+    }
+
+    /**
+     * Retains only the elements in this list that are contained in the specified collection, atomically.
+     *
+     * @param c collection that defines which elements this list will retain.
+     * @return {@code true} if this list changed as a result of the call.
+     * @throws NullPointerException if the specified collection is {@code null}.
+     */
+    public boolean retainAll(HCollection c) {
+        return filter(c, false);
+    }
+
+    /**
+     * Replaces the current version with one without the elements whose presence in the specified
+     * collection is equal to {@code removePresent}. The new tree is built in linear time.
+     *
+     * @param c             the collection to test the elements against.
+     * @param removePresent {@code true} to remove the elements contained in the collection, {@code false} to remove the others.
+     * @return {@code true} if this list changed as a result of the call.
+     * @throws NullPointerException if the specified collection is {@code null}.
+     */
+    private boolean filter(HCollection c, boolean removePresent) {
+        if (c == null)
+            throw new NullPointerException();
+        for (;;) {
+            Version v = current.get();
+            Object[] elements = new Object[size(v.root)];
+            copy(v.root, elements, 0);
+            int kept = 0;
+            for (int i = 0; i < elements.length; i++) {
+                if (c.contains(elements[i]) != removePresent)
+                    elements[kept++] = elements[i];
+            }
+            if (kept == elements.length)
+                return false;
+            if (publish(v, build(elements, 0, kept)))
+                return true;
+        }
+    }
+
+    /**
+     * Removes all the elements from this list, atomically.
+     */
+    public void clear() {
+        for (;;) {
+            Version v = current.get();
+            if (v.root == null || publish(v, null))
+                return;
+        }
+    }
+
+    /**
+     * Removes the elements whose index is between {@code fromIndex}, inclusive, and
+     * {@code toIndex}, exclusive, atomically.
+     *
+     * @param fromIndex index of the first element to be removed.
+     * @param toIndex   index after the last element to be removed.
+     * @throws IndexOutOfBoundsException if the range is out of the bounds of the current version.
+     */
+    protected void removeRange(int fromIndex, int toIndex) {
+        for (;;) {
+            Version v = current.get();
+            if (fromIndex < 0 || toIndex > size(v.root))
+                throw new IndexOutOfBoundsException();
+            Node root = v.root;
+            for (int i = toIndex - 1; i >= fromIndex; i--) {
+                root = delete(root, i);
+            }
+            if (root == v.root || publish(v, root))
+                return;
+        }
+    }
+
+    /**
+     * Returns an array containing all the elements of the current version, in proper sequence.
+     *
+     * @return an array containing all the elements in this list in proper sequence.
+     */
+    public Object[] toArray() {
+        return snapshot().toArray();
+    }
+
+    /**
+     * Returns an iterator over the elements of the current version. The iterator is not
+     * affected by later changes and does not support {@code remove}.
+     *
+     * @return an iterator over the elements in this list in proper sequence.
+     */
+    public HIterator iterator() {
+        return snapshot().iterator();
+    }
+
+    /**
+     * Returns a list iterator over the elements of the current version, starting at the
+     * specified position. The iterator is not affected by later changes and does not support
+     * {@code remove}, {@code set} and {@code add}.
+     *
+     * @param index index of first element to be returned from the list iterator.
+     * @return a list iterator of the elements in this list.
+     * @throws IndexOutOfBoundsException if the index is out of range {@code (index < 0 || index > size())}.
+     */
+    public HListIterator listIterator(int index) {
+        return snapshot().listIterator(index);
+    }
+
+    /**
+     * Returns a list iterator over the elements of the current version. The iterator is not
+     * affected by later changes and does not support {@code remove}, {@code set} and {@code add}.
+     *
+     * @return a list iterator of the elements in this list.
+     */
+    public HListIterator listIterator() {
+        return listIterator(0);
+    }
+
+    /**
+     * Returns {@code n} iterators over disjoint consecutive ranges of the current version. The
+     * iterators are not affected by later changes.
+     *
+     * @param n the number of ranges.
+     * @return the iterators, in the order of their ranges.
+     * @throws IllegalArgumentException if {@code n} is not positive.
+     */
+    public HIterator[] partition(int n) {
+        return snapshot().partition(n);
+    }
+
+    /**
+     * Returns the footprint of this list estimated by {@link HSizeModel#DEFAULT}, without the elements.
+     *
+     * @return the footprint.
+     */
+    public HFootprint footprint() {
+        return footprint(HSizeModel.DEFAULT, false);
+    }
+
+    /**
+     * Returns the footprint of the current version of this list estimated by the specified model.
+     * The backing bytes are the nodes of its tree, one per element, so there is no spare capacity.
+     * The nodes that older versions still pinned by snapshots or iterators do not share with the
+     * current one are not counted.
+     *
+     * @param model    the model of the sizes of the objects.
+     * @param elements {@code true} to measure the elements too.
+     * @return the footprint.
+     * @throws NullPointerException if the model is {@code null}.
+     */
+    public HFootprint footprint(HSizeModel model, boolean elements) {
+        Node root = current.get().root;
+        int n = size(root);
+        long shallow = model.instanceSize(1, 0) + model.instanceSize(1, 0) + model.instanceSize(1, 8);
+        return new HFootprint(n, shallow, n * model.instanceSize(3, 8), 0, 0,
+                elements ? sizeOfElements(root, model) : -1, 0);
+    }
+
+    /**
+     * Returns the sum of the estimated sizes of the elements of the specified subtree.
+     *
+     * @param n     the subtree, or {@code null}.
+     * @param model the model of the sizes of the objects.
+     * @return the size in bytes.
+     */
+    private static long sizeOfElements(Node n, HSizeModel model) {
+        long bytes = 0;
+        for (; n != null; n = n.right) {
+            bytes += sizeOfElements(n.left, model) + model.sizeOf(n.value);
+        }
+        return bytes;
+    }
+
+    /**
+     * A read-only view of one version of a VersionedList. Every modification throws
+     * {@link myAdapter.UnsupportedOperationException}.
+     */
+    public static final class Snapshot extends AbstractHList implements HRandomAccess {
+        /**
+         * The pinned version.
+         */
+        private final Version version;
+
+        /**
+         * Constructs a snapshot of the specified version.
+         *
+         * @param version the version.
+         */
+        private Snapshot(Version version) {
+            this.version = version;
+        }
+
+        /**
+         * Returns the number of the version of this snapshot.
+         *
+         * @return the number of the version.
+         */
+        public long version() {
+            return version.number;
+        }
+
+        /**
+         * Returns the number of elements in this snapshot.
+         *
+         * @return the number of elements in this snapshot.
+         */
+        public int size() {
+            return VersionedList.size(version.root);
+        }
+
+        /**
+         * Returns the element at the specified position in this snapshot.
+         *
+         * @param index index of element to return.
+         * @return the element at the specified position.
+         * @throws IndexOutOfBoundsException if the index is out of range {@code (index < 0 || index >= size())}.
+         */
+        public Object get(int index) {
+            if (index < 0 || index >= size())
+                throw new IndexOutOfBoundsException();
+            return VersionedList.get(version.root, index);
+        }
+
+        /**
+         * Returns an array containing all the elements in this snapshot in proper sequence.
+         *
+         * @return an array containing all the elements in this snapshot.
+         */
+        public Object[] toArray() {
+            Object[] array = new Object[size()];
+            copy(version.root, array, 0);
+            return array;
+        }
+
+        /**
+         * Returns an iterator that walks the tree of the version in order, in constant amortized time per element.
+         *
+         * @return an iterator over the elements of this snapshot.
+         */
+        public HIterator iterator() {
+            return new TreeIterator(version.root);
+        }
+    }
+
+    /**
+     * An in-order iterator over an immutable tree, which keeps the path to the next element on a stack.
+     */
+    private static final class TreeIterator implements HIterator {
+        /**
+         * The nodes whose element and right subtree are still to be visited, the next one on top.
+         */
+        private Node[] stack = new Node[8];
+
+        /**
+         * The number of nodes on the stack.
+         */
+        private int depth;
+
+        /**
+         * Constructs an iterator over the specified tree.
+         *
+         * @param root the root of the tree, or {@code null}.
+         */
+        TreeIterator(Node root) {
+            pushLeft(root);
+        }
+
+        /**
+         * Pushes the specified node and all its left descendants on the stack.
+         *
+         * @param n the node, or {@code null}.
+         */
+        private void pushLeft(Node n) {
+            while (n != null) {
+                if (depth == stack.length) {
+                    Node[] grown = new Node[depth * 2];
+                    System.arraycopy(stack, 0, grown, 0, depth);
+                    stack = grown;
+                }
+                stack[depth++] = n;
+                n = n.left;
+            }
+        }
+
+        public boolean hasNext() {
+            return depth > 0;
+        }
+
+        /**
+         * Returns the next element of the snapshot.
+         *
+         * @return the next element.
+         * @throws NoSuchElementException if the iteration has no next element.
+         */
+        public Object next() {
+            if (depth == 0)
+                throw new NoSuchElementException();
+            Node n = stack[--depth];
+            stack[depth] = null;
+            pushLeft(n.right);
+            return n.value;
+        }
+
+        /**
+         * Not supported, since a snapshot cannot be modified.
+         *
+         * @throws myAdapter.UnsupportedOperationException always.
+         */
+        public void remove() {
+            throw new myAdapter.UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package myIO;
+
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * <p>
+ * A {@link DataInput} that reads a {@link ByteBuffer} from a position of its own, with absolute
+ * reads only. The buffer is never modified, so any number of inputs can read the same buffer
+ * from different threads. Reading past the limit of the buffer throws {@link EOFException}.
+ * </p>
+ */
+class ByteBufferInput implements DataInput {
+    /**
+     * The buffer to read.
+     */
+    private final ByteBuffer buffer;
+
+    /**
+     * The position of the next byte to read.
+     */
+    private int position;
+
+    /**
+     * Constructs an input that reads the specified buffer from the specified position.
+     *
+     * @param buffer   the buffer.
+     * @param position the position of the first byte to read.
+     */
+    ByteBufferInput(ByteBuffer buffer, int position) {
+        this.buffer = buffer;
+        this.position = position;
+    }
+
+    /**
+     * Returns the position of the next byte to read.
+     *
+     * @return the position.
+     */
+    int position() {
+        return position;
+    }
+
+    /**
+     * Moves to the specified position.
+     *
+     * @param position the position of the next byte to read.
+     */
+    void seek(int position) {
+        this.position = position;
+    }
+
+    /**
+     * Checks that the specified number of bytes can be read and advances the position past them.
+     *
+     * @param n the number of bytes.
+     * @return the position of the first of them.
+     * @throws EOFException if the buffer ends before them.
+     */
+    private int advance(int n) throws EOFException {
+        int p = position;
+        if (n > buffer.limit() - p)
+            throw new EOFException();
+        position = p + n;
+        return p;
+    }
+
+    public void readFully(byte[] b) throws IOException {
+        readFully(b, 0, b.length);
+    }
+
+    public void readFully(byte[] b, int off, int len) throws IOException {
+        int p = advance(len);
+        for (int i = 0; i < len; i++) {
+            b[off + i] = buffer.get(p + i);
+        }
+    }
+
+    public int skipBytes(int n) {
+        int skipped = Math.max(0, Math.min(n, buffer.limit() - position));
+        position += skipped;
+        return skipped;
+    }
+
+    public boolean readBoolean() throws IOException {
+        return readByte() != 0;
+    }
+
+    public byte readByte() throws IOException {
+        return buffer.get(advance(1));
+    }
+
+    public int readUnsignedByte() throws IOException {
+        return buffer.get(advance(1)) & 0xFF;
+    }
+
+    public short readShort() throws IOException {
+        return buffer.getShort(advance(2));
+    }
+
+    public int readUnsignedShort() throws IOException {
+        return buffer.getShort(advance(2)) & 0xFFFF;
+    }
+
+    public char readChar() throws IOException {
+        return buffer.getChar(advance(2));
+    }
+
+    public int readInt() throws IOException {
+        return buffer.getInt(advance(4));
+    }
+
+    public long readLong() throws IOException {
+        return buffer.getLong(advance(8));
+    }
+
+    public float readFloat() throws IOException {
+        return buffer.getFloat(advance(4));
+    }
+
+    public double readDouble() throws IOException {
+        return buffer.getDouble(advance(8));
+    }
+
+    /**
+     * Not supported, since the encoded lists contain no lines of text.
+     *
+     * @return never.
+     * @throws UnsupportedOperationException always.
+     */
+    public String readLine() {
+        throw new UnsupportedOperationException();
+    }
+
+    public String readUTF() throws IOException {
+        return DataInputStream.readUTF(this);
+    }
+}
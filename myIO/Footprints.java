@@ -0,0 +1,49 @@
+package myIO;
+
+import myAdapter.HSizeModel;
+
+import java.nio.ByteBuffer;
+
+/**
+ * The estimates of the memory footprint of the buffers used by the lists of this package.
+ */
+final class Footprints {
+
+    /**
+     * Not instantiable.
+     */
+    private Footprints() {
+    }
+
+    /**
+     * Returns the shallow size of a ByteBuffer object, which holds the array or address of its
+     * contents, its position, limit, capacity and mark, and its byte order.
+     *
+     * @param model the model of the sizes of the objects.
+     * @return the size in bytes.
+     */
+    static long bufferObject(HSizeModel model) {
+        return model.instanceSize(2, 31);
+    }
+
+    /**
+     * Returns the size of the array behind the specified buffer, or 0 if the buffer is not backed by an accessible array.
+     *
+     * @param model  the model of the sizes of the objects.
+     * @param buffer the buffer.
+     * @return the size in bytes.
+     */
+    static long heapBytes(HSizeModel model, ByteBuffer buffer) {
+        return buffer.hasArray() ? model.arraySize(buffer.array().length, 1) : 0;
+    }
+
+    /**
+     * Returns the bytes of the specified buffer outside the heap, which are its capacity if it is direct.
+     *
+     * @param buffer the buffer.
+     * @return the bytes.
+     */
+    static long offHeapBytes(ByteBuffer buffer) {
+        return buffer.isDirect() ? buffer.capacity() : 0;
+    }
+}
@@ -0,0 +1,379 @@
+package myIO;
+
+import myAdapter.AbstractHList;
+import myAdapter.HFootprint;
+import myAdapter.HMeasurable;
+import myAdapter.HRandomAccess;
+import myAdapter.HSizeModel;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * <p>
+ * A variable-size {@link myAdapter.HList} of Integers that stores its elements as primitive
+ * ints in a {@link ByteBuffer}, either on the heap or off-heap in a direct buffer.
+ * </p>
+ * <p>
+ * Besides the methods of {@link myAdapter.HList}, which box and unbox the elements, the list
+ * offers {@link #getInt(int)}, {@link #setInt(int, int)}, {@link #addInt(int)} and
+ * {@link #indexOfInt(int)}, which do not allocate once the capacity is reserved, and bulk
+ * transfers through channels: {@link #writeTo(WritableByteChannel)} writes the backing buffer
+ * as it is and {@link #readFrom(ReadableByteChannel, int)} reads into it, without any work per
+ * element. The elements are stored as 4 little-endian bytes each, which is also the format of
+ * the transfers. With a direct buffer, a {@link java.nio.channels.FileChannel} moves the bytes
+ * between the file and the list without copying them through the heap.
+ * </p>
+ * <p>
+ * The list does not accept {@code null} and is not synchronized.
+ * </p>
+ */
+public class IntBufferHList extends AbstractHList implements HRandomAccess, HMeasurable {
+
+    /**
+     * The default capacity of the list, in elements.
+     */
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * Whether the backing buffer is direct.
+     */
+    private final boolean direct;
+
+    /**
+     * The backing buffer, whose position and limit are never used.
+     */
+    private ByteBuffer buffer;
+
+    /**
+     * The number of elements.
+     */
+    private int size;
+
+    /**
+     * Constructs an empty list backed by a heap buffer.
+     */
+    public IntBufferHList() {
+        this(DEFAULT_CAPACITY, false);
+    }
+
+    /**
+     * Constructs an empty list with the specified capacity.
+     *
+     * @param capacity the initial capacity, in elements.
+     * @param direct   {@code true} to store the elements in a direct buffer, off-heap.
+     * @throws IllegalArgumentException if the capacity is negative or too large.
+     */
+    public IntBufferHList(int capacity, boolean direct) {
+        if (capacity < 0 || capacity > Integer.MAX_VALUE >> 2)
+            throw new IllegalArgumentException("capacity: " + capacity);
+        this.direct = direct;
+        buffer = allocate(capacity);
+    }
+
+    /**
+     * Allocates a buffer of the specified capacity, of the kind of this list.
+     *
+     * @param capacity the capacity, in elements.
+     * @return the buffer.
+     */
+    private ByteBuffer allocate(int capacity) {
+        ByteBuffer b = direct ? ByteBuffer.allocateDirect(capacity << 2) : ByteBuffer.allocate(capacity << 2);
+        return b.order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Ensures that the list can hold the specified number of elements without growing again.
+     *
+     * @param capacity the number of elements.
+     * @throws OutOfMemoryError if the capacity exceeds the largest buffer.
+     */
+    public void ensureCapacity(int capacity) {
+        int current = buffer.capacity() >> 2;
+        if (capacity <= current)
+            return;
+        if (capacity > Integer.MAX_VALUE >> 2)
+            throw new OutOfMemoryError("capacity: " + capacity);
+        int grown = (int) Math.min(Integer.MAX_VALUE >> 2, Math.max(capacity, current + (current >> 1) + 1L));
+        ByteBuffer b = allocate(grown);
+        b.put(0, buffer, 0, size << 2);
+        buffer = b;
+    }
+
+    /**
+     * Returns the number of elements in this list.
+     *
+     * @return the number of elements in this list.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns whether the elements are stored in a direct buffer.
+     *
+     * @return {@code true} if the buffer is direct.
+     */
+    public boolean isDirect() {
+        return direct;
+    }
+
+    /**
+     * Checks that the specified index is a valid element index.
+     *
+     * @param index the index to check.
+     * @throws IndexOutOfBoundsException if the index is out of range {@code (index < 0 || index >= size())}.
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException();
+    }
+
+    /**
+     * Returns the element at the specified position in this list, without boxing it.
+     *
+     * @param index index of element to return.
+     * @return the element at the specified position in this list.
+     * @throws IndexOutOfBoundsException if the index is out of range {@code (index < 0 || index >= size())}.
+     */
+    public int getInt(int index) {
+        checkIndex(index);
+        return buffer.getInt(index << 2);
+    }
+
+    /**
+     * Returns the element at the specified position in this list.
+     *
+     * @param index index of element to return.
+     * @return the element at the specified position in this list, boxed.
+     * @throws IndexOutOfBoundsException if the index is out of range {@code (index < 0 || index >= size())}.
+     */
+    public Object get(int index) {
+        return Integer.valueOf(getInt(index));
+    }
+
+    /**
+     * Replaces the element at the specified position in this list, without boxing it.
+     *
+     * @param index index of element to replace.
+     * @param value the new element.
+     * @return the element previously at the specified position.
+     * @throws IndexOutOfBoundsException if the index is out of range {@code (index < 0 || index >= size())}.
+     */
+    public int setInt(int index, int value) {
+        checkIndex(index);
+        int old = buffer.getInt(index << 2);
+        buffer.putInt(index << 2, value);
+        return old;
+    }
+
+    /**
+     * Replaces the element at the specified position in this list with the specified element.
+     *
+     * @param index   index of element to replace.
+     * @param element element to be stored at the specified position.
+     * @return the element previously at the specified position.
+     * @throws IndexOutOfBoundsException if the index is out of range {@code (index < 0 || index >= size())}.
+     * @throws NullPointerException      if the element is {@code null}.
+     * @throws ClassCastException        if the element is not an Integer.
+     */
+    public Object set(int index, Object element) {
+        checkIndex(index);
+        return Integer.valueOf(setInt(index, unbox(element)));
+    }
+
+    /**
+     * Appends the specified element to the end of this list, without boxing it.
+     *
+     * @param value the element.
+     */
+    public void addInt(int value) {
+        ensureCapacity(size + 1);
+        buffer.putInt(size << 2, value);
+        size++;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified value in this list, or -1,
+     * comparing the stored ints without boxing them.
+     *
+     * @param value the value to search for.
+     * @return the index of the first occurrence of the value, or -1 if this list does not contain it.
+     */
+    public int indexOfInt(int value) {
+        for (int i = 0; i < size; i++) {
+            if (buffer.getInt(i << 2) == value)
+                return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified element in this list, or -1.
+     * Only an Integer can occur in the list.
+     *
+     * @param o element to search for.
+     * @return the index of the first occurrence of the element, or -1 if this list does not contain it.
+     */
+    public int indexOf(Object o) {
+        return o instanceof Integer ? indexOfInt(((Integer) o).intValue()) : -1;
+    }
+
+    /**
+     * Returns the index of the last occurrence of the specified element in this list, or -1.
+     * Only an Integer can occur in the list.
+     *
+     * @param o element to search for.
+     * @return the index of the last occurrence of the element, or -1 if this list does not contain it.
+     */
+    public int lastIndexOf(Object o) {
+        if (!(o instanceof Integer))
+            return -1;
+        int value = ((Integer) o).intValue();
+        for (int i = size - 1; i >= 0; i--) {
+            if (buffer.getInt(i << 2) == value)
+                return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Inserts the specified element at the specified position in this list.
+     *
+     * @param index   index at which the specified element is to be inserted.
+     * @param element element to be inserted.
+     * @throws IndexOutOfBoundsException if the index is out of range {@code (index < 0 || index > size())}.
+     * @throws NullPointerException      if the element is {@code null}.
+     * @throws ClassCastException        if the element is not an Integer.
+     */
+    public void add(int index, Object element) {
+        if (index < 0 || index > size)
+            throw new IndexOutOfBoundsException();
+        int value = unbox(element);
+        ensureCapacity(size + 1);
+        buffer.put((index + 1) << 2, buffer, index << 2, (size - index) << 2);
+        buffer.putInt(index << 2, value);
+        size++;
+    }
+
+    /**
+     * Removes the element at the specified position in this list.
+     *
+     * @param index the index of the element to be removed.
+     * @return the element previously at the specified position.
+     * @throws IndexOutOfBoundsException if the index is out of range {@code (index < 0 || index >= size())}.
+     */
+    public Object remove(int index) {
+        checkIndex(index);
+        int old = buffer.getInt(index << 2);
+        buffer.put(index << 2, buffer, (index + 1) << 2, (size - index - 1) << 2);
+        size--;
+        return Integer.valueOf(old);
+    }
+
+    /**
+     * Removes the elements in the specified range with a single move of the elements that follow it.
+     *
+     * @param fromIndex index of the first element to be removed.
+     * @param toIndex   index after the last element to be removed.
+     */
+    protected void removeRange(int fromIndex, int toIndex) {
+        buffer.put(fromIndex << 2, buffer, toIndex << 2, (size - toIndex) << 2);
+        size -= toIndex - fromIndex;
+    }
+
+    /**
+     * Removes all the elements from this list, keeping its capacity.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Returns the value of the specified element.
+     *
+     * @param element the element.
+     * @return the value.
+     * @throws NullPointerException if the element is {@code null}.
+     * @throws ClassCastException   if the element is not an Integer.
+     */
+    private static int unbox(Object element) {
+        if (element == null)
+            throw new NullPointerException();
+        return ((Integer) element).intValue();
+    }
+
+    /**
+     * Writes all the elements to the specified channel, 4 little-endian bytes each, straight from the backing buffer.
+     *
+     * @param channel the channel to write to.
+     * @return the number of bytes written.
+     * @throws NullPointerException if the channel is {@code null}.
+     * @throws IOException          if an I/O error occurs.
+     */
+    public long writeTo(WritableByteChannel channel) throws IOException {
+        ByteBuffer view = buffer.duplicate();
+        view.position(0).limit(size << 2);
+        while (view.hasRemaining()) {
+            channel.write(view);
+        }
+        return (long) size << 2;
+    }
+
+    /**
+     * Reads the specified number of elements from the channel, 4 little-endian bytes each,
+     * straight into the backing buffer, and appends them to this list. If the channel ends
+     * first, the list is left unchanged.
+     *
+     * @param channel the channel to read from.
+     * @param count   the number of elements to read.
+     * @throws NullPointerException     if the channel is {@code null}.
+     * @throws IllegalArgumentException if the count is negative.
+     * @throws EOFException             if the channel ends before all the elements are read.
+     * @throws IOException              if an I/O error occurs.
+     */
+    public void readFrom(ReadableByteChannel channel, int count) throws IOException {
+        if (channel == null)
+            throw new NullPointerException();
+        if (count < 0)
+            throw new IllegalArgumentException("count: " + count);
+        ensureCapacity(size + count);
+        ByteBuffer view = buffer.duplicate();
+        view.position(size << 2).limit((size + count) << 2);
+        while (view.hasRemaining()) {
+            if (channel.read(view) < 0)
+                throw new EOFException("read " + (view.position() - (size << 2)) + " of " + ((long) count << 2) + " bytes");
+        }
+        size += count;
+    }
+
+    /**
+     * Returns the footprint of this list estimated by {@link HSizeModel#DEFAULT}, without the elements.
+     *
+     * @return the footprint.
+     */
+    public HFootprint footprint() {
+        return footprint(HSizeModel.DEFAULT, false);
+    }
+
+    /**
+     * Returns the footprint of this list estimated by the specified model. The backing buffer is
+     * counted as backing bytes on the heap, or as bytes outside the heap if it is direct. The
+     * elements are primitive ints inside the buffer, so they take no bytes of their own.
+     *
+     * @param model    the model of the sizes of the objects.
+     * @param elements {@code true} to measure the elements too.
+     * @return the footprint.
+     * @throws NullPointerException if the model is {@code null}.
+     */
+    public HFootprint footprint(HSizeModel model, boolean elements) {
+        long spare = (buffer.capacity() >> 2) - size;
+        return new HFootprint(size, model.instanceSize(1, 5) + Footprints.bufferObject(model),
+                Footprints.heapBytes(model, buffer), spare, spare << 2, elements ? 0 : -1,
+                Footprints.offHeapBytes(buffer));
+    }
+}
@@ -0,0 +1,1159 @@
+package myIO;
+
+import myAdapter.AbstractHList;
+import myAdapter.HCollection;
+import myAdapter.HFootprint;
+import myAdapter.HListCodec;
+import myAdapter.HMeasurable;
+import myAdapter.HRandomAccess;
+import myAdapter.HSizeModel;
+import myAdapter.ListAdapter;
+import myBridge.HViews;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
+
+/**
+ * <p>
+ * A {@link myAdapter.HList} that keeps its elements in a {@link ListAdapter} and makes every
+ * mutation durable by appending a compact record to a write-ahead journal, so that the list
+ * can be rebuilt after a crash.
+ * </p>
+ * <p>
+ * The list lives in a directory that contains a checkpoint, the whole list written by
+ * {@link HListCodec}, and the journals of the mutations made since. Each file carries a
+ * generation number: {@code checkpoint-G.hl} is the list at the start of {@code journal-G.log},
+ * which is followed by {@code journal-G+1.log} and so on. The constructor loads the last
+ * checkpoint and replays the journals in order; a record torn by a crash at the end of the last
+ * journal is discarded and cut from the file.
+ * </p>
+ * <p>
+ * Every record is framed by its length and a CRC32 and holds an operation code, the indexes it
+ * needs and the elements, encoded by the codec: add, add at an index, set, remove at an index,
+ * removal of a range, clear, and a whole {@code addAll}, {@code removeAll} or
+ * {@code retainAll} as a single record, so that a crash never recovers them half done.
+ * Operations that are implemented by {@link AbstractHList} in terms of others, such as the
+ * iterators, are journaled as the primitive operations they perform.
+ * </p>
+ * <p>
+ * With a commit interval of 0, a mutation returns only when its record is on disk. The records
+ * are written with group commit: the first waiting thread writes and forces everything that is
+ * pending, while the threads that arrive in the meantime wait for the next batch instead of
+ * forcing the file once each. With a positive interval, mutations return at once and a background
+ * thread forces the pending records periodically, so a crash loses at most the last interval.
+ * </p>
+ * <p>
+ * When a journal grows beyond the compaction threshold, the background thread rotates it and
+ * writes a new checkpoint, then deletes the files it replaces; {@link #checkpoint()} does the
+ * same synchronously. Mutations are serialized by a lock and are blocked only while the journal
+ * is rotated, not while the checkpoint is written. Reads go straight to the backing list.
+ * </p>
+ */
+public class JournaledHList extends AbstractHList implements HRandomAccess, HMeasurable, Closeable {
+
+    /**
+     * The default size of a journal, in bytes, beyond which it is compacted.
+     */
+    public static final long DEFAULT_COMPACTION_THRESHOLD = 1L << 24;
+
+    /**
+     * Operation code of a record that appends an element.
+     */
+    private static final int ADD = 1;
+
+    /**
+     * Operation code of a record that inserts an element at an index.
+     */
+    private static final int ADD_AT = 2;
+
+    /**
+     * Operation code of a record that replaces the element at an index.
+     */
+    private static final int SET = 3;
+
+    /**
+     * Operation code of a record that removes the element at an index.
+     */
+    private static final int REMOVE_AT = 4;
+
+    /**
+     * Operation code of a record that removes a range of elements.
+     */
+    private static final int REMOVE_RANGE = 5;
+
+    /**
+     * Operation code of a record that inserts a collection of elements at an index.
+     */
+    private static final int ADD_ALL = 6;
+
+    /**
+     * Operation code of a record that removes all the elements.
+     */
+    private static final int CLEAR = 7;
+
+    /**
+     * Operation code of a record that removes the elements at a set of indexes, written as their
+     * number followed by the gaps between them, in ascending order.
+     */
+    private static final int REMOVE_INDEXES = 8;
+
+    /**
+     * The size of the frame that precedes every record: its length and its CRC32.
+     */
+    private static final int FRAME = 8;
+
+    /**
+     * The directory of the checkpoints and of the journals.
+     */
+    private final Path directory;
+
+    /**
+     * The codec of the elements.
+     */
+    private final HListCodec codec;
+
+    /**
+     * The list that holds the elements.
+     */
+    private final ListAdapter list;
+
+    /**
+     * The interval between background commits in milliseconds, or 0 if every mutation waits for its commit.
+     */
+    private final long commitInterval;
+
+    /**
+     * The size of a journal beyond which it is compacted, or 0 to compact only on request.
+     */
+    private final long compactionThreshold;
+
+    /**
+     * The lock that serializes the mutations, so that the journal records them in the order they are applied.
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * The record being encoded, guarded by {@link #lock}.
+     */
+    private final ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+
+    /**
+     * The output that encodes the record, guarded by {@link #lock}.
+     */
+    private final DataOutputStream record = new DataOutputStream(recordBytes);
+
+    /**
+     * The checksum of the records, guarded by {@link #lock}.
+     */
+    private final CRC32 crc = new CRC32();
+
+    /**
+     * The lock that guards the pending records, the counters, the journal channel and the commit in progress.
+     */
+    private final Object commitLock = new Object();
+
+    /**
+     * The framed records not yet written to the journal.
+     */
+    private final ByteArrayOutputStream pending = new ByteArrayOutputStream();
+
+    /**
+     * The output that frames the pending records.
+     */
+    private final DataOutputStream pendingOut = new DataOutputStream(pending);
+
+    /**
+     * The number of records appended.
+     */
+    private long appended;
+
+    /**
+     * The number of records written and forced to disk.
+     */
+    private long durable;
+
+    /**
+     * Whether a thread is writing a batch of records.
+     */
+    private boolean committing;
+
+    /**
+     * The error that made the journal unusable, or {@code null}.
+     */
+    private IOException failure;
+
+    /**
+     * The current journal.
+     */
+    private FileChannel journal;
+
+    /**
+     * The generation of the current journal.
+     */
+    private long generation;
+
+    /**
+     * The size of the current journal, including the pending records.
+     */
+    private long journalBytes;
+
+    /**
+     * The lock that serializes the checkpoints.
+     */
+    private final ReentrantLock checkpointLock = new ReentrantLock();
+
+    /**
+     * Whether a background compaction has been scheduled and has not finished yet.
+     */
+    private volatile boolean compactionScheduled;
+
+    /**
+     * The thread that commits the records and compacts the journal in the background, or {@code null} if neither is enabled.
+     */
+    private final ScheduledExecutorService background;
+
+    /**
+     * Whether the list has been closed.
+     */
+    private volatile boolean closed;
+
+    /**
+     * Opens the list in the specified directory, committing every mutation before it returns and
+     * compacting the journal when it reaches {@link #DEFAULT_COMPACTION_THRESHOLD} bytes.
+     *
+     * @param directory the directory of the list, created if it does not exist.
+     * @param codec     the codec of the elements.
+     * @throws NullPointerException if the directory or the codec is {@code null}.
+     * @throws IOException          if an I/O error occurs or the files are malformed.
+     */
+    public JournaledHList(Path directory, HListCodec codec) throws IOException {
+        this(directory, codec, 0, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Opens the list in the specified directory, restoring the last checkpoint and replaying the journals that follow it.
+     *
+     * @param directory           the directory of the list, created if it does not exist.
+     * @param codec               the codec of the elements.
+     * @param commitInterval      the interval between background commits in milliseconds, or 0 to commit every mutation before it returns.
+     * @param compactionThreshold the size of a journal in bytes beyond which it is compacted in the background, or 0 to compact only on request.
+     * @throws NullPointerException     if the directory or the codec is {@code null}.
+     * @throws IllegalArgumentException if the interval or the threshold is negative.
+     * @throws IOException              if an I/O error occurs or the files are malformed.
+     */
+    public JournaledHList(Path directory, HListCodec codec, long commitInterval, long compactionThreshold) throws IOException {
+        if (directory == null || codec == null)
+            throw new NullPointerException();
+        if (commitInterval < 0 || compactionThreshold < 0)
+            throw new IllegalArgumentException("interval: " + commitInterval + ", threshold: " + compactionThreshold);
+        this.directory = directory;
+        this.codec = codec;
+        this.commitInterval = commitInterval;
+        this.compactionThreshold = compactionThreshold;
+        Files.createDirectories(directory);
+        list = recover();
+        journal = FileChannel.open(journalFile(generation), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        journalBytes = journal.size();
+        journal.position(journalBytes);
+        if (commitInterval > 0 || compactionThreshold > 0) {
+            background = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread t = new Thread(r, "journal " + directory);
+                t.setDaemon(true);
+                return t;
+            });
+            if (commitInterval > 0)
+                background.scheduleWithFixedDelay(this::commitInBackground, commitInterval, commitInterval, TimeUnit.MILLISECONDS);
+        } else {
+            background = null;
+        }
+    }
+
+    /**
+     * Returns the path of the checkpoint of the specified generation.
+     *
+     * @param generation the generation.
+     * @return the path.
+     */
+    private Path checkpointFile(long generation) {
+        return directory.resolve("checkpoint-" + generation + ".hl");
+    }
+
+    /**
+     * Returns the path of the journal of the specified generation.
+     *
+     * @param generation the generation.
+     * @return the path.
+     */
+    private Path journalFile(long generation) {
+        return directory.resolve("journal-" + generation + ".log");
+    }
+
+    /**
+     * Returns the generation of a file named {@code prefix + generation + suffix}.
+     *
+     * @param name   the name of the file.
+     * @param prefix the prefix of the name.
+     * @param suffix the suffix of the name.
+     * @return the generation, or -1 if the name does not match.
+     */
+    private static long generationOf(String name, String prefix, String suffix) {
+        if (!name.startsWith(prefix) || !name.endsWith(suffix) || name.length() <= prefix.length() + suffix.length())
+            return -1;
+        try {
+            return Long.parseLong(name.substring(prefix.length(), name.length() - suffix.length()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Loads the last checkpoint, replays the journals that follow it and deletes the files they replace.
+     * Sets {@link #generation} to the generation of the last journal.
+     *
+     * @return the recovered list.
+     * @throws IOException if an I/O error occurs or the files are malformed.
+     */
+    private ListAdapter recover() throws IOException {
+        long checkpoint = -1;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                checkpoint = Math.max(checkpoint, generationOf(file.getFileName().toString(), "checkpoint-", ".hl"));
+            }
+        }
+        ListAdapter recovered;
+        if (checkpoint < 0) {
+            checkpoint = 0;
+            recovered = new ListAdapter();
+        } else {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(checkpointFile(checkpoint))))) {
+                recovered = codec.read(in);
+            }
+        }
+        generation = checkpoint;
+        while (Files.exists(journalFile(generation + 1))) {
+            replay(recovered, journalFile(generation), false);
+            generation++;
+        }
+        replay(recovered, journalFile(generation), true);
+        deleteBefore(checkpoint);
+        return recovered;
+    }
+
+    /**
+     * Applies the records of the specified journal to the list. A torn or corrupted record ends
+     * the journal: if the journal is the last one, the file is truncated before it, otherwise the
+     * journal is reported as malformed.
+     *
+     * @param target the list to apply the records to.
+     * @param file   the journal, which may not exist.
+     * @param last   whether the journal is the last one.
+     * @throws IOException if an I/O error occurs or the journal is malformed.
+     */
+    private void replay(ListAdapter target, Path file, boolean last) throws IOException {
+        if (!Files.exists(file))
+            return;
+        long length = Files.size(file);
+        long valid = 0;
+        CRC32 check = new CRC32();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            while (length - valid >= FRAME) {
+                int size = in.readInt();
+                int sum = in.readInt();
+                if (size <= 0 || size > length - valid - FRAME)
+                    break;
+                byte[] bytes = new byte[size];
+                in.readFully(bytes);
+                check.reset();
+                check.update(bytes, 0, size);
+                if ((int) check.getValue() != sum)
+                    break;
+                apply(target, new DataInputStream(new ByteArrayInputStream(bytes)));
+                valid += FRAME + size;
+            }
+        }
+        if (valid == length)
+            return;
+        if (!last)
+            throw new IOException("corrupted record at offset " + valid + " of " + file);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(valid);
+            channel.force(true);
+        }
+    }
+
+    /**
+     * Decodes one record and applies it to the list.
+     *
+     * @param target the list to apply the record to.
+     * @param data   the record.
+     * @throws IOException if the record is malformed or does not match the list.
+     */
+    private void apply(ListAdapter target, DataInputStream data) throws IOException {
+        int op = data.readUnsignedByte();
+        try {
+            switch (op) {
+                case ADD:
+                    target.add(codec.readElement(data));
+                    break;
+                case ADD_AT:
+                    target.add(HListCodec.readVarInt(data), codec.readElement(data));
+                    break;
+                case SET:
+                    target.set(HListCodec.readVarInt(data), codec.readElement(data));
+                    break;
+                case REMOVE_AT:
+                    target.remove(HListCodec.readVarInt(data));
+                    break;
+                case REMOVE_RANGE: {
+                    int from = HListCodec.readVarInt(data);
+                    int to = HListCodec.readVarInt(data);
+                    target.subList(from, to).clear();
+                    break;
+                }
+                case ADD_ALL: {
+                    int index = HListCodec.readVarInt(data);
+                    int n = HListCodec.readVarInt(data);
+                    if (n < 0 || n > data.available())
+                        throw new IOException("malformed count: " + n);
+                    Object[] elements = new Object[n];
+                    for (int i = 0; i < n; i++) {
+                        elements[i] = codec.readElement(data);
+                    }
+                    target.addAll(index, HViews.asHList(Arrays.asList(elements)));
+                    break;
+                }
+                case CLEAR:
+                    target.clear();
+                    break;
+                case REMOVE_INDEXES: {
+                    int n = HListCodec.readVarInt(data);
+                    if (n <= 0 || n > data.available())
+                        throw new IOException("malformed count: " + n);
+                    int[] indexes = new int[n];
+                    int index = -1;
+                    for (int i = 0; i < n; i++) {
+                        int gap = HListCodec.readVarInt(data);
+                        if (gap < 0)
+                            throw new IOException("malformed gap: " + gap);
+                        index += gap + 1;
+                        indexes[i] = index;
+                    }
+                    if (index >= target.size())
+                        throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + target.size());
+                    removeIndexes(target, indexes, n);
+                    break;
+                }
+                default:
+                    throw new IOException("unknown operation: " + op);
+            }
+        } catch (IndexOutOfBoundsException e) {
+            throw new IOException("record does not match the list: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Deletes the checkpoints and the journals older than the specified generation, and any temporary file.
+     *
+     * @param generation the oldest generation to keep.
+     * @throws IOException if an I/O error occurs.
+     */
+    private void deleteBefore(long generation) throws IOException {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                long g = Math.max(generationOf(name, "checkpoint-", ".hl"), generationOf(name, "journal-", ".log"));
+                if ((g >= 0 && g < generation) || name.endsWith(".tmp"))
+                    Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    /**
+     * Returns the element at the specified position in this list.
+     *
+     * @param index index of element to return.
+     * @return the element at the specified position in this list.
+     * @throws IndexOutOfBoundsException if the index is out of range {@code (index < 0 || index >= size())}.
+     */
+    public Object get(int index) {
+        return list.get(index);
+    }
+
+    /**
+     * Returns the number of elements in this list.
+     *
+     * @return the number of elements in this list.
+     */
+    public int size() {
+        return list.size();
+    }
+
+    /**
+     * Returns an array containing all the elements in this list, copied from the backing list.
+     *
+     * @return an array containing all the elements in this list.
+     */
+    public Object[] toArray() {
+        return list.toArray();
+    }
+
+    /**
+     * Locks the mutations and starts a new record with the specified operation code.
+     *
+     * @param op the operation code.
+     * @throws IllegalStateException if the list has been closed.
+     * @throws UncheckedIOException  if a previous commit failed.
+     */
+    private void begin(int op) {
+        lock.lock();
+        if (closed) {
+            lock.unlock();
+            throw new IllegalStateException("closed");
+        }
+        synchronized (commitLock) {
+            if (failure != null) {
+                lock.unlock();
+                throw new UncheckedIOException(failure);
+            }
+        }
+        recordBytes.reset();
+        recordBytes.write(op);
+    }
+
+    /**
+     * Appends the specified element to the record being encoded.
+     *
+     * @param o the element.
+     * @throws IllegalArgumentException if no codec accepts the element.
+     */
+    private void encode(Object o) {
+        try {
+            codec.writeElement(record, o);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Appends the specified index to the record being encoded.
+     *
+     * @param index the index.
+     */
+    private void encodeIndex(int index) {
+        try {
+            HListCodec.writeVarInt(record, index);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Frames the record being encoded and adds it to the pending records. Must be called with
+     * {@link #lock} held, after the mutation has been applied.
+     *
+     * @return the sequence number of the record.
+     */
+    private long append() {
+        crc.reset();
+        crc.update(recordBytes.toByteArray(), 0, recordBytes.size());
+        long seq;
+        boolean compact;
+        synchronized (commitLock) {
+            try {
+                pendingOut.writeInt(recordBytes.size());
+                pendingOut.writeInt((int) crc.getValue());
+                recordBytes.writeTo(pendingOut);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            seq = ++appended;
+            journalBytes += FRAME + recordBytes.size();
+            compact = compactionThreshold > 0 && journalBytes >= compactionThreshold;
+        }
+        if (compact && !compactionScheduled) {
+            compactionScheduled = true;
+            background.execute(this::compactInBackground);
+        }
+        return seq;
+    }
+
+    /**
+     * Unlocks the mutations and, if every mutation is committed before it returns, waits for the commit of the specified record.
+     *
+     * @param seq the sequence number of the record, or 0 if nothing was appended.
+     * @throws UncheckedIOException if the journal cannot be written.
+     */
+    private void end(long seq) {
+        lock.unlock();
+        if (seq > 0 && commitInterval == 0) {
+            try {
+                commit(seq);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Waits until the specified record is on disk. If no other thread is writing, the calling
+     * thread writes and forces all the pending records, including those appended by other
+     * threads; otherwise it waits for that batch and, if its record was not in it, writes the next one.
+     *
+     * @param seq the sequence number of the record.
+     * @throws IOException if the journal cannot be written, now or by an earlier commit.
+     */
+    private void commit(long seq) throws IOException {
+        while (true) {
+            byte[] batch;
+            long upTo;
+            FileChannel channel;
+            synchronized (commitLock) {
+                while (committing && durable < seq && failure == null) {
+                    try {
+                        commitLock.wait();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new IOException("interrupted while waiting for the commit", e);
+                    }
+                }
+                if (failure != null)
+                    throw failure;
+                if (durable >= seq)
+                    return;
+                committing = true;
+                batch = pending.toByteArray();
+                pending.reset();
+                upTo = appended;
+                channel = journal;
+            }
+            IOException error = null;
+            try {
+                ByteBuffer buffer = ByteBuffer.wrap(batch);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(false);
+            } catch (IOException e) {
+                error = e;
+            }
+            synchronized (commitLock) {
+                committing = false;
+                if (error == null)
+                    durable = upTo;
+                else
+                    failure = error;
+                commitLock.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Writes and forces all the records appended so far.
+     *
+     * @throws IOException if the journal cannot be written.
+     */
+    public void flush() throws IOException {
+        long seq;
+        synchronized (commitLock) {
+            seq = appended;
+        }
+        commit(seq);
+    }
+
+    /**
+     * Commits the pending records on behalf of the background thread. A failure is kept and
+     * reported by the next mutation.
+     */
+    private void commitInBackground() {
+        try {
+            flush();
+        } catch (IOException e) {
+            // kept in failure by commit
+        }
+    }
+
+    /**
+     * Compacts the journal on behalf of the background thread. A failure leaves the journal as
+     * it is, since the records remain valid, and compaction is tried again by a later mutation.
+     */
+    private void compactInBackground() {
+        try {
+            checkpoint();
+        } catch (IOException | UncheckedIOException | IllegalStateException e) {
+            // the journal is still complete
+        } finally {
+            compactionScheduled = false;
+        }
+    }
+
+    /**
+     * Writes a checkpoint of the current contents of the list and deletes the journals and the
+     * checkpoint it replaces. The journal is rotated while the mutations are locked; the
+     * checkpoint is then written to a temporary file and renamed, so that a crash at any point
+     * leaves either the old or the new checkpoint with all the journals that follow it.
+     *
+     * @throws IllegalStateException if the list has been closed.
+     * @throws IOException           if an I/O error occurs.
+     */
+    public void checkpoint() throws IOException {
+        checkpointLock.lock();
+        try {
+            Object[] snapshot;
+            long next;
+            lock.lock();
+            try {
+                if (closed)
+                    throw new IllegalStateException("closed");
+                flush();
+                snapshot = list.toArray();
+                next = generation + 1;
+                FileChannel channel = FileChannel.open(journalFile(next), StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+                FileChannel old;
+                synchronized (commitLock) {
+                    old = journal;
+                    journal = channel;
+                    generation = next;
+                    journalBytes = 0;
+                }
+                old.close();
+            } finally {
+                lock.unlock();
+            }
+            Path temporary = directory.resolve("checkpoint-" + next + ".tmp");
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)));
+                codec.write(HViews.asHList(Arrays.asList(snapshot)), out);
+                channel.force(true);
+            }
+            Files.move(temporary, checkpointFile(next), StandardCopyOption.ATOMIC_MOVE);
+            deleteBefore(next);
+        } finally {
+            checkpointLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the generation of the current journal, which is incremented by every checkpoint.
+     *
+     * @return the generation.
+     */
+    public long generation() {
+        synchronized (commitLock) {
+            return generation;
+        }
+    }
+
+    /**
+     * Returns the footprint of this list estimated by {@link HSizeModel#DEFAULT}, without the elements.
+     *
+     * @return the footprint.
+     */
+    public HFootprint footprint() {
+        return footprint(HSizeModel.DEFAULT, false);
+    }
+
+    /**
+     * Returns the footprint of this list estimated by the specified model: the footprint of the
+     * list in memory, with the shallow bytes of the journal and of the records appended but not
+     * yet written to the file.
+     *
+     * @param model    the model of the sizes of the objects.
+     * @param elements {@code true} to measure the elements too.
+     * @return the footprint.
+     * @throws NullPointerException if the model is {@code null}.
+     */
+    public HFootprint footprint(HSizeModel model, boolean elements) {
+        HFootprint f;
+        lock.lock();
+        try {
+            f = list.footprint(model, elements);
+        } finally {
+            lock.unlock();
+        }
+        long buffered;
+        synchronized (commitLock) {
+            buffered = model.arraySize(pending.size(), 1);
+        }
+        long shallow = model.instanceSize(17, 45) + model.instanceSize(3, 4) + buffered
+                + 4 * model.instanceSize(1, 4);
+        return new HFootprint(f.size(), f.shallowBytes() + shallow, f.backingBytes(), f.spareCapacity(),
+                f.spareBytes(), f.elementBytes(), f.offHeapBytes());
+    }
+
+    /**
+     * Commits the pending records, waits for a background compaction in progress and closes the journal.
+     * Closing a closed list has no effect.
+     *
+     * @throws IOException if the journal cannot be written or closed.
+     */
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            if (closed)
+                return;
+            closed = true;
+        } finally {
+            lock.unlock();
+        }
+        if (background != null) {
+            background.shutdown();
+            try {
+                background.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        checkpointLock.lock();
+        try {
+            flush();
+        } finally {
+            checkpointLock.unlock();
+            synchronized (commitLock) {
+                journal.close();
+            }
+        }
+    }
+
+    /**
+     * Replaces the element at the specified position in this list with the specified element and journals the change.
+     *
+     * @param index   index of element to replace.
+     * @param element element to be stored at the specified position.
+     * @return the element previously at the specified position.
+     * @throws IndexOutOfBoundsException if the index is out of range {@code (index < 0 || index >= size())}.
+     * @throws IllegalArgumentException  if no codec accepts the element.
+     * @throws UncheckedIOException      if the journal cannot be written.
+     */
+    public Object set(int index, Object element) {
+        begin(SET);
+        long seq = 0;
+        try {
+            encodeIndex(index);
+            encode(element);
+            Object old = list.set(index, element);
+            seq = append();
+            return old;
+        } finally {
+            end(seq);
+        }
+    }
+
+    /**
+     * Appends the specified element to the end of this list and journals the change.
+     *
+     * @param o element to be appended to this list.
+     * @return {@code true}.
+     * @throws IllegalArgumentException if no codec accepts the element.
+     * @throws UncheckedIOException     if the journal cannot be written.
+     */
+    public boolean add(Object o) {
+        begin(ADD);
+        long seq = 0;
+        try {
+            encode(o);
+            list.add(o);
+            seq = append();
+            return true;
+        } finally {
+            end(seq);
+        }
+    }
+
+    /**
+     * Inserts the specified element at the specified position in this list and journals the change.
+     *
+     * @param index   index at which the specified element is to be inserted.
+     * @param element element to be inserted.
+     * @throws IndexOutOfBoundsException if the index is out of range {@code (index < 0 || index > size())}.
+     * @throws IllegalArgumentException  if no codec accepts the element.
+     * @throws UncheckedIOException      if the journal cannot be written.
+     */
+    public void add(int index, Object element) {
+        begin(ADD_AT);
+        long seq = 0;
+        try {
+            encodeIndex(index);
+            encode(element);
+            list.add(index, element);
+            seq = append();
+        } finally {
+            end(seq);
+        }
+    }
+
+    /**
+     * Removes the element at the specified position in this list and journals the change.
+     *
+     * @param index the index of the element to be removed.
+     * @return the element previously at the specified position.
+     * @throws IndexOutOfBoundsException if the index is out of range {@code (index < 0 || index >= size())}.
+     * @throws UncheckedIOException      if the journal cannot be written.
+     */
+    public Object remove(int index) {
+        begin(REMOVE_AT);
+        long seq = 0;
+        try {
+            encodeIndex(index);
+            Object old = list.remove(index);
+            seq = append();
+            return old;
+        } finally {
+            end(seq);
+        }
+    }
+
+    /**
+     * Removes the first occurrence of the specified element from this list, if it is present,
+     * and journals the change. The search and the removal are atomic.
+     *
+     * @param o element to be removed from this list, if present.
+     * @return {@code true} if this list contained the specified element.
+     * @throws UncheckedIOException if the journal cannot be written.
+     */
+    public boolean remove(Object o) {
+        begin(REMOVE_AT);
+        long seq = 0;
+        try {
+            int index = list.indexOf(o);
+            if (index < 0)
+                return false;
+            encodeIndex(index);
+            list.remove(index);
+            seq = append();
+            return true;
+        } finally {
+            end(seq);
+        }
+    }
+
+    /**
+     * Appends all the elements in the specified collection to the end of this list, journaled as a single record.
+     *
+     * @param c collection whose elements are to be added to this list.
+     * @return {@code true} if this list changed as a result of the call.
+     * @throws NullPointerException     if the specified collection is {@code null}.
+     * @throws IllegalArgumentException if no codec accepts one of the elements.
+     * @throws UncheckedIOException     if the journal cannot be written.
+     */
+    public boolean addAll(HCollection c) {
+        return insertAll(-1, c);
+    }
+
+    /**
+     * Inserts all the elements in the specified collection into this list at the specified
+     * position, journaled as a single record.
+     *
+     * @param index index at which to insert first element from the specified collection.
+     * @param c     elements to be inserted into this list.
+     * @return {@code true} if this list changed as a result of the call.
+     * @throws NullPointerException      if the specified collection is {@code null}.
+     * @throws IndexOutOfBoundsException if the index is out of range {@code (index < 0 || index > size())}.
+     * @throws IllegalArgumentException  if no codec accepts one of the elements.
+     * @throws UncheckedIOException      if the journal cannot be written.
+     */
+    public boolean addAll(int index, HCollection c) {
+        if (index < 0)
+            throw new IndexOutOfBoundsException();
+        return insertAll(index, c);
+    }
+
+    /**
+     * Inserts all the elements in the specified collection, journaled as a single record.
+     *
+     * @param index the position of the first element, or -1 to append them, at the size read
+     *              under the lock of the journal.
+     * @param c     elements to be inserted into this list.
+     * @return {@code true} if this list changed as a result of the call.
+     */
+    private boolean insertAll(int index, HCollection c) {
+        if (c == null)
+            throw new NullPointerException();
+        boolean append = index == -1;
+        Object[] elements = c.toArray();
+        begin(ADD_ALL);
+        long seq = 0;
+        try {
+            if (append)
+                index = list.size();
+            if (index < 0 || index > list.size())
+                throw new IndexOutOfBoundsException();
+            if (elements.length == 0)
+                return false;
+            encodeIndex(index);
+            encodeIndex(elements.length);
+            for (int i = 0; i < elements.length; i++) {
+                encode(elements[i]);
+            }
+            list.addAll(index, HViews.asHList(Arrays.asList(elements)));
+            seq = append();
+            return true;
+        } finally {
+            end(seq);
+        }
+    }
+
+    /**
+     * Removes all the elements from this list and journals the change as a single record.
+     *
+     * @throws UncheckedIOException if the journal cannot be written.
+     */
+    public void clear() {
+        begin(CLEAR);
+        long seq = 0;
+        try {
+            list.clear();
+            seq = append();
+        } finally {
+            end(seq);
+        }
+    }
+
+    /**
+     * Removes from this list all the elements that are contained in the specified collection,
+     * and journals the change as a single record.
+     *
+     * @param c collection that defines which elements will be removed from this list.
+     * @return {@code true} if this list changed as a result of the call.
+     * @throws NullPointerException if the specified collection is {@code null}.
+     * @throws UncheckedIOException if the journal cannot be written.
+     */
+    public boolean removeAll(HCollection c) {
+        return batchRemove(c, true);
+    }
+
+    /**
+     * Retains only the elements in this list that are contained in the specified collection,
+     * and journals the change as a single record.
+     *
+     * @param c collection that defines which elements this list will retain.
+     * @return {@code true} if this list changed as a result of the call.
+     * @throws NullPointerException if the specified collection is {@code null}.
+     * @throws UncheckedIOException if the journal cannot be written.
+     */
+    public boolean retainAll(HCollection c) {
+        return batchRemove(c, false);
+    }
+
+    /**
+     * Removes the elements whose presence in the specified collection is equal to
+     * {@code removePresent}. The elements of the collection are read before the lock of the
+     * journal is taken, since it may be a view of this list; the elements to remove are then
+     * found, journaled by index and removed under the lock.
+     *
+     * @param c             the collection to test the elements against.
+     * @param removePresent {@code true} to remove the elements contained in the collection, {@code false} to remove the others.
+     * @return {@code true} if this list changed as a result of the call.
+     */
+    private boolean batchRemove(HCollection c, boolean removePresent) {
+        if (c == null)
+            throw new NullPointerException();
+        Object[] other = c.toArray();
+        begin(REMOVE_INDEXES);
+        long seq = 0;
+        try {
+            Object[] elements = list.toArray();
+            int[] indexes = new int[elements.length];
+            int n = 0;
+            for (int i = 0; i < elements.length; i++) {
+                if (arrayContains(other, elements[i]) == removePresent)
+                    indexes[n++] = i;
+            }
+            if (n == 0)
+                return false;
+            encodeIndex(n);
+            int previous = -1;
+            for (int i = 0; i < n; i++) {
+                encodeIndex(indexes[i] - previous - 1);
+                previous = indexes[i];
+            }
+            removeIndexes(list, indexes, n);
+            seq = append();
+            return true;
+        } finally {
+            end(seq);
+        }
+    }
+
+    /**
+     * Removes the elements at the specified ascending indexes from the specified list, moving
+     * every other element once.
+     *
+     * @param target  the list.
+     * @param indexes the indexes, in ascending order and smaller than the size of the list.
+     * @param n       the number of indexes.
+     */
+    private static void removeIndexes(ListAdapter target, int[] indexes, int n) {
+        Object[] elements = target.toArray();
+        Object[] kept = new Object[elements.length - n];
+        int k = 0;
+        int next = 0;
+        for (int i = 0; i < elements.length; i++) {
+            if (next < n && indexes[next] == i)
+                next++;
+            else
+                kept[k++] = elements[i];
+        }
+        target.clear();
+        target.addAll(HViews.asHList(Arrays.asList(kept)));
+    }
+
+    /**
+     * Returns {@code true} if the specified array contains the specified element.
+     *
+     * @param a the array to search.
+     * @param o element to search for.
+     * @return {@code true} if the array contains the element.
+     */
+    private static boolean arrayContains(Object[] a, Object o) {
+        for (int i = 0; i < a.length; i++) {
+            if (o == null ? a[i] == null : o.equals(a[i]))
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * Removes the elements whose index is between {@code fromIndex}, inclusive, and
+     * {@code toIndex}, exclusive, and journals the change as a single record. Used by
+     * {@code subList(fromIndex, toIndex).clear()}.
+     *
+     * @param fromIndex index of the first element to be removed.
+     * @param toIndex   index after the last element to be removed.
+     * @throws UncheckedIOException if the journal cannot be written.
+     */
+    protected void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex >= toIndex)
+            return;
+        begin(REMOVE_RANGE);
+        long seq = 0;
+        try {
+            encodeIndex(fromIndex);
+            encodeIndex(toIndex);
+            list.subList(fromIndex, toIndex).clear();
+            seq = append();
+        } finally {
+            end(seq);
+        }
+    }
+}
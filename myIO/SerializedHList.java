@@ -0,0 +1,379 @@
+package myIO;
+
+import myAdapter.AbstractHList;
+import myAdapter.HFootprint;
+import myAdapter.HIterator;
+import myAdapter.HListCodec;
+import myAdapter.HMeasurable;
+import myAdapter.HRandomAccess;
+import myAdapter.HSizeModel;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * <p>
+ * A read-only {@link myAdapter.HList} over a list encoded by {@link HListCodec}, stored in a
+ * byte array, a {@link ByteBuffer} or a memory mapped file, which decodes its elements only
+ * when they are accessed.
+ * </p>
+ * <p>
+ * Opening the list only reads the header and the length of every block, to build an index of
+ * the block offsets. The first {@code get} in a block walks it once, skipping the elements
+ * without creating them, and records the offset of each element; from then on {@code get(i)}
+ * decodes element {@code i} and nothing else. Optionally, the most recently decoded elements
+ * are kept in a small direct mapped cache, indexed by position. The iterators do not use the
+ * index: they decode the blocks sequentially, one at a time.
+ * </p>
+ * <p>
+ * The list can be read by any number of threads. Since the elements are decoded again on every
+ * access that misses the cache, {@code get} returns equal but not necessarily identical objects.
+ * Malformed data is reported by an {@link UncheckedIOException}, since the methods of
+ * {@link myAdapter.HList} cannot throw {@link IOException}.
+ * </p>
+ */
+public class SerializedHList extends AbstractHList implements HRandomAccess, HMeasurable {
+
+    /**
+     * An entry of the cache. Its fields are final, so an entry read by another thread is always complete.
+     */
+    private static final class Entry {
+        /**
+         * The position of the element.
+         */
+        final int index;
+
+        /**
+         * The decoded element.
+         */
+        final Object value;
+
+        /**
+         * Constructs an entry.
+         *
+         * @param index the position of the element.
+         * @param value the decoded element.
+         */
+        Entry(int index, Object value) {
+            this.index = index;
+            this.value = value;
+        }
+    }
+
+    /**
+     * The encoded list, in big endian order.
+     */
+    private final ByteBuffer buffer;
+
+    /**
+     * The codec that decodes the elements.
+     */
+    private final HListCodec codec;
+
+    /**
+     * The number of elements.
+     */
+    private final int size;
+
+    /**
+     * The offset of the header byte of every block.
+     */
+    private final int[] blockOffsets;
+
+    /**
+     * The offsets of the elements of every block that has been accessed by {@code get}, or -1 for
+     * the null elements; {@code null} for the other blocks.
+     */
+    private final AtomicReferenceArray<int[]> elementOffsets;
+
+    /**
+     * The cache of decoded elements, indexed by position modulo its length, or {@code null} if disabled.
+     */
+    private final Entry[] cache;
+
+    /**
+     * Opens the list encoded in the specified array, without a cache.
+     *
+     * @param bytes the encoded list.
+     * @param codec the codec that decodes the elements.
+     * @throws NullPointerException if the array or the codec is {@code null}.
+     * @throws IOException          if the data is malformed.
+     */
+    public SerializedHList(byte[] bytes, HListCodec codec) throws IOException {
+        this(ByteBuffer.wrap(bytes), codec, 0);
+    }
+
+    /**
+     * Opens the list encoded between the position and the limit of the specified buffer. The
+     * buffer is never modified; its contents must not change while the list is in use.
+     *
+     * @param buffer    the encoded list.
+     * @param codec     the codec that decodes the elements.
+     * @param cacheSize the number of decoded elements to cache, rounded up to a power of two, or 0 to disable the cache.
+     * @throws NullPointerException     if the buffer or the codec is {@code null}.
+     * @throws IllegalArgumentException if the cache size is negative.
+     * @throws IOException              if the data is malformed.
+     */
+    public SerializedHList(ByteBuffer buffer, HListCodec codec, int cacheSize) throws IOException {
+        if (codec == null)
+            throw new NullPointerException();
+        if (cacheSize < 0)
+            throw new IllegalArgumentException("cache size: " + cacheSize);
+        this.buffer = buffer.slice().order(ByteOrder.BIG_ENDIAN);
+        this.codec = codec;
+        ByteBufferInput in = new ByteBufferInput(this.buffer, 0);
+        size = codec.readHeader(in);
+        if (size < 0)
+            throw new IOException("malformed size: " + size);
+        int blocks = (int) (((long) size + HListCodec.BLOCK_SIZE - 1) / HListCodec.BLOCK_SIZE);
+        if (blocks > this.buffer.limit())
+            throw new IOException("truncated list");
+        blockOffsets = new int[blocks];
+        for (int b = 0; b < blocks; b++) {
+            int length = HListCodec.readVarInt(in);
+            blockOffsets[b] = in.position();
+            if (length <= 0 || length > this.buffer.limit() - in.position())
+                throw new IOException("malformed block length: " + length);
+            in.seek(in.position() + length);
+        }
+        elementOffsets = new AtomicReferenceArray<int[]>(blocks);
+        int capacity = 1;
+        while (capacity < cacheSize) {
+            capacity <<= 1;
+        }
+        cache = cacheSize == 0 ? null : new Entry[capacity];
+    }
+
+    /**
+     * Maps the specified file into memory and opens the list encoded in it.
+     *
+     * @param file      the file that contains the encoded list.
+     * @param codec     the codec that decodes the elements.
+     * @param cacheSize the number of decoded elements to cache, or 0 to disable the cache.
+     * @return the list.
+     * @throws IOException if the file cannot be mapped or the data is malformed.
+     */
+    public static SerializedHList map(Path file, HListCodec codec, int cacheSize) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new SerializedHList(mapped, codec, cacheSize);
+        }
+    }
+
+    /**
+     * Returns the number of elements in this list.
+     *
+     * @return the number of elements in this list.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of elements of the specified block.
+     *
+     * @param block the block.
+     * @return the number of elements.
+     */
+    private int blockLength(int block) {
+        return Math.min(HListCodec.BLOCK_SIZE, size - block * HListCodec.BLOCK_SIZE);
+    }
+
+    /**
+     * Returns the offsets of the elements of the specified block, walking the block the first time.
+     *
+     * @param block the block.
+     * @return the offsets, -1 for the null elements.
+     * @throws IOException if the block is malformed.
+     */
+    private int[] offsets(int block) throws IOException {
+        int[] offsets = elementOffsets.get(block);
+        if (offsets != null)
+            return offsets;
+        int n = blockLength(block);
+        offsets = new int[n];
+        ByteBufferInput in = new ByteBufferInput(buffer, blockOffsets[block]);
+        int header = in.readUnsignedByte();
+        int blockTag = header >>> 1;
+        long nulls = 0;
+        if ((header & 1) != 0) {
+            for (int i = 0; i < n; i += 8) {
+                nulls |= (long) in.readUnsignedByte() << i;
+            }
+        }
+        for (int i = 0; i < n; i++) {
+            if ((nulls & 1L << i) != 0) {
+                offsets[i] = -1;
+                continue;
+            }
+            offsets[i] = in.position();
+            int tag = blockTag == HListCodec.MIXED ? in.readUnsignedByte() : blockTag;
+            codec.skipElement(in, tag);
+        }
+        elementOffsets.compareAndSet(block, null, offsets);
+        return offsets;
+    }
+
+    /**
+     * Returns the element at the specified position in this list, decoding only that element.
+     *
+     * @param index index of element to return.
+     * @return the element at the specified position in this list.
+     * @throws IndexOutOfBoundsException if the index is out of range {@code (index < 0 || index >= size())}.
+     * @throws UncheckedIOException      if the data is malformed.
+     */
+    public Object get(int index) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException();
+        int slot = 0;
+        if (cache != null) {
+            slot = index & (cache.length - 1);
+            Entry entry = cache[slot];
+            if (entry != null && entry.index == index)
+                return entry.value;
+        }
+        try {
+            int block = index / HListCodec.BLOCK_SIZE;
+            int offset = offsets(block)[index % HListCodec.BLOCK_SIZE];
+            Object value = null;
+            if (offset >= 0) {
+                ByteBufferInput in = new ByteBufferInput(buffer, offset);
+                int blockTag = buffer.get(blockOffsets[block]) >>> 1 & 0x7F;
+                int tag = blockTag == HListCodec.MIXED ? in.readUnsignedByte() : blockTag;
+                value = codec.readElement(in, tag);
+            }
+            if (cache != null)
+                cache[slot] = new Entry(index, value);
+            return value;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Returns an iterator that decodes the blocks of this list sequentially, without using the index.
+     *
+     * @return an iterator over the elements in this list in proper sequence.
+     */
+    public HIterator iterator() {
+        return new SequentialIterator();
+    }
+
+    /**
+     * Returns the footprint of this list estimated by {@link HSizeModel#DEFAULT}, without the elements.
+     *
+     * @return the footprint.
+     */
+    public HFootprint footprint() {
+        return footprint(HSizeModel.DEFAULT, false);
+    }
+
+    /**
+     * Returns the footprint of this list estimated by the specified model. The backing bytes are
+     * the encoded list, if it is in a heap buffer, or the bytes outside the heap if the buffer is
+     * direct or mapped; the whole array behind a heap buffer is counted, since the list keeps it
+     * alive. The index of the blocks, the offsets decoded so far and the cache are shallow bytes.
+     * The elements are decoded on demand and not kept, except those in the cache, which are the
+     * only ones measured.
+     *
+     * @param model    the model of the sizes of the objects.
+     * @param elements {@code true} to measure the cached elements too.
+     * @return the footprint.
+     * @throws NullPointerException if the model is {@code null}.
+     */
+    public HFootprint footprint(HSizeModel model, boolean elements) {
+        long shallow = model.instanceSize(5, 4) + Footprints.bufferObject(model)
+                + model.arraySize(blockOffsets.length, 4)
+                + model.instanceSize(1, 0) + model.referenceArraySize(elementOffsets.length());
+        for (int b = 0; b < elementOffsets.length(); b++) {
+            int[] offsets = elementOffsets.get(b);
+            if (offsets != null)
+                shallow += model.arraySize(offsets.length, 4);
+        }
+        long elementBytes = elements ? 0 : -1;
+        if (cache != null) {
+            shallow += model.referenceArraySize(cache.length);
+            for (int i = 0; i < cache.length; i++) {
+                Entry e = cache[i];
+                if (e != null) {
+                    shallow += model.instanceSize(1, 4);
+                    if (elements)
+                        elementBytes += model.sizeOf(e.value);
+                }
+            }
+        }
+        return new HFootprint(size, shallow, Footprints.heapBytes(model, buffer), 0, 0, elementBytes,
+                Footprints.offHeapBytes(buffer));
+    }
+
+    /**
+     * Private class that decodes one block at a time and returns its elements.
+     */
+    private class SequentialIterator implements HIterator {
+        /**
+         * The decoded elements of the current block.
+         */
+        private final Object[] elements = new Object[HListCodec.BLOCK_SIZE];
+
+        /**
+         * The position in the list of the next element.
+         */
+        private int cursor;
+
+        /**
+         * The position in the list of the first element of the current block, or -1 if no block has been decoded.
+         */
+        private int blockStart = -1;
+
+        /**
+         * The input positioned after the current block.
+         */
+        private final ByteBufferInput in = new ByteBufferInput(buffer, blockOffsets.length == 0 ? 0 : blockOffsets[0]);
+
+        public boolean hasNext() {
+            return cursor < size;
+        }
+
+        /**
+         * Returns the next element, decoding the next block if needed.
+         *
+         * @return the next element.
+         * @throws NoSuchElementException if the iteration has no next element.
+         * @throws UncheckedIOException   if the data is malformed.
+         */
+        public Object next() {
+            if (cursor >= size)
+                throw new NoSuchElementException();
+            if (blockStart < 0 || cursor - blockStart == HListCodec.BLOCK_SIZE) {
+                int block = cursor / HListCodec.BLOCK_SIZE;
+                in.seek(blockOffsets[block]);
+                try {
+                    codec.readBlock(in, elements, 0, blockLength(block));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                blockStart = cursor;
+            }
+            Object o = elements[cursor - blockStart];
+            cursor++;
+            return o;
+        }
+
+        /**
+         * Not supported, since the list is read-only.
+         *
+         * @throws myAdapter.UnsupportedOperationException always.
+         */
+        public void remove() {
+            throw new myAdapter.UnsupportedOperationException();
+        }
+    }
+}
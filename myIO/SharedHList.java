@@ -0,0 +1,421 @@
+package myIO;
+
+import myAdapter.AbstractHList;
+import myAdapter.HCollection;
+import myAdapter.HFootprint;
+import myAdapter.HListCodec;
+import myAdapter.HMeasurable;
+import myAdapter.HRandomAccess;
+import myAdapter.HSizeModel;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * <p>
+ * An append-only {@link myAdapter.HList} stored in a memory mapped file, so that the processes
+ * of a machine can share one copy of a list: a single writer appends to it, and any number of
+ * readers, in the same or in other processes, map it read-only and see the new elements as soon
+ * as they are published, without locks or any other communication.
+ * </p>
+ * <p>
+ * The file has a fixed capacity, chosen when it is created: a header, a table with the end
+ * offset of every element and a data area where the elements are encoded by {@link HListCodec}.
+ * The writer encodes an element after the last one, stores its end offset in the table and only
+ * then publishes the new length in the header with a release store; a reader loads the length
+ * with an acquire load, so every element it counts is complete. {@code addAll} publishes all its
+ * elements with a single store.
+ * </p>
+ * <p>
+ * A writer holds an exclusive lock on the file until it is closed, so a second writer cannot be
+ * opened. Readers take no lock and may be closed or simply abandoned. Since the elements are
+ * decoded at every access, {@code get} returns equal but not necessarily identical objects.
+ * </p>
+ */
+public class SharedHList extends AbstractHList implements HRandomAccess, HMeasurable, Closeable {
+
+    /**
+     * The magic number at the start of the file.
+     */
+    private static final int MAGIC = 0x53484C31;
+
+    /**
+     * The version of the format.
+     */
+    private static final int VERSION = 1;
+
+    /**
+     * The offset of the published length in the header.
+     */
+    private static final int LENGTH = 8;
+
+    /**
+     * The offset of the maximum number of elements in the header.
+     */
+    private static final int MAX_ELEMENTS = 16;
+
+    /**
+     * The offset of the capacity of the data area in the header.
+     */
+    private static final int DATA_CAPACITY = 24;
+
+    /**
+     * The size of the header.
+     */
+    private static final int HEADER = 64;
+
+    /**
+     * The handle for the ordered accesses to the longs of the mapping.
+     */
+    private static final VarHandle LONGS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
+    /**
+     * The codec of the elements.
+     */
+    private final HListCodec codec;
+
+    /**
+     * The channel of the file.
+     */
+    private final FileChannel channel;
+
+    /**
+     * The mapping of the whole file, in big endian order.
+     */
+    private final MappedByteBuffer map;
+
+    /**
+     * The lock that makes this list the only writer, or {@code null} for a reader.
+     */
+    private final FileLock lock;
+
+    /**
+     * The maximum number of elements.
+     */
+    private final int maxElements;
+
+    /**
+     * The offset of the data area.
+     */
+    private final int dataStart;
+
+    /**
+     * The capacity of the data area.
+     */
+    private final int dataCapacity;
+
+    /**
+     * The buffer that encodes the elements appended by the writer.
+     */
+    private final ByteArrayOutputStream encoded = new ByteArrayOutputStream();
+
+    /**
+     * Whether the list has been closed.
+     */
+    private volatile boolean closed;
+
+    /**
+     * Opens an existing file.
+     *
+     * @param file   the file.
+     * @param codec  the codec of the elements.
+     * @param writer {@code true} to open the writer, {@code false} to open a reader.
+     * @throws IOException if an I/O error occurs, the file is malformed or another writer is open.
+     */
+    private SharedHList(Path file, HListCodec codec, boolean writer) throws IOException {
+        if (codec == null)
+            throw new NullPointerException();
+        this.codec = codec;
+        channel = writer ? FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE) : FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            lock = writer ? lockExclusively(channel) : null;
+            long length = channel.size();
+            if (length < HEADER || length > Integer.MAX_VALUE)
+                throw new IOException("not a shared list: " + file);
+            map = channel.map(writer ? FileChannel.MapMode.READ_WRITE : FileChannel.MapMode.READ_ONLY, 0, length);
+            if (map.getInt(0) != MAGIC || map.getInt(4) != VERSION)
+                throw new IOException("not a shared list: " + file);
+            long max = map.getLong(MAX_ELEMENTS);
+            long data = map.getLong(DATA_CAPACITY);
+            if (max < 0 || data < 0 || HEADER + 8 * max + data != length)
+                throw new IOException("malformed header: " + file);
+            maxElements = (int) max;
+            dataStart = HEADER + 8 * maxElements;
+            dataCapacity = (int) data;
+            long published = (long) LONGS.getAcquire(map, LENGTH);
+            if (published < 0 || published > maxElements)
+                throw new IOException("malformed length: " + published);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Takes the exclusive lock of the writer on the specified channel.
+     *
+     * @param channel the channel.
+     * @return the lock.
+     * @throws IOException if another writer holds the lock.
+     */
+    private static FileLock lockExclusively(FileChannel channel) throws IOException {
+        FileLock lock;
+        try {
+            lock = channel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            lock = null;
+        }
+        if (lock == null)
+            throw new IOException("another writer has the file open");
+        return lock;
+    }
+
+    /**
+     * Creates a new file, replacing any existing one, and opens its writer.
+     *
+     * @param file         the file.
+     * @param codec        the codec of the elements.
+     * @param maxElements  the maximum number of elements.
+     * @param dataCapacity the capacity in bytes of the area of the encoded elements.
+     * @return the writer.
+     * @throws NullPointerException     if the file or the codec is {@code null}.
+     * @throws IllegalArgumentException if a capacity is negative or the file would exceed 2 GB.
+     * @throws IOException              if an I/O error occurs or another writer has the file open.
+     */
+    public static SharedHList create(Path file, HListCodec codec, int maxElements, int dataCapacity) throws IOException {
+        if (maxElements < 0 || dataCapacity < 0 || HEADER + 8L * maxElements + dataCapacity > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("elements: " + maxElements + ", data: " + dataCapacity);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            FileLock lock = lockExclusively(channel);
+            try {
+                channel.truncate(0);
+                MappedByteBuffer map = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER + 8L * maxElements + dataCapacity);
+                map.putLong(MAX_ELEMENTS, maxElements);
+                map.putLong(DATA_CAPACITY, dataCapacity);
+                map.putInt(4, VERSION);
+                map.putInt(0, MAGIC);
+                map.force();
+            } finally {
+                lock.release();
+            }
+        }
+        return openWriter(file, codec);
+    }
+
+    /**
+     * Opens the writer of an existing file, to append to it.
+     *
+     * @param file  the file.
+     * @param codec the codec of the elements.
+     * @return the writer.
+     * @throws NullPointerException if the file or the codec is {@code null}.
+     * @throws IOException          if an I/O error occurs, the file is malformed or another writer has it open.
+     */
+    public static SharedHList openWriter(Path file, HListCodec codec) throws IOException {
+        return new SharedHList(file, codec, true);
+    }
+
+    /**
+     * Opens a read-only view of an existing file.
+     *
+     * @param file  the file.
+     * @param codec the codec of the elements.
+     * @return the reader.
+     * @throws NullPointerException if the file or the codec is {@code null}.
+     * @throws IOException          if an I/O error occurs or the file is malformed.
+     */
+    public static SharedHList openReader(Path file, HListCodec codec) throws IOException {
+        return new SharedHList(file, codec, false);
+    }
+
+    /**
+     * Returns the number of published elements.
+     *
+     * @return the number of elements in this list.
+     */
+    public int size() {
+        return (int) (long) LONGS.getAcquire(map, LENGTH);
+    }
+
+    /**
+     * Returns whether this list is the writer of the file.
+     *
+     * @return {@code true} for the writer, {@code false} for a reader.
+     */
+    public boolean isWriter() {
+        return lock != null;
+    }
+
+    /**
+     * Returns the end offset, in the data area, of the specified element.
+     *
+     * @param index the index of the element, or -1.
+     * @return the end offset, or 0 for -1.
+     */
+    private int end(int index) {
+        return index < 0 ? 0 : (int) map.getLong(HEADER + 8 * index);
+    }
+
+    /**
+     * Returns the element at the specified position in this list, decoding it from the mapping.
+     *
+     * @param index index of element to return.
+     * @return the element at the specified position in this list.
+     * @throws IndexOutOfBoundsException if the index is out of range {@code (index < 0 || index >= size())}.
+     * @throws UncheckedIOException      if the data is malformed.
+     */
+    public Object get(int index) {
+        if (index < 0 || index >= size())
+            throw new IndexOutOfBoundsException();
+        int from = end(index - 1);
+        int to = end(index);
+        if (from < 0 || to < from || to > dataCapacity)
+            throw new UncheckedIOException(new IOException("malformed offset of element " + index));
+        try {
+            return codec.readElement(new ByteBufferInput(map, dataStart + from));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Checks that this list is an open writer.
+     *
+     * @throws myAdapter.UnsupportedOperationException if this list is a reader.
+     * @throws IllegalStateException                   if this list has been closed.
+     */
+    private void checkWriter() {
+        if (lock == null)
+            throw new myAdapter.UnsupportedOperationException();
+        if (closed)
+            throw new IllegalStateException("closed");
+    }
+
+    /**
+     * Encodes the specified element after the last one and stores its end offset, without publishing it.
+     *
+     * @param index the index of the element.
+     * @param o     the element.
+     * @throws IllegalArgumentException if no codec accepts the element.
+     * @throws IllegalStateException    if the file is full.
+     */
+    private void store(int index, Object o) {
+        if (index >= maxElements)
+            throw new IllegalStateException("the list is full: " + maxElements + " elements");
+        encoded.reset();
+        try {
+            codec.writeElement(new DataOutputStream(encoded), o);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        int from = end(index - 1);
+        if (encoded.size() > dataCapacity - from)
+            throw new IllegalStateException("the list is full: " + dataCapacity + " bytes of data");
+        map.put(dataStart + from, encoded.toByteArray(), 0, encoded.size());
+        map.putLong(HEADER + 8 * index, from + encoded.size());
+    }
+
+    /**
+     * Appends the specified element and publishes it to the readers.
+     *
+     * @param o element to be appended to this list.
+     * @return {@code true}.
+     * @throws myAdapter.UnsupportedOperationException if this list is a reader.
+     * @throws IllegalArgumentException                if no codec accepts the element.
+     * @throws IllegalStateException                   if this list has been closed or the file is full.
+     */
+    public synchronized boolean add(Object o) {
+        checkWriter();
+        int n = size();
+        store(n, o);
+        LONGS.setRelease(map, LENGTH, (long) n + 1);
+        return true;
+    }
+
+    /**
+     * Appends all the elements of the specified collection and publishes them together. If one
+     * of them cannot be stored, none is published.
+     *
+     * @param c collection whose elements are to be added to this list.
+     * @return {@code true} if this list changed as a result of the call.
+     * @throws NullPointerException                    if the specified collection is {@code null}.
+     * @throws myAdapter.UnsupportedOperationException if this list is a reader.
+     * @throws IllegalArgumentException                if no codec accepts one of the elements.
+     * @throws IllegalStateException                   if this list has been closed or the file is full.
+     */
+    public synchronized boolean addAll(HCollection c) {
+        if (c == null)
+            throw new NullPointerException();
+        checkWriter();
+        Object[] elements = c.toArray();
+        int n = size();
+        for (int i = 0; i < elements.length; i++) {
+            store(n + i, elements[i]);
+        }
+        LONGS.setRelease(map, LENGTH, (long) n + elements.length);
+        return elements.length != 0;
+    }
+
+    /**
+     * Forces the published elements to the storage device.
+     */
+    public void force() {
+        map.force();
+    }
+
+    /**
+     * Returns the footprint of this list estimated by {@link HSizeModel#DEFAULT}, without the elements.
+     *
+     * @return the footprint.
+     */
+    public HFootprint footprint() {
+        return footprint(HSizeModel.DEFAULT, false);
+    }
+
+    /**
+     * Returns the footprint of this list estimated by the specified model. The whole mapping is
+     * outside the heap, and its spare capacity is the free entries of the offset table; the spare
+     * bytes include the free bytes of the data area. The elements are decoded on demand and not
+     * kept, so they take no bytes of their own.
+     *
+     * @param model    the model of the sizes of the objects.
+     * @param elements {@code true} to measure the elements too.
+     * @return the footprint.
+     * @throws NullPointerException if the model is {@code null}.
+     */
+    public HFootprint footprint(HSizeModel model, boolean elements) {
+        int n = size();
+        long spare = maxElements - n;
+        return new HFootprint(n, model.instanceSize(5, 13) + Footprints.bufferObject(model), 0, spare,
+                spare * 8 + dataCapacity - end(n - 1), elements ? 0 : -1, map.capacity());
+    }
+
+    /**
+     * Closes the file and, for the writer, releases its lock. The mapping stays valid until it is
+     * garbage collected, so a reader can still be read after it is closed.
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    public void close() throws IOException {
+        synchronized (this) {
+            if (closed)
+                return;
+            closed = true;
+        }
+        if (lock != null)
+            lock.release();
+        channel.close();
+    }
+}
@@ -0,0 +1,995 @@
+package myIO;
+
+import myAdapter.AbstractHList;
+import myAdapter.HCollection;
+import myAdapter.HFootprint;
+import myAdapter.HIterator;
+import myAdapter.HListCodec;
+import myAdapter.HMeasurable;
+import myAdapter.HRandomAccess;
+import myAdapter.HSizeModel;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * <p>
+ * A {@link myAdapter.HList} that keeps only a bounded working set of its elements in memory and
+ * spills the rest to a temporary file, for lists larger than the heap available to them.
+ * </p>
+ * <p>
+ * The elements are stored in pages of at most {@code pageSize} elements. A page is either
+ * resident, with its elements in an array, or spilled, encoded by the element codec in the
+ * temporary file. Accessing a spilled page faults it back in; when the resident pages exceed
+ * either the page limit or the memory budget, the least recently used ones are spilled. A page
+ * that has not changed since it was last read from the file is dropped without writing it again.
+ * A full page is split in two by an insertion and an empty page is removed. The space of the
+ * file left by a page that outgrew it or was removed is reused by the pages written later.
+ * </p>
+ * <p>
+ * The memory budget is measured by the weight of the resident pages, estimated by
+ * {@link HSizeModel#DEFAULT} as the footprint is: the array of {@code pageSize} references of
+ * every page, whatever its fill, plus the size of every element. Every element is also encoded
+ * once when it is stored, so that an element that no codec accepts is rejected before the list
+ * changes. The page that is being accessed always stays resident, even if it alone exceeds the
+ * budget.
+ * </p>
+ * <p>
+ * The iterator reads the pages in order and, when it enters a page, asks a background thread to
+ * fault in the next one, so that the file is read while the current page is consumed. All the
+ * operations are synchronized on the list; the background thread reads the file without holding
+ * the lock. I/O errors are reported by an {@link UncheckedIOException}, since the methods of
+ * {@link myAdapter.HList} cannot throw {@link IOException}.
+ * </p>
+ */
+public class SpillingHList extends AbstractHList implements HRandomAccess, HMeasurable, Closeable {
+
+    /**
+     * The default number of elements of a page.
+     */
+    public static final int DEFAULT_PAGE_SIZE = 4096;
+
+    /**
+     * The default number of resident pages.
+     */
+    public static final int DEFAULT_MAX_PAGES = 16;
+
+    /**
+     * A page of elements.
+     */
+    private static final class Page {
+        /**
+         * The elements, or {@code null} if the page is spilled.
+         */
+        Object[] elements;
+
+        /**
+         * The number of elements.
+         */
+        int count;
+
+        /**
+         * The weight of the elements, without the array.
+         */
+        long weight;
+
+        /**
+         * Whether the resident elements differ from the copy in the file, if any.
+         */
+        boolean dirty = true;
+
+        /**
+         * The offset of the copy in the file, or -1 if the page has never been spilled.
+         */
+        long offset = -1;
+
+        /**
+         * The length of the copy in the file.
+         */
+        int length;
+
+        /**
+         * The space reserved for the page in the file.
+         */
+        int capacity;
+
+        /**
+         * The number of times the page has been spilled, used to discard a stale prefetch.
+         */
+        int version;
+
+        /**
+         * Whether the page still belongs to the list.
+         */
+        boolean live = true;
+    }
+
+    /**
+     * The codec of the elements.
+     */
+    private final HListCodec codec;
+
+    /**
+     * The maximum number of elements of a page.
+     */
+    private final int pageSize;
+
+    /**
+     * The maximum number of resident pages.
+     */
+    private final int maxPages;
+
+    /**
+     * The maximum weight of the resident pages, or 0 if only the number of pages is limited.
+     */
+    private final long memoryBudget;
+
+    /**
+     * The weight of the array of a resident page.
+     */
+    private final long arrayWeight;
+
+    /**
+     * The pages, in order.
+     */
+    private final ArrayList<Page> pages = new ArrayList<Page>();
+
+    /**
+     * The index of the first element of every page; valid for the pages up to {@link #validStarts}.
+     */
+    private int[] starts = new int[16];
+
+    /**
+     * The index of the last page whose start is valid, or -1.
+     */
+    private int validStarts = -1;
+
+    /**
+     * The resident pages, from the least to the most recently used.
+     */
+    private final LinkedHashMap<Page, Page> resident = new LinkedHashMap<Page, Page>(16, 0.75f, true);
+
+    /**
+     * The weight of the resident pages.
+     */
+    private long residentWeight;
+
+    /**
+     * The number of elements.
+     */
+    private int size;
+
+    /**
+     * A stream that discards the bytes written to it and counts them.
+     */
+    private static final class CountingStream extends OutputStream {
+        /**
+         * The number of bytes written since the last reset.
+         */
+        long count;
+
+        public void write(int b) {
+            count++;
+        }
+
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+
+    /**
+     * The stream that counts the bytes of the encoding of an element.
+     */
+    private final CountingStream counter = new CountingStream();
+
+    /**
+     * The output that weighs the elements by encoding them into {@link #counter}.
+     */
+    private final DataOutputStream scale = new DataOutputStream(counter);
+
+    /**
+     * The temporary file.
+     */
+    private final Path file;
+
+    /**
+     * The channel of the temporary file.
+     */
+    private final FileChannel channel;
+
+    /**
+     * The end of the used part of the file.
+     */
+    private long fileEnd;
+
+    /**
+     * The slots of the file that no page uses, as pairs of offset and capacity.
+     */
+    private final ArrayList<long[]> freeSlots = new ArrayList<long[]>();
+
+    /**
+     * The thread that prefetches the pages.
+     */
+    private final ExecutorService prefetcher;
+
+    /**
+     * The number of pages read from the file by an access, that is the prefetches that came too late or were not requested.
+     */
+    private long faults;
+
+    /**
+     * Whether the list has been closed.
+     */
+    private boolean closed;
+
+    /**
+     * Constructs an empty list with pages of {@link #DEFAULT_PAGE_SIZE} elements, at most
+     * {@link #DEFAULT_MAX_PAGES} resident pages and no memory budget.
+     *
+     * @param codec the codec of the elements.
+     * @throws NullPointerException if the codec is {@code null}.
+     * @throws IOException          if the temporary file cannot be created.
+     */
+    public SpillingHList(HListCodec codec) throws IOException {
+        this(codec, DEFAULT_PAGE_SIZE, DEFAULT_MAX_PAGES, 0);
+    }
+
+    /**
+     * Constructs an empty list that spills its pages to a new temporary file.
+     *
+     * @param codec        the codec of the elements.
+     * @param pageSize     the maximum number of elements of a page.
+     * @param maxPages     the maximum number of resident pages.
+     * @param memoryBudget the maximum weight of the resident pages in bytes, or 0 to limit only the number of pages.
+     * @throws NullPointerException     if the codec is {@code null}.
+     * @throws IllegalArgumentException if the page size or the number of pages is not positive, or the budget is negative.
+     * @throws IOException              if the temporary file cannot be created.
+     */
+    public SpillingHList(HListCodec codec, int pageSize, int maxPages, long memoryBudget) throws IOException {
+        if (codec == null)
+            throw new NullPointerException();
+        if (pageSize <= 0 || maxPages <= 0 || memoryBudget < 0)
+            throw new IllegalArgumentException("page size: " + pageSize + ", pages: " + maxPages + ", budget: " + memoryBudget);
+        this.codec = codec;
+        this.pageSize = pageSize;
+        this.maxPages = maxPages;
+        this.memoryBudget = memoryBudget;
+        arrayWeight = HSizeModel.DEFAULT.referenceArraySize(pageSize);
+        file = Files.createTempFile("hlist", ".spill");
+        channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.DELETE_ON_CLOSE);
+        prefetcher = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "prefetch " + file);
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * Returns the number of elements in this list.
+     *
+     * @return the number of elements in this list.
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of resident pages.
+     *
+     * @return the number of resident pages.
+     */
+    public synchronized int residentPages() {
+        return resident.size();
+    }
+
+    /**
+     * Returns the weight of the resident pages.
+     *
+     * @return the weight in bytes.
+     */
+    public synchronized long residentWeight() {
+        return residentWeight;
+    }
+
+    /**
+     * Returns the number of bytes of the temporary file used by the pages, including the free slots.
+     *
+     * @return the number of bytes.
+     */
+    public synchronized long fileBytes() {
+        return fileEnd;
+    }
+
+    /**
+     * Returns the number of pages read from the file by an access rather than by a prefetch.
+     *
+     * @return the number of faults.
+     */
+    public synchronized long faults() {
+        return faults;
+    }
+
+    /**
+     * Returns the footprint of this list estimated by {@link HSizeModel#DEFAULT}, without the elements.
+     *
+     * @return the footprint.
+     */
+    public HFootprint footprint() {
+        return footprint(HSizeModel.DEFAULT, false);
+    }
+
+    /**
+     * Returns the footprint of this list estimated by the specified model. The shallow bytes
+     * include the descriptor of every page, resident or not, the tables that index them and the
+     * free slots of the file; the backing bytes are the arrays of the resident pages, whose empty
+     * positions are the spare capacity. Only the elements of the resident pages are on the heap
+     * and measured; the others are in the file, on disk.
+     *
+     * @param model    the model of the sizes of the objects.
+     * @param elements {@code true} to measure the resident elements too.
+     * @return the footprint.
+     * @throws NullPointerException if the model is {@code null}.
+     */
+    public synchronized HFootprint footprint(HSizeModel model, boolean elements) {
+        long shallow = model.instanceSize(13, 57) + model.instanceSize(1, 8) + model.referenceArraySize(pages.size())
+                + model.instanceSize(1, 8) + model.referenceArraySize(freeSlots.size()) + freeSlots.size() * model.arraySize(2, 8)
+                + model.arraySize(starts.length, 4) + model.instanceSize(4, 13)
+                + model.referenceArraySize(Integer.highestOneBit(resident.size() * 2 + 1))
+                + resident.size() * model.instanceSize(6, 4) + pages.size() * model.instanceSize(1, 34);
+        long backing = 0;
+        long spare = 0;
+        long elementBytes = elements ? 0 : -1;
+        for (Page page : resident.keySet()) {
+            backing += model.referenceArraySize(page.elements.length);
+            spare += page.elements.length - page.count;
+            if (elements) {
+                for (int i = 0; i < page.count; i++) {
+                    elementBytes += model.sizeOf(page.elements[i]);
+                }
+            }
+        }
+        return new HFootprint(size, shallow, backing, spare, spare * model.referenceSize(), elementBytes, 0);
+    }
+
+    /**
+     * Throws an exception if the list has been closed.
+     *
+     * @throws IllegalStateException if the list has been closed.
+     */
+    private void ensureOpen() {
+        if (closed)
+            throw new IllegalStateException("closed");
+    }
+
+    /**
+     * Returns the weight of the specified element that is about to be stored, after checking
+     * that the codec can encode it.
+     *
+     * @param o the element.
+     * @return the weight.
+     * @throws IllegalArgumentException if no codec accepts the element.
+     */
+    private long weigh(Object o) {
+        counter.count = 0;
+        try {
+            codec.writeElement(scale, o);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return HSizeModel.DEFAULT.sizeOf(o);
+    }
+
+    /**
+     * Returns the index of the page that contains the element at the specified index, extending
+     * the valid starts as needed. The index {@code size} belongs to the last page.
+     *
+     * @param index the index of the element, between 0 and {@code size}.
+     * @return the index of the page.
+     */
+    private int find(int index) {
+        int n = pages.size();
+        if (starts.length < n) {
+            int[] grown = new int[Math.max(n, starts.length * 2)];
+            System.arraycopy(starts, 0, grown, 0, validStarts + 1);
+            starts = grown;
+        }
+        for (int p = validStarts + 1; p < n; p++) {
+            starts[p] = p == 0 ? 0 : starts[p - 1] + pages.get(p - 1).count;
+        }
+        validStarts = n - 1;
+        int low = 0;
+        int high = n - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (starts[mid] <= index)
+                low = mid;
+            else
+                high = mid - 1;
+        }
+        return low;
+    }
+
+    /**
+     * Invalidates the starts of the pages that follow the specified one.
+     *
+     * @param p the index of the page whose size changed.
+     */
+    private void invalidate(int p) {
+        if (validStarts > p)
+            validStarts = p;
+    }
+
+    /**
+     * Returns the elements of the specified page, faulting it in if needed, marks the page as the
+     * most recently used and spills other pages if the limits are exceeded.
+     *
+     * @param page the page.
+     * @return the elements.
+     * @throws UncheckedIOException if the page cannot be read.
+     */
+    private Object[] access(Page page) {
+        if (page.elements == null) {
+            try {
+                install(page, readPage(page.offset, page.length, page.count));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            faults++;
+        } else {
+            resident.get(page);
+        }
+        evict(page);
+        return page.elements;
+    }
+
+    /**
+     * Makes the specified page resident with the specified elements.
+     *
+     * @param page     the page.
+     * @param elements the elements, read from the copy in the file.
+     */
+    private void install(Page page, Object[] elements) {
+        page.elements = elements;
+        page.dirty = false;
+        resident.put(page, page);
+        residentWeight += arrayWeight + page.weight;
+    }
+
+    /**
+     * Spills the least recently used pages, except the specified one, until the limits are respected.
+     *
+     * @param keep the page that must stay resident.
+     * @throws UncheckedIOException if a page cannot be written.
+     */
+    private void evict(Page keep) {
+        Iterator<Page> it = resident.keySet().iterator();
+        while (resident.size() > 1 && (resident.size() > maxPages || (memoryBudget > 0 && residentWeight > memoryBudget)) && it.hasNext()) {
+            Page page = it.next();
+            if (page == keep)
+                continue;
+            if (page.dirty) {
+                try {
+                    writePage(page);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+            it.remove();
+            page.elements = null;
+            page.version++;
+            residentWeight -= arrayWeight + page.weight;
+        }
+    }
+
+    /**
+     * Writes the specified page to the file, in the space it already has if it fits, otherwise in
+     * the first free slot large enough or at the end, releasing the space it had.
+     *
+     * @param page the page.
+     * @throws IOException if an I/O error occurs.
+     */
+    private void writePage(Page page) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        for (int i = 0; i < page.count; i++) {
+            codec.writeElement(out, page.elements[i]);
+        }
+        int length = bytes.size();
+        if (page.offset < 0 || length > page.capacity) {
+            release(page);
+            allocate(page, length + (length >>> 2));
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray(), 0, length);
+        long position = page.offset;
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+        page.length = length;
+        page.dirty = false;
+    }
+
+    /**
+     * Gives the specified page a slot of at least the specified capacity: the first free slot
+     * large enough, or new space at the end of the file.
+     *
+     * @param page     the page.
+     * @param capacity the capacity needed.
+     */
+    private void allocate(Page page, int capacity) {
+        for (int i = 0; i < freeSlots.size(); i++) {
+            long[] slot = freeSlots.get(i);
+            if (slot[1] >= capacity) {
+                freeSlots.remove(i);
+                page.offset = slot[0];
+                page.capacity = (int) slot[1];
+                return;
+            }
+        }
+        page.offset = fileEnd;
+        page.capacity = capacity;
+        fileEnd += capacity;
+    }
+
+    /**
+     * Releases the slot of the file of the specified page, if it has one: the slot at the end
+     * shortens the file, the others become free slots.
+     *
+     * @param page the page.
+     */
+    private void release(Page page) {
+        if (page.offset < 0)
+            return;
+        if (page.offset + page.capacity == fileEnd)
+            fileEnd = page.offset;
+        else
+            freeSlots.add(new long[]{page.offset, page.capacity});
+        page.offset = -1;
+        page.capacity = 0;
+    }
+
+    /**
+     * Reads and decodes a page from the file. Does not need the lock.
+     *
+     * @param offset the offset of the page.
+     * @param length the length of the page.
+     * @param count  the number of elements of the page.
+     * @return an array of {@code pageSize} positions holding the elements.
+     * @throws IOException if an I/O error occurs or the data is malformed.
+     */
+    private Object[] readPage(long offset, int length, int count) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        long position = offset;
+        while (buffer.hasRemaining()) {
+            int n = channel.read(buffer, position);
+            if (n < 0)
+                throw new IOException("truncated spill file");
+            position += n;
+        }
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(buffer.array()));
+        Object[] elements = new Object[pageSize];
+        for (int i = 0; i < count; i++) {
+            elements[i] = codec.readElement(in);
+        }
+        return elements;
+    }
+
+    /**
+     * Faults in the specified page on behalf of the prefetching thread. The file is read without
+     * the lock; nothing is done if the page has been faulted in or removed since the prefetch was
+     * requested, even if it was spilled again, since the iterator has then gone past it.
+     *
+     * @param page    the page.
+     * @param version the version of the page when the prefetch was requested.
+     */
+    private void prefetch(Page page, int version) {
+        long offset;
+        int length;
+        int count;
+        synchronized (this) {
+            if (closed || !page.live || page.elements != null || page.version != version)
+                return;
+            offset = page.offset;
+            length = page.length;
+            count = page.count;
+        }
+        Object[] elements;
+        try {
+            elements = readPage(offset, length, count);
+        } catch (IOException | RuntimeException e) {
+            // the slot may have been reused by another page: the version check discards it
+            return;
+        }
+        synchronized (this) {
+            if (closed || !page.live || page.elements != null || page.version != version)
+                return;
+            install(page, elements);
+            resident.get(page);
+            try {
+                evict(page);
+            } catch (UncheckedIOException e) {
+                // the next access reports it
+            }
+        }
+    }
+
+    /**
+     * Returns the element at the specified position in this list, faulting in its page if needed.
+     *
+     * @param index index of element to return.
+     * @return the element at the specified position in this list.
+     * @throws IndexOutOfBoundsException if the index is out of range {@code (index < 0 || index >= size())}.
+     * @throws IllegalStateException     if the list has been closed.
+     * @throws UncheckedIOException      if the page cannot be read or another page cannot be spilled.
+     */
+    public synchronized Object get(int index) {
+        ensureOpen();
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException();
+        int p = find(index);
+        return access(pages.get(p))[index - starts[p]];
+    }
+
+    /**
+     * Replaces the element at the specified position in this list with the specified element.
+     *
+     * @param index   index of element to replace.
+     * @param element element to be stored at the specified position.
+     * @return the element previously at the specified position.
+     * @throws IndexOutOfBoundsException if the index is out of range {@code (index < 0 || index >= size())}.
+     * @throws IllegalArgumentException  if no codec accepts the element.
+     * @throws IllegalStateException     if the list has been closed.
+     * @throws UncheckedIOException      if the page cannot be read or another page cannot be spilled.
+     */
+    public synchronized Object set(int index, Object element) {
+        ensureOpen();
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException();
+        long weight = weigh(element);
+        int p = find(index);
+        Page page = pages.get(p);
+        Object[] elements = access(page);
+        Object old = elements[index - starts[p]];
+        elements[index - starts[p]] = element;
+        long delta = weight - HSizeModel.DEFAULT.sizeOf(old);
+        page.weight += delta;
+        residentWeight += delta;
+        page.dirty = true;
+        evict(page);
+        return old;
+    }
+
+    /**
+     * Inserts the specified element at the specified position in this list. If the page of the
+     * position is full, it is split in two first.
+     *
+     * @param index   index at which the specified element is to be inserted.
+     * @param element element to be inserted.
+     * @throws IndexOutOfBoundsException if the index is out of range {@code (index < 0 || index > size())}.
+     * @throws IllegalArgumentException  if no codec accepts the element.
+     * @throws IllegalStateException     if the list has been closed.
+     * @throws UncheckedIOException      if a page cannot be read or spilled.
+     */
+    public synchronized void add(int index, Object element) {
+        ensureOpen();
+        if (index < 0 || index > size)
+            throw new IndexOutOfBoundsException();
+        long weight = weigh(element);
+        int p;
+        int offset;
+        Page page;
+        if (pages.isEmpty() || (index == size && pages.get(pages.size() - 1).count == pageSize)) {
+            p = pages.size();
+            page = newPage(p);
+            offset = 0;
+        } else {
+            p = find(index);
+            page = pages.get(p);
+            offset = index - starts[p];
+            access(page);
+            if (page.count == pageSize) {
+                Page next = split(p);
+                if (offset > page.count) {
+                    offset -= page.count;
+                    p++;
+                    page = next;
+                }
+            }
+        }
+        Object[] elements = access(page);
+        System.arraycopy(elements, offset, elements, offset + 1, page.count - offset);
+        elements[offset] = element;
+        page.count++;
+        page.weight += weight;
+        residentWeight += weight;
+        page.dirty = true;
+        size++;
+        invalidate(p);
+        evict(page);
+    }
+
+    /**
+     * Appends the specified element to the end of this list.
+     *
+     * @param o element to be appended to this list.
+     * @return {@code true}.
+     * @throws IllegalArgumentException if no codec accepts the element.
+     * @throws IllegalStateException    if the list has been closed.
+     * @throws UncheckedIOException     if a page cannot be read or spilled.
+     */
+    public synchronized boolean add(Object o) {
+        add(size, o);
+        return true;
+    }
+
+    /**
+     * Inserts a new empty resident page at the specified position.
+     *
+     * @param p the position of the page.
+     * @return the page.
+     */
+    private Page newPage(int p) {
+        Page page = new Page();
+        page.elements = new Object[pageSize];
+        pages.add(p, page);
+        resident.put(page, page);
+        residentWeight += arrayWeight;
+        invalidate(p - 1);
+        return page;
+    }
+
+    /**
+     * Moves the second half of the specified resident page to a new page that follows it.
+     *
+     * @param p the index of the page.
+     * @return the new page.
+     */
+    private Page split(int p) {
+        Page page = pages.get(p);
+        Page next = newPage(p + 1);
+        int half = page.count / 2;
+        int moved = page.count - half;
+        System.arraycopy(page.elements, half, next.elements, 0, moved);
+        long weight = 0;
+        for (int i = half; i < page.count; i++) {
+            weight += HSizeModel.DEFAULT.sizeOf(page.elements[i]);
+            page.elements[i] = null;
+        }
+        next.count = moved;
+        next.weight = weight;
+        page.count = half;
+        page.weight -= weight;
+        page.dirty = true;
+        invalidate(p);
+        return next;
+    }
+
+    /**
+     * Removes the element at the specified position in this list; a page left empty is removed as well.
+     *
+     * @param index the index of the element to be removed.
+     * @return the element previously at the specified position.
+     * @throws IndexOutOfBoundsException if the index is out of range {@code (index < 0 || index >= size())}.
+     * @throws IllegalStateException     if the list has been closed.
+     * @throws UncheckedIOException      if the page cannot be read or another page cannot be spilled.
+     */
+    public synchronized Object remove(int index) {
+        ensureOpen();
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException();
+        int p = find(index);
+        Page page = pages.get(p);
+        Object[] elements = access(page);
+        int offset = index - starts[p];
+        Object old = elements[offset];
+        System.arraycopy(elements, offset + 1, elements, offset, page.count - offset - 1);
+        elements[--page.count] = null;
+        long weight = HSizeModel.DEFAULT.sizeOf(old);
+        page.weight -= weight;
+        residentWeight -= weight;
+        page.dirty = true;
+        size--;
+        if (page.count == 0) {
+            pages.remove(p);
+            resident.remove(page);
+            residentWeight -= arrayWeight + page.weight;
+            page.live = false;
+            release(page);
+            invalidate(p - 1);
+        } else {
+            invalidate(p);
+        }
+        return old;
+    }
+
+    /**
+     * Removes all the elements from this list and discards the temporary file contents.
+     *
+     * @throws IllegalStateException if the list has been closed.
+     * @throws UncheckedIOException  if the file cannot be truncated.
+     */
+    public synchronized void clear() {
+        ensureOpen();
+        for (int p = 0; p < pages.size(); p++) {
+            pages.get(p).live = false;
+        }
+        pages.clear();
+        resident.clear();
+        residentWeight = 0;
+        validStarts = -1;
+        size = 0;
+        fileEnd = 0;
+        freeSlots.clear();
+        try {
+            channel.truncate(0);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Removes from this list all the elements that are contained in the specified collection,
+     * holding the lock of the list.
+     *
+     * @param c collection that defines which elements will be removed from this list.
+     * @return {@code true} if this list changed as a result of the call.
+     * @throws NullPointerException  if the specified collection is {@code null}.
+     * @throws IllegalStateException if the list has been closed.
+     * @throws UncheckedIOException  if a page cannot be read or spilled.
+     */
+    public synchronized boolean removeAll(HCollection c) {
+        return super.removeAll(c);
+    }
+
+    /**
+     * Retains only the elements in this list that are contained in the specified collection,
+     * holding the lock of the list.
+     *
+     * @param c collection that defines which elements this list will retain.
+     * @return {@code true} if this list changed as a result of the call.
+     * @throws NullPointerException  if the specified collection is {@code null}.
+     * @throws IllegalStateException if the list has been closed.
+     * @throws UncheckedIOException  if a page cannot be read or spilled.
+     */
+    public synchronized boolean retainAll(HCollection c) {
+        return super.retainAll(c);
+    }
+
+    /**
+     * Returns an array containing all the elements in this list. The spilled pages are decoded
+     * directly into the array, without becoming resident.
+     *
+     * @return an array containing all the elements in this list.
+     * @throws IllegalStateException if the list has been closed.
+     * @throws UncheckedIOException  if a page cannot be read.
+     */
+    public synchronized Object[] toArray() {
+        ensureOpen();
+        Object[] a = new Object[size];
+        int k = 0;
+        for (int p = 0; p < pages.size(); p++) {
+            Page page = pages.get(p);
+            Object[] elements = page.elements;
+            if (elements == null) {
+                try {
+                    elements = readPage(page.offset, page.length, page.count);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+            System.arraycopy(elements, 0, a, k, page.count);
+            k += page.count;
+        }
+        return a;
+    }
+
+    /**
+     * Returns an iterator that reads the pages in order and prefetches the page that follows the current one.
+     *
+     * @return an iterator over the elements in this list in proper sequence.
+     */
+    public HIterator iterator() {
+        return new PrefetchingIterator();
+    }
+
+    /**
+     * Stops the prefetching thread and deletes the temporary file. Closing a closed list has no effect.
+     *
+     * @throws IOException if the file cannot be closed.
+     */
+    public void close() throws IOException {
+        synchronized (this) {
+            if (closed)
+                return;
+            closed = true;
+            pages.clear();
+            resident.clear();
+        }
+        prefetcher.shutdownNow();
+        channel.close();
+    }
+
+    /**
+     * Private class that iterates over the elements by index and, whenever it enters a page,
+     * schedules the prefetch of the next one if it is spilled.
+     */
+    private class PrefetchingIterator implements HIterator {
+        /**
+         * The index of the next element.
+         */
+        private int cursor;
+
+        /**
+         * The index of the last element returned, or -1.
+         */
+        private int lastRet = -1;
+
+        /**
+         * The page of the last element returned, or {@code null}.
+         */
+        private Page current;
+
+        public boolean hasNext() {
+            return cursor < size();
+        }
+
+        /**
+         * Returns the next element.
+         *
+         * @return the next element.
+         * @throws NoSuchElementException if the iteration has no next element.
+         * @throws UncheckedIOException   if a page cannot be read or spilled.
+         */
+        public Object next() {
+            synchronized (SpillingHList.this) {
+                ensureOpen();
+                if (cursor >= size)
+                    throw new NoSuchElementException();
+                int p = find(cursor);
+                Page page = pages.get(p);
+                Object o = access(page)[cursor - starts[p]];
+                if (page != current) {
+                    current = page;
+                    if (p + 1 < pages.size()) {
+                        Page next = pages.get(p + 1);
+                        int version = next.version;
+                        if (next.elements == null)
+                            prefetcher.execute(() -> prefetch(next, version));
+                    }
+                }
+                lastRet = cursor++;
+                return o;
+            }
+        }
+
+        /**
+         * Removes the last element returned from the list.
+         *
+         * @throws myAdapter.IllegalStateException if {@code next} has not been called since the last {@code remove}.
+         */
+        public void remove() {
+            if (lastRet < 0)
+                throw new myAdapter.IllegalStateException();
+            SpillingHList.this.remove(lastRet);
+            cursor = lastRet;
+            lastRet = -1;
+            current = null;
+        }
+    }
+}
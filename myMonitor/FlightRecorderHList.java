@@ -0,0 +1,441 @@
+package myMonitor;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+import myAdapter.HCollection;
+import myAdapter.HIterator;
+import myAdapter.HList;
+import myAdapter.HListIterator;
+
+/**
+ * <p>
+ * A decorator that makes the expensive operations of any {@link HList} visible to Java Flight
+ * Recorder. The operations that shift, remove in bulk, scan or print many elements emit a custom
+ * event, which carries the size of the list, the number of elements shifted, removed or scanned,
+ * and the duration of the call, together with the stack trace of the caller:
+ * </p>
+ * <ul>
+ * <li>{@code myMonitor.ListShift}: {@code add(int, Object)}, {@code remove(int)} and {@code addAll(int, HCollection)};</li>
+ * <li>{@code myMonitor.ListBulkRemove}: {@code removeAll}, {@code retainAll} and {@code clear};</li>
+ * <li>{@code myMonitor.ListScan}: {@code contains}, {@code indexOf}, {@code lastIndexOf}, {@code containsAll},
+ * {@code equals}, {@code hashCode} and {@code toArray};</li>
+ * <li>{@code myMonitor.ListToString}: {@code toString}.</li>
+ * </ul>
+ * <p>
+ * An event is committed when its range reaches the minimum number of elements of the decorator
+ * and its duration reaches the threshold of its type, 1 ms unless the recording sets another one,
+ * as with {@code jdk.jfr.Recording.enable(name).withThreshold(duration)} or a {@code .jfc} file.
+ * When no recording enables the type of an operation, the call is passed to the decorated list
+ * without creating an event or reading the clock.
+ * </p>
+ * <p>
+ * While the scan events are enabled, {@code contains} is answered by the {@code indexOf} of the
+ * decorated list, so that the elements scanned are known. The other operations are passed to the
+ * decorated list unchanged. The subLists of this list are decorated with the same minimum. The
+ * decorator is as thread-safe as the decorated list.
+ * </p>
+ */
+public class FlightRecorderHList implements HList {
+
+    /**
+     * The default minimum number of elements of the range of an event.
+     */
+    public static final int DEFAULT_MIN_ELEMENTS = 1024;
+
+    /**
+     * The fields common to the events of the lists.
+     */
+    @Category("HList")
+    @Threshold("1 ms")
+    abstract static class ListEvent extends Event {
+        /**
+         * The operation.
+         */
+        @Label("Operation")
+        String operation;
+
+        /**
+         * The size of the list when the operation starts.
+         */
+        @Label("List Size")
+        int listSize;
+
+        /**
+         * The number of elements shifted, removed or scanned.
+         */
+        @Label("Range Length")
+        int rangeLength;
+    }
+
+    /**
+     * An insertion or removal at an index, which shifts the elements after it.
+     */
+    @Name("myMonitor.ListShift")
+    @Label("List Shift")
+    @Description("An insertion or removal that shifts the elements after its index")
+    public static final class ShiftEvent extends ListEvent {
+    }
+
+    /**
+     * A removal of many elements.
+     */
+    @Name("myMonitor.ListBulkRemove")
+    @Label("List Bulk Remove")
+    @Description("A removeAll, retainAll or clear of a list; the range is the number of elements removed")
+    public static final class BulkRemoveEvent extends ListEvent {
+    }
+
+    /**
+     * A search or traversal of the elements.
+     */
+    @Name("myMonitor.ListScan")
+    @Label("List Scan")
+    @Description("A search or traversal of a list; the range is the number of elements scanned")
+    public static final class ScanEvent extends ListEvent {
+    }
+
+    /**
+     * A conversion of the list to a string.
+     */
+    @Name("myMonitor.ListToString")
+    @Label("List To String")
+    @Description("A conversion of a list to a string; the range is the number of elements printed")
+    public static final class ToStringEvent extends ListEvent {
+    }
+
+    /**
+     * The type of the shift events.
+     */
+    private static final EventType SHIFT = EventType.getEventType(ShiftEvent.class);
+
+    /**
+     * The type of the bulk removal events.
+     */
+    private static final EventType BULK_REMOVE = EventType.getEventType(BulkRemoveEvent.class);
+
+    /**
+     * The type of the scan events.
+     */
+    private static final EventType SCAN = EventType.getEventType(ScanEvent.class);
+
+    /**
+     * The type of the toString events.
+     */
+    private static final EventType TO_STRING = EventType.getEventType(ToStringEvent.class);
+
+    /**
+     * The decorated list.
+     */
+    private final HList list;
+
+    /**
+     * The minimum number of elements of the range of an event.
+     */
+    private final int minElements;
+
+    /**
+     * Constructs a decorator with the default minimum of {@value #DEFAULT_MIN_ELEMENTS} elements.
+     *
+     * @param list the list to decorate.
+     * @throws NullPointerException if the list is {@code null}.
+     */
+    public FlightRecorderHList(HList list) {
+        this(list, DEFAULT_MIN_ELEMENTS);
+    }
+
+    /**
+     * Constructs a decorator that emits events only for the ranges of at least the specified number of elements.
+     *
+     * @param list        the list to decorate.
+     * @param minElements the minimum number of elements shifted, removed or scanned.
+     * @throws NullPointerException     if the list is {@code null}.
+     * @throws IllegalArgumentException if the minimum is negative.
+     */
+    public FlightRecorderHList(HList list, int minElements) {
+        if (list == null)
+            throw new NullPointerException();
+        if (minElements < 0)
+            throw new IllegalArgumentException("Minimum elements: " + minElements);
+        this.list = list;
+        this.minElements = minElements;
+    }
+
+    /**
+     * Returns the decorated list.
+     *
+     * @return the list.
+     */
+    public HList delegate() {
+        return list;
+    }
+
+    /**
+     * Ends the specified event and commits it if its range and its duration reach their thresholds.
+     *
+     * @param event       the event, begun before the operation.
+     * @param operation   the name of the operation.
+     * @param listSize    the size of the list when the operation started.
+     * @param rangeLength the number of elements shifted, removed or scanned.
+     */
+    private void commit(ListEvent event, String operation, int listSize, int rangeLength) {
+        event.end();
+        if (rangeLength >= minElements && event.shouldCommit()) {
+            event.operation = operation;
+            event.listSize = listSize;
+            event.rangeLength = rangeLength;
+            event.commit();
+        }
+    }
+
+    public int size() {
+        return list.size();
+    }
+
+    public boolean isEmpty() {
+        return list.isEmpty();
+    }
+
+    public boolean contains(Object o) {
+        if (!SCAN.isEnabled())
+            return list.contains(o);
+        ScanEvent event = new ScanEvent();
+        event.begin();
+        int i = list.indexOf(o);
+        int n = list.size();
+        commit(event, "contains", n, i < 0 ? n : i + 1);
+        return i >= 0;
+    }
+
+    public HIterator iterator() {
+        return list.iterator();
+    }
+
+    public Object[] toArray() {
+        if (!SCAN.isEnabled())
+            return list.toArray();
+        ScanEvent event = new ScanEvent();
+        event.begin();
+        Object[] a = list.toArray();
+        commit(event, "toArray", a.length, a.length);
+        return a;
+    }
+
+    public Object[] toArray(Object[] a) {
+        if (!SCAN.isEnabled())
+            return list.toArray(a);
+        ScanEvent event = new ScanEvent();
+        event.begin();
+        a = list.toArray(a);
+        int n = list.size();
+        commit(event, "toArray", n, n);
+        return a;
+    }
+
+    public boolean add(Object o) {
+        return list.add(o);
+    }
+
+    public boolean remove(Object o) {
+        if (!SCAN.isEnabled())
+            return list.remove(o);
+        ScanEvent event = new ScanEvent();
+        event.begin();
+        int n = list.size();
+        boolean removed = list.remove(o);
+        commit(event, "remove", n, n);
+        return removed;
+    }
+
+    public boolean containsAll(HCollection c) {
+        if (!SCAN.isEnabled())
+            return list.containsAll(c);
+        ScanEvent event = new ScanEvent();
+        event.begin();
+        boolean result = list.containsAll(c);
+        int n = list.size();
+        commit(event, "containsAll", n, (int) Math.min((long) c.size() * n, Integer.MAX_VALUE));
+        return result;
+    }
+
+    public boolean addAll(HCollection c) {
+        return list.addAll(c);
+    }
+
+    public boolean addAll(int index, HCollection c) {
+        if (!SHIFT.isEnabled())
+            return list.addAll(index, c);
+        int n = list.size();
+        ShiftEvent event = new ShiftEvent();
+        event.begin();
+        boolean result = list.addAll(index, c);
+        commit(event, "addAll-at", n, n - index);
+        return result;
+    }
+
+    public boolean removeAll(HCollection c) {
+        if (!BULK_REMOVE.isEnabled())
+            return list.removeAll(c);
+        int n = list.size();
+        BulkRemoveEvent event = new BulkRemoveEvent();
+        event.begin();
+        boolean result = list.removeAll(c);
+        commit(event, "removeAll", n, n - list.size());
+        return result;
+    }
+
+    public boolean retainAll(HCollection c) {
+        if (!BULK_REMOVE.isEnabled())
+            return list.retainAll(c);
+        int n = list.size();
+        BulkRemoveEvent event = new BulkRemoveEvent();
+        event.begin();
+        boolean result = list.retainAll(c);
+        commit(event, "retainAll", n, n - list.size());
+        return result;
+    }
+
+    public void clear() {
+        if (!BULK_REMOVE.isEnabled()) {
+            list.clear();
+            return;
+        }
+        int n = list.size();
+        BulkRemoveEvent event = new BulkRemoveEvent();
+        event.begin();
+        list.clear();
+        commit(event, "clear", n, n);
+    }
+
+    /**
+     * Compares the specified object with the decorated list for equality.
+     *
+     * @param o the object to be compared for equality with this list.
+     * @return {@code true} if the object is this decorator or is equal to the decorated list.
+     */
+    public boolean equals(Object o) {
+        if (o == this)
+            return true;
+        if (!SCAN.isEnabled())
+            return list.equals(o);
+        ScanEvent event = new ScanEvent();
+        event.begin();
+        boolean result = list.equals(o);
+        int n = list.size();
+        commit(event, "equals", n, n);
+        return result;
+    }
+
+    /**
+     * Returns the hash code of the decorated list.
+     *
+     * @return the hash code.
+     */
+    public int hashCode() {
+        if (!SCAN.isEnabled())
+            return list.hashCode();
+        ScanEvent event = new ScanEvent();
+        event.begin();
+        int h = list.hashCode();
+        int n = list.size();
+        commit(event, "hashCode", n, n);
+        return h;
+    }
+
+    /**
+     * Returns the string representation of the decorated list.
+     *
+     * @return the string.
+     */
+    public String toString() {
+        if (!TO_STRING.isEnabled())
+            return list.toString();
+        ToStringEvent event = new ToStringEvent();
+        event.begin();
+        String s = list.toString();
+        int n = list.size();
+        commit(event, "toString", n, n);
+        return s;
+    }
+
+    public Object get(int index) {
+        return list.get(index);
+    }
+
+    public Object set(int index, Object element) {
+        return list.set(index, element);
+    }
+
+    public void add(int index, Object element) {
+        if (!SHIFT.isEnabled()) {
+            list.add(index, element);
+            return;
+        }
+        int n = list.size();
+        ShiftEvent event = new ShiftEvent();
+        event.begin();
+        list.add(index, element);
+        commit(event, "add-at", n, n - index);
+    }
+
+    public Object remove(int index) {
+        if (!SHIFT.isEnabled())
+            return list.remove(index);
+        int n = list.size();
+        ShiftEvent event = new ShiftEvent();
+        event.begin();
+        Object removed = list.remove(index);
+        commit(event, "remove-at", n, n - index - 1);
+        return removed;
+    }
+
+    public int indexOf(Object o) {
+        if (!SCAN.isEnabled())
+            return list.indexOf(o);
+        ScanEvent event = new ScanEvent();
+        event.begin();
+        int i = list.indexOf(o);
+        int n = list.size();
+        commit(event, "indexOf", n, i < 0 ? n : i + 1);
+        return i;
+    }
+
+    public int lastIndexOf(Object o) {
+        if (!SCAN.isEnabled())
+            return list.lastIndexOf(o);
+        ScanEvent event = new ScanEvent();
+        event.begin();
+        int i = list.lastIndexOf(o);
+        int n = list.size();
+        commit(event, "lastIndexOf", n, i < 0 ? n : n - i);
+        return i;
+    }
+
+    public HListIterator listIterator() {
+        return list.listIterator();
+    }
+
+    public HListIterator listIterator(int index) {
+        return list.listIterator(index);
+    }
+
+    /**
+     * Returns a decorator of the view of the specified range of the decorated list, with the minimum of this one.
+     *
+     * @param fromIndex low endpoint (inclusive) of the subList.
+     * @param toIndex   high endpoint (exclusive) of the subList.
+     * @return the decorated view.
+     * @throws IndexOutOfBoundsException if the endpoints are out of range for the decorated list.
+     */
+    public HList subList(int fromIndex, int toIndex) {
+        return new FlightRecorderHList(list.subList(fromIndex, toIndex), minElements);
+    }
+
+    public HIterator[] partition(int n) {
+        return list.partition(n);
+    }
+}
@@ -0,0 +1,290 @@
+package myMonitor;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>
+ * The counters of the operations made on one or more lists: for every operation, the number of
+ * calls, the number of elements scanned or moved, and a {@link LatencyHistogram} of the duration
+ * of the calls. The histogram of an operation is allocated at its first timed call, so an
+ * operation that is never made costs only its two counters.
+ * </p>
+ * <p>
+ * Every call is counted, but only one call in {@link #sampleInterval()} is timed, on average:
+ * reading the clock is the most expensive part of the accounting, and the distribution of a
+ * sample is enough for a dashboard. The counters are {@link LongAdder}s, which the threads update
+ * in cells of their own, and each call draws from the random generator of its thread whether it
+ * is timed, so the threads that share the counters of a list do not contend on them. The
+ * methods are thread-safe.
+ * </p>
+ */
+public class HListMetrics {
+
+    /**
+     * {@code get(int)}.
+     */
+    public static final int GET = 0;
+
+    /**
+     * {@code set(int, Object)}.
+     */
+    public static final int SET = 1;
+
+    /**
+     * {@code add(Object)}.
+     */
+    public static final int ADD = 2;
+
+    /**
+     * {@code add(int, Object)}.
+     */
+    public static final int ADD_AT = 3;
+
+    /**
+     * {@code remove(int)}.
+     */
+    public static final int REMOVE_AT = 4;
+
+    /**
+     * {@code remove(Object)}.
+     */
+    public static final int REMOVE = 5;
+
+    /**
+     * {@code contains(Object)}.
+     */
+    public static final int CONTAINS = 6;
+
+    /**
+     * {@code indexOf(Object)}.
+     */
+    public static final int INDEX_OF = 7;
+
+    /**
+     * {@code lastIndexOf(Object)}.
+     */
+    public static final int LAST_INDEX_OF = 8;
+
+    /**
+     * {@code iterator()} and {@code listIterator}.
+     */
+    public static final int ITERATOR = 9;
+
+    /**
+     * {@code subList(int, int)}.
+     */
+    public static final int SUB_LIST = 10;
+
+    /**
+     * {@code size()} and {@code isEmpty()}.
+     */
+    public static final int SIZE = 11;
+
+    /**
+     * {@code addAll}.
+     */
+    public static final int ADD_ALL = 12;
+
+    /**
+     * {@code removeAll}, {@code retainAll} and {@code clear}.
+     */
+    public static final int REMOVE_ALL = 13;
+
+    /**
+     * {@code containsAll}.
+     */
+    public static final int CONTAINS_ALL = 14;
+
+    /**
+     * {@code toArray}, {@code equals}, {@code hashCode} and {@code toString}.
+     */
+    public static final int TRAVERSE = 15;
+
+    /**
+     * The names of the operations, as they are exported.
+     */
+    private static final String[] NAMES = {"get", "set", "add", "add-at", "remove-at", "remove", "contains",
+            "indexOf", "lastIndexOf", "iterator", "subList", "size", "addAll", "removeAll", "containsAll", "traverse"};
+
+    /**
+     * The number of operations.
+     */
+    public static final int OPERATIONS = NAMES.length;
+
+    /**
+     * The value returned by {@link #start(int)} for a call that is not timed.
+     */
+    static final long UNTIMED = Long.MIN_VALUE;
+
+    /**
+     * The number of calls of every operation.
+     */
+    private final LongAdder[] calls = new LongAdder[OPERATIONS];
+
+    /**
+     * The number of elements scanned or moved by every operation.
+     */
+    private final LongAdder[] scanned = new LongAdder[OPERATIONS];
+
+    /**
+     * The histogram of every operation, or {@code null} until its first timed call.
+     */
+    private final AtomicReferenceArray<LatencyHistogram> latencies = new AtomicReferenceArray<LatencyHistogram>(OPERATIONS);
+
+    /**
+     * One less than the sample interval, which is a power of two.
+     */
+    private final long sampleMask;
+
+    /**
+     * Constructs the counters of a list that times every call.
+     */
+    public HListMetrics() {
+        this(1);
+    }
+
+    /**
+     * Constructs the counters of a list that times one call in the specified number, rounded up to a power of two.
+     *
+     * @param sampleInterval the number of calls of an operation for each one that is timed.
+     * @throws IllegalArgumentException if the interval is not positive or greater than 2<sup>30</sup>.
+     */
+    public HListMetrics(int sampleInterval) {
+        if (sampleInterval < 1 || sampleInterval > 1 << 30)
+            throw new IllegalArgumentException("Sample interval: " + sampleInterval);
+        sampleMask = Integer.highestOneBit(sampleInterval * 2 - 1) - 1;
+        for (int i = 0; i < OPERATIONS; i++) {
+            calls[i] = new LongAdder();
+            scanned[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Returns the name of the specified operation.
+     *
+     * @param operation the operation.
+     * @return the name.
+     */
+    public static String nameOf(int operation) {
+        return NAMES[operation];
+    }
+
+    /**
+     * Returns the number of calls of an operation for each one that is timed.
+     *
+     * @return the interval, a power of two.
+     */
+    public int sampleInterval() {
+        return (int) sampleMask + 1;
+    }
+
+    /**
+     * Counts a call of the specified operation and, if the call is drawn to be timed, reads the clock.
+     *
+     * @param operation the operation.
+     * @return the time the call starts, or {@link #UNTIMED}.
+     */
+    long start(int operation) {
+        calls[operation].increment();
+        if (sampleMask != 0 && (ThreadLocalRandom.current().nextInt() & sampleMask) != 0)
+            return UNTIMED;
+        return System.nanoTime();
+    }
+
+    /**
+     * Records the duration of a call, if it is timed.
+     *
+     * @param operation the operation.
+     * @param start     the value returned by {@link #start(int)} for the call.
+     */
+    void stop(int operation, long start) {
+        if (start != UNTIMED)
+            record(operation, System.nanoTime() - start);
+    }
+
+    /**
+     * Counts the elements scanned or moved by a call of the specified operation.
+     *
+     * @param operation the operation.
+     * @param elements  the number of elements.
+     */
+    void scan(int operation, long elements) {
+        if (elements > 0)
+            scanned[operation].add(elements);
+    }
+
+    /**
+     * Records the duration of a call of the specified operation.
+     *
+     * @param operation the operation.
+     * @param nanos     the duration.
+     */
+    private void record(int operation, long nanos) {
+        LatencyHistogram h = latencies.get(operation);
+        if (h == null) {
+            latencies.compareAndSet(operation, null, new LatencyHistogram());
+            h = latencies.get(operation);
+        }
+        h.record(nanos);
+    }
+
+    /**
+     * Returns the number of calls of the specified operation.
+     *
+     * @param operation the operation.
+     * @return the number of calls.
+     */
+    public long calls(int operation) {
+        return calls[operation].sum();
+    }
+
+    /**
+     * Returns the number of elements scanned or moved by the specified operation.
+     *
+     * @param operation the operation.
+     * @return the number of elements.
+     */
+    public long scanned(int operation) {
+        return scanned[operation].sum();
+    }
+
+    /**
+     * Returns a snapshot of the counters of the operations that have been called.
+     *
+     * @return the snapshot.
+     */
+    public MetricsSnapshot snapshot() {
+        long[] c = new long[OPERATIONS];
+        int n = 0;
+        for (int i = 0; i < OPERATIONS; i++) {
+            c[i] = calls[i].sum();
+            if (c[i] != 0)
+                n++;
+        }
+        MetricsSnapshot.Row[] rows = new MetricsSnapshot.Row[n];
+        n = 0;
+        for (int i = 0; i < OPERATIONS; i++) {
+            if (c[i] != 0) {
+                LatencyHistogram h = latencies.get(i);
+                rows[n++] = new MetricsSnapshot.Row(NAMES[i], c[i], scanned[i].sum(),
+                        h == null ? new LatencyHistogram() : h.copy());
+            }
+        }
+        return new MetricsSnapshot(rows, sampleInterval());
+    }
+
+    /**
+     * Sets all the counters to 0.
+     */
+    public void reset() {
+        for (int i = 0; i < OPERATIONS; i++) {
+            calls[i].reset();
+            scanned[i].reset();
+            LatencyHistogram h = latencies.get(i);
+            if (h != null)
+                h.reset();
+        }
+    }
+}
@@ -0,0 +1,427 @@
+package myMonitor;
+
+import myAdapter.HCollection;
+import myAdapter.HIterator;
+import myAdapter.HList;
+import myAdapter.HListIterator;
+
+/**
+ * <p>
+ * A decorator that counts the operations made on any {@link HList}. Every call is passed to the
+ * decorated list, and is counted by an {@link HListMetrics}: the number of calls of the operation,
+ * the number of elements it scanned or moved, and, for one call in the sample interval, its
+ * duration. The counters can be read at any time with {@link #snapshot()} and exported as JSON or
+ * as a table.
+ * </p>
+ * <p>
+ * The elements scanned or moved are derived from the results, as an array list would do the work:
+ * {@code indexOf} scans up to the element found, or the whole list; {@code add(int, Object)} and
+ * {@code remove(int)} move the elements after the index; the bulk operations and the traversals
+ * visit every element, and {@code containsAll} looks up every element of the collection.
+ * {@code contains} is answered by the {@code indexOf} of the decorated list,
+ * so that the position of the element is known.
+ * </p>
+ * <p>
+ * A call costs two atomic increments, plus two readings of the clock when it is timed, so the
+ * decorator can stay in production with a sample interval of 16 or more. The subLists of this
+ * list are decorated too and count their operations in the same metrics; the iterators are those
+ * of the decorated list, and only their creation is counted. The decorator is as thread-safe as
+ * the decorated list.
+ * </p>
+ */
+public class InstrumentedHList implements HList {
+
+    /**
+     * The decorated list.
+     */
+    private final HList list;
+
+    /**
+     * The counters of the operations.
+     */
+    private final HListMetrics metrics;
+
+    /**
+     * Constructs a decorator that times every call.
+     *
+     * @param list the list to decorate.
+     * @throws NullPointerException if the list is {@code null}.
+     */
+    public InstrumentedHList(HList list) {
+        this(list, new HListMetrics());
+    }
+
+    /**
+     * Constructs a decorator that times one call in the specified number.
+     *
+     * @param list           the list to decorate.
+     * @param sampleInterval the number of calls of an operation for each one that is timed.
+     * @throws NullPointerException     if the list is {@code null}.
+     * @throws IllegalArgumentException if the interval is not valid for {@link HListMetrics#HListMetrics(int)}.
+     */
+    public InstrumentedHList(HList list, int sampleInterval) {
+        this(list, new HListMetrics(sampleInterval));
+    }
+
+    /**
+     * Constructs a decorator that counts the operations in the specified metrics, which may be shared with other lists.
+     *
+     * @param list    the list to decorate.
+     * @param metrics the counters.
+     * @throws NullPointerException if the list or the metrics are {@code null}.
+     */
+    public InstrumentedHList(HList list, HListMetrics metrics) {
+        if (list == null || metrics == null)
+            throw new NullPointerException();
+        this.list = list;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Returns the counters of the operations of this list.
+     *
+     * @return the metrics.
+     */
+    public HListMetrics metrics() {
+        return metrics;
+    }
+
+    /**
+     * Returns a snapshot of the counters of the operations of this list.
+     *
+     * @return the snapshot.
+     */
+    public MetricsSnapshot snapshot() {
+        return metrics.snapshot();
+    }
+
+    /**
+     * Returns the decorated list.
+     *
+     * @return the list.
+     */
+    public HList delegate() {
+        return list;
+    }
+
+    public int size() {
+        long start = metrics.start(HListMetrics.SIZE);
+        try {
+            return list.size();
+        } finally {
+            metrics.stop(HListMetrics.SIZE, start);
+        }
+    }
+
+    public boolean isEmpty() {
+        long start = metrics.start(HListMetrics.SIZE);
+        try {
+            return list.isEmpty();
+        } finally {
+            metrics.stop(HListMetrics.SIZE, start);
+        }
+    }
+
+    public boolean contains(Object o) {
+        long start = metrics.start(HListMetrics.CONTAINS);
+        int i;
+        try {
+            i = list.indexOf(o);
+        } finally {
+            metrics.stop(HListMetrics.CONTAINS, start);
+        }
+        metrics.scan(HListMetrics.CONTAINS, i < 0 ? list.size() : i + 1);
+        return i >= 0;
+    }
+
+    public HIterator iterator() {
+        long start = metrics.start(HListMetrics.ITERATOR);
+        try {
+            return list.iterator();
+        } finally {
+            metrics.stop(HListMetrics.ITERATOR, start);
+        }
+    }
+
+    public Object[] toArray() {
+        long start = metrics.start(HListMetrics.TRAVERSE);
+        Object[] a;
+        try {
+            a = list.toArray();
+        } finally {
+            metrics.stop(HListMetrics.TRAVERSE, start);
+        }
+        metrics.scan(HListMetrics.TRAVERSE, a.length);
+        return a;
+    }
+
+    public Object[] toArray(Object[] a) {
+        long start = metrics.start(HListMetrics.TRAVERSE);
+        try {
+            a = list.toArray(a);
+        } finally {
+            metrics.stop(HListMetrics.TRAVERSE, start);
+        }
+        metrics.scan(HListMetrics.TRAVERSE, list.size());
+        return a;
+    }
+
+    public boolean add(Object o) {
+        long start = metrics.start(HListMetrics.ADD);
+        try {
+            return list.add(o);
+        } finally {
+            metrics.stop(HListMetrics.ADD, start);
+        }
+    }
+
+    public boolean remove(Object o) {
+        long start = metrics.start(HListMetrics.REMOVE);
+        boolean removed;
+        try {
+            removed = list.remove(o);
+        } finally {
+            metrics.stop(HListMetrics.REMOVE, start);
+        }
+        metrics.scan(HListMetrics.REMOVE, removed ? list.size() + 1 : list.size());
+        return removed;
+    }
+
+    public boolean containsAll(HCollection c) {
+        long start = metrics.start(HListMetrics.CONTAINS_ALL);
+        boolean result;
+        try {
+            result = list.containsAll(c);
+        } finally {
+            metrics.stop(HListMetrics.CONTAINS_ALL, start);
+        }
+        metrics.scan(HListMetrics.CONTAINS_ALL, c.size());
+        return result;
+    }
+
+    public boolean addAll(HCollection c) {
+        long start = metrics.start(HListMetrics.ADD_ALL);
+        boolean result;
+        try {
+            result = list.addAll(c);
+        } finally {
+            metrics.stop(HListMetrics.ADD_ALL, start);
+        }
+        metrics.scan(HListMetrics.ADD_ALL, c.size());
+        return result;
+    }
+
+    public boolean addAll(int index, HCollection c) {
+        int before = list.size();
+        long start = metrics.start(HListMetrics.ADD_ALL);
+        boolean result;
+        try {
+            result = list.addAll(index, c);
+        } finally {
+            metrics.stop(HListMetrics.ADD_ALL, start);
+        }
+        metrics.scan(HListMetrics.ADD_ALL, c.size() + Math.max(before - index, 0));
+        return result;
+    }
+
+    public boolean removeAll(HCollection c) {
+        int before = list.size();
+        long start = metrics.start(HListMetrics.REMOVE_ALL);
+        boolean result;
+        try {
+            result = list.removeAll(c);
+        } finally {
+            metrics.stop(HListMetrics.REMOVE_ALL, start);
+        }
+        metrics.scan(HListMetrics.REMOVE_ALL, before);
+        return result;
+    }
+
+    public boolean retainAll(HCollection c) {
+        int before = list.size();
+        long start = metrics.start(HListMetrics.REMOVE_ALL);
+        boolean result;
+        try {
+            result = list.retainAll(c);
+        } finally {
+            metrics.stop(HListMetrics.REMOVE_ALL, start);
+        }
+        metrics.scan(HListMetrics.REMOVE_ALL, before);
+        return result;
+    }
+
+    public void clear() {
+        int before = list.size();
+        long start = metrics.start(HListMetrics.REMOVE_ALL);
+        try {
+            list.clear();
+        } finally {
+            metrics.stop(HListMetrics.REMOVE_ALL, start);
+        }
+        metrics.scan(HListMetrics.REMOVE_ALL, before);
+    }
+
+    /**
+     * Compares the specified object with the decorated list for equality.
+     *
+     * @param o the object to be compared for equality with this list.
+     * @return {@code true} if the object is this decorator or is equal to the decorated list.
+     */
+    public boolean equals(Object o) {
+        if (o == this)
+            return true;
+        long start = metrics.start(HListMetrics.TRAVERSE);
+        boolean result;
+        try {
+            result = list.equals(o);
+        } finally {
+            metrics.stop(HListMetrics.TRAVERSE, start);
+        }
+        metrics.scan(HListMetrics.TRAVERSE, list.size());
+        return result;
+    }
+
+    /**
+     * Returns the hash code of the decorated list.
+     *
+     * @return the hash code.
+     */
+    public int hashCode() {
+        long start = metrics.start(HListMetrics.TRAVERSE);
+        int result;
+        try {
+            result = list.hashCode();
+        } finally {
+            metrics.stop(HListMetrics.TRAVERSE, start);
+        }
+        metrics.scan(HListMetrics.TRAVERSE, list.size());
+        return result;
+    }
+
+    /**
+     * Returns the string representation of the decorated list.
+     *
+     * @return the string.
+     */
+    public String toString() {
+        long start = metrics.start(HListMetrics.TRAVERSE);
+        String result;
+        try {
+            result = list.toString();
+        } finally {
+            metrics.stop(HListMetrics.TRAVERSE, start);
+        }
+        metrics.scan(HListMetrics.TRAVERSE, list.size());
+        return result;
+    }
+
+    public Object get(int index) {
+        long start = metrics.start(HListMetrics.GET);
+        try {
+            return list.get(index);
+        } finally {
+            metrics.stop(HListMetrics.GET, start);
+        }
+    }
+
+    public Object set(int index, Object element) {
+        long start = metrics.start(HListMetrics.SET);
+        try {
+            return list.set(index, element);
+        } finally {
+            metrics.stop(HListMetrics.SET, start);
+        }
+    }
+
+    public void add(int index, Object element) {
+        long start = metrics.start(HListMetrics.ADD_AT);
+        try {
+            list.add(index, element);
+        } finally {
+            metrics.stop(HListMetrics.ADD_AT, start);
+        }
+        metrics.scan(HListMetrics.ADD_AT, list.size() - 1 - index);
+    }
+
+    public Object remove(int index) {
+        long start = metrics.start(HListMetrics.REMOVE_AT);
+        Object removed;
+        try {
+            removed = list.remove(index);
+        } finally {
+            metrics.stop(HListMetrics.REMOVE_AT, start);
+        }
+        metrics.scan(HListMetrics.REMOVE_AT, list.size() - index);
+        return removed;
+    }
+
+    public int indexOf(Object o) {
+        long start = metrics.start(HListMetrics.INDEX_OF);
+        int i;
+        try {
+            i = list.indexOf(o);
+        } finally {
+            metrics.stop(HListMetrics.INDEX_OF, start);
+        }
+        metrics.scan(HListMetrics.INDEX_OF, i < 0 ? list.size() : i + 1);
+        return i;
+    }
+
+    public int lastIndexOf(Object o) {
+        long start = metrics.start(HListMetrics.LAST_INDEX_OF);
+        int i;
+        try {
+            i = list.lastIndexOf(o);
+        } finally {
+            metrics.stop(HListMetrics.LAST_INDEX_OF, start);
+        }
+        int n = list.size();
+        metrics.scan(HListMetrics.LAST_INDEX_OF, i < 0 ? n : n - i);
+        return i;
+    }
+
+    public HListIterator listIterator() {
+        long start = metrics.start(HListMetrics.ITERATOR);
+        try {
+            return list.listIterator();
+        } finally {
+            metrics.stop(HListMetrics.ITERATOR, start);
+        }
+    }
+
+    public HListIterator listIterator(int index) {
+        long start = metrics.start(HListMetrics.ITERATOR);
+        try {
+            return list.listIterator(index);
+        } finally {
+            metrics.stop(HListMetrics.ITERATOR, start);
+        }
+    }
+
+    /**
+     * Returns a decorator of the view of the specified range of the decorated list, which counts
+     * its operations in the metrics of this list.
+     *
+     * @param fromIndex low endpoint (inclusive) of the subList.
+     * @param toIndex   high endpoint (exclusive) of the subList.
+     * @return the decorated view.
+     * @throws IndexOutOfBoundsException if the endpoints are out of range for the decorated list.
+     */
+    public HList subList(int fromIndex, int toIndex) {
+        long start = metrics.start(HListMetrics.SUB_LIST);
+        try {
+            return new InstrumentedHList(list.subList(fromIndex, toIndex), metrics);
+        } finally {
+            metrics.stop(HListMetrics.SUB_LIST, start);
+        }
+    }
+
+    public HIterator[] partition(int n) {
+        long start = metrics.start(HListMetrics.ITERATOR);
+        try {
+            return list.partition(n);
+        } finally {
+            metrics.stop(HListMetrics.ITERATOR, start);
+        }
+    }
+}
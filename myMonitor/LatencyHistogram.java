@@ -0,0 +1,206 @@
+package myMonitor;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * <p>
+ * A histogram of latencies in nanoseconds, with buckets of logarithmic width in the manner of
+ * HdrHistogram. The values below {@value #SUB_BUCKETS} have a bucket each; above, every power of
+ * two is split into {@value #SUB_BUCKETS} buckets of equal width, so a value is known within
+ * 1/{@value #SUB_BUCKETS} of itself at any magnitude, from one nanosecond to centuries, in a fixed
+ * array of {@value #BUCKETS} counters.
+ * </p>
+ * <p>
+ * Recording is thread-safe and wait-free except for the update of the maximum, which retries only
+ * while the value recorded is a new maximum. The queries read the counters one at a time: while
+ * values are being recorded they may see some of them and not others, so the queries should be
+ * made on a {@link #copy()}.
+ * </p>
+ */
+public class LatencyHistogram {
+
+    /**
+     * The number of bits of a value kept exactly after its highest bit.
+     */
+    private static final int SUB_BITS = 4;
+
+    /**
+     * The number of buckets into which every power of two is split.
+     */
+    public static final int SUB_BUCKETS = 1 << SUB_BITS;
+
+    /**
+     * The number of buckets.
+     */
+    public static final int BUCKETS = (64 - SUB_BITS) * SUB_BUCKETS;
+
+    /**
+     * The number of values recorded in every bucket.
+     */
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+    /**
+     * The number of values recorded.
+     */
+    private final AtomicLong count = new AtomicLong();
+
+    /**
+     * The sum of the values recorded.
+     */
+    private final AtomicLong sum = new AtomicLong();
+
+    /**
+     * The greatest value recorded.
+     */
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Constructs an empty histogram.
+     */
+    public LatencyHistogram() {
+    }
+
+    /**
+     * Returns the bucket of the specified value.
+     *
+     * @param value the value, not negative.
+     * @return the index of the bucket.
+     */
+    static int bucketOf(long value) {
+        if (value < SUB_BUCKETS)
+            return (int) value;
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int sub = (int) (value >>> (exponent - SUB_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BITS + 1) * SUB_BUCKETS + sub;
+    }
+
+    /**
+     * Returns the greatest value that falls in the specified bucket.
+     *
+     * @param bucket the index of the bucket.
+     * @return the value.
+     */
+    static long highestValueOf(int bucket) {
+        if (bucket < SUB_BUCKETS)
+            return bucket;
+        int shift = bucket / SUB_BUCKETS - 1;
+        long lowest = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+
+    /**
+     * Records a value. Negative values, which a clock that is not monotonic may produce, are recorded as 0.
+     *
+     * @param nanos the value in nanoseconds.
+     */
+    public void record(long nanos) {
+        if (nanos < 0)
+            nanos = 0;
+        counts.incrementAndGet(bucketOf(nanos));
+        count.incrementAndGet();
+        sum.addAndGet(nanos);
+        long m = max.get();
+        while (nanos > m && !max.compareAndSet(m, nanos)) {
+            m = max.get();
+        }
+    }
+
+    /**
+     * Returns the number of values recorded.
+     *
+     * @return the number of values.
+     */
+    public long count() {
+        return count.get();
+    }
+
+    /**
+     * Returns the greatest value recorded, or 0 if there is none.
+     *
+     * @return the value in nanoseconds.
+     */
+    public long max() {
+        return max.get();
+    }
+
+    /**
+     * Returns the mean of the values recorded, or 0 if there is none.
+     *
+     * @return the mean in nanoseconds.
+     */
+    public double mean() {
+        long n = count.get();
+        return n == 0 ? 0 : (double) sum.get() / n;
+    }
+
+    /**
+     * Returns the value below which the specified percentage of the values recorded falls: the
+     * greatest value of the bucket that contains it, but no more than {@link #max()}.
+     *
+     * @param percent the percentage, from 0 to 100.
+     * @return the value in nanoseconds, or 0 if no value has been recorded.
+     * @throws IllegalArgumentException if the percentage is not between 0 and 100.
+     */
+    public long percentile(double percent) {
+        if (!(percent >= 0 && percent <= 100))
+            throw new IllegalArgumentException("Percentage: " + percent);
+        long n = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            n += counts.get(i);
+        }
+        if (n == 0)
+            return 0;
+        long rank = Math.max(1, (long) Math.ceil(percent / 100 * n));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts.get(i);
+            if (seen >= rank)
+                return Math.min(highestValueOf(i), max.get());
+        }
+        return max.get();
+    }
+
+    /**
+     * Adds the values recorded by the specified histogram to this one.
+     *
+     * @param other the histogram.
+     */
+    public void add(LatencyHistogram other) {
+        for (int i = 0; i < BUCKETS; i++) {
+            long c = other.counts.get(i);
+            if (c != 0)
+                counts.addAndGet(i, c);
+        }
+        count.addAndGet(other.count.get());
+        sum.addAndGet(other.sum.get());
+        long o = other.max.get();
+        long m = max.get();
+        while (o > m && !max.compareAndSet(m, o)) {
+            m = max.get();
+        }
+    }
+
+    /**
+     * Returns a copy of this histogram, which the values recorded afterwards do not change.
+     *
+     * @return the copy.
+     */
+    public LatencyHistogram copy() {
+        LatencyHistogram copy = new LatencyHistogram();
+        copy.add(this);
+        return copy;
+    }
+
+    /**
+     * Removes all the values recorded.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts.set(i, 0);
+        }
+        count.set(0);
+        sum.set(0);
+        max.set(0);
+    }
+}
@@ -0,0 +1,194 @@
+package myMonitor;
+
+import java.util.Locale;
+
+/**
+ * <p>
+ * The counters of the operations of a list at one instant, taken by {@link HListMetrics#snapshot()}.
+ * A snapshot does not change afterwards, and it is exported as JSON, for the collectors of the
+ * dashboards, or as a plain-text table, for a person.
+ * </p>
+ * <p>
+ * Both formats report, for every operation that has been called, the number of calls, the number
+ * of elements scanned or moved, the number of calls timed, and the mean, median, 90th and 99th
+ * percentile and maximum of their durations in nanoseconds.
+ * </p>
+ */
+public final class MetricsSnapshot {
+
+    /**
+     * The counters of one operation.
+     */
+    public static final class Row {
+        /**
+         * The name of the operation.
+         */
+        private final String name;
+
+        /**
+         * The number of calls.
+         */
+        private final long calls;
+
+        /**
+         * The number of elements scanned or moved.
+         */
+        private final long scanned;
+
+        /**
+         * The durations of the calls timed.
+         */
+        private final LatencyHistogram latencies;
+
+        /**
+         * Constructs the counters of an operation.
+         *
+         * @param name      the name of the operation.
+         * @param calls     the number of calls.
+         * @param scanned   the number of elements scanned or moved.
+         * @param latencies the durations of the calls timed, which the row keeps.
+         */
+        Row(String name, long calls, long scanned, LatencyHistogram latencies) {
+            this.name = name;
+            this.calls = calls;
+            this.scanned = scanned;
+            this.latencies = latencies;
+        }
+
+        /**
+         * Returns the name of the operation.
+         *
+         * @return the name.
+         */
+        public String name() {
+            return name;
+        }
+
+        /**
+         * Returns the number of calls.
+         *
+         * @return the number of calls.
+         */
+        public long calls() {
+            return calls;
+        }
+
+        /**
+         * Returns the number of elements scanned or moved.
+         *
+         * @return the number of elements.
+         */
+        public long scanned() {
+            return scanned;
+        }
+
+        /**
+         * Returns the durations of the calls timed. The histogram must not be changed.
+         *
+         * @return the histogram.
+         */
+        public LatencyHistogram latencies() {
+            return latencies;
+        }
+    }
+
+    /**
+     * The counters of the operations called, in the order of {@link HListMetrics}.
+     */
+    private final Row[] rows;
+
+    /**
+     * The number of calls for each one timed.
+     */
+    private final int sampleInterval;
+
+    /**
+     * Constructs a snapshot.
+     *
+     * @param rows           the counters of the operations called, which the snapshot keeps.
+     * @param sampleInterval the number of calls for each one timed.
+     */
+    MetricsSnapshot(Row[] rows, int sampleInterval) {
+        this.rows = rows;
+        this.sampleInterval = sampleInterval;
+    }
+
+    /**
+     * Returns the counters of the operations called.
+     *
+     * @return a new array of the rows.
+     */
+    public Row[] rows() {
+        return rows.clone();
+    }
+
+    /**
+     * Returns the counters of the operation with the specified name.
+     *
+     * @param name the name, as in {@link HListMetrics#nameOf(int)}.
+     * @return the row, or {@code null} if the operation has not been called.
+     */
+    public Row row(String name) {
+        for (int i = 0; i < rows.length; i++) {
+            if (rows[i].name.equals(name))
+                return rows[i];
+        }
+        return null;
+    }
+
+    /**
+     * Returns the snapshot as a JSON object, with the sample interval and an array of operations.
+     *
+     * @return the JSON text.
+     */
+    public String toJson() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("{\"sampleInterval\":").append(sampleInterval).append(",\"operations\":[");
+        for (int i = 0; i < rows.length; i++) {
+            Row r = rows[i];
+            LatencyHistogram h = r.latencies;
+            if (i > 0)
+                sb.append(',');
+            sb.append("{\"name\":\"").append(r.name)
+                    .append("\",\"calls\":").append(r.calls)
+                    .append(",\"scanned\":").append(r.scanned)
+                    .append(",\"timed\":").append(h.count())
+                    .append(",\"mean_ns\":").append(String.format(Locale.ROOT, "%.1f", h.mean()))
+                    .append(",\"p50_ns\":").append(h.percentile(50))
+                    .append(",\"p90_ns\":").append(h.percentile(90))
+                    .append(",\"p99_ns\":").append(h.percentile(99))
+                    .append(",\"max_ns\":").append(h.max())
+                    .append('}');
+        }
+        return sb.append("]}").toString();
+    }
+
+    /**
+     * Returns the snapshot as a table with a header line and a line for every operation.
+     *
+     * @return the table.
+     */
+    public String toTable() {
+        String format = "%-12s %12s %14s %10s %12s %10s %10s %10s %12s%n";
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format(Locale.ROOT, format, "operation", "calls", "scanned", "timed",
+                "mean_ns", "p50_ns", "p90_ns", "p99_ns", "max_ns"));
+        for (int i = 0; i < rows.length; i++) {
+            Row r = rows[i];
+            LatencyHistogram h = r.latencies;
+            sb.append(String.format(Locale.ROOT, format, r.name, r.calls, r.scanned, h.count(),
+                    String.format(Locale.ROOT, "%.1f", h.mean()), h.percentile(50), h.percentile(90),
+                    h.percentile(99), h.max()));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Returns the snapshot as a table.
+     *
+     * @return the value of {@link #toTable()}.
+     */
+    public String toString() {
+        return toTable();
+    }
+}
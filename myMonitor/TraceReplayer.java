@@ -0,0 +1,417 @@
+package myMonitor;
+
+import myAdapter.HList;
+import myAdapter.HListCodec;
+import myAdapter.ListAdapter;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Locale;
+
+/**
+ * <p>
+ * Runs a trace written by {@link TracingHList} on any {@link HList}, and reports the throughput
+ * and the distribution of the latencies of the calls, in total and for every operation. The
+ * element numbered {@code k} in the trace is replayed as {@code Integer.valueOf(k)}, and element 0
+ * as {@code null}, so the elements compare as the recorded ones did, and the trace can be
+ * replayed on lists that only accept Integers.
+ * </p>
+ * <p>
+ * The calls are replayed one after the other in the order of the trace, on the thread that calls
+ * {@link #replay(InputStream, HList)}. Every call is timed on its own, after its record has been
+ * decoded, so the latencies and the throughput are those of the list and not of the decoding,
+ * and the call goes straight to the list, whose own costs are all that is timed: the latency is
+ * recorded in the histogram of its operation, and the report adds them up at the end. A
+ * call that throws an exception is counted as an error and the replay goes on, as the recorded
+ * call did. The iterators are created but not advanced, since their steps are not recorded;
+ * their changes to the list are replayed as the calls on the list they were recorded as.
+ * </p>
+ * <p>
+ * The class can be run from the command line to replay a trace file on an implementation:
+ * {@code java myMonitor.TraceReplayer trace [class]}, where the class has a constructor without
+ * arguments and is ListAdapter by default.
+ * </p>
+ */
+public class TraceReplayer {
+
+    /**
+     * The result of a replay.
+     */
+    public static final class Report {
+        /**
+         * The number of calls replayed.
+         */
+        private final long operations;
+
+        /**
+         * The number of calls that threw an exception.
+         */
+        private final long errors;
+
+        /**
+         * The latencies of all the calls.
+         */
+        private final LatencyHistogram latencies;
+
+        /**
+         * The calls and the latencies of every operation.
+         */
+        private final MetricsSnapshot metrics;
+
+        /**
+         * The sum of the latencies of all the calls, in nanoseconds.
+         */
+        private final long busyNanos;
+
+        /**
+         * Constructs a report.
+         *
+         * @param operations the number of calls replayed.
+         * @param errors     the number of calls that threw an exception.
+         * @param latencies  the latencies of all the calls.
+         * @param metrics    the calls and the latencies of every operation.
+         * @param busyNanos  the sum of the latencies.
+         */
+        Report(long operations, long errors, LatencyHistogram latencies, MetricsSnapshot metrics, long busyNanos) {
+            this.operations = operations;
+            this.errors = errors;
+            this.latencies = latencies;
+            this.metrics = metrics;
+            this.busyNanos = busyNanos;
+        }
+
+        /**
+         * Returns the number of calls replayed.
+         *
+         * @return the number of calls.
+         */
+        public long operations() {
+            return operations;
+        }
+
+        /**
+         * Returns the number of calls that threw an exception.
+         *
+         * @return the number of errors.
+         */
+        public long errors() {
+            return errors;
+        }
+
+        /**
+         * Returns the latencies of all the calls.
+         *
+         * @return the histogram.
+         */
+        public LatencyHistogram latencies() {
+            return latencies;
+        }
+
+        /**
+         * Returns the calls and the latencies of every operation replayed, named as in the trace.
+         * The replay does not count the elements scanned, which are always 0.
+         *
+         * @return the snapshot.
+         */
+        public MetricsSnapshot metrics() {
+            return metrics;
+        }
+
+        /**
+         * Returns the number of calls per second of time spent in the list.
+         *
+         * @return the throughput, or 0 if no call has been replayed.
+         */
+        public double throughput() {
+            return busyNanos == 0 ? 0 : operations * 1e9 / busyNanos;
+        }
+
+        /**
+         * Returns a summary of the replay followed by the table of the operations.
+         *
+         * @return the report.
+         */
+        public String toString() {
+            return String.format(Locale.ROOT, "operations=%d errors=%d throughput=%.0f ops/s p50=%d p99=%d p999=%d max=%d ns%n",
+                    operations, errors, throughput(), latencies.percentile(50), latencies.percentile(99),
+                    latencies.percentile(99.9), latencies.max()) + metrics.toTable();
+        }
+    }
+
+    /**
+     * One more than the highest code of an operation in the trace.
+     */
+    private static final int OPERATIONS = TracingHList.PARTITION + 1;
+
+    /**
+     * Not instantiable.
+     */
+    private TraceReplayer() {
+    }
+
+    /**
+     * Returns the element with the specified number in the trace.
+     *
+     * @param id the number.
+     * @return the element.
+     */
+    private static Object element(int id) {
+        return id == 0 ? null : Integer.valueOf(id);
+    }
+
+    /**
+     * Reads an element from the trace.
+     *
+     * @param in the trace.
+     * @return the element.
+     * @throws IOException if an I/O error occurs.
+     */
+    private static Object readElement(DataInputStream in) throws IOException {
+        return element(HListCodec.readVarInt(in));
+    }
+
+    /**
+     * Reads a collection from the trace.
+     *
+     * @param in the trace.
+     * @return a list of the elements of the collection.
+     * @throws IOException if an I/O error occurs or the length is negative.
+     */
+    private static ListAdapter readCollection(DataInputStream in) throws IOException {
+        int n = HListCodec.readVarInt(in);
+        if (n < 0)
+            throw new IOException("malformed collection length: " + n);
+        ListAdapter c = new ListAdapter();
+        for (int i = 0; i < n; i++) {
+            c.add(readElement(in));
+        }
+        return c;
+    }
+
+    /**
+     * Replays the specified trace on the specified list, which should contain what the recorded
+     * list contained when the trace started, usually nothing.
+     *
+     * @param trace  the trace, which is read to its end but not closed.
+     * @param target the list.
+     * @return the report of the replay.
+     * @throws NullPointerException if the trace or the list is {@code null}.
+     * @throws IOException          if an I/O error occurs or the trace is malformed or truncated.
+     */
+    public static Report replay(InputStream trace, HList target) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(trace));
+        if (in.readInt() != TracingHList.MAGIC)
+            throw new IOException("not a trace");
+        int version = in.readUnsignedByte();
+        if (version != TracingHList.VERSION)
+            throw new IOException("unsupported trace version: " + version);
+        ArrayList<HList> views = new ArrayList<HList>();
+        views.add(target);
+        LatencyHistogram[] latencies = new LatencyHistogram[OPERATIONS];
+        long operations = 0;
+        long errors = 0;
+        long busy = 0;
+        int op;
+        while ((op = in.read()) >= 0) {
+            int v = HListCodec.readVarInt(in);
+            if (v < 0 || v >= views.size())
+                throw new IOException("unknown list: " + v);
+            HList list = views.get(v);
+            int a = 0;
+            int b = 0;
+            Object e = null;
+            ListAdapter c = null;
+            switch (op) {
+                case TracingHList.CONTAINS:
+                case TracingHList.ADD:
+                case TracingHList.REMOVE:
+                case TracingHList.INDEX_OF:
+                case TracingHList.LAST_INDEX_OF:
+                    e = readElement(in);
+                    break;
+                case TracingHList.SET:
+                case TracingHList.ADD_AT:
+                    a = HListCodec.readVarInt(in);
+                    e = readElement(in);
+                    break;
+                case TracingHList.GET:
+                case TracingHList.REMOVE_AT:
+                case TracingHList.LIST_ITERATOR:
+                case TracingHList.PARTITION:
+                    a = HListCodec.readVarInt(in);
+                    break;
+                case TracingHList.SUB_LIST:
+                    a = HListCodec.readVarInt(in);
+                    b = HListCodec.readVarInt(in);
+                    break;
+                case TracingHList.ADD_ALL_AT:
+                    a = HListCodec.readVarInt(in);
+                    c = readCollection(in);
+                    break;
+                case TracingHList.CONTAINS_ALL:
+                case TracingHList.ADD_ALL:
+                case TracingHList.REMOVE_ALL:
+                case TracingHList.RETAIN_ALL:
+                case TracingHList.EQUALS:
+                    c = readCollection(in);
+                    break;
+                default:
+                    if (TracingHList.nameOf(op) == null)
+                        throw new IOException("unknown operation: " + op);
+            }
+            if (latencies[op] == null)
+                latencies[op] = new LatencyHistogram();
+            HList created = null;
+            long start = System.nanoTime();
+            try {
+                created = run(list, op, a, b, e, c);
+            } catch (RuntimeException ex) {
+                errors++;
+            }
+            long nanos = System.nanoTime() - start;
+            latencies[op].record(nanos);
+            busy += nanos;
+            operations++;
+            if (op == TracingHList.SUB_LIST)
+                views.add(created);
+        }
+        return report(operations, errors, latencies, busy);
+    }
+
+    /**
+     * Builds the report of a replay from the histograms of the operations.
+     *
+     * @param operations the number of calls replayed.
+     * @param errors     the number of calls that threw an exception.
+     * @param latencies  the histogram of every operation, or {@code null} if it was not called.
+     * @param busy       the sum of the latencies.
+     * @return the report.
+     */
+    private static Report report(long operations, long errors, LatencyHistogram[] latencies, long busy) {
+        LatencyHistogram total = new LatencyHistogram();
+        ArrayList<MetricsSnapshot.Row> rows = new ArrayList<MetricsSnapshot.Row>();
+        for (int op = 0; op < latencies.length; op++) {
+            if (latencies[op] != null) {
+                total.add(latencies[op]);
+                rows.add(new MetricsSnapshot.Row(TracingHList.nameOf(op), latencies[op].count(), 0, latencies[op]));
+            }
+        }
+        MetricsSnapshot metrics = new MetricsSnapshot(rows.toArray(new MetricsSnapshot.Row[0]), 1);
+        return new Report(operations, errors, total, metrics, busy);
+    }
+
+    /**
+     * Runs a call on a list. A call on a subList whose creation failed throws a NullPointerException.
+     *
+     * @param list the list, or {@code null}.
+     * @param op   the operation.
+     * @param a    the first index, if any.
+     * @param b    the second index, if any.
+     * @param e    the element, if any.
+     * @param c    the collection, if any.
+     * @return the subList created, or {@code null} for the other operations.
+     */
+    private static HList run(HList list, int op, int a, int b, Object e, ListAdapter c) {
+        switch (op) {
+            case TracingHList.SIZE:
+                list.size();
+                break;
+            case TracingHList.IS_EMPTY:
+                list.isEmpty();
+                break;
+            case TracingHList.CONTAINS:
+                list.contains(e);
+                break;
+            case TracingHList.ITERATOR:
+                list.iterator();
+                break;
+            case TracingHList.TO_ARRAY:
+                list.toArray();
+                break;
+            case TracingHList.ADD:
+                list.add(e);
+                break;
+            case TracingHList.REMOVE:
+                list.remove(e);
+                break;
+            case TracingHList.CONTAINS_ALL:
+                list.containsAll(c);
+                break;
+            case TracingHList.ADD_ALL:
+                list.addAll(c);
+                break;
+            case TracingHList.ADD_ALL_AT:
+                list.addAll(a, c);
+                break;
+            case TracingHList.REMOVE_ALL:
+                list.removeAll(c);
+                break;
+            case TracingHList.RETAIN_ALL:
+                list.retainAll(c);
+                break;
+            case TracingHList.CLEAR:
+                list.clear();
+                break;
+            case TracingHList.EQUALS:
+                list.equals(c);
+                break;
+            case TracingHList.HASH_CODE:
+                list.hashCode();
+                break;
+            case TracingHList.TO_STRING:
+                list.toString();
+                break;
+            case TracingHList.GET:
+                list.get(a);
+                break;
+            case TracingHList.SET:
+                list.set(a, e);
+                break;
+            case TracingHList.ADD_AT:
+                list.add(a, e);
+                break;
+            case TracingHList.REMOVE_AT:
+                list.remove(a);
+                break;
+            case TracingHList.INDEX_OF:
+                list.indexOf(e);
+                break;
+            case TracingHList.LAST_INDEX_OF:
+                list.lastIndexOf(e);
+                break;
+            case TracingHList.LIST_ITERATOR:
+                list.listIterator(a);
+                break;
+            case TracingHList.SUB_LIST:
+                return list.subList(a, b);
+            case TracingHList.PARTITION:
+                list.partition(a);
+                break;
+        }
+        return null;
+    }
+
+    /**
+     * Replays a trace file on a new instance of an implementation and prints the report.
+     *
+     * @param args the trace file and, optionally, the name of the class of the list.
+     * @throws Exception if the trace cannot be read or the list cannot be created.
+     */
+    public static void main(String[] args) throws Exception {
+        if (args.length < 1) {
+            System.err.println("usage: TraceReplayer trace [class]");
+            System.exit(2);
+        }
+        HList target = args.length > 1
+                ? (HList) Class.forName(args[1]).getDeclaredConstructor().newInstance()
+                : new ListAdapter();
+        try (InputStream in = Files.newInputStream(Paths.get(args[0]))) {
+            System.out.print(replay(in, target));
+        }
+    }
+}
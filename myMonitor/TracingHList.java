@@ -0,0 +1,736 @@
+package myMonitor;
+
+import myAdapter.HCollection;
+import myAdapter.HIterator;
+import myAdapter.HList;
+import myAdapter.HListCodec;
+import myAdapter.HListIterator;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.Objects;
+
+/**
+ * <p>
+ * A decorator that records the calls made on any {@link HList} into a compact binary trace,
+ * which {@link TraceReplayer} runs again on another list. The trace keeps the kind and the
+ * order of the operations, their indexes and the identity of their elements, but not the
+ * elements themselves: every distinct element, by {@code equals}, is replaced by a number, so a
+ * trace taken in production carries no data and its elements compare as the originals did.
+ * </p>
+ * <p>
+ * The trace starts with the int {@value #MAGIC} and the byte {@value #VERSION}, followed by a
+ * record per call: the byte of the operation, the varint of the list it was called on, and its
+ * arguments as varints, where an element is its number and a collection is its length followed by
+ * the numbers of its elements. The list decorated is list 0, and every subList is numbered in the
+ * order it is created, so the calls on the subLists are replayed on the same views. Element 0 is
+ * {@code null}. The iterators wrap those of the decorated list: their creation is recorded, but
+ * not their steps. Their {@code remove}, {@code set} and {@code add} are recorded as
+ * {@code remove(int)}, {@code set(int, Object)} and {@code add(int, Object)} on the list they
+ * iterate, at the index of the element they change, so that the replay changes the same
+ * elements.
+ * </p>
+ * <p>
+ * A call is recorded before it is passed to the decorated list, so the calls that throw an
+ * exception are recorded too, and throw again when replayed. The decorator is as thread-safe as
+ * the decorated list; the records of calls made by several threads at once are written one at a
+ * time, in an order consistent with the order in which the calls start. The numbers of the
+ * elements are kept for the life of the trace, so the trace should be closed when it is complete.
+ * </p>
+ */
+public class TracingHList implements HList, Closeable {
+
+    /**
+     * The first int of a trace.
+     */
+    public static final int MAGIC = 0x484C5452;
+
+    /**
+     * The version of the format of the trace.
+     */
+    public static final int VERSION = 1;
+
+    /**
+     * {@code size()}.
+     */
+    static final int SIZE = 1;
+
+    /**
+     * {@code isEmpty()}.
+     */
+    static final int IS_EMPTY = 2;
+
+    /**
+     * {@code contains(Object)}, with an element.
+     */
+    static final int CONTAINS = 3;
+
+    /**
+     * {@code iterator()}.
+     */
+    static final int ITERATOR = 4;
+
+    /**
+     * {@code toArray()} and {@code toArray(Object[])}.
+     */
+    static final int TO_ARRAY = 5;
+
+    /**
+     * {@code add(Object)}, with an element.
+     */
+    static final int ADD = 6;
+
+    /**
+     * {@code remove(Object)}, with an element.
+     */
+    static final int REMOVE = 7;
+
+    /**
+     * {@code containsAll(HCollection)}, with a collection.
+     */
+    static final int CONTAINS_ALL = 8;
+
+    /**
+     * {@code addAll(HCollection)}, with a collection.
+     */
+    static final int ADD_ALL = 9;
+
+    /**
+     * {@code addAll(int, HCollection)}, with an index and a collection.
+     */
+    static final int ADD_ALL_AT = 10;
+
+    /**
+     * {@code removeAll(HCollection)}, with a collection.
+     */
+    static final int REMOVE_ALL = 11;
+
+    /**
+     * {@code retainAll(HCollection)}, with a collection.
+     */
+    static final int RETAIN_ALL = 12;
+
+    /**
+     * {@code clear()}.
+     */
+    static final int CLEAR = 13;
+
+    /**
+     * {@code equals(Object)} with a collection, with the collection.
+     */
+    static final int EQUALS = 14;
+
+    /**
+     * {@code hashCode()}.
+     */
+    static final int HASH_CODE = 15;
+
+    /**
+     * {@code toString()}.
+     */
+    static final int TO_STRING = 16;
+
+    /**
+     * {@code get(int)}, with an index.
+     */
+    static final int GET = 17;
+
+    /**
+     * {@code set(int, Object)}, with an index and an element.
+     */
+    static final int SET = 18;
+
+    /**
+     * {@code add(int, Object)}, with an index and an element.
+     */
+    static final int ADD_AT = 19;
+
+    /**
+     * {@code remove(int)}, with an index.
+     */
+    static final int REMOVE_AT = 20;
+
+    /**
+     * {@code indexOf(Object)}, with an element.
+     */
+    static final int INDEX_OF = 21;
+
+    /**
+     * {@code lastIndexOf(Object)}, with an element.
+     */
+    static final int LAST_INDEX_OF = 22;
+
+    /**
+     * {@code listIterator(int)}, with an index; {@code listIterator()} is recorded with index 0.
+     */
+    static final int LIST_ITERATOR = 23;
+
+    /**
+     * {@code subList(int, int)}, with both indexes. The subList gets the next number of list.
+     */
+    static final int SUB_LIST = 24;
+
+    /**
+     * {@code partition(int)}, with the number of ranges.
+     */
+    static final int PARTITION = 25;
+
+    /**
+     * The names of the operations, indexed by their code.
+     */
+    private static final String[] NAMES = {null, "size", "isEmpty", "contains", "iterator", "toArray", "add",
+            "remove", "containsAll", "addAll", "addAll-at", "removeAll", "retainAll", "clear", "equals",
+            "hashCode", "toString", "get", "set", "add-at", "remove-at", "indexOf", "lastIndexOf",
+            "listIterator", "subList", "partition"};
+
+    /**
+     * The trace shared by a list and its subLists.
+     */
+    private static final class Trace {
+        /**
+         * The stream of the trace.
+         */
+        final DataOutputStream out;
+
+        /**
+         * The number of every element recorded.
+         */
+        final HashMap<Object, Integer> ids = new HashMap<Object, Integer>();
+
+        /**
+         * The number of the next list created.
+         */
+        int nextView = 1;
+
+        /**
+         * The number of records written.
+         */
+        long records;
+
+        /**
+         * Whether the trace has been closed.
+         */
+        boolean closed;
+
+        /**
+         * Constructs a trace and writes its header.
+         *
+         * @param out the stream of the trace.
+         * @throws IOException if an I/O error occurs.
+         */
+        Trace(OutputStream out) throws IOException {
+            this.out = new DataOutputStream(new BufferedOutputStream(out));
+            this.out.writeInt(MAGIC);
+            this.out.writeByte(VERSION);
+        }
+
+        /**
+         * Writes the number of the specified element, numbering it if it is new.
+         *
+         * @param o the element.
+         * @throws IOException if an I/O error occurs.
+         */
+        void writeElement(Object o) throws IOException {
+            int id = 0;
+            if (o != null) {
+                Integer known = ids.get(o);
+                if (known == null) {
+                    known = Integer.valueOf(ids.size() + 1);
+                    ids.put(o, known);
+                }
+                id = known.intValue();
+            }
+            HListCodec.writeVarInt(out, id);
+        }
+
+        /**
+         * Writes the start of a record.
+         *
+         * @param op   the operation.
+         * @param view the number of the list.
+         * @throws IOException if an I/O error occurs or the trace has been closed.
+         */
+        void start(int op, int view) throws IOException {
+            if (closed)
+                throw new IOException("trace closed");
+            out.writeByte(op);
+            HListCodec.writeVarInt(out, view);
+            records++;
+        }
+    }
+
+    /**
+     * The decorated list.
+     */
+    private final HList list;
+
+    /**
+     * The trace.
+     */
+    private final Trace trace;
+
+    /**
+     * The number of this list in the trace.
+     */
+    private final int view;
+
+    /**
+     * Constructs a decorator that records the calls on the specified list into the specified stream.
+     *
+     * @param list the list to decorate.
+     * @param out  the stream of the trace, which the decorator buffers and closes with {@link #close()}.
+     * @throws NullPointerException if the list or the stream is {@code null}.
+     * @throws IOException          if the header of the trace cannot be written.
+     */
+    public TracingHList(HList list, OutputStream out) throws IOException {
+        this(Objects.requireNonNull(list), new Trace(Objects.requireNonNull(out)), 0);
+    }
+
+    /**
+     * Constructs a decorator of a list in the specified trace.
+     *
+     * @param list  the list to decorate.
+     * @param trace the trace.
+     * @param view  the number of the list.
+     */
+    private TracingHList(HList list, Trace trace, int view) {
+        this.list = list;
+        this.trace = trace;
+        this.view = view;
+    }
+
+    /**
+     * Returns the name of the operation with the specified code.
+     *
+     * @param op the code.
+     * @return the name, or {@code null} if the code is unknown.
+     */
+    static String nameOf(int op) {
+        return op > 0 && op < NAMES.length ? NAMES[op] : null;
+    }
+
+    /**
+     * Returns the decorated list.
+     *
+     * @return the list.
+     */
+    public HList delegate() {
+        return list;
+    }
+
+    /**
+     * Returns the number of calls recorded so far, on this list and on the others of its trace.
+     *
+     * @return the number of records.
+     */
+    public long records() {
+        synchronized (trace) {
+            return trace.records;
+        }
+    }
+
+    /**
+     * Records a call without arguments.
+     *
+     * @param op the operation.
+     */
+    private void record(int op) {
+        synchronized (trace) {
+            try {
+                trace.start(op, view);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Records a call with an index or a count.
+     *
+     * @param op    the operation.
+     * @param index the index.
+     */
+    private void record(int op, int index) {
+        synchronized (trace) {
+            try {
+                trace.start(op, view);
+                HListCodec.writeVarInt(trace.out, index);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Records a call with an element and, if the operation takes one, an index.
+     *
+     * @param op      the operation.
+     * @param index   the index, written if {@code indexed} is {@code true}.
+     * @param indexed {@code true} if the operation takes an index.
+     * @param o       the element.
+     */
+    private void record(int op, int index, boolean indexed, Object o) {
+        synchronized (trace) {
+            try {
+                trace.start(op, view);
+                if (indexed)
+                    HListCodec.writeVarInt(trace.out, index);
+                trace.writeElement(o);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Records a call with a collection and, if the operation takes one, an index.
+     *
+     * @param op      the operation.
+     * @param index   the index, written if {@code indexed} is {@code true}.
+     * @param indexed {@code true} if the operation takes an index.
+     * @param c       the collection.
+     * @throws NullPointerException if the collection is {@code null}.
+     */
+    private void record(int op, int index, boolean indexed, HCollection c) {
+        Object[] elements = c.toArray();
+        synchronized (trace) {
+            try {
+                trace.start(op, view);
+                if (indexed)
+                    HListCodec.writeVarInt(trace.out, index);
+                HListCodec.writeVarInt(trace.out, elements.length);
+                for (int i = 0; i < elements.length; i++) {
+                    trace.writeElement(elements[i]);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    public int size() {
+        record(SIZE);
+        return list.size();
+    }
+
+    public boolean isEmpty() {
+        record(IS_EMPTY);
+        return list.isEmpty();
+    }
+
+    public boolean contains(Object o) {
+        record(CONTAINS, 0, false, o);
+        return list.contains(o);
+    }
+
+    public HIterator iterator() {
+        record(ITERATOR);
+        return new TracingIterator(list.iterator(), 0);
+    }
+
+    public Object[] toArray() {
+        record(TO_ARRAY);
+        return list.toArray();
+    }
+
+    public Object[] toArray(Object[] a) {
+        record(TO_ARRAY);
+        return list.toArray(a);
+    }
+
+    public boolean add(Object o) {
+        record(ADD, 0, false, o);
+        return list.add(o);
+    }
+
+    public boolean remove(Object o) {
+        record(REMOVE, 0, false, o);
+        return list.remove(o);
+    }
+
+    public boolean containsAll(HCollection c) {
+        record(CONTAINS_ALL, 0, false, c);
+        return list.containsAll(c);
+    }
+
+    public boolean addAll(HCollection c) {
+        record(ADD_ALL, 0, false, c);
+        return list.addAll(c);
+    }
+
+    public boolean addAll(int index, HCollection c) {
+        record(ADD_ALL_AT, index, true, c);
+        return list.addAll(index, c);
+    }
+
+    public boolean removeAll(HCollection c) {
+        record(REMOVE_ALL, 0, false, c);
+        return list.removeAll(c);
+    }
+
+    public boolean retainAll(HCollection c) {
+        record(RETAIN_ALL, 0, false, c);
+        return list.retainAll(c);
+    }
+
+    public void clear() {
+        record(CLEAR);
+        list.clear();
+    }
+
+    /**
+     * Compares the specified object with the decorated list for equality. The comparisons with
+     * collections are recorded; those with other objects, which are never equal, are not.
+     *
+     * @param o the object to be compared for equality with this list.
+     * @return {@code true} if the object is this decorator or is equal to the decorated list.
+     */
+    public boolean equals(Object o) {
+        if (o == this)
+            return true;
+        if (o instanceof HCollection)
+            record(EQUALS, 0, false, (HCollection) o);
+        return list.equals(o);
+    }
+
+    /**
+     * Returns the hash code of the decorated list.
+     *
+     * @return the hash code.
+     */
+    public int hashCode() {
+        record(HASH_CODE);
+        return list.hashCode();
+    }
+
+    /**
+     * Returns the string representation of the decorated list.
+     *
+     * @return the string.
+     */
+    public String toString() {
+        record(TO_STRING);
+        return list.toString();
+    }
+
+    public Object get(int index) {
+        record(GET, index);
+        return list.get(index);
+    }
+
+    public Object set(int index, Object element) {
+        record(SET, index, true, element);
+        return list.set(index, element);
+    }
+
+    public void add(int index, Object element) {
+        record(ADD_AT, index, true, element);
+        list.add(index, element);
+    }
+
+    public Object remove(int index) {
+        record(REMOVE_AT, index);
+        return list.remove(index);
+    }
+
+    public int indexOf(Object o) {
+        record(INDEX_OF, 0, false, o);
+        return list.indexOf(o);
+    }
+
+    public int lastIndexOf(Object o) {
+        record(LAST_INDEX_OF, 0, false, o);
+        return list.lastIndexOf(o);
+    }
+
+    public HListIterator listIterator() {
+        record(LIST_ITERATOR, 0);
+        return new TracingListIterator(list.listIterator(), 0);
+    }
+
+    public HListIterator listIterator(int index) {
+        record(LIST_ITERATOR, index);
+        return new TracingListIterator(list.listIterator(index), index);
+    }
+
+    /**
+     * Records the creation of a subList, which gets the next number of list in the trace, and
+     * returns a decorator of the view of the specified range of the decorated list.
+     *
+     * @param fromIndex low endpoint (inclusive) of the subList.
+     * @param toIndex   high endpoint (exclusive) of the subList.
+     * @return the decorated view.
+     * @throws IndexOutOfBoundsException if the endpoints are out of range for the decorated list.
+     */
+    public HList subList(int fromIndex, int toIndex) {
+        int number;
+        synchronized (trace) {
+            try {
+                trace.start(SUB_LIST, view);
+                HListCodec.writeVarInt(trace.out, fromIndex);
+                HListCodec.writeVarInt(trace.out, toIndex);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            number = trace.nextView++;
+        }
+        return new TracingHList(list.subList(fromIndex, toIndex), trace, number);
+    }
+
+    public HIterator[] partition(int n) {
+        record(PARTITION, n);
+        return list.partition(n);
+    }
+
+    /**
+     * Writes the records buffered so far to the stream of the trace.
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    public void flush() throws IOException {
+        synchronized (trace) {
+            trace.out.flush();
+        }
+    }
+
+    /**
+     * Writes the records buffered so far and closes the stream of the trace, for this list and
+     * its subLists. The calls made afterwards fail with an UncheckedIOException.
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    public void close() throws IOException {
+        synchronized (trace) {
+            if (trace.closed)
+                return;
+            trace.closed = true;
+            trace.ids.clear();
+            trace.out.close();
+        }
+    }
+
+    /**
+     * An iterator of the decorated list that records its {@code remove} as a {@code remove(int)}
+     * of the element returned last. It keeps the index of the cursor, since the trace has no
+     * record for the steps.
+     */
+    private class TracingIterator implements HIterator {
+        /**
+         * The iterator of the decorated list.
+         */
+        private final HIterator it;
+
+        /**
+         * The index of the element that will be returned by {@code next}.
+         */
+        int cursor;
+
+        /**
+         * The index of the element returned last, or -1 if there is none or it has been removed.
+         */
+        int lastRet = -1;
+
+        /**
+         * Constructs an iterator that records the changes made through the specified one.
+         *
+         * @param it     the iterator of the decorated list.
+         * @param cursor the index of the element that will be returned by {@code next}.
+         */
+        TracingIterator(HIterator it, int cursor) {
+            this.it = it;
+            this.cursor = cursor;
+        }
+
+        public boolean hasNext() {
+            return it.hasNext();
+        }
+
+        public Object next() {
+            Object o = it.next();
+            lastRet = cursor++;
+            return o;
+        }
+
+        /**
+         * Records the removal of the element returned last and removes it. Without such an
+         * element nothing is recorded, and the iterator of the decorated list throws.
+         */
+        public void remove() {
+            if (lastRet >= 0)
+                record(REMOVE_AT, lastRet);
+            it.remove();
+            if (lastRet < cursor)
+                cursor--;
+            lastRet = -1;
+        }
+    }
+
+    /**
+     * A list iterator of the decorated list that also records its {@code set} and {@code add} as
+     * {@code set(int, Object)} and {@code add(int, Object)}.
+     */
+    private final class TracingListIterator extends TracingIterator implements HListIterator {
+        /**
+         * The list iterator of the decorated list.
+         */
+        private final HListIterator it;
+
+        /**
+         * Constructs a list iterator that records the changes made through the specified one.
+         *
+         * @param it     the list iterator of the decorated list.
+         * @param cursor the index of the element that will be returned by {@code next}.
+         */
+        TracingListIterator(HListIterator it, int cursor) {
+            super(it, cursor);
+            this.it = it;
+        }
+
+        public boolean hasPrevious() {
+            return it.hasPrevious();
+        }
+
+        public Object previous() {
+            Object o = it.previous();
+            lastRet = --cursor;
+            return o;
+        }
+
+        public int nextIndex() {
+            return it.nextIndex();
+        }
+
+        public int previousIndex() {
+            return it.previousIndex();
+        }
+
+        /**
+         * Records the replacement of the element returned last and replaces it. Without such an
+         * element nothing is recorded, and the iterator of the decorated list throws.
+         *
+         * @param o the element with which to replace the last element returned.
+         */
+        public void set(Object o) {
+            if (lastRet >= 0)
+                record(SET, lastRet, true, o);
+            it.set(o);
+        }
+
+        /**
+         * Records the insertion of the specified element at the cursor and inserts it.
+         *
+         * @param o the element to insert.
+         */
+        public void add(Object o) {
+            record(ADD_AT, cursor, true, o);
+            it.add(o);
+            cursor++;
+            lastRet = -1;
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package myTest;
+
+import myAdapter.*;
+import org.junit.*;
+
+/**
+ * <p>
+ * Contains a series of unit tests designed to verify the skeletal implementation provided by the AbstractHList class.
+ * </p>
+ * <p>
+ * Test Case Design: <br>
+ * The tests use ArrayHList, a minimal array based subclass that only implements get, size, set,
+ * add(int, Object) and remove(int), and counts the elements shifted by the last two, and check the operations inherited from AbstractHList:
+ * iterators, subLists, bulk operations, equals, hashCode and toString.
+ * </p>
+ *
+ * @author Matteo Trevisan
+ */
+public class AbstractHListTest {
+
+    /**
+     * A minimal variable-size list, backed by an array.
+     */
+    private static class ArrayHList extends AbstractHList {
+        private Object[] data = new Object[4];
+        private int size;
+        private long moved;
+
+        public Object get(int index) {
+            if (index < 0 || index >= size)
+                throw new IndexOutOfBoundsException();
+            return data[index];
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public Object set(int index, Object element) {
+            Object old = get(index);
+            data[index] = element;
+            return old;
+        }
+
+        public void add(int index, Object element) {
+            if (index < 0 || index > size)
+                throw new IndexOutOfBoundsException();
+            if (size == data.length) {
+                Object[] newData = new Object[size * 2];
+                System.arraycopy(data, 0, newData, 0, size);
+                data = newData;
+            }
+            System.arraycopy(data, index, data, index + 1, size - index);
+            moved += size - index;
+            data[index] = element;
+            size++;
+        }
+
+        public Object remove(int index) {
+            Object old = get(index);
+            System.arraycopy(data, index + 1, data, index, size - index - 1);
+            moved += size - index - 1;
+            data[--size] = null;
+            return old;
+        }
+    }
+
+    /**
+     * Returns an ArrayHList containing the specified Strings.
+     *
+     * @param elements the elements.
+     * @return the new list.
+     */
+    private static ArrayHList of(String elements) {
+        ArrayHList list = new ArrayHList();
+        for (int i = 0; i < elements.length(); i++) {
+            list.add(String.valueOf(elements.charAt(i)));
+        }
+        return list;
+    }
+
+    /*
+     * AbstractHList Iterator Family Tests
+     */
+
+    /**
+     * Verifies that the list iterator traverses in both directions and reports the right indexes.
+     *
+     * @doc.testCaseDesign The test creates a list iterator at index 1 of [a, b, c], moves forward and backward.
+     * @doc.testDescription The test verifies the returned elements and indexes.
+     * @doc.preCondition The list contains a, b, c.
+     * @doc.postCondition The list is unchanged.
+     * @doc.expectedResults The test expects b, c, c, b and the indexes 1, 3, 1.
+     */
+    @Test
+    public void listIterator_ShouldTraverse_BothDirections() {
+        HListIterator it = of("abc").listIterator(1);
+        Assert.assertEquals(1, it.nextIndex());
+        Assert.assertEquals("b", it.next());
+        Assert.assertEquals("c", it.next());
+        Assert.assertEquals(3, it.nextIndex());
+        Assert.assertFalse(it.hasNext());
+        Assert.assertEquals("c", it.previous());
+        Assert.assertEquals("b", it.previous());
+        Assert.assertEquals(0, it.previousIndex());
+    }
+
+    /**
+     * Verifies that the list iterator modifies the list through remove, set and add.
+     *
+     * @doc.testCaseDesign The test removes a after next, sets the element returned by previous and adds an element.
+     * @doc.testDescription The test verifies the contents of the list and that remove without next throws.
+     * @doc.preCondition The list contains a, b, c.
+     * @doc.postCondition The list contains x, y, c.
+     * @doc.expectedResults The test expects [x, y, c] and a myAdapter.IllegalStateException.
+     */
+    @Test
+    public void listIterator_ShouldModify_List() {
+        ArrayHList list = of("abc");
+        HListIterator it = list.listIterator();
+        Assert.assertThrows(myAdapter.IllegalStateException.class, it::remove);
+        it.next();
+        it.remove();
+        it.add("x");
+        it.next();
+        it.previous();
+        it.set("y");
+        Assert.assertEquals("[x, y, c]", list.toString());
+    }
+
+    /*
+     * AbstractHList SubList Family Tests
+     */
+
+    /**
+     * Verifies that structural changes through a subList and a nested subList reach the list.
+     *
+     * @doc.testCaseDesign The test adds to a nested subList, removes from a subList and clears a subList.
+     * @doc.testDescription The test verifies the contents and sizes of the list and of the subList after each step.
+     * @doc.preCondition The list contains a, b, c, d, e.
+     * @doc.postCondition The list contains a, e.
+     * @doc.expectedResults The test expects [a, b, x, c, d, e], then [a, x, c, d, e], then [a, e].
+     */
+    @Test
+    public void subList_ShouldWrite_Through() {
+        ArrayHList list = of("abcde");
+        HList sub = list.subList(1, 4);
+        sub.subList(1, 2).add(0, "x");
+        Assert.assertEquals("[a, b, x, c, d, e]", list.toString());
+        Assert.assertEquals(4, sub.size());
+        Assert.assertEquals("b", sub.remove(0));
+        Assert.assertEquals("[x, c, d]", sub.toString());
+        sub.clear();
+        Assert.assertEquals("[a, e]", list.toString());
+        Assert.assertThrows(IndexOutOfBoundsException.class, () -> list.subList(1, 3).get(2));
+    }
+
+    /*
+     * AbstractHList Bulk Family Tests
+     */
+
+    /**
+     * Verifies the bulk operations inherited from AbstractHList.
+     *
+     * @doc.testCaseDesign The test inserts a list into itself, then removes and retains elements of other lists.
+     * @doc.testDescription The test verifies the contents of the list and the returned values after each step.
+     * @doc.preCondition The list contains a, b.
+     * @doc.postCondition The list contains a, a.
+     * @doc.expectedResults The test expects [a, a, b, b], then [a, a], then no change.
+     */
+    @Test
+    public void bulkOperations_ShouldModify_List() {
+        ArrayHList list = of("ab");
+        Assert.assertTrue(list.addAll(1, list));
+        Assert.assertEquals("[a, a, b, b]", list.toString());
+        Assert.assertTrue(list.containsAll(of("ba")));
+        Assert.assertTrue(list.removeAll(of("b")));
+        Assert.assertEquals("[a, a]", list.toString());
+        Assert.assertFalse(list.retainAll(of("ac")));
+        Assert.assertThrows(NullPointerException.class, () -> list.removeAll(null));
+    }
+
+    /**
+     * Verifies that removeAll and retainAll compact the list instead of removing the elements one by one.
+     *
+     * @doc.testCaseDesign The test removes every other element of a long list, then retains half of the rest, counting the elements shifted by remove(int).
+     * @doc.testDescription The test verifies the contents of the list and the number of elements shifted.
+     * @doc.preCondition The list contains 2000 elements, a and b alternated.
+     * @doc.postCondition The list contains no elements.
+     * @doc.expectedResults The test expects 1000 a, then an empty list, with no element shifted, since only the tail of the list is removed.
+     */
+    @Test
+    public void batchRemove_ShouldBe_Linear() {
+        ArrayHList list = new ArrayHList();
+        for (int i = 0; i < 1000; i++) {
+            list.add("a");
+            list.add("b");
+        }
+        list.moved = 0;
+        Assert.assertTrue(list.removeAll(of("b")));
+        Assert.assertEquals(1000, list.size());
+        Assert.assertEquals(999, list.lastIndexOf("a"));
+        Assert.assertEquals(0, list.moved);
+        Assert.assertTrue(list.subList(500, 1000).retainAll(of("c")));
+        Assert.assertEquals(500, list.size());
+        Assert.assertTrue(list.retainAll(list.subList(0, 0)));
+        Assert.assertTrue(list.isEmpty());
+        Assert.assertEquals(0, list.moved);
+    }
+
+    /**
+     * Verifies that equals and hashCode agree with ListAdapter.
+     *
+     * @doc.testCaseDesign The test compares an ArrayHList and a ListAdapter with the same elements, including null.
+     * @doc.testDescription The test verifies equals in both directions and the hash codes.
+     * @doc.preCondition Both lists contain a, null.
+     * @doc.postCondition The lists are unchanged.
+     * @doc.expectedResults The test expects the lists to be equal with the same hash code, and different from a shorter list.
+     */
+    @Test
+    public void equalsAndHashCode_ShouldAgree_WithListAdapter() {
+        ArrayHList list = of("a");
+        list.add(null);
+        ListAdapter other = new ListAdapter();
+        other.add("a");
+        other.add(null);
+        Assert.assertTrue(list.equals(other));
+        Assert.assertTrue(other.equals(list));
+        Assert.assertEquals(other.hashCode(), list.hashCode());
+        Assert.assertFalse(list.equals(of("a")));
+        Assert.assertEquals("[a, null]", list.toString());
+    }
+}
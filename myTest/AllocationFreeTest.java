@@ -0,0 +1,333 @@
+package myTest;
+
+import myAdapter.*;
+import myConcurrent.AppendOnlyConcurrentList;
+import myConcurrent.ReadWriteConcurrencyPolicy;
+import myConcurrent.SegmentedConcurrentList;
+import myConcurrent.StampedConcurrencyPolicy;
+import myIO.IntBufferHList;
+import org.junit.*;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * <p>
+ * Contains a series of tests that check that the hot paths of the array-backed lists do not
+ * allocate memory: {@code get}, {@code set}, {@code contains}, {@code indexOf},
+ * {@code lastIndexOf} and the appends that fit in the capacity already reserved.
+ * </p>
+ * <p>
+ * Test Case Design: <br>
+ * Every operation is run {@link #OPERATIONS} times in a loop, {@link #WARMUP} times so that the
+ * code is loaded, linked and compiled, and then {@link #ATTEMPTS} times between two readings of
+ * the bytes allocated by the current thread, taken from the ThreadMXBean of the JVM. All the
+ * measured runs must stay within {@link #NOISE} bytes in total, and one of them must not allocate
+ * a single byte. The JVM itself makes the thread allocate a few dozen or hundred bytes now and then,
+ * even long after the warm-up, so a run that allocates is not enough to fail; an allocation in the
+ * operation, of at least 16 bytes, is seen in every run instead, and a run of the appends already
+ * makes more than the noise. The appends, {@link #APPENDS} to a run, run on lists that have
+ * reserved the capacity of all the runs. The elements
+ * are Integers outside the cache of {@link Integer#valueOf(int)}, boxed in advance, so that any
+ * boxing in the lists would be seen. The tests are skipped on JVMs that cannot measure the
+ * allocations of a thread.
+ * </p>
+ *
+ * @author Matteo Trevisan
+ */
+public class AllocationFreeTest {
+
+    /**
+     * The number of elements in the lists before the operations.
+     */
+    private static final int SIZE = 1024;
+
+    /**
+     * The number of operations in a run.
+     */
+    private static final int OPERATIONS = 200;
+
+    /**
+     * The number of appends in a run.
+     */
+    private static final int APPENDS = 40;
+
+    /**
+     * The number of runs of an operation before the measured ones.
+     */
+    private static final int WARMUP = 16;
+
+    /**
+     * The number of measured runs of an operation, of which at least one must not allocate.
+     */
+    private static final int ATTEMPTS = 4;
+
+    /**
+     * The number of bytes that the JVM can allocate in all the measured runs of an operation.
+     */
+    private static final long NOISE = 1024;
+
+    /**
+     * The number of elements that the runs of the appends add to a list.
+     */
+    private static final int APPENDED = (WARMUP + ATTEMPTS) * APPENDS;
+
+    /**
+     * The elements, distinct Integers that are not cached by {@link Integer#valueOf(int)}.
+     */
+    private static final Integer[] ELEMENTS = new Integer[SIZE + APPENDED];
+
+    /**
+     * An element that is not in the lists.
+     */
+    private static final Integer MISSING = Integer.valueOf(-1000);
+
+    static {
+        for (int i = 0; i < ELEMENTS.length; i++) {
+            ELEMENTS[i] = Integer.valueOf(1000 + i);
+        }
+    }
+
+    /**
+     * The bean that measures the bytes allocated by the threads.
+     */
+    private com.sun.management.ThreadMXBean threads;
+
+    /**
+     * Skips the tests if the JVM cannot measure the bytes allocated by a thread.
+     */
+    @Before
+    public void setUp() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+        threads = (com.sun.management.ThreadMXBean) bean;
+        Assume.assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled());
+    }
+
+    /**
+     * Runs an operation {@link #WARMUP} times, then {@link #ATTEMPTS} times more, and verifies that
+     * the measured runs allocate no more than {@link #NOISE} bytes and that one of them does not
+     * allocate memory.
+     *
+     * @param what      the name of the operation, for the message of the failure.
+     * @param operation the operation.
+     */
+    private void assertAllocationFree(String what, Runnable operation) {
+        for (int i = 0; i < WARMUP; i++) {
+            operation.run();
+        }
+        long least = Long.MAX_VALUE;
+        long total = 0;
+        for (int attempt = 0; attempt < ATTEMPTS; attempt++) {
+            long before = threads.getCurrentThreadAllocatedBytes();
+            operation.run();
+            long bytes = threads.getCurrentThreadAllocatedBytes() - before;
+            least = Math.min(least, bytes);
+            total += bytes;
+        }
+        Assert.assertEquals(what + " allocated " + least + " bytes in every run", 0L, least);
+        Assert.assertTrue(what + " allocated " + total + " bytes", total <= NOISE);
+    }
+
+    /**
+     * Verifies that the reads, the searches and the writes of a list do not allocate memory.
+     *
+     * @param name the name of the list, for the messages of the failures.
+     * @param list the list, with the first {@link #SIZE} elements.
+     */
+    private void assertAccessAllocationFree(String name, final HList list) {
+        assertAllocationFree(name + ".get", () -> {
+            for (int i = 0; i < OPERATIONS; i++) {
+                list.get(i);
+            }
+        });
+        assertAllocationFree(name + ".set", () -> {
+            for (int i = 0; i < OPERATIONS; i++) {
+                list.set(i, ELEMENTS[i]);
+            }
+        });
+        assertAllocationFree(name + ".contains", () -> {
+            for (int i = 0; i < OPERATIONS; i++) {
+                list.contains(MISSING);
+            }
+        });
+        assertAllocationFree(name + ".indexOf", () -> {
+            for (int i = 0; i < OPERATIONS; i++) {
+                list.indexOf(ELEMENTS[i]);
+            }
+        });
+        assertAllocationFree(name + ".lastIndexOf", () -> {
+            for (int i = 0; i < OPERATIONS; i++) {
+                list.lastIndexOf(ELEMENTS[i]);
+            }
+        });
+    }
+
+    /**
+     * Verifies that appending to a list, within the capacity it has reserved for
+     * {@link #APPENDED} more elements, does not allocate memory.
+     *
+     * @param name the name of the list, for the messages of the failures.
+     * @param list the list, with the first {@link #SIZE} elements.
+     */
+    private void assertAppendAllocationFree(String name, final HList list) {
+        final int[] next = {SIZE};
+        assertAllocationFree(name + ".add", () -> {
+            for (int i = 0; i < APPENDS; i++) {
+                list.add(ELEMENTS[next[0]++]);
+            }
+        });
+        Assert.assertEquals(next[0], list.size());
+        Assert.assertEquals(ELEMENTS[next[0] - 1], list.get(next[0] - 1));
+    }
+
+    /**
+     * Returns a list with the first {@link #SIZE} elements.
+     *
+     * @param list the empty list.
+     * @return the list.
+     */
+    private static HList fill(HList list) {
+        for (int i = 0; i < SIZE; i++) {
+            list.add(ELEMENTS[i]);
+        }
+        return list;
+    }
+
+    /**
+     * Verifies that ListAdapter does not allocate memory on its hot paths, whatever its concurrency policy.
+     *
+     * @doc.testCaseDesign The test fills a ListAdapter with every concurrency policy, reserves the capacity of the appends and runs the operations.
+     * @doc.testDescription The test measures the bytes allocated by the thread during the operations.
+     * @doc.preCondition The lists contain 1024 elements.
+     * @doc.postCondition The lists contain 1824 elements.
+     * @doc.expectedResults The test expects no bytes to be allocated by get, set, contains, indexOf, lastIndexOf and add.
+     */
+    @Test
+    public void listAdapter_ShouldNotAllocate() {
+        HConcurrencyPolicy[] policies = {HConcurrencyPolicy.NONE, HConcurrencyPolicy.monitor(),
+                new ReadWriteConcurrencyPolicy(), new StampedConcurrencyPolicy()};
+        String[] names = {"none", "monitor", "read-write", "stamped"};
+        for (int p = 0; p < policies.length; p++) {
+            ListAdapter list = (ListAdapter) fill(new ListAdapter(policies[p]));
+            list.ensureCapacity(SIZE + APPENDED);
+            assertAccessAllocationFree("ListAdapter(" + names[p] + ")", list);
+            assertAppendAllocationFree("ListAdapter(" + names[p] + ")", list);
+        }
+    }
+
+    /**
+     * Verifies that the subLists of a ListAdapter, at every level, do not allocate memory on their hot paths.
+     *
+     * @doc.testCaseDesign The test takes a subList of a subList of a ListAdapter, reserves the capacity of the appends through it and runs the operations on it.
+     * @doc.testDescription The test measures the bytes allocated by the thread during the operations.
+     * @doc.preCondition The subList contains 1024 elements, between two elements of the outer lists.
+     * @doc.postCondition The subList contains 1824 elements, and the outer lists as many more.
+     * @doc.expectedResults The test expects no bytes to be allocated by get, set, contains, indexOf, lastIndexOf and add.
+     */
+    @Test
+    public void subList_ShouldNotAllocate() {
+        ListAdapter list = new ListAdapter();
+        list.add("first");
+        list.add("second");
+        fill(list);
+        list.add("last");
+        ListAdapter sub = (ListAdapter) list.subList(1, SIZE + 3).subList(1, SIZE + 1);
+        sub.ensureCapacity(SIZE + APPENDED);
+        assertAccessAllocationFree("subList", sub);
+        assertAppendAllocationFree("subList", sub);
+        Assert.assertEquals(sub.size() + 3, list.size());
+        Assert.assertEquals("last", list.get(list.size() - 1));
+    }
+
+    /**
+     * Verifies that SegmentedConcurrentList does not allocate memory on its hot paths.
+     *
+     * @doc.testCaseDesign The test fills a SegmentedConcurrentList and runs the operations, with the appends in the free part of its segment.
+     * @doc.testDescription The test measures the bytes allocated by the thread during the operations.
+     * @doc.preCondition The list contains 1024 elements, in a segment of 2048.
+     * @doc.postCondition The list contains 1824 elements, still in one segment.
+     * @doc.expectedResults The test expects no bytes to be allocated by get, set, contains, indexOf, lastIndexOf and the appends that fit in the last segment.
+     */
+    @Test
+    public void segmentedConcurrentList_ShouldNotAllocate() {
+        HList list = fill(new SegmentedConcurrentList(2 * SIZE));
+        assertAccessAllocationFree("SegmentedConcurrentList", list);
+        assertAppendAllocationFree("SegmentedConcurrentList", list);
+        Assert.assertEquals(1, ((SegmentedConcurrentList) list).segmentCount());
+    }
+
+    /**
+     * Verifies that AppendOnlyConcurrentList does not allocate memory on its hot paths.
+     *
+     * @doc.testCaseDesign The test fills an AppendOnlyConcurrentList and runs the operations, with the appends in the segment allocated by the last element.
+     * @doc.testDescription The test measures the bytes allocated by the thread during the operations.
+     * @doc.preCondition The list contains 1024 elements, the last ones in a segment of 1024 slots, which has room for 1008 more.
+     * @doc.postCondition The list contains 1824 elements.
+     * @doc.expectedResults The test expects no bytes to be allocated by get, set, contains, indexOf, lastIndexOf and add.
+     */
+    @Test
+    public void appendOnlyConcurrentList_ShouldNotAllocate() {
+        HList list = fill(new AppendOnlyConcurrentList());
+        assertAccessAllocationFree("AppendOnlyConcurrentList", list);
+        assertAppendAllocationFree("AppendOnlyConcurrentList", list);
+    }
+
+    /**
+     * Verifies that IntBufferHList does not allocate memory on its primitive accessors and on its searches.
+     *
+     * @doc.testCaseDesign The test fills an IntBufferHList, reserves the capacity of the appends and runs the primitive accessors and the searches.
+     * @doc.testDescription The test measures the bytes allocated by the thread during the operations.
+     * @doc.preCondition The list contains 1024 values.
+     * @doc.postCondition The list contains 1824 values.
+     * @doc.expectedResults The test expects no bytes to be allocated by getInt, setInt, indexOfInt, contains, indexOf, lastIndexOf and addInt.
+     */
+    @Test
+    public void intBufferHList_ShouldNotAllocate() {
+        final IntBufferHList list = new IntBufferHList();
+        for (int i = 0; i < SIZE; i++) {
+            list.addInt(1000 + i);
+        }
+        list.ensureCapacity(SIZE + APPENDED);
+        assertAllocationFree("IntBufferHList.getInt", () -> {
+            for (int i = 0; i < OPERATIONS; i++) {
+                list.getInt(i);
+            }
+        });
+        assertAllocationFree("IntBufferHList.setInt", () -> {
+            for (int i = 0; i < OPERATIONS; i++) {
+                list.setInt(i, 1000 + i);
+            }
+        });
+        assertAllocationFree("IntBufferHList.indexOfInt", () -> {
+            for (int i = 0; i < OPERATIONS; i++) {
+                list.indexOfInt(1000 + i);
+            }
+        });
+        assertAllocationFree("IntBufferHList.contains", () -> {
+            for (int i = 0; i < OPERATIONS; i++) {
+                list.contains(MISSING);
+            }
+        });
+        assertAllocationFree("IntBufferHList.indexOf", () -> {
+            for (int i = 0; i < OPERATIONS; i++) {
+                list.indexOf(ELEMENTS[i]);
+            }
+        });
+        assertAllocationFree("IntBufferHList.lastIndexOf", () -> {
+            for (int i = 0; i < OPERATIONS; i++) {
+                list.lastIndexOf(ELEMENTS[i]);
+            }
+        });
+        final int[] next = {SIZE};
+        assertAllocationFree("IntBufferHList.addInt", () -> {
+            for (int i = 0; i < APPENDS; i++) {
+                list.addInt(1000 + next[0]++);
+            }
+        });
+        Assert.assertEquals(next[0], list.size());
+        Assert.assertEquals(1000 + next[0] - 1, list.getInt(list.size() - 1));
+        Assert.assertEquals(5, list.indexOf(ELEMENTS[5]));
+        Assert.assertEquals(-1, list.indexOf("1005"));
+        Assert.assertEquals(-1, list.lastIndexOf(null));
+    }
+}
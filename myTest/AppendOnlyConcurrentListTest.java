@@ -0,0 +1,196 @@
+package myTest;
+
+import myAdapter.*;
+import myConcurrent.*;
+import org.junit.*;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * <p>
+ * Contains a series of unit tests designed to verify the functionality of the AppendOnlyConcurrentList class.
+ * </p>
+ * <p>
+ * Test Case Design: <br>
+ * The single thread tests check the list operations, including the mapping of indexes to segments
+ * across several segment boundaries and the unsupported operations. The multi thread tests start
+ * several appending threads together with readers and check that no element is lost and that
+ * readers only ever see a fully written prefix.
+ * </p>
+ *
+ * @author Matteo Trevisan
+ */
+public class AppendOnlyConcurrentListTest {
+
+    /*
+     * AppendOnlyConcurrentList Single Thread Family Tests
+     */
+
+    /**
+     * Verifies that appended elements can be read back across segment boundaries.
+     *
+     * @doc.testCaseDesign The test appends 5000 Integers, which span several segments, and reads them by index and by iterator.
+     * @doc.testDescription The test verifies the size and every element.
+     * @doc.preCondition The list is empty.
+     * @doc.postCondition The list contains the numbers from 0 to 4999.
+     * @doc.expectedResults The test expects every element to be at its index.
+     */
+    @Test
+    public void add_ShouldStore_AcrossSegments() {
+        AppendOnlyConcurrentList list = new AppendOnlyConcurrentList();
+        for (int i = 0; i < 5000; i++) {
+            Assert.assertTrue(list.add(Integer.valueOf(i)));
+        }
+        Assert.assertEquals(5000, list.size());
+        for (int i = 0; i < 5000; i++) {
+            Assert.assertEquals(Integer.valueOf(i), list.get(i));
+        }
+        HIterator it = list.iterator();
+        int expected = 0;
+        while (it.hasNext()) {
+            Assert.assertEquals(Integer.valueOf(expected++), it.next());
+        }
+        Assert.assertEquals(5000, expected);
+    }
+
+    /**
+     * Verifies that null elements are stored and that set replaces an element.
+     *
+     * @doc.testCaseDesign The test appends a null element and a String, then replaces them.
+     * @doc.testDescription The test verifies that null is returned for the null element and that set returns the old values.
+     * @doc.preCondition The list is empty.
+     * @doc.postCondition The list contains "a", null.
+     * @doc.expectedResults The test expects null, "b" as old values and [a, null].
+     */
+    @Test
+    public void nullAndSet_ShouldBe_Supported() {
+        AppendOnlyConcurrentList list = new AppendOnlyConcurrentList();
+        list.add(null);
+        list.add("b");
+        Assert.assertNull(list.get(0));
+        Assert.assertEquals(0, list.indexOf(null));
+        Assert.assertNull(list.set(0, "a"));
+        Assert.assertEquals("b", list.set(1, null));
+        Assert.assertEquals("[a, null]", list.toString());
+    }
+
+    /**
+     * Verifies that addAll appends the elements in order and that the list equals a ListAdapter with the same elements.
+     *
+     * @doc.testCaseDesign The test appends a ListAdapter of three elements with addAll.
+     * @doc.testDescription The test verifies the order, equals and hashCode.
+     * @doc.preCondition The list contains one element.
+     * @doc.postCondition The list contains four elements.
+     * @doc.expectedResults The test expects the list to be equal to the ListAdapter [x, a, b, c].
+     */
+    @Test
+    public void addAll_ShouldAppend_InOrder() {
+        AppendOnlyConcurrentList list = new AppendOnlyConcurrentList();
+        list.add("x");
+        ListAdapter other = new ListAdapter();
+        other.add("a");
+        other.add("b");
+        other.add("c");
+        Assert.assertTrue(list.addAll(other));
+        Assert.assertFalse(list.addAll(new ListAdapter()));
+        ListAdapter expected = new ListAdapter();
+        expected.add("x");
+        expected.addAll(other);
+        Assert.assertEquals(expected, list);
+        Assert.assertEquals(list, expected);
+        Assert.assertEquals(expected.hashCode(), list.hashCode());
+    }
+
+    /**
+     * Verifies that insertions and removals are not supported.
+     *
+     * @doc.testCaseDesign The test calls add at an index, remove by index and by element, and clear on a list of one element.
+     * @doc.testDescription The test verifies that each call throws an UnsupportedOperationException and leaves the list unchanged.
+     * @doc.preCondition The list contains "a".
+     * @doc.postCondition The list still contains "a".
+     * @doc.expectedResults The test expects an UnsupportedOperationException for every call.
+     */
+    @Test
+    public void structuralChanges_ShouldThrow_UnsupportedOperationException() {
+        AppendOnlyConcurrentList list = new AppendOnlyConcurrentList();
+        list.add("a");
+        Assert.assertThrows(myAdapter.UnsupportedOperationException.class, () -> list.add(0, "b"));
+        Assert.assertThrows(myAdapter.UnsupportedOperationException.class, () -> list.remove(0));
+        Assert.assertThrows(myAdapter.UnsupportedOperationException.class, () -> list.remove("a"));
+        Assert.assertThrows(myAdapter.UnsupportedOperationException.class, list::clear);
+        Assert.assertEquals(1, list.size());
+    }
+
+    /**
+     * Verifies that get checks the index against the published size.
+     *
+     * @doc.testCaseDesign The test reads the index equal to the size and a negative index.
+     * @doc.testDescription The test verifies that an IndexOutOfBoundsException is thrown.
+     * @doc.preCondition The list contains one element.
+     * @doc.postCondition The list is unchanged.
+     * @doc.expectedResults The test expects an IndexOutOfBoundsException for both calls.
+     */
+    @Test
+    public void get_ShouldThrow_IndexException() {
+        AppendOnlyConcurrentList list = new AppendOnlyConcurrentList();
+        list.add("a");
+        Assert.assertThrows(IndexOutOfBoundsException.class, () -> list.get(1));
+        Assert.assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1));
+    }
+
+    /*
+     * AppendOnlyConcurrentList Multi Thread Family Tests
+     */
+
+    /**
+     * Verifies that concurrent appends are neither lost nor duplicated and that readers see a consistent prefix.
+     *
+     * @doc.testCaseDesign 8 threads append 20000 distinct Integers each, while a reader repeatedly reads the last 100 elements below the current size.
+     * @doc.testDescription The test verifies that the reader never finds a missing element and that every appended value is present exactly once.
+     * @doc.preCondition The list is empty.
+     * @doc.postCondition The list contains 160000 elements.
+     * @doc.expectedResults The test expects no reader error, a size of 160000 and every value present once.
+     * @throws InterruptedException if the test thread is interrupted.
+     */
+    @Test
+    public void concurrentAdd_ShouldPublish_ConsistentPrefix() throws InterruptedException {
+        final AppendOnlyConcurrentList list = new AppendOnlyConcurrentList();
+        final int threads = 8;
+        final int perThread = 20000;
+        final boolean[] readerError = new boolean[1];
+        final AtomicBoolean done = new AtomicBoolean();
+        Thread reader = new Thread(() -> {
+            while (!done.get()) {
+                int size = list.size();
+                for (int i = Math.max(0, size - 100); i < size; i++) {
+                    if (list.get(i) == null)
+                        readerError[0] = true;
+                }
+            }
+        });
+        reader.start();
+        Thread[] writers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            final int base = t * perThread;
+            writers[t] = new Thread(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    list.add(Integer.valueOf(base + i));
+                }
+            });
+            writers[t].start();
+        }
+        for (int t = 0; t < threads; t++) {
+            writers[t].join();
+        }
+        done.set(true);
+        reader.join();
+        Assert.assertFalse(readerError[0]);
+        Assert.assertEquals(threads * perThread, list.size());
+        boolean[] seen = new boolean[threads * perThread];
+        for (int i = 0; i < list.size(); i++) {
+            int value = ((Integer) list.get(i)).intValue();
+            Assert.assertFalse(seen[value]);
+            seen[value] = true;
+        }
+    }
+}
@@ -0,0 +1,288 @@
+package myTest;
+
+import myAdapter.*;
+import org.junit.*;
+
+import java.lang.management.ManagementFactory;
+import java.util.Vector;
+import java.util.function.IntFunction;
+
+/**
+ * <p>
+ * Contains a series of tests that check the asymptotic cost of the operations of ListAdapter.
+ * </p>
+ * <p>
+ * Test Case Design: <br>
+ * Timing is too noisy to tell a linear operation from a quadratic one reliably, so the tests
+ * count the work instead. The list under test stores its elements in a Vector that counts the
+ * elements written or moved, and its elements count the calls to their {@code equals}. Every
+ * operation is run on lists of 512 to 8192 elements, doubling each time, and the exponent of its
+ * growth is fitted by least squares on the logarithms of the sizes and of the counts. A test fails
+ * when the exponent exceeds the one declared for the operation by more than
+ * {@link #TOLERANCE}. {@code toString} does no such work, so its cost is the number of bytes
+ * allocated by the thread, where the JVM can measure it.
+ * </p>
+ *
+ * @author Matteo Trevisan
+ */
+@RunSerially
+public class ComplexityRegressionTest {
+
+    /**
+     * The amount by which a fitted exponent may exceed the declared one.
+     */
+    private static final double TOLERANCE = 0.2;
+
+    /**
+     * The sizes at which the operations are run.
+     */
+    private static final int[] SIZES = {512, 1024, 2048, 4096, 8192};
+
+    /**
+     * The number of calls to {@link Probe#equals(Object)}.
+     */
+    private static long equalsCalls;
+
+    /**
+     * An element that counts the calls to its {@code equals}.
+     */
+    private static final class Probe {
+        /**
+         * The value of the element.
+         */
+        private final int value;
+
+        /**
+         * Constructs an element.
+         *
+         * @param value the value of the element.
+         */
+        Probe(int value) {
+            this.value = value;
+        }
+
+        public boolean equals(Object o) {
+            equalsCalls++;
+            return o instanceof Probe && ((Probe) o).value == value;
+        }
+
+        public int hashCode() {
+            return value;
+        }
+
+        public String toString() {
+            return "p" + value;
+        }
+    }
+
+    /**
+     * A Vector that counts the elements written or moved by its methods.
+     */
+    private static final class CountingVector extends Vector {
+        /**
+         * The number of elements written or moved.
+         */
+        long writes;
+
+        public synchronized void setElementAt(Object obj, int index) {
+            writes++;
+            super.setElementAt(obj, index);
+        }
+
+        public synchronized void insertElementAt(Object obj, int index) {
+            writes += size() - index + 1;
+            super.insertElementAt(obj, index);
+        }
+
+        public synchronized void removeElementAt(int index) {
+            writes += size() - index - 1;
+            super.removeElementAt(index);
+        }
+    }
+
+    /**
+     * A ListAdapter whose backing storage is a CountingVector.
+     */
+    private static final class InstrumentedList extends ListAdapter {
+        /**
+         * Constructs an empty list backed by the specified vector.
+         *
+         * @param storage the vector.
+         */
+        InstrumentedList(CountingVector storage) {
+            super(HConcurrencyPolicy.NONE);
+            vec = storage;
+        }
+    }
+
+    /**
+     * An operation whose cost is measured.
+     */
+    private interface Operation {
+        /**
+         * Runs the operation.
+         *
+         * @param list the list, filled with {@code n} elements.
+         * @param n    the size of the list.
+         */
+        void run(HList list, int n);
+    }
+
+    /**
+     * Returns the exponent fitted by least squares to the specified costs, measured at {@link #SIZES}.
+     *
+     * @param costs the costs.
+     * @return the exponent.
+     */
+    private static double fit(long[] costs) {
+        double sx = 0, sy = 0, sxx = 0, sxy = 0;
+        int m = SIZES.length;
+        for (int i = 0; i < m; i++) {
+            double x = Math.log(SIZES[i]);
+            double y = Math.log(costs[i] + 1);
+            sx += x;
+            sy += y;
+            sxx += x * x;
+            sxy += x * y;
+        }
+        return (m * sxy - sx * sy) / (m * sxx - sx * sx);
+    }
+
+    /**
+     * Fills an instrumented list at every size and fits the growth exponent of the writes and
+     * {@code equals} calls of the operation, then checks it against the declared one.
+     *
+     * @param name     the name of the operation, for the message.
+     * @param declared the declared exponent: 0 for constant, 1 for linear.
+     * @param element  the element at every index of the list.
+     * @param op       the operation.
+     */
+    private static void assertGrowth(String name, int declared, IntFunction<Object> element, Operation op) {
+        long[] costs = new long[SIZES.length];
+        for (int s = 0; s < SIZES.length; s++) {
+            int n = SIZES[s];
+            CountingVector storage = new CountingVector();
+            InstrumentedList list = new InstrumentedList(storage);
+            for (int i = 0; i < n; i++) {
+                list.add(element.apply(i));
+            }
+            storage.writes = 0;
+            equalsCalls = 0;
+            op.run(list, n);
+            costs[s] = storage.writes + equalsCalls;
+        }
+        double exponent = fit(costs);
+        Assert.assertTrue(name + " grows as n^" + Math.round(exponent * 100) / 100.0 + ", declared n^" + declared,
+                exponent <= declared + TOLERANCE);
+    }
+
+    /**
+     * Checks the growth of the operation on a list of distinct Probes.
+     *
+     * @param name     the name of the operation, for the message.
+     * @param declared the declared exponent: 0 for constant, 1 for linear.
+     * @param op       the operation.
+     */
+    private static void assertGrowth(String name, int declared, Operation op) {
+        assertGrowth(name, declared, Probe::new, op);
+    }
+
+    /**
+     * Returns a ListAdapter of the Probes from 0 to {@code n - 1}.
+     *
+     * @param n the number of elements.
+     * @return the list.
+     */
+    private static ListAdapter probes(int n) {
+        ListAdapter list = new ListAdapter(HConcurrencyPolicy.NONE);
+        for (int i = 0; i < n; i++) {
+            list.add(new Probe(i));
+        }
+        return list;
+    }
+
+    /**
+     * Verifies that the operations on a single element at a known position do constant work.
+     *
+     * @doc.testCaseDesign The test runs get, set, append and removal of the last element at every size.
+     * @doc.testDescription The test fits the growth of the elements moved and of the equals calls.
+     * @doc.preCondition The lists contain distinct Probes.
+     * @doc.postCondition The lists are discarded.
+     * @doc.expectedResults The test expects an exponent of at most 0.2 for every operation.
+     */
+    @Test
+    public void elementOperations_ShouldBe_Constant() {
+        assertGrowth("get", 0, (list, n) -> list.get(n / 2));
+        assertGrowth("set", 0, (list, n) -> list.set(n / 2, new Probe(-1)));
+        assertGrowth("add", 0, (list, n) -> list.add(new Probe(-1)));
+        assertGrowth("remove(last)", 0, (list, n) -> list.remove(n - 1));
+    }
+
+    /**
+     * Verifies that the operations that shift or scan the list do linear work.
+     *
+     * @doc.testCaseDesign The test runs insertion and removal at the head, indexOf, contains, equals, hashCode and addAll at the head at every size.
+     * @doc.testDescription The test fits the growth of the elements moved and of the equals calls.
+     * @doc.preCondition The lists contain distinct Probes.
+     * @doc.postCondition The lists are discarded.
+     * @doc.expectedResults The test expects an exponent of at most 1.2 for every operation.
+     */
+    @Test
+    public void scanningOperations_ShouldBe_Linear() {
+        assertGrowth("add(0)", 1, (list, n) -> list.add(0, new Probe(-1)));
+        assertGrowth("remove(0)", 1, (list, n) -> list.remove(0));
+        assertGrowth("indexOf", 1, (list, n) -> list.indexOf(new Probe(-1)));
+        assertGrowth("contains", 1, (list, n) -> list.contains(new Probe(-1)));
+        assertGrowth("equals", 1, (list, n) -> list.equals(probes(n)));
+        assertGrowth("hashCode", 1, (list, n) -> list.hashCode());
+        assertGrowth("addAll(0)", 1, (list, n) -> list.addAll(0, probes(n)));
+        assertGrowth("addAll", 1, (list, n) -> list.addAll(probes(n)));
+    }
+
+    /**
+     * Verifies that the operations that remove many elements do linear work.
+     *
+     * @doc.testCaseDesign The test runs clear, the clear of a subList, and removeAll and retainAll of a collection of one element that occurs at every other position, at every size.
+     * @doc.testDescription The test fits the growth of the elements moved and of the equals calls.
+     * @doc.preCondition The lists contain distinct Probes, or Probes of value 0 and 1 alternated.
+     * @doc.postCondition The lists are discarded.
+     * @doc.expectedResults The test expects an exponent of at most 1.2 for every operation.
+     */
+    @Test
+    public void bulkRemovals_ShouldBe_Linear() {
+        assertGrowth("clear", 1, (list, n) -> list.clear());
+        assertGrowth("subList.clear", 1, (list, n) -> list.subList(n / 4, n - n / 4).clear());
+        ListAdapter zero = new ListAdapter();
+        zero.add(new Probe(0));
+        assertGrowth("removeAll", 1, i -> new Probe(i % 2), (list, n) -> list.removeAll(zero));
+        assertGrowth("retainAll", 1, i -> new Probe(i % 2), (list, n) -> list.retainAll(zero));
+    }
+
+    /**
+     * Verifies that toString allocates memory linear in the length of the list.
+     *
+     * @doc.testCaseDesign The test calls toString at every size and measures the bytes allocated by the thread, if the JVM supports it.
+     * @doc.testDescription The test fits the growth of the allocated bytes.
+     * @doc.preCondition The lists contain distinct Probes.
+     * @doc.postCondition The lists are discarded.
+     * @doc.expectedResults The test expects an exponent of at most 1.2.
+     */
+    @Test
+    public void toString_ShouldBe_Linear() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+        Assume.assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled());
+        long id = Thread.currentThread().getId();
+        long[] costs = new long[SIZES.length];
+        for (int s = 0; s < SIZES.length; s++) {
+            ListAdapter list = probes(SIZES[s]);
+            list.toString();
+            long before = threads.getThreadAllocatedBytes(id);
+            list.toString();
+            costs[s] = threads.getThreadAllocatedBytes(id) - before;
+        }
+        double exponent = fit(costs);
+        Assert.assertTrue("toString grows as n^" + Math.round(exponent * 100) / 100.0, exponent <= 1 + TOLERANCE);
+    }
+}
@@ -0,0 +1,274 @@
+package myTest;
+
+import myAdapter.*;
+import myConcurrent.*;
+import org.junit.*;
+
+/**
+ * <p>
+ * Contains a series of unit tests designed to verify the behavior of ListAdapter under every
+ * HConcurrencyPolicy: none, monitor, read-write and stamped.
+ * </p>
+ * <p>
+ * Test Case Design: <br>
+ * The single thread tests check that each policy leaves the semantics of the list unchanged and that
+ * compound operations on a list and its own subLists do not deadlock, even with the non-reentrant
+ * stamped lock. The multi thread tests start several threads on a shared list and check that no
+ * update is lost and that compound operations are atomic.
+ * </p>
+ *
+ * @author Matteo Trevisan
+ */
+public class ConcurrencyPolicyTest {
+
+    /**
+     * Returns one new instance of every policy.
+     *
+     * @return the policies.
+     */
+    private static HConcurrencyPolicy[] policies() {
+        return new HConcurrencyPolicy[]{
+                HConcurrencyPolicy.NONE,
+                HConcurrencyPolicy.monitor(),
+                new ReadWriteConcurrencyPolicy(),
+                new StampedConcurrencyPolicy()
+        };
+    }
+
+    /**
+     * Returns one new instance of every policy that can be shared between threads.
+     *
+     * @return the policies.
+     */
+    private static HConcurrencyPolicy[] sharedPolicies() {
+        return new HConcurrencyPolicy[]{
+                HConcurrencyPolicy.monitor(),
+                new ReadWriteConcurrencyPolicy(),
+                new StampedConcurrencyPolicy()
+        };
+    }
+
+    /**
+     * Runs the specified task on the specified number of threads and waits for all of them.
+     *
+     * @param threads the number of threads.
+     * @param task    the task to run.
+     * @throws InterruptedException if the test thread is interrupted.
+     */
+    private static void runThreads(int threads, Runnable task) throws InterruptedException {
+        Thread[] workers = new Thread[threads];
+        for (int i = 0; i < threads; i++) {
+            workers[i] = new Thread(task);
+            workers[i].start();
+        }
+        for (int i = 0; i < threads; i++) {
+            workers[i].join();
+        }
+    }
+
+    /*
+     * HConcurrencyPolicy Single Thread Family Tests
+     */
+
+    /**
+     * Verifies that the basic operations behave in the same way under every policy.
+     *
+     * @doc.testCaseDesign For each policy, the test creates a list, adds, sets, removes and searches elements.
+     * @doc.testDescription The test verifies the contents of the list after each operation.
+     * @doc.preCondition The list is empty.
+     * @doc.postCondition The list contains "a", "c".
+     * @doc.expectedResults The test expects the same results for every policy.
+     */
+    @Test
+    public void basicOperations_ShouldWork_UnderEveryPolicy() {
+        HConcurrencyPolicy[] policies = policies();
+        for (int i = 0; i < policies.length; i++) {
+            ListAdapter list = new ListAdapter(policies[i]);
+            list.add("a");
+            list.add("b");
+            list.add(null);
+            list.set(1, "c");
+            Assert.assertEquals(3, list.size());
+            Assert.assertEquals(2, list.indexOf(null));
+            Assert.assertTrue(list.contains("c"));
+            Assert.assertNull(list.remove(2));
+            Assert.assertEquals("[a, c]", list.toString());
+            Assert.assertThrows(IndexOutOfBoundsException.class, () -> list.get(2));
+        }
+    }
+
+    /**
+     * Verifies that compound operations between a list and its own subLists do not deadlock.
+     *
+     * @doc.testCaseDesign For each policy, the test adds a subList to its list, compares them and removes the elements of a subList.
+     * @doc.testDescription The test verifies that the operations complete, even with the non-reentrant stamped policy.
+     * @doc.preCondition The list contains "a", "b".
+     * @doc.postCondition The list is empty.
+     * @doc.expectedResults The test expects [a, b, a, b], then an empty list.
+     */
+    @Test
+    public void subListOperations_ShouldNotDeadlock() {
+        HConcurrencyPolicy[] policies = policies();
+        for (int i = 0; i < policies.length; i++) {
+            ListAdapter list = new ListAdapter(policies[i]);
+            list.add("a");
+            list.add("b");
+            list.addAll(list.subList(0, 2));
+            Assert.assertEquals("[a, b, a, b]", list.toString());
+            Assert.assertTrue(list.subList(0, 2).equals(list.subList(2, 4)));
+            Assert.assertTrue(list.containsAll(list.subList(1, 3)));
+            list.removeAll(list.subList(0, 2));
+            Assert.assertTrue(list.isEmpty());
+        }
+    }
+
+    /**
+     * Verifies that a list can be added to itself.
+     *
+     * @doc.testCaseDesign The test creates a list of two elements and adds it to itself.
+     * @doc.testDescription The test verifies that the elements are read before the list is modified.
+     * @doc.preCondition The list contains "a", "b".
+     * @doc.postCondition The list contains four elements.
+     * @doc.expectedResults The test expects [a, b, a, b].
+     */
+    @Test
+    public void addAll_ShouldAdd_ItselfOnce() {
+        ListAdapter list = new ListAdapter(new StampedConcurrencyPolicy());
+        list.add("a");
+        list.add("b");
+        Assert.assertTrue(list.addAll(list));
+        Assert.assertEquals("[a, b, a, b]", list.toString());
+    }
+
+    /**
+     * Verifies that the monitor policy is reentrant and can only be released by its owner.
+     *
+     * @doc.testCaseDesign The test acquires the monitor policy twice, releases it twice, then releases it once more.
+     * @doc.testDescription The test verifies that the nested acquisition does not block and that the extra release throws.
+     * @doc.preCondition The policy is free.
+     * @doc.postCondition The policy is free.
+     * @doc.expectedResults The test expects an IllegalStateException on the extra release.
+     */
+    @Test
+    public void monitorPolicy_ShouldBe_Reentrant() {
+        HConcurrencyPolicy policy = HConcurrencyPolicy.monitor();
+        policy.writeLock();
+        policy.readLock();
+        policy.readUnlock();
+        policy.writeUnlock();
+        Assert.assertThrows(myAdapter.IllegalStateException.class, policy::writeUnlock);
+    }
+
+    /**
+     * Verifies that the stamped policy rejects a release that does not match an acquisition.
+     *
+     * @doc.testCaseDesign The test releases the free stamped policy, then releases it in the mode it was not acquired in.
+     * @doc.testDescription The test verifies that every unbalanced release throws and leaves the lock usable.
+     * @doc.preCondition The policy is free.
+     * @doc.postCondition The policy is free.
+     * @doc.expectedResults The test expects an IllegalMonitorStateException on every unbalanced release.
+     */
+    @Test
+    public void stampedPolicy_ShouldReject_UnbalancedUnlock() {
+        HConcurrencyPolicy policy = new StampedConcurrencyPolicy();
+        Assert.assertThrows(IllegalMonitorStateException.class, policy::readUnlock);
+        Assert.assertThrows(IllegalMonitorStateException.class, policy::writeUnlock);
+        policy.readLock();
+        Assert.assertThrows(IllegalMonitorStateException.class, policy::writeUnlock);
+        policy.readUnlock();
+        policy.writeLock();
+        Assert.assertThrows(IllegalMonitorStateException.class, policy::readUnlock);
+        policy.writeUnlock();
+        Assert.assertTrue(policy.validate(policy.tryOptimisticRead()));
+    }
+
+    /**
+     * Verifies that a null policy is rejected.
+     *
+     * @doc.testCaseDesign The test creates a list with a null policy.
+     * @doc.testDescription The test verifies that a NullPointerException is thrown.
+     * @doc.preCondition None.
+     * @doc.postCondition The exception is thrown.
+     * @doc.expectedResults The test expects a NullPointerException.
+     */
+    @Test
+    public void nullPolicy_ShouldThrow_NullPointerException() {
+        Assert.assertThrows(NullPointerException.class, () -> new ListAdapter((HConcurrencyPolicy) null));
+    }
+
+    /*
+     * HConcurrencyPolicy Multi Thread Family Tests
+     */
+
+    /**
+     * Verifies that concurrent appends are not lost.
+     *
+     * @doc.testCaseDesign For each shared policy, 8 threads append 2000 elements each to the same list.
+     * @doc.testDescription The test verifies that the size of the list and of the backing storage match the number of appends.
+     * @doc.preCondition The list is empty.
+     * @doc.postCondition The list contains 16000 elements.
+     * @doc.expectedResults The test expects a size of 16000.
+     * @throws InterruptedException if the test thread is interrupted.
+     */
+    @Test
+    public void concurrentAdd_ShouldNotLose_Elements() throws InterruptedException {
+        HConcurrencyPolicy[] policies = sharedPolicies();
+        for (int p = 0; p < policies.length; p++) {
+            final ListAdapter list = new ListAdapter(policies[p]);
+            runThreads(8, () -> {
+                for (int i = 0; i < 2000; i++) {
+                    list.add(Integer.valueOf(i));
+                }
+            });
+            Assert.assertEquals(policies[p].toString(), 16000, list.size());
+            Assert.assertEquals(policies[p].toString(), 16000, list.toArray().length);
+        }
+    }
+
+    /**
+     * Verifies that concurrent removals by index are atomic.
+     *
+     * @doc.testCaseDesign For each shared policy, 8 threads remove the first element of a list of 16000 elements 2000 times each, while another thread reads it.
+     * @doc.testDescription The test verifies that every element has been removed exactly once.
+     * @doc.preCondition The list contains the numbers from 0 to 15999.
+     * @doc.postCondition The list is empty.
+     * @doc.expectedResults The test expects an empty list and the sum of the removed elements to be the sum of the initial ones.
+     * @throws InterruptedException if the test thread is interrupted.
+     */
+    @Test
+    public void concurrentRemove_ShouldBe_Atomic() throws InterruptedException {
+        HConcurrencyPolicy[] policies = sharedPolicies();
+        for (int p = 0; p < policies.length; p++) {
+            final ListAdapter list = new ListAdapter(policies[p]);
+            for (int i = 0; i < 16000; i++) {
+                list.add(Integer.valueOf(i));
+            }
+            final long[] sum = new long[1];
+            Thread reader = new Thread(() -> {
+                while (!list.isEmpty()) {
+                    try {
+                        list.get(0);
+                        list.contains(Integer.valueOf(15999));
+                    } catch (IndexOutOfBoundsException e) {
+                        // the list became empty between the check and the read
+                    }
+                }
+            });
+            reader.start();
+            runThreads(8, () -> {
+                long local = 0;
+                for (int i = 0; i < 2000; i++) {
+                    local += ((Integer) list.remove(0)).intValue();
+                }
+                synchronized (sum) {
+                    sum[0] += local;
+                }
+            });
+            reader.join();
+            while (!list.isEmpty()) {
+                sum[0] += ((Integer) list.remove(0)).intValue();
+            }
+            Assert.assertEquals(policies[p].toString(), 16000L * 15999L / 2, sum[0]);
+        }
+    }
+}
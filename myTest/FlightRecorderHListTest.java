@@ -0,0 +1,205 @@
+package myTest;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import myAdapter.*;
+import myMonitor.*;
+import org.junit.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * <p>
+ * Contains a series of unit tests designed to verify the functionality of the FlightRecorderHList class.
+ * </p>
+ * <p>
+ * Test Case Design: <br>
+ * Every test starts a Flight Recorder recording in the process, with the thresholds it needs,
+ * makes operations on a decorated ListAdapter, then dumps the recording to a temporary file and
+ * reads back the events of the lists.
+ * </p>
+ *
+ * @author Matteo Trevisan
+ */
+@RunSerially
+public class FlightRecorderHListTest {
+
+    /**
+     * The names of the events of the lists.
+     */
+    private static final String[] EVENTS = {"myMonitor.ListShift", "myMonitor.ListBulkRemove",
+            "myMonitor.ListScan", "myMonitor.ListToString"};
+
+    /**
+     * The file of the recording.
+     */
+    private Path file;
+
+    /**
+     * Creates the name of the temporary file.
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    @Before
+    public void setup() throws IOException {
+        file = Files.createTempFile("list", ".jfr");
+    }
+
+    /**
+     * Deletes the temporary file.
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    @After
+    public void cleanup() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    /**
+     * Returns a decorated ListAdapter of the Integers from 0 to {@code n - 1}.
+     *
+     * @param n           the number of elements.
+     * @param minElements the minimum range of the events.
+     * @return the list.
+     */
+    private static FlightRecorderHList filled(int n, int minElements) {
+        ListAdapter list = new ListAdapter();
+        for (int i = 0; i < n; i++) {
+            list.add(Integer.valueOf(i));
+        }
+        return new FlightRecorderHList(list, minElements);
+    }
+
+    /**
+     * Starts a recording of the events of the lists with the specified threshold.
+     *
+     * @param threshold the threshold of every event.
+     * @return the recording.
+     */
+    private static Recording start(Duration threshold) {
+        Recording recording = new Recording();
+        for (int i = 0; i < EVENTS.length; i++) {
+            recording.enable(EVENTS[i]).withThreshold(threshold).withoutStackTrace();
+        }
+        recording.start();
+        return recording;
+    }
+
+    /**
+     * Stops the specified recording and returns its events of the lists emitted by the current
+     * thread, since a recording also sees the lists of any other thread still running.
+     *
+     * @param recording the recording.
+     * @return the events.
+     * @throws IOException if an I/O error occurs.
+     */
+    private List<RecordedEvent> stop(Recording recording) throws IOException {
+        recording.stop();
+        recording.dump(file);
+        recording.close();
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        long thread = Thread.currentThread().getId();
+        events.removeIf(e -> !e.getEventType().getName().startsWith("myMonitor.")
+                || e.getThread() == null || e.getThread().getJavaThreadId() != thread);
+        return events;
+    }
+
+    /**
+     * Returns the only event of the specified operation.
+     *
+     * @param events    the events.
+     * @param operation the operation.
+     * @return the event.
+     */
+    private static RecordedEvent only(List<RecordedEvent> events, String operation) {
+        RecordedEvent found = null;
+        for (RecordedEvent e : events) {
+            if (operation.equals(e.getString("operation"))) {
+                Assert.assertNull("Two events of " + operation, found);
+                found = e;
+            }
+        }
+        Assert.assertNotNull("No event of " + operation, found);
+        return found;
+    }
+
+    /**
+     * Verifies that the operations on large ranges emit their events.
+     *
+     * @doc.testCaseDesign The test inserts and removes at the head and at the tail of a list of 5000 elements with a minimum of 1000, searches it, prints it and clears half of it through a subList.
+     * @doc.testDescription The test reads the events with a threshold of 0 and verifies their type, size and range.
+     * @doc.preCondition The list contains the Integers from 0 to 4999.
+     * @doc.postCondition The list contains 2500 elements.
+     * @doc.expectedResults The test expects one event for every operation on a range of at least 1000 elements, and none for the others.
+     * @throws IOException if an I/O error occurs.
+     */
+    @Test
+    public void largeOperations_ShouldEmit_Events() throws IOException {
+        FlightRecorderHList list = filled(5000, 1000);
+        Recording recording = start(Duration.ZERO);
+        list.add(0, "head");
+        list.add(4999, "tail");
+        Assert.assertEquals("head", list.remove(0));
+        Assert.assertEquals(4998, list.indexOf("tail"));
+        Assert.assertTrue(list.contains(Integer.valueOf(3)));
+        list.toString();
+        list.subList(0, 2500).clear();
+        List<RecordedEvent> events = stop(recording);
+        Assert.assertEquals(events.toString(), 5, events.size());
+        RecordedEvent add = only(events, "add-at");
+        Assert.assertEquals("myMonitor.ListShift", add.getEventType().getName());
+        Assert.assertEquals(5000, add.getInt("listSize"));
+        Assert.assertEquals(5000, add.getInt("rangeLength"));
+        Assert.assertEquals(5001, only(events, "remove-at").getInt("rangeLength"));
+        Assert.assertEquals(4999, only(events, "indexOf").getInt("rangeLength"));
+        RecordedEvent string = only(events, "toString");
+        Assert.assertEquals("myMonitor.ListToString", string.getEventType().getName());
+        Assert.assertEquals(5001, string.getInt("rangeLength"));
+        RecordedEvent clear = only(events, "clear");
+        Assert.assertEquals("myMonitor.ListBulkRemove", clear.getEventType().getName());
+        Assert.assertEquals(2500, clear.getInt("listSize"));
+        Assert.assertFalse(clear.getDuration().isNegative());
+        Assert.assertEquals(2501, list.size());
+    }
+
+    /**
+     * Verifies that the duration threshold and a disabled recording suppress the events.
+     *
+     * @doc.testCaseDesign The test makes large operations with a threshold of one hour, then with no recording, then starts a recording that enables only the bulk removals.
+     * @doc.testDescription The test reads the events of the recordings and verifies the results of the operations.
+     * @doc.preCondition The list contains 5000 elements.
+     * @doc.postCondition The list is empty.
+     * @doc.expectedResults The test expects no event with the long threshold and only the bulk removal in the last recording.
+     * @throws IOException if an I/O error occurs.
+     */
+    @Test
+    public void thresholds_ShouldSuppress_Events() throws IOException {
+        FlightRecorderHList list = filled(5000, 0);
+        Recording slow = start(Duration.ofHours(1));
+        list.add(0, "head");
+        list.remove(0);
+        list.clear();
+        Assert.assertTrue(stop(slow).isEmpty());
+        list.addAll(filled(5000, 0));
+        Assert.assertEquals(-1, list.indexOf("x"));
+        list.add(0, "head");
+        Recording bulk = new Recording();
+        bulk.enable("myMonitor.ListBulkRemove").withThreshold(Duration.ZERO);
+        bulk.start();
+        Assert.assertEquals(1, list.lastIndexOf("head") + 1);
+        ListAdapter head = new ListAdapter();
+        head.add("head");
+        Assert.assertTrue(list.retainAll(head));
+        List<RecordedEvent> events = stop(bulk);
+        Assert.assertEquals(events.toString(), 1, events.size());
+        Assert.assertEquals(5000, only(events, "retainAll").getInt("rangeLength"));
+        list.clear();
+        Assert.assertTrue(list.isEmpty());
+        Assert.assertThrows(IllegalArgumentException.class, () -> new FlightRecorderHList(list, -1));
+    }
+}
@@ -0,0 +1,252 @@
+package myTest;
+
+import com.sun.management.HotSpotDiagnosticMXBean;
+import myAdapter.*;
+import myConcurrent.*;
+import myIO.*;
+import org.junit.*;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.IntFunction;
+
+/**
+ * <p>
+ * Contains a series of unit tests designed to verify the memory footprint estimated by the lists
+ * and the HSizeModel class.
+ * </p>
+ * <p>
+ * Test Case Design: <br>
+ * The estimates of the heap are compared with the growth of the used heap, measured once the
+ * garbage collections have made it stable, while large lists are built. The model is chosen by
+ * asking the virtual machine whether it compresses its references. The parts of the footprint
+ * that do not depend on the heap, such as the spare capacity and the bytes outside the heap, are
+ * checked exactly.
+ * </p>
+ *
+ * @author Matteo Trevisan
+ */
+@RunSerially
+public class FootprintTest {
+
+    /**
+     * The largest relative difference allowed between an estimate and the measured heap.
+     */
+    private static final double TOLERANCE = 0.1;
+
+    /**
+     * The bytes by which the used heap may drift between two measures without the lists, such as
+     * the soft reference caches of the tests that ran before, cleared by the collector at will.
+     */
+    private static final long DRIFT = 1 << 20;
+
+    /**
+     * The largest change of the used heap between two collections for it to be considered stable.
+     */
+    private static final long STABLE = 64 << 10;
+
+    /**
+     * The most collections made while waiting for the used heap to be stable.
+     */
+    private static final int MAX_COLLECTIONS = 20;
+
+    /**
+     * The most times a measure is repeated when the used heap without the list has drifted.
+     */
+    private static final int ATTEMPTS = 3;
+
+    /**
+     * Returns the model of the running virtual machine.
+     *
+     * @return the model.
+     */
+    private static HSizeModel model() {
+        HotSpotDiagnosticMXBean bean = ManagementFactory.getPlatformMXBean(HotSpotDiagnosticMXBean.class);
+        Assume.assumeNotNull(bean);
+        boolean compressed = Boolean.parseBoolean(bean.getVMOption("UseCompressedOops").getValue());
+        return compressed ? HSizeModel.COMPRESSED_OOPS : HSizeModel.UNCOMPRESSED_OOPS;
+    }
+
+    /**
+     * Returns the bytes of the heap in use once it is stable: the garbage collection is repeated
+     * until the used heap changes by less than {@link #STABLE} bytes, so that the objects released
+     * by finalization or by the references cleared in a collection are freed by the next ones.
+     *
+     * @return the bytes.
+     */
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        long used = runtime.totalMemory() - runtime.freeMemory();
+        for (int i = 1; i < MAX_COLLECTIONS; i++) {
+            System.gc();
+            long previous = used;
+            used = runtime.totalMemory() - runtime.freeMemory();
+            if (Math.abs(used - previous) < STABLE)
+                break;
+        }
+        return used;
+    }
+
+    /**
+     * Builds a list with the specified factory and fills it with distinct Integers, then compares
+     * its footprint, with the elements, with the growth of the used heap, allowing for
+     * {@link #TOLERANCE} of the growth and {@link #DRIFT} bytes. The used heap is measured again
+     * once the list is unreachable, and the measure is repeated if it has not come back to the
+     * baseline, since something else was then freed or allocated meanwhile.
+     *
+     * @param name    the name of the list, for the message.
+     * @param factory the factory of the empty list.
+     * @param n       the number of elements.
+     * @return the footprint.
+     */
+    private static HFootprint assertMatchesHeap(String name, IntFunction<HList> factory, int n) {
+        HSizeModel model = model();
+        for (int attempt = 1; ; attempt++) {
+            long before = usedHeap();
+            HList list = factory.apply(n);
+            for (int i = 0; i < n; i++) {
+                list.add(Integer.valueOf(1000 + i));
+            }
+            long measured = usedHeap() - before;
+            HFootprint f = ((HMeasurable) list).footprint(model, true);
+            Assert.assertEquals(n, list.size());
+            list = null;
+            long drift = usedHeap() - before;
+            if (Math.abs(drift) > DRIFT && attempt < ATTEMPTS)
+                continue;
+            Assert.assertEquals(n, f.size());
+            Assert.assertEquals(name + ": " + f + ", measured " + measured + ", drift " + drift, measured, f.heapBytes(), TOLERANCE * measured + DRIFT);
+            return f;
+        }
+    }
+
+    /**
+     * Verifies that the footprint of a ListAdapter of one million elements matches the heap it takes.
+     *
+     * @doc.testCaseDesign The test appends one million distinct Integers to a ListAdapter.
+     * @doc.testDescription The test compares the estimated heap bytes with the growth of the used heap, and checks the parts of the footprint.
+     * @doc.preCondition The list is new.
+     * @doc.postCondition The list is discarded.
+     * @doc.expectedResults The test expects the estimate within 10% of the measure plus 1 MB of drift, and the elements to be 16 or 24 bytes each.
+     */
+    @Test
+    public void listAdapter_ShouldMatch_MeasuredHeap() {
+        HFootprint f = assertMatchesHeap("ListAdapter", n -> new ListAdapter(), 1000000);
+        Assert.assertEquals(model().instanceSize(0, 4) * 1000000, f.elementBytes());
+        Assert.assertTrue(f.spareCapacity() >= 0);
+        Assert.assertEquals(f.spareCapacity() * model().referenceSize(), f.spareBytes());
+        Assert.assertEquals(0, f.offHeapBytes());
+    }
+
+    /**
+     * Verifies that the footprints of the concurrent lists match the heap they take.
+     *
+     * @doc.testCaseDesign The test appends 300000 distinct Integers to a SegmentedConcurrentList, a VersionedList and an AppendOnlyConcurrentList.
+     * @doc.testDescription The test compares the estimated heap bytes with the growth of the used heap.
+     * @doc.preCondition The lists are new.
+     * @doc.postCondition The lists are discarded.
+     * @doc.expectedResults The test expects every estimate within 10% of the measure plus 1 MB of drift.
+     */
+    @Test
+    public void concurrentLists_ShouldMatch_MeasuredHeap() {
+        assertMatchesHeap("SegmentedConcurrentList", n -> new SegmentedConcurrentList(), 300000);
+        HFootprint versioned = assertMatchesHeap("VersionedList", n -> new VersionedList(), 300000);
+        Assert.assertEquals(0, versioned.spareCapacity());
+        assertMatchesHeap("AppendOnlyConcurrentList", n -> new AppendOnlyConcurrentList(), 300000);
+    }
+
+    /**
+     * Verifies the spare capacity of a ListAdapter and the wrappers kept alive by its subLists.
+     *
+     * @doc.testCaseDesign The test appends 3 elements to an empty ListAdapter, then takes a subList of a subList.
+     * @doc.testDescription The test compares the footprints of the list and of the subLists.
+     * @doc.preCondition The list is new, with the default capacity of 10.
+     * @doc.postCondition The list contains 3 elements.
+     * @doc.expectedResults The test expects 7 spare slots, the same backing array for all the lists, and one more wrapper in the shallow bytes for every level of subList.
+     */
+    @Test
+    public void subLists_ShouldCount_ParentWrappers() {
+        HSizeModel model = HSizeModel.COMPRESSED_OOPS;
+        ListAdapter list = new ListAdapter();
+        list.add("a");
+        list.add(null);
+        list.add(Integer.valueOf(1000));
+        HFootprint root = list.footprint(model, true);
+        Assert.assertEquals(7, root.spareCapacity());
+        Assert.assertEquals(28, root.spareBytes());
+        Assert.assertEquals(model.referenceArraySize(10), root.backingBytes());
+        Assert.assertEquals(48 + 16, root.elementBytes());
+        HFootprint inner = ((ListAdapter) list.subList(1, 3).subList(1, 2)).footprint(model, true);
+        Assert.assertEquals(1, inner.size());
+        Assert.assertEquals(root.backingBytes(), inner.backingBytes());
+        Assert.assertEquals(root.shallowBytes() + 2 * model.instanceSize(3, 8), inner.shallowBytes());
+        Assert.assertEquals(16, inner.elementBytes());
+        Assert.assertEquals(-1, list.footprint().elementBytes());
+    }
+
+    /**
+     * Verifies the estimates of the model and that it can be replaced.
+     *
+     * @doc.testCaseDesign The test measures wrappers, Strings and other objects with both models, and a list with a model that overrides sizeOf.
+     * @doc.testDescription The test compares the sizes with those of HotSpot.
+     * @doc.preCondition None.
+     * @doc.postCondition None.
+     * @doc.expectedResults The test expects the sizes of HotSpot, and the size of the custom model for every element.
+     */
+    @Test
+    public void sizeModel_ShouldEstimate_Elements() {
+        HSizeModel c = HSizeModel.COMPRESSED_OOPS;
+        Assert.assertEquals(16, c.sizeOf(Integer.valueOf(5)));
+        Assert.assertEquals(24, c.sizeOf(Long.valueOf(5)));
+        Assert.assertEquals(16, c.sizeOf(Boolean.TRUE));
+        Assert.assertEquals(24 + 24, c.sizeOf("abc"));
+        Assert.assertEquals(24 + 24, c.sizeOf("\u20ac\u20ac"));
+        Assert.assertEquals(16, c.sizeOf(new Object()));
+        Assert.assertEquals(0, c.sizeOf(null));
+        Assert.assertEquals(56, c.referenceArraySize(10));
+        HSizeModel u = HSizeModel.UNCOMPRESSED_OOPS;
+        Assert.assertEquals(24, u.sizeOf(Integer.valueOf(5)));
+        Assert.assertEquals(104, u.referenceArraySize(10));
+        HSizeModel fixed = new HSizeModel(12, 4, 16, 8) {
+            public long sizeOf(Object element) {
+                return 100;
+            }
+        };
+        ListAdapter list = new ListAdapter();
+        list.add("x");
+        list.add("y");
+        Assert.assertEquals(200, list.footprint(fixed, true).elementBytes());
+        Assert.assertEquals(200, fixed.sizeOfAll(list));
+        Assert.assertThrows(IllegalArgumentException.class, () -> new HSizeModel(12, 4, 16, 6));
+    }
+
+    /**
+     * Verifies the footprint of the lists that store their elements in buffers.
+     *
+     * @doc.testCaseDesign The test appends 1000 ints to a heap and a direct IntBufferHList with capacity 1024.
+     * @doc.testDescription The test verifies where the bytes of the buffers are counted.
+     * @doc.preCondition The lists are new.
+     * @doc.postCondition The lists contain 1000 elements.
+     * @doc.expectedResults The test expects 4096 bytes on the heap for the heap list and outside the heap for the direct one, with 24 spare elements each.
+     */
+    @Test
+    public void bufferLists_ShouldCount_OffHeapBytes() {
+        HSizeModel model = HSizeModel.COMPRESSED_OOPS;
+        IntBufferHList heap = new IntBufferHList(1024, false);
+        IntBufferHList direct = new IntBufferHList(1024, true);
+        for (int i = 0; i < 1000; i++) {
+            heap.addInt(i);
+            direct.addInt(i);
+        }
+        HFootprint h = heap.footprint(model, true);
+        HFootprint d = direct.footprint(model, true);
+        Assert.assertEquals(model.arraySize(4096, 1), h.backingBytes());
+        Assert.assertEquals(0, h.offHeapBytes());
+        Assert.assertEquals(0, d.backingBytes());
+        Assert.assertEquals(4096, d.offHeapBytes());
+        Assert.assertEquals(24, h.spareCapacity());
+        Assert.assertEquals(96, d.spareBytes());
+        Assert.assertEquals(0, d.elementBytes());
+        Assert.assertEquals(h.shallowBytes(), d.shallowBytes());
+    }
+}
@@ -0,0 +1,225 @@
+package myTest;
+
+import myAdapter.*;
+import org.junit.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+
+/**
+ * <p>
+ * Contains a series of unit tests designed to verify the functionality of the HListCodec class.
+ * </p>
+ * <p>
+ * Test Case Design: <br>
+ * The tests write lists to a byte array and read them back, checking that the elements, their
+ * types and the null elements are preserved, across several blocks, with homogeneous and mixed
+ * blocks and with a registered codec. The size of the encoding of small Integers and the
+ * handling of malformed input are also checked.
+ * </p>
+ *
+ * @author Matteo Trevisan
+ */
+public class HListCodecTest {
+
+    /**
+     * Writes the specified list with the specified codec and returns the bytes.
+     *
+     * @param codec the codec.
+     * @param list  the list.
+     * @return the encoded list.
+     * @throws IOException if an I/O error occurs.
+     */
+    private static byte[] encode(HListCodec codec, HList list) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        codec.write(list, new DataOutputStream(bytes));
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Reads a list from the specified bytes with the specified codec.
+     *
+     * @param codec the codec.
+     * @param bytes the encoded list.
+     * @return the list.
+     * @throws IOException if an I/O error occurs.
+     */
+    private static ListAdapter decode(HListCodec codec, byte[] bytes) throws IOException {
+        return codec.read(new DataInputStream(new ByteArrayInputStream(bytes)));
+    }
+
+    /**
+     * Verifies that every built in type and null elements survive a round trip.
+     *
+     * @doc.testCaseDesign The test writes a list with one element of every built in type, including extreme and non ASCII values, and nulls.
+     * @doc.testDescription The test verifies that the list read back is equal to the original and that the types are preserved.
+     * @doc.preCondition The list contains 13 elements.
+     * @doc.postCondition The decoded list is equal to the original.
+     * @doc.expectedResults The test expects equal lists.
+     * @throws IOException if an I/O error occurs.
+     */
+    @Test
+    public void roundTrip_ShouldPreserve_TypesAndNulls() throws IOException {
+        ListAdapter list = new ListAdapter();
+        list.add("h\u00e9llo \u4e16\u754c");
+        list.add(null);
+        list.add(Integer.valueOf(Integer.MIN_VALUE));
+        list.add(Long.valueOf(Long.MAX_VALUE));
+        list.add(Boolean.TRUE);
+        list.add(Byte.valueOf((byte) -1));
+        list.add(Short.valueOf((short) 300));
+        list.add(Character.valueOf('x'));
+        list.add(Float.valueOf(1.5f));
+        list.add(Double.valueOf(-0.25));
+        list.add("");
+        list.add(null);
+        list.add(Integer.valueOf(-1));
+        HListCodec codec = new HListCodec();
+        ListAdapter decoded = decode(codec, encode(codec, list));
+        Assert.assertEquals(list, decoded);
+        Assert.assertTrue(decoded.get(3) instanceof Long);
+        Assert.assertTrue(decoded.get(6) instanceof Short);
+    }
+
+    /**
+     * Verifies that long lists, spanning many blocks, survive a round trip and that homogeneous Integer blocks are compact.
+     *
+     * @doc.testCaseDesign The test writes 1000 small Integers, then the same list with a null every 100 elements.
+     * @doc.testDescription The test verifies the decoded lists and the size of the encoding of the first one.
+     * @doc.preCondition The list contains the numbers from 0 to 999, each modulo 64.
+     * @doc.postCondition The decoded lists are equal to the originals.
+     * @doc.expectedResults The test expects one byte per element plus the framing, and equal lists.
+     * @throws IOException if an I/O error occurs.
+     */
+    @Test
+    public void roundTrip_ShouldHandle_ManyBlocks() throws IOException {
+        ListAdapter list = new ListAdapter();
+        for (int i = 0; i < 1000; i++) {
+            list.add(Integer.valueOf(i % 64 - 32));
+        }
+        HListCodec codec = new HListCodec();
+        byte[] bytes = encode(codec, list);
+        Assert.assertEquals(1000 + 16 * 2 + 5, bytes.length);
+        Assert.assertEquals(list, decode(codec, bytes));
+        for (int i = 0; i < 1000; i += 100) {
+            list.set(i, null);
+        }
+        Assert.assertEquals(list, decode(codec, encode(codec, list)));
+        Assert.assertTrue(decode(codec, encode(codec, new ListAdapter())).isEmpty());
+    }
+
+    /**
+     * Verifies that a registered codec is used for its type and that unknown types are rejected.
+     *
+     * @doc.testCaseDesign The test writes a list containing a StringBuffer before and after registering a codec for it.
+     * @doc.testDescription The test verifies the exception before the registration and the decoded list after it.
+     * @doc.preCondition The list contains "a", a StringBuffer and 1.
+     * @doc.postCondition The decoded list contains the same Strings as the original.
+     * @doc.expectedResults The test expects an IllegalArgumentException, then the contents of the StringBuffer to be preserved.
+     * @throws IOException if an I/O error occurs.
+     */
+    @Test
+    public void registeredCodec_ShouldEncode_ItsType() throws IOException {
+        ListAdapter list = new ListAdapter();
+        list.add("a");
+        list.add(new StringBuffer("sb"));
+        list.add(Integer.valueOf(1));
+        HListCodec codec = new HListCodec();
+        Assert.assertThrows(IllegalArgumentException.class, () -> encode(codec, list));
+        codec.register(20, new HElementCodec() {
+            public boolean accepts(Object o) {
+                return o instanceof StringBuffer;
+            }
+
+            public void write(Object o, DataOutput out) throws IOException {
+                out.writeUTF(o.toString());
+            }
+
+            public Object read(DataInput in) throws IOException {
+                return new StringBuffer(in.readUTF());
+            }
+        });
+        ListAdapter decoded = decode(codec, encode(codec, list));
+        Assert.assertEquals("sb", decoded.get(1).toString());
+        Assert.assertTrue(decoded.get(1) instanceof StringBuffer);
+        Assert.assertThrows(IllegalArgumentException.class, () -> codec.register(20, new HListCodecTest.NoCodec()));
+        Assert.assertThrows(IllegalArgumentException.class, () -> codec.register(3, new HListCodecTest.NoCodec()));
+    }
+
+    /**
+     * Verifies that malformed input is rejected with an IOException.
+     *
+     * @doc.testCaseDesign The test reads a stream with a wrong magic number, a truncated stream and a stream with an unknown tag.
+     * @doc.testDescription The test verifies that every read throws an IOException.
+     * @doc.preCondition None.
+     * @doc.postCondition The exceptions are thrown.
+     * @doc.expectedResults The test expects an IOException, an EOFException and an IOException.
+     * @throws IOException if an I/O error occurs.
+     */
+    @Test
+    public void malformedInput_ShouldThrow_IOException() throws IOException {
+        HListCodec codec = new HListCodec();
+        Assert.assertThrows(IOException.class, () -> decode(codec, new byte[]{1, 2, 3, 4}));
+        ListAdapter list = new ListAdapter();
+        list.add("abc");
+        byte[] bytes = encode(codec, list);
+        byte[] truncated = new byte[bytes.length - 1];
+        System.arraycopy(bytes, 0, truncated, 0, truncated.length);
+        Assert.assertThrows(EOFException.class, () -> decode(codec, truncated));
+        bytes[5] = (byte) (100 << 1);
+        Assert.assertThrows(IOException.class, () -> decode(codec, bytes));
+    }
+
+    /**
+     * Verifies that a negative size and blocks that do not match their frame are rejected.
+     *
+     * @doc.testCaseDesign The test reads a stream whose size is -1 and streams whose block length is 0, smaller or greater than the block.
+     * @doc.testDescription The test verifies that every read throws an IOException instead of a runtime exception or a wrong list.
+     * @doc.preCondition None.
+     * @doc.postCondition The exceptions are thrown.
+     * @doc.expectedResults The test expects an IOException for every stream.
+     * @throws IOException if an I/O error occurs.
+     */
+    @Test
+    public void malformedFrame_ShouldThrow_IOException() throws IOException {
+        HListCodec codec = new HListCodec();
+        byte[] negative = {0x48, 0x4C, 1, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x0F};
+        Assert.assertThrows(IOException.class, () -> decode(codec, negative));
+        ListAdapter list = new ListAdapter();
+        list.add("abc");
+        byte[] bytes = encode(codec, list);
+        byte[] empty = bytes.clone();
+        empty[4] = 0;
+        Assert.assertThrows(IOException.class, () -> decode(codec, empty));
+        byte[] shorter = bytes.clone();
+        shorter[4]--;
+        Assert.assertThrows(IOException.class, () -> decode(codec, shorter));
+        byte[] longer = new byte[bytes.length + 1];
+        System.arraycopy(bytes, 0, longer, 0, bytes.length);
+        longer[4]++;
+        Assert.assertThrows(IOException.class, () -> decode(codec, longer));
+        Assert.assertEquals(list, decode(codec, bytes));
+    }
+
+    /**
+     * A codec that accepts nothing, used to test the registration of tags.
+     */
+    private static class NoCodec implements HElementCodec {
+        public boolean accepts(Object o) {
+            return false;
+        }
+
+        public void write(Object o, DataOutput out) {
+        }
+
+        public Object read(DataInput in) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,546 @@
+package myTest;
+
+import myAdapter.HIterator;
+import myAdapter.HList;
+import myAdapter.HListIterator;
+import myAdapter.ListAdapter;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Random;
+
+/**
+ * <p>
+ * Compares every implementation of {@link HList} listed by {@link HListEngines} with
+ * java.util.ArrayList, the reference, on a long random sequence of mixed operations.
+ * </p>
+ * <p>
+ * Test Case Design: <br>
+ * The test keeps a stack of views on both sides: the list itself at the bottom, and subLists of
+ * the view below above it. Every operation runs on a view of the stack, chosen at random, and on
+ * the matching view of the reference, and the results must be equal: the positional and bulk
+ * methods, the searches, the walks of the list iterators with {@code remove}, {@code set} and
+ * {@code add}, the clearing of ranges through subLists and the indexes out of bounds, which must
+ * throw an IndexOutOfBoundsException and leave the list unchanged. A structural modification
+ * through a view invalidates the views above it, which are dropped. The sizes of the views are
+ * compared after every operation, and their contents regularly. The elements are a few Integers
+ * and {@code null}, so that the searches find duplicates.
+ * </p>
+ * <p>
+ * The number of operations for every implementation is read from the system property
+ * {@code differential.operations}. By default it is {@link #ADAPTER_OPERATIONS} for the variants
+ * of ListAdapter, the reference implementation of the library, and {@link #OPERATIONS} for the
+ * others, whose lists are slower to build; millions of operations on those are reached only by
+ * setting the property. The seed of the random sequence is read from {@code differential.seed}. A failure reports the seed and the number of the operation.
+ * </p>
+ *
+ * @author Matteo Trevisan
+ */
+@RunWith(Parameterized.class)
+public class HListDifferentialTest {
+
+    /**
+     * The default number of operations for the variants of ListAdapter.
+     */
+    private static final int ADAPTER_OPERATIONS = 1000000;
+
+    /**
+     * The default number of operations for the other implementations.
+     */
+    private static final int OPERATIONS = 200000;
+
+    /**
+     * The largest size of the list, beyond which the operations shrink it.
+     */
+    private static final int MAX_SIZE = 64;
+
+    /**
+     * The largest number of subLists on the stack.
+     */
+    private static final int MAX_DEPTH = 4;
+
+    /**
+     * The number of distinct values of the elements, besides {@code null}.
+     */
+    private static final int VALUES = 16;
+
+    /**
+     * The name of the implementation.
+     */
+    private final String name;
+
+    /**
+     * The lists created by the test.
+     */
+    private final HListEngines.Lists lists;
+
+    /**
+     * Whether the iterators of the lists modify them.
+     */
+    private final boolean iteratorsModify;
+
+    /**
+     * The views of the implementation, the list itself first.
+     */
+    private final List<HList> views = new ArrayList<HList>();
+
+    /**
+     * The views of the reference, matching {@link #views}.
+     */
+    private final List<List<Object>> expected = new ArrayList<List<Object>>();
+
+    /**
+     * The source of the random operations.
+     */
+    private Random random;
+
+    /**
+     * Constructs the test of an implementation.
+     *
+     * @param name            the name of the implementation.
+     * @param factory         the factory of its lists.
+     * @param iteratorsModify whether the iterators of the lists modify them.
+     */
+    public HListDifferentialTest(String name, HListEngines.Factory factory, boolean iteratorsModify) {
+        this.name = name;
+        this.lists = new HListEngines.Lists(factory);
+        this.iteratorsModify = iteratorsModify;
+    }
+
+    /**
+     * Returns the implementations under test.
+     *
+     * @return the parameters of every implementation.
+     */
+    @Parameterized.Parameters(name = "{0}")
+    public static Collection<Object[]> engines() {
+        return HListEngines.all();
+    }
+
+    /**
+     * Closes the lists created by the test and deletes their files.
+     *
+     * @throws IOException if a list cannot be closed.
+     */
+    @After
+    public void closeLists() throws IOException {
+        lists.close();
+    }
+
+    /**
+     * Verifies that the implementation behaves as java.util.ArrayList on a random sequence of operations.
+     *
+     * @doc.testCaseDesign The test runs the random operations on the views of both lists, as described in the class.
+     * @doc.testDescription The test verifies the results of every operation, the sizes of the views after it and, regularly, their contents.
+     * @doc.preCondition The list is empty.
+     * @doc.postCondition The list is closed by {@link #closeLists()}.
+     * @doc.expectedResults The test expects the implementation and the reference to return the same results and hold the same elements after every operation.
+     */
+    @Test
+    public void list_ShouldBehaveAs_ArrayList() {
+        long seed = Long.getLong("differential.seed", 20240611L).longValue();
+        int operations = Integer.getInteger("differential.operations",
+                name.startsWith("ListAdapter") ? ADAPTER_OPERATIONS : OPERATIONS).intValue();
+        random = new Random(seed ^ name.hashCode());
+        views.add(lists.create());
+        expected.add(new ArrayList<Object>());
+        for (int n = 0; n < operations; n++) {
+            try {
+                step();
+                for (int d = 0; d < views.size(); d++) {
+                    Assert.assertEquals(expected.get(d).size(), views.get(d).size());
+                }
+                if (n % 64 == 0)
+                    compareAll();
+            } catch (RuntimeException | AssertionError e) {
+                throw new AssertionError(name + " differs from ArrayList at operation " + n + " of seed "
+                        + seed + ", views " + views.size() + ", expected " + expected.get(0), e);
+            }
+        }
+        compareAll();
+    }
+
+    /**
+     * Runs a random operation on a random view of both lists. The operations that shrink the list
+     * come first, so that only they are chosen when the list is too long.
+     */
+    private void step() {
+        int d = random.nextInt(views.size());
+        HList h = views.get(d);
+        List<Object> j = expected.get(d);
+        int size = j.size();
+        int op = random.nextInt(expected.get(0).size() > MAX_SIZE ? 6 : 26);
+        switch (op) {
+            case 0:
+                if (size == 0) {
+                    outOfBounds(() -> h.remove(0));
+                } else {
+                    int i = random.nextInt(size);
+                    Assert.assertEquals(j.remove(i), h.remove(i));
+                    truncate(d);
+                }
+                break;
+            case 1: {
+                Object o = value();
+                Assert.assertEquals(j.remove(o), h.remove(o));
+                truncate(d);
+                break;
+            }
+            case 2: {
+                List<Object> c = values(1 + random.nextInt(4));
+                Assert.assertEquals(j.removeAll(c), h.removeAll(copy(c)));
+                truncate(d);
+                break;
+            }
+            case 3: {
+                List<Object> c = values(1 + random.nextInt(VALUES));
+                Assert.assertEquals(j.retainAll(c), h.retainAll(copy(c)));
+                truncate(d);
+                break;
+            }
+            case 4: {
+                int from = random.nextInt(size + 1);
+                int to = from + random.nextInt(size - from + 1);
+                j.subList(from, to).clear();
+                h.subList(from, to).clear();
+                truncate(d);
+                break;
+            }
+            case 5:
+                if (random.nextInt(8) == 0) {
+                    j.clear();
+                    h.clear();
+                    truncate(d);
+                } else {
+                    iterate(d);
+                }
+                break;
+            case 6:
+            case 7:
+            case 8: {
+                Object o = value();
+                Assert.assertEquals(j.add(o), h.add(o));
+                truncate(d);
+                break;
+            }
+            case 9: {
+                int i = random.nextInt(size + 1);
+                Object o = value();
+                j.add(i, o);
+                h.add(i, o);
+                truncate(d);
+                break;
+            }
+            case 10: {
+                List<Object> c = values(random.nextInt(5));
+                Assert.assertEquals(j.addAll(c), h.addAll(copy(c)));
+                truncate(d);
+                break;
+            }
+            case 11: {
+                int i = random.nextInt(size + 1);
+                List<Object> c = values(random.nextInt(5));
+                Assert.assertEquals(j.addAll(i, c), h.addAll(i, copy(c)));
+                truncate(d);
+                break;
+            }
+            case 12:
+                if (size > 0) {
+                    int i = random.nextInt(size);
+                    Object o = value();
+                    Assert.assertEquals(j.set(i, o), h.set(i, o));
+                }
+                break;
+            case 13:
+                if (size > 0) {
+                    int i = random.nextInt(size);
+                    Assert.assertEquals(j.get(i), h.get(i));
+                }
+                break;
+            case 14: {
+                Object o = value();
+                Assert.assertEquals(j.contains(o), h.contains(o));
+                Assert.assertEquals(j.indexOf(o), h.indexOf(o));
+                Assert.assertEquals(j.lastIndexOf(o), h.lastIndexOf(o));
+                break;
+            }
+            case 15: {
+                List<Object> c = values(random.nextInt(3));
+                Assert.assertEquals(j.containsAll(c), h.containsAll(copy(c)));
+                break;
+            }
+            case 16: {
+                int top = views.size() - 1;
+                if (top < MAX_DEPTH) {
+                    int n = expected.get(top).size();
+                    int from = random.nextInt(n + 1);
+                    int to = from + random.nextInt(n - from + 1);
+                    views.add(views.get(top).subList(from, to));
+                    expected.add(expected.get(top).subList(from, to));
+                }
+                break;
+            }
+            case 17:
+                truncate(random.nextInt(views.size()));
+                break;
+            case 18:
+            case 19:
+            case 20:
+                walk(d, random.nextInt(size + 1));
+                break;
+            case 21:
+                iterate(d);
+                break;
+            case 22:
+                outOfBounds(d);
+                break;
+            case 23: {
+                HList c = copy(j);
+                Assert.assertTrue(h.equals(c));
+                Assert.assertTrue(c.equals(h));
+                Assert.assertEquals(j.isEmpty(), h.isEmpty());
+                if (size > 0) {
+                    c.set(random.nextInt(size), "other");
+                    Assert.assertFalse(h.equals(c));
+                }
+                break;
+            }
+            case 24: {
+                int length = random.nextInt(size + 3);
+                Object[] a = new Object[length];
+                Object[] b = new Object[length];
+                for (int i = 0; i < length; i++) {
+                    a[i] = "filler";
+                    b[i] = "filler";
+                }
+                Assert.assertArrayEquals(j.toArray(a), h.toArray(b));
+                Assert.assertArrayEquals(a, b);
+                break;
+            }
+            default:
+                compare(h, j);
+                break;
+        }
+    }
+
+    /**
+     * Walks both views with list iterators, which remove, set and add elements on the way if the
+     * implementation supports it.
+     *
+     * @param d     the depth of the views.
+     * @param start the index of the first element returned by {@code next}.
+     */
+    private void walk(int d, int start) {
+        HListIterator hi = views.get(d).listIterator(start);
+        ListIterator<Object> ji = expected.get(d).listIterator(start);
+        boolean returned = false;
+        boolean modified = false;
+        int steps = 1 + random.nextInt(16);
+        for (int k = 0; k < steps; k++) {
+            Assert.assertEquals(ji.nextIndex(), hi.nextIndex());
+            Assert.assertEquals(ji.previousIndex(), hi.previousIndex());
+            int action = random.nextInt(iteratorsModify ? 8 : 4);
+            if (action < 2) {
+                Assert.assertEquals(ji.hasNext(), hi.hasNext());
+                if (ji.hasNext()) {
+                    Assert.assertEquals(ji.next(), hi.next());
+                    returned = true;
+                }
+            } else if (action < 4) {
+                Assert.assertEquals(ji.hasPrevious(), hi.hasPrevious());
+                if (ji.hasPrevious()) {
+                    Assert.assertEquals(ji.previous(), hi.previous());
+                    returned = true;
+                }
+            } else if (action == 4 && returned) {
+                ji.remove();
+                hi.remove();
+                returned = false;
+                modified = true;
+            } else if (action == 5 && returned) {
+                Object o = value();
+                ji.set(o);
+                hi.set(o);
+                modified = true;
+            } else if (action >= 6 && expected.get(0).size() <= MAX_SIZE) {
+                Object o = value();
+                ji.add(o);
+                hi.add(o);
+                returned = false;
+                modified = true;
+            }
+        }
+        Assert.assertEquals(ji.hasNext(), hi.hasNext());
+        Assert.assertEquals(ji.hasPrevious(), hi.hasPrevious());
+        if (modified)
+            truncate(d);
+    }
+
+    /**
+     * Iterates over both views, removing some elements if the implementation supports it.
+     *
+     * @param d the depth of the views.
+     */
+    private void iterate(int d) {
+        HIterator hi = views.get(d).iterator();
+        java.util.Iterator<Object> ji = expected.get(d).iterator();
+        boolean modified = false;
+        while (ji.hasNext()) {
+            Assert.assertTrue(hi.hasNext());
+            Assert.assertEquals(ji.next(), hi.next());
+            if (iteratorsModify && random.nextInt(4) == 0) {
+                ji.remove();
+                hi.remove();
+                modified = true;
+            }
+        }
+        Assert.assertFalse(hi.hasNext());
+        if (modified)
+            truncate(d);
+    }
+
+    /**
+     * Calls a method of a view with an index out of bounds, which must throw an
+     * IndexOutOfBoundsException and leave the view unchanged.
+     *
+     * @param d the depth of the view.
+     */
+    private void outOfBounds(int d) {
+        HList h = views.get(d);
+        int size = expected.get(d).size();
+        int low = -1 - random.nextInt(3);
+        int high = size + 1 + random.nextInt(3);
+        switch (random.nextInt(9)) {
+            case 0:
+                outOfBounds(() -> h.get(random.nextBoolean() ? low : size));
+                break;
+            case 1:
+                outOfBounds(() -> h.set(random.nextBoolean() ? low : size, value()));
+                break;
+            case 2:
+                outOfBounds(() -> h.add(random.nextBoolean() ? low : high, value()));
+                break;
+            case 3:
+                outOfBounds(() -> h.remove(random.nextBoolean() ? low : size));
+                break;
+            case 4:
+                outOfBounds(() -> h.addAll(random.nextBoolean() ? low : high, copy(values(1))));
+                break;
+            case 5:
+                outOfBounds(() -> h.listIterator(random.nextBoolean() ? low : high));
+                break;
+            case 6:
+                outOfBounds(() -> h.subList(low, size));
+                break;
+            case 7:
+                outOfBounds(() -> h.subList(0, high));
+                break;
+            default:
+                if (size > 0) {
+                    int from = 1 + random.nextInt(size);
+                    outOfBounds(() -> h.subList(from, from - 1));
+                }
+                break;
+        }
+        compare(h, expected.get(d));
+    }
+
+    /**
+     * Verifies that an operation throws an IndexOutOfBoundsException.
+     *
+     * @param operation the operation.
+     */
+    private static void outOfBounds(Runnable operation) {
+        try {
+            operation.run();
+            Assert.fail("IndexOutOfBoundsException expected");
+        } catch (IndexOutOfBoundsException e) {
+            // expected
+        }
+    }
+
+    /**
+     * Drops the views above a depth, which a structural modification at that depth invalidates.
+     *
+     * @param d the depth of the modified view.
+     */
+    private void truncate(int d) {
+        while (views.size() > d + 1) {
+            views.remove(views.size() - 1);
+            expected.remove(expected.size() - 1);
+        }
+    }
+
+    /**
+     * Returns a random element: one of a few Integers, or {@code null}.
+     *
+     * @return the element.
+     */
+    private Object value() {
+        int v = random.nextInt(VALUES + 1);
+        return v == VALUES ? null : Integer.valueOf(v);
+    }
+
+    /**
+     * Returns a list of random elements.
+     *
+     * @param n the number of elements.
+     * @return the list.
+     */
+    private List<Object> values(int n) {
+        List<Object> c = new ArrayList<Object>(n);
+        for (int i = 0; i < n; i++) {
+            c.add(value());
+        }
+        return c;
+    }
+
+    /**
+     * Returns a ListAdapter with the elements of a list, in the same order.
+     *
+     * @param c the list.
+     * @return the ListAdapter.
+     */
+    private static HList copy(List<Object> c) {
+        HList copy = new ListAdapter();
+        for (int i = 0; i < c.size(); i++) {
+            copy.add(c.get(i));
+        }
+        return copy;
+    }
+
+    /**
+     * Compares the contents of every view of both lists.
+     */
+    private void compareAll() {
+        for (int d = 0; d < views.size(); d++) {
+            compare(views.get(d), expected.get(d));
+        }
+    }
+
+    /**
+     * Compares the contents of a view with those of the reference.
+     *
+     * @param h the view of the implementation.
+     * @param j the view of the reference.
+     */
+    private static void compare(HList h, List<Object> j) {
+        Assert.assertEquals(j.size(), h.size());
+        Assert.assertArrayEquals(j.toArray(), h.toArray());
+        HIterator it = h.iterator();
+        for (int i = 0; i < j.size(); i++) {
+            Assert.assertTrue(it.hasNext());
+            Assert.assertEquals(j.get(i), it.next());
+        }
+        Assert.assertFalse(it.hasNext());
+        Assert.assertEquals(j.hashCode(), h.hashCode());
+    }
+}
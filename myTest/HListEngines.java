@@ -0,0 +1,180 @@
+package myTest;
+
+import myAdapter.HConcurrencyPolicy;
+import myAdapter.HList;
+import myAdapter.HListCodec;
+import myAdapter.ListAdapter;
+import myBridge.HViews;
+import myConcurrent.ReadWriteConcurrencyPolicy;
+import myConcurrent.SegmentedConcurrentList;
+import myConcurrent.StampedConcurrencyPolicy;
+import myConcurrent.VersionedList;
+import myIO.JournaledHList;
+import myIO.SpillingHList;
+import myMonitor.FlightRecorderHList;
+import myMonitor.InstrumentedHList;
+import myMonitor.TracingHList;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * <p>
+ * The implementations of {@link HList} on which the suites parameterized over all the engines
+ * run: ListAdapter with every concurrency policy, the concurrent lists, the lists stored in
+ * files, the decorators of the myMonitor package and the views of the java.util lists. The lists
+ * that support only some of the optional operations or some types of elements, namely
+ * AppendOnlyConcurrentList, SerializedHList, SharedHList and IntBufferHList, are not included.
+ * </p>
+ * <p>
+ * The lists are created by the tests through a {@link Lists} of their own, which closes the lists
+ * that hold files or threads and deletes the files when the test ends.
+ * </p>
+ */
+final class HListEngines {
+
+    /**
+     * Creates a new empty list of an implementation.
+     */
+    interface Factory {
+        /**
+         * Creates a new empty list.
+         *
+         * @param directory a new directory where the list can keep its files.
+         * @return the list.
+         * @throws IOException if the files of the list cannot be created.
+         */
+        HList create(Path directory) throws IOException;
+    }
+
+    /**
+     * Private Constructor, this class only contains static methods.
+     */
+    private HListEngines() {
+    }
+
+    /**
+     * Returns the parameters of a suite: the name of every engine, its factory and whether the
+     * iterators of its lists support {@code remove}, {@code set} and {@code add}.
+     *
+     * @return the name, the {@link Factory} and a Boolean for every engine.
+     */
+    static Collection<Object[]> all() {
+        List<Object[]> engines = new ArrayList<Object[]>();
+        engines.add(engine("ListAdapter", d -> new ListAdapter()));
+        engines.add(engine("ListAdapter-monitor", d -> new ListAdapter(HConcurrencyPolicy.monitor())));
+        engines.add(engine("ListAdapter-read-write", d -> new ListAdapter(new ReadWriteConcurrencyPolicy())));
+        engines.add(engine("ListAdapter-stamped", d -> new ListAdapter(new StampedConcurrencyPolicy())));
+        engines.add(engine("SegmentedConcurrentList", d -> new SegmentedConcurrentList(4)));
+        engines.add(engine("VersionedList", false, d -> new VersionedList()));
+        engines.add(engine("JournaledHList", d -> new JournaledHList(d, new HListCodec(), 1000, 0)));
+        engines.add(engine("SpillingHList", d -> new SpillingHList(new HListCodec(), 4, 2, 0)));
+        engines.add(engine("InstrumentedHList", d -> new InstrumentedHList(new ListAdapter())));
+        engines.add(engine("FlightRecorderHList", d -> new FlightRecorderHList(new ListAdapter())));
+        engines.add(engine("TracingHList", d -> new TracingHList(new ListAdapter(), OutputStream.nullOutputStream())));
+        engines.add(engine("ArrayList-view", d -> HViews.asHList(new ArrayList<Object>())));
+        engines.add(engine("LinkedList-view", d -> HViews.asHList(new LinkedList<Object>())));
+        return engines;
+    }
+
+    /**
+     * Returns the parameters of an engine whose iterators modify its lists.
+     *
+     * @param name    the name of the engine.
+     * @param factory the factory of its lists.
+     * @return the name, the factory and {@code true}.
+     */
+    private static Object[] engine(String name, Factory factory) {
+        return engine(name, true, factory);
+    }
+
+    /**
+     * Returns the parameters of an engine.
+     *
+     * @param name            the name of the engine.
+     * @param iteratorsModify whether the iterators of its lists support {@code remove}, {@code set} and {@code add}.
+     * @param factory         the factory of its lists.
+     * @return the name, the factory and whether the iterators modify the lists.
+     */
+    private static Object[] engine(String name, boolean iteratorsModify, Factory factory) {
+        return new Object[]{name, factory, Boolean.valueOf(iteratorsModify)};
+    }
+
+    /**
+     * The lists created by a test, which are closed, with their files deleted, by {@link #close()}.
+     */
+    static final class Lists {
+        /**
+         * The factory of the lists.
+         */
+        private final Factory factory;
+
+        /**
+         * The lists created.
+         */
+        private final List<HList> created = new ArrayList<HList>();
+
+        /**
+         * The directory of the files of the lists, or {@code null} if it has not been created.
+         */
+        private Path directory;
+
+        /**
+         * Constructs an empty set of lists.
+         *
+         * @param factory the factory of the lists.
+         */
+        Lists(Factory factory) {
+            this.factory = factory;
+        }
+
+        /**
+         * Creates a new empty list.
+         *
+         * @return the list.
+         * @throws java.io.UncheckedIOException if the files of the list cannot be created.
+         */
+        HList create() {
+            try {
+                if (directory == null)
+                    directory = Files.createTempDirectory("engine");
+                HList list = factory.create(Files.createTempDirectory(directory, "list"));
+                created.add(list);
+                return list;
+            } catch (IOException e) {
+                throw new java.io.UncheckedIOException(e);
+            }
+        }
+
+        /**
+         * Closes the lists that can be closed and deletes their files.
+         *
+         * @throws IOException if a list cannot be closed or a file cannot be deleted.
+         */
+        void close() throws IOException {
+            for (int i = 0; i < created.size(); i++) {
+                if (created.get(i) instanceof Closeable)
+                    ((Closeable) created.get(i)).close();
+            }
+            created.clear();
+            if (directory != null) {
+                try (Stream<Path> files = Files.walk(directory)) {
+                    Path[] paths = files.sorted(Comparator.reverseOrder()).toArray(Path[]::new);
+                    for (int i = 0; i < paths.length; i++) {
+                        Files.delete(paths[i]);
+                    }
+                }
+                directory = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package myTest;
+
+import myAdapter.HList;
+import org.junit.After;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.io.IOException;
+import java.util.Collection;
+
+/**
+ * <p>
+ * Runs {@link HListConformanceTest} on every implementation of {@link HList} listed by
+ * {@link HListEngines}, as one parameterized run per implementation.
+ * </p>
+ *
+ * @author Matteo Trevisan
+ */
+@RunWith(Parameterized.class)
+public class HListEnginesTest extends HListConformanceTest {
+
+    /**
+     * The lists created by the current test.
+     */
+    private final HListEngines.Lists lists;
+
+    /**
+     * Whether the iterators of the lists modify them.
+     */
+    private final boolean iteratorsModify;
+
+    /**
+     * Constructs the test of an implementation.
+     *
+     * @param name            the name of the implementation.
+     * @param factory         the factory of its lists.
+     * @param iteratorsModify whether the iterators of the lists modify them.
+     */
+    public HListEnginesTest(String name, HListEngines.Factory factory, boolean iteratorsModify) {
+        lists = new HListEngines.Lists(factory);
+        this.iteratorsModify = iteratorsModify;
+    }
+
+    /**
+     * Returns the implementations under test.
+     *
+     * @return the parameters of every implementation.
+     */
+    @Parameterized.Parameters(name = "{0}")
+    public static Collection<Object[]> engines() {
+        return HListEngines.all();
+    }
+
+    protected HList newList() {
+        return lists.create();
+    }
+
+    protected boolean iteratorsModify() {
+        return iteratorsModify;
+    }
+
+    /**
+     * Closes the lists created by the test and deletes their files.
+     *
+     * @throws IOException if a list cannot be closed.
+     */
+    @After
+    public void closeLists() throws IOException {
+        lists.close();
+    }
+}
@@ -0,0 +1,321 @@
+package myTest;
+
+import myAdapter.*;
+import org.junit.*;
+
+/**
+ * <p>
+ * Contains a series of unit tests designed to verify the functionality of the HPipeline class.
+ * The tests are organized into logical groups: intermediate stages, terminal operations and laziness.
+ * </p>
+ * <p>
+ * Test Case Design: <br>
+ * Each test case builds a ListAdapter with some initial data, creates a pipeline over it,
+ * chains the stages under test and checks the result of a terminal operation.
+ * The laziness tests use a CountingIterator, which counts how many elements have been pulled from the source.
+ * </p>
+ *
+ * @author Matteo Trevisan
+ */
+public class HPipelineTest {
+
+    /**
+     * Returns a ListAdapter containing the Integers from 0 (inclusive) to n (exclusive).
+     *
+     * @param n the number of elements.
+     * @return the new list.
+     */
+    private static ListAdapter range(int n) {
+        ListAdapter list = new ListAdapter();
+        for (int i = 0; i < n; i++) {
+            list.add(Integer.valueOf(i));
+        }
+        return list;
+    }
+
+    /**
+     * An iterator that wraps another iterator and counts the calls to next.
+     */
+    private static class CountingIterator implements HIterator {
+        private final HIterator it;
+        private int pulled;
+
+        CountingIterator(HIterator it) {
+            this.it = it;
+        }
+
+        public boolean hasNext() {
+            return it.hasNext();
+        }
+
+        public Object next() {
+            pulled++;
+            return it.next();
+        }
+
+        public void remove() {
+            it.remove();
+        }
+    }
+
+    private static final HPredicate EVEN = o -> ((Integer) o).intValue() % 2 == 0;
+
+    private static final HFunction SQUARE = o -> Integer.valueOf(((Integer) o).intValue() * ((Integer) o).intValue());
+
+    /*
+     * HPipeline Stage Family Tests
+     */
+
+    /**
+     * Verifies that map and filter are applied to every element in order.
+     *
+     * @doc.testCaseDesign The test creates a list with the numbers from 0 to 5, filters the even ones and squares them.
+     * @doc.testDescription The test verifies that the collected list contains the squares of the even numbers.
+     * @doc.preCondition The list contains the numbers from 0 to 5.
+     * @doc.postCondition The pipeline has been evaluated and the original list is unchanged.
+     * @doc.expectedResults The test expects the list [0, 4, 16].
+     */
+    @Test
+    public void mapFilter_ShouldTransform_Elements() {
+        ListAdapter list = range(6);
+        HList result = HPipeline.of(list).filter(EVEN).map(SQUARE).collect();
+        Assert.assertEquals(3, result.size());
+        Assert.assertEquals(Integer.valueOf(0), result.get(0));
+        Assert.assertEquals(Integer.valueOf(4), result.get(1));
+        Assert.assertEquals(Integer.valueOf(16), result.get(2));
+        Assert.assertEquals(6, list.size());
+    }
+
+    /**
+     * Verifies that flatMap replaces each element with the elements of the returned collection.
+     *
+     * @doc.testCaseDesign The test creates a list with the numbers from 0 to 2 and maps each number n to a list of n copies of n.
+     * @doc.testDescription The test verifies that the collections are flattened in encounter order and that empty collections produce no element.
+     * @doc.preCondition The list contains the numbers from 0 to 2.
+     * @doc.postCondition The pipeline has been evaluated.
+     * @doc.expectedResults The test expects the list [1, 2, 2].
+     */
+    @Test
+    public void flatMap_ShouldFlatten_Collections() {
+        HList result = HPipeline.of(range(3)).flatMap(o -> {
+            ListAdapter copies = new ListAdapter();
+            for (int i = 0; i < ((Integer) o).intValue(); i++) {
+                copies.add(o);
+            }
+            return copies;
+        }).collect();
+        Assert.assertEquals(3, result.size());
+        Assert.assertEquals(Integer.valueOf(1), result.get(0));
+        Assert.assertEquals(Integer.valueOf(2), result.get(1));
+        Assert.assertEquals(Integer.valueOf(2), result.get(2));
+    }
+
+    /**
+     * Verifies that skip and limit select a window of the elements.
+     *
+     * @doc.testCaseDesign The test creates a list with the numbers from 0 to 9, skips 3 elements and limits the result to 4.
+     * @doc.testDescription The test verifies that the collected list contains the elements from 3 to 6.
+     * @doc.preCondition The list contains the numbers from 0 to 9.
+     * @doc.postCondition The pipeline has been evaluated.
+     * @doc.expectedResults The test expects the list [3, 4, 5, 6].
+     */
+    @Test
+    public void skipLimit_ShouldSelect_Window() {
+        HList result = HPipeline.of(range(10)).skip(3).limit(4).collect();
+        Assert.assertEquals(4, result.size());
+        Assert.assertEquals(Integer.valueOf(3), result.get(0));
+        Assert.assertEquals(Integer.valueOf(6), result.get(3));
+    }
+
+    /**
+     * Verifies that takeWhile keeps only the longest matching prefix.
+     *
+     * @doc.testCaseDesign The test creates a list with the numbers from 0 to 9 and keeps them while they are less than 4.
+     * @doc.testDescription The test verifies that the elements after the first non-matching one are discarded.
+     * @doc.preCondition The list contains the numbers from 0 to 9.
+     * @doc.postCondition The pipeline has been evaluated.
+     * @doc.expectedResults The test expects 4 elements to be counted.
+     */
+    @Test
+    public void takeWhile_ShouldStop_AtFirstMismatch() {
+        long count = HPipeline.of(range(10)).takeWhile(o -> ((Integer) o).intValue() < 4).count();
+        Assert.assertEquals(4, count);
+    }
+
+    /**
+     * Verifies that the stages throw the expected exceptions for illegal arguments.
+     *
+     * @doc.testCaseDesign The test calls the stages with null functions and negative sizes.
+     * @doc.testDescription The test verifies that NullPointerException and IllegalArgumentException are thrown.
+     * @doc.preCondition The pipeline has been created over an empty list.
+     * @doc.postCondition The exceptions are thrown.
+     * @doc.expectedResults The test expects each call to throw.
+     */
+    @Test
+    public void stages_ShouldThrow_OnIllegalArguments() {
+        HPipeline p = HPipeline.of(new ListAdapter());
+        Assert.assertThrows(NullPointerException.class, () -> p.map(null));
+        Assert.assertThrows(NullPointerException.class, () -> p.filter(null));
+        Assert.assertThrows(IllegalArgumentException.class, () -> p.limit(-1));
+        Assert.assertThrows(IllegalArgumentException.class, () -> p.skip(-1));
+        Assert.assertThrows(NullPointerException.class, () -> HPipeline.of((HCollection) null));
+    }
+
+    /*
+     * HPipeline Terminal Family Tests
+     */
+
+    /**
+     * Verifies that reduce combines the elements from left to right.
+     *
+     * @doc.testCaseDesign The test creates a list with the numbers from 0 to 4 and sums them with reduce.
+     * @doc.testDescription The test verifies the result of the reduction and that an empty pipeline returns the identity.
+     * @doc.preCondition The list contains the numbers from 0 to 4.
+     * @doc.postCondition The pipeline has been evaluated.
+     * @doc.expectedResults The test expects 10 and then the identity 0.
+     */
+    @Test
+    public void reduce_ShouldCombine_Elements() {
+        HBinaryOperator sum = (a, b) -> Integer.valueOf(((Integer) a).intValue() + ((Integer) b).intValue());
+        Assert.assertEquals(Integer.valueOf(10), HPipeline.of(range(5)).reduce(Integer.valueOf(0), sum));
+        Assert.assertEquals(Integer.valueOf(0), HPipeline.of(new ListAdapter()).reduce(Integer.valueOf(0), sum));
+    }
+
+    /**
+     * Verifies that collect appends to the specified list.
+     *
+     * @doc.testCaseDesign The test creates a target list with one element and collects a pipeline of two elements into it.
+     * @doc.testDescription The test verifies that the elements are appended after the existing ones and that the target is returned.
+     * @doc.preCondition The target list contains one element.
+     * @doc.postCondition The target list contains three elements.
+     * @doc.expectedResults The test expects the returned list to be the target, with size 3.
+     */
+    @Test
+    public void collect_ShouldAppend_ToTarget() {
+        ListAdapter target = new ListAdapter();
+        target.add("x");
+        HList result = HPipeline.of(range(2)).collect(target);
+        Assert.assertSame(target, result);
+        Assert.assertEquals(3, target.size());
+        Assert.assertEquals(Integer.valueOf(1), target.get(2));
+    }
+
+    /**
+     * Verifies that a pipeline over a collection can be evaluated more than once.
+     *
+     * @doc.testCaseDesign The test creates a pipeline over a list and counts it twice.
+     * @doc.testDescription The test verifies that both evaluations see all the elements.
+     * @doc.preCondition The list contains 5 elements.
+     * @doc.postCondition The pipeline has been evaluated twice.
+     * @doc.expectedResults The test expects both counts to be 5.
+     */
+    @Test
+    public void collectionPipeline_ShouldBe_Reusable() {
+        HPipeline p = HPipeline.of(range(5));
+        Assert.assertEquals(5, p.count());
+        Assert.assertEquals(5, p.count());
+    }
+
+    /**
+     * Verifies that a pipeline over an iterator can be evaluated only once.
+     *
+     * @doc.testCaseDesign The test creates a pipeline over an iterator, counts it and then counts it again.
+     * @doc.testDescription The test verifies that the second evaluation throws an IllegalStateException.
+     * @doc.preCondition The iterator has 5 elements.
+     * @doc.postCondition The iterator has been consumed.
+     * @doc.expectedResults The test expects the first count to be 5 and the second evaluation to throw.
+     */
+    @Test
+    public void iteratorPipeline_ShouldThrow_IllegalStateException_WhenReused() {
+        HPipeline p = HPipeline.of(range(5).iterator());
+        Assert.assertEquals(5, p.count());
+        Assert.assertThrows(myAdapter.IllegalStateException.class, p::count);
+    }
+
+    /*
+     * HPipeline Laziness Family Tests
+     */
+
+    /**
+     * Verifies that building a pipeline does not read the source.
+     *
+     * @doc.testCaseDesign The test chains several stages over a counting iterator without invoking a terminal operation.
+     * @doc.testDescription The test verifies that no element has been pulled.
+     * @doc.preCondition The source has 10 elements.
+     * @doc.postCondition The pipeline has been built but not evaluated.
+     * @doc.expectedResults The test expects 0 elements to be pulled.
+     */
+    @Test
+    public void intermediateStages_ShouldNotPull_Elements() {
+        CountingIterator it = new CountingIterator(range(10).iterator());
+        HPipeline.of(it).map(SQUARE).filter(EVEN).skip(1).limit(2);
+        Assert.assertEquals(0, it.pulled);
+    }
+
+    /**
+     * Verifies that limit stops pulling elements from the source once it is satisfied.
+     *
+     * @doc.testCaseDesign The test filters the even numbers of a counting source of 100 elements and limits the result to 3.
+     * @doc.testDescription The test verifies that only the elements up to the third even number have been pulled.
+     * @doc.preCondition The source has 100 elements.
+     * @doc.postCondition The pipeline has been evaluated.
+     * @doc.expectedResults The test expects 3 results and 5 elements pulled (0, 1, 2, 3, 4).
+     */
+    @Test
+    public void limit_ShouldPull_OnlyNeededElements() {
+        CountingIterator it = new CountingIterator(range(100).iterator());
+        HList result = HPipeline.of(it).filter(EVEN).limit(3).collect();
+        Assert.assertEquals(3, result.size());
+        Assert.assertEquals(5, it.pulled);
+    }
+
+    /**
+     * Verifies that limit(0) does not pull any element.
+     *
+     * @doc.testCaseDesign The test limits a counting source to 0 elements and counts the pipeline.
+     * @doc.testDescription The test verifies that the source has not been read.
+     * @doc.preCondition The source has 10 elements.
+     * @doc.postCondition The pipeline has been evaluated.
+     * @doc.expectedResults The test expects a count of 0 and 0 elements pulled.
+     */
+    @Test
+    public void limitZero_ShouldNotPull_Elements() {
+        CountingIterator it = new CountingIterator(range(10).iterator());
+        Assert.assertEquals(0, HPipeline.of(it).limit(0).count());
+        Assert.assertEquals(0, it.pulled);
+    }
+
+    /**
+     * Verifies that anyMatch stops at the first matching element.
+     *
+     * @doc.testCaseDesign The test looks for the number 3 in a counting source of 100 elements.
+     * @doc.testDescription The test verifies that the elements after the match have not been pulled.
+     * @doc.preCondition The source has 100 elements.
+     * @doc.postCondition The pipeline has been evaluated.
+     * @doc.expectedResults The test expects true and 4 elements pulled.
+     */
+    @Test
+    public void anyMatch_ShouldStop_AtFirstMatch() {
+        CountingIterator it = new CountingIterator(range(100).iterator());
+        Assert.assertTrue(HPipeline.of(it).anyMatch(o -> ((Integer) o).intValue() == 3));
+        Assert.assertEquals(4, it.pulled);
+        Assert.assertFalse(HPipeline.of(range(3)).anyMatch(o -> o == null));
+    }
+
+    /**
+     * Verifies that a limit placed after flatMap stops both the inner and the outer traversal.
+     *
+     * @doc.testCaseDesign The test maps each element of a counting source to a list of 10 elements and limits the result to 15.
+     * @doc.testDescription The test verifies that only two source elements have been pulled.
+     * @doc.preCondition The source has 100 elements.
+     * @doc.postCondition The pipeline has been evaluated.
+     * @doc.expectedResults The test expects 15 results and 2 elements pulled.
+     */
+    @Test
+    public void flatMapLimit_ShouldPull_OnlyNeededElements() {
+        CountingIterator it = new CountingIterator(range(100).iterator());
+        long count = HPipeline.of(it).flatMap(o -> range(10)).limit(15).count();
+        Assert.assertEquals(15, count);
+        Assert.assertEquals(2, it.pulled);
+    }
+}
@@ -0,0 +1,167 @@
+package myTest;
+
+import myAdapter.*;
+import myBridge.*;
+import org.junit.*;
+
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+/**
+ * <p>
+ * Contains a series of unit tests designed to verify the functionality of the HListSpliterator and HStreams classes.
+ * </p>
+ * <p>
+ * Test Case Design: <br>
+ * Each test case builds a ListAdapter with some initial data, exposes it as a spliterator or a stream
+ * and compares the result with the one computed directly on the list.
+ * </p>
+ *
+ * @author Matteo Trevisan
+ */
+public class HStreamsTest {
+
+    /**
+     * Returns a ListAdapter containing the Integers from 0 (inclusive) to n (exclusive).
+     *
+     * @param n the number of elements.
+     * @return the new list.
+     */
+    private static ListAdapter range(int n) {
+        ListAdapter list = new ListAdapter();
+        for (int i = 0; i < n; i++) {
+            list.add(Integer.valueOf(i));
+        }
+        return list;
+    }
+
+    /*
+     * HListSpliterator Family Tests
+     */
+
+    /**
+     * Verifies that the spliterator reports the expected characteristics and size.
+     *
+     * @doc.testCaseDesign The test creates a spliterator over a list of 10 elements.
+     * @doc.testDescription The test verifies the characteristics and the estimated size.
+     * @doc.preCondition The list contains 10 elements.
+     * @doc.postCondition The spliterator has not been traversed.
+     * @doc.expectedResults The test expects SIZED, SUBSIZED and ORDERED and a size of 10.
+     */
+    @Test
+    public void spliterator_ShouldReport_SizedSubsizedOrdered() {
+        Spliterator<Object> s = new HListSpliterator(range(10));
+        Assert.assertTrue(s.hasCharacteristics(Spliterator.SIZED));
+        Assert.assertTrue(s.hasCharacteristics(Spliterator.SUBSIZED));
+        Assert.assertTrue(s.hasCharacteristics(Spliterator.ORDERED));
+        Assert.assertEquals(10, s.getExactSizeIfKnown());
+    }
+
+    /**
+     * Verifies that trySplit divides the range in two disjoint halves.
+     *
+     * @doc.testCaseDesign The test splits a spliterator over 10 elements and traverses both halves.
+     * @doc.testDescription The test verifies the sizes of the halves and that the prefix precedes the suffix.
+     * @doc.preCondition The list contains 10 elements.
+     * @doc.postCondition Both spliterators have been traversed.
+     * @doc.expectedResults The test expects two halves of 5 elements, starting at 0 and 5.
+     */
+    @Test
+    public void trySplit_ShouldSplit_ByOffset() {
+        Spliterator<Object> suffix = new HListSpliterator(range(10));
+        Spliterator<Object> prefix = suffix.trySplit();
+        Assert.assertEquals(5, prefix.estimateSize());
+        Assert.assertEquals(5, suffix.estimateSize());
+        Object[] first = new Object[1];
+        prefix.tryAdvance(o -> first[0] = o);
+        Assert.assertEquals(Integer.valueOf(0), first[0]);
+        suffix.tryAdvance(o -> first[0] = o);
+        Assert.assertEquals(Integer.valueOf(5), first[0]);
+    }
+
+    /**
+     * Verifies that a single element range cannot be split.
+     *
+     * @doc.testCaseDesign The test creates a spliterator over a list of one element and tries to split it.
+     * @doc.testDescription The test verifies that trySplit returns null.
+     * @doc.preCondition The list contains 1 element.
+     * @doc.postCondition The spliterator is unchanged.
+     * @doc.expectedResults The test expects null and a size of 1.
+     */
+    @Test
+    public void trySplit_ShouldReturnNull_WhenTooSmall() {
+        Spliterator<Object> s = new HListSpliterator(range(1));
+        Assert.assertNull(s.trySplit());
+        Assert.assertEquals(1, s.estimateSize());
+    }
+
+    /**
+     * Verifies that the spliterator over a subList only covers the subList.
+     *
+     * @doc.testCaseDesign The test creates a spliterator over the subList [2, 6) of a list of 10 elements.
+     * @doc.testDescription The test verifies that the traversal returns the elements of the subList.
+     * @doc.preCondition The list contains 10 elements.
+     * @doc.postCondition The spliterator has been traversed.
+     * @doc.expectedResults The test expects the elements 2, 3, 4, 5.
+     */
+    @Test
+    public void spliterator_ShouldCover_SubList() {
+        StringBuffer sb = new StringBuffer();
+        new HListSpliterator(range(10).subList(2, 6)).forEachRemaining(sb::append);
+        Assert.assertEquals("2345", sb.toString());
+    }
+
+    /*
+     * HStreams Family Tests
+     */
+
+    /**
+     * Verifies that a sequential stream returns the elements in order.
+     *
+     * @doc.testCaseDesign The test collects a stream over a list of 5 elements into a String.
+     * @doc.testDescription The test verifies that the order of the elements is kept.
+     * @doc.preCondition The list contains 5 elements.
+     * @doc.postCondition The list is unchanged.
+     * @doc.expectedResults The test expects "0,1,2,3,4".
+     */
+    @Test
+    public void stream_ShouldKeep_Order() {
+        String s = HStreams.stream(range(5)).map(String::valueOf).collect(Collectors.joining(","));
+        Assert.assertEquals("0,1,2,3,4", s);
+    }
+
+    /**
+     * Verifies that a parallel stream computes the same aggregate as a sequential scan.
+     *
+     * @doc.testCaseDesign The test sums the elements of a list of 100000 elements with a parallel stream.
+     * @doc.testDescription The test verifies the sum and that an ordered collect keeps the encounter order.
+     * @doc.preCondition The list contains 100000 elements.
+     * @doc.postCondition The list is unchanged.
+     * @doc.expectedResults The test expects the sum n*(n-1)/2 and the first and last elements in place.
+     */
+    @Test
+    public void parallelStream_ShouldAggregate_AllElements() {
+        int n = 100000;
+        ListAdapter list = range(n);
+        long sum = HStreams.parallelStream(list).mapToLong(o -> ((Integer) o).longValue()).sum();
+        Assert.assertEquals((long) n * (n - 1) / 2, sum);
+        java.util.List<Object> collected = HStreams.parallelStream(list).collect(Collectors.toList());
+        Assert.assertEquals(n, collected.size());
+        Assert.assertEquals(Integer.valueOf(0), collected.get(0));
+        Assert.assertEquals(Integer.valueOf(n - 1), collected.get(n - 1));
+    }
+
+    /**
+     * Verifies that streaming a null collection throws a NullPointerException.
+     *
+     * @doc.testCaseDesign The test calls stream with a null argument.
+     * @doc.testDescription The test verifies that a NullPointerException is thrown.
+     * @doc.preCondition None.
+     * @doc.postCondition The exception is thrown.
+     * @doc.expectedResults The test expects a NullPointerException.
+     */
+    @Test
+    public void stream_ShouldThrow_NullPointerException() {
+        Assert.assertThrows(NullPointerException.class, () -> HStreams.stream(null));
+    }
+}
@@ -0,0 +1,247 @@
+package myTest;
+
+import myAdapter.*;
+import myBridge.*;
+import org.junit.*;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * <p>
+ * Contains a series of unit tests designed to verify the functionality of the HViews,
+ * HListAsJavaList and JavaListAsHList classes.
+ * </p>
+ * <p>
+ * Test Case Design: <br>
+ * Each test case creates a list on one side of the boundary, wraps it and modifies either the
+ * list or the view, then checks that the change is visible on the other side.
+ * </p>
+ *
+ * @author Matteo Trevisan
+ */
+public class HViewsTest {
+
+    /*
+     * HListAsJavaList Family Tests
+     */
+
+    /**
+     * Verifies that the java.util.List view reads and writes through to the HList.
+     *
+     * @doc.testCaseDesign The test wraps a ListAdapter, adds, sets and removes elements through the view.
+     * @doc.testDescription The test verifies that every change is visible in the ListAdapter.
+     * @doc.preCondition The ListAdapter contains two elements.
+     * @doc.postCondition The ListAdapter has been modified through the view.
+     * @doc.expectedResults The test expects the ListAdapter to contain "a", "z", "c".
+     */
+    @Test
+    public void asList_ShouldWrite_Through() {
+        ListAdapter list = new ListAdapter();
+        list.add("a");
+        list.add("b");
+        List<Object> view = HViews.asList(list);
+        view.add("c");
+        view.set(1, "z");
+        Assert.assertEquals(3, list.size());
+        Assert.assertEquals("z", list.get(1));
+        Assert.assertEquals("c", list.get(2));
+        view.remove(0);
+        Assert.assertEquals("z", list.get(0));
+        Assert.assertEquals(2, view.size());
+    }
+
+    /**
+     * Verifies that the view of a ListAdapter is a RandomAccess list.
+     *
+     * @doc.testCaseDesign The test wraps a ListAdapter and checks the type of the view.
+     * @doc.testDescription The test verifies that the view implements java.util.RandomAccess.
+     * @doc.preCondition The ListAdapter is empty.
+     * @doc.postCondition The view has been created.
+     * @doc.expectedResults The test expects the view to be a RandomAccess.
+     */
+    @Test
+    public void asList_ShouldBe_RandomAccess() {
+        Assert.assertTrue(HViews.asList(new ListAdapter()) instanceof RandomAccess);
+    }
+
+    /**
+     * Verifies that the iterator and the subList of the view work on the HList.
+     *
+     * @doc.testCaseDesign The test wraps a ListAdapter of 5 elements, removes the even ones through the iterator of the view and clears a subList of the view.
+     * @doc.testDescription The test verifies the contents of the ListAdapter after each step.
+     * @doc.preCondition The ListAdapter contains the numbers from 0 to 4.
+     * @doc.postCondition The ListAdapter has been modified through the view.
+     * @doc.expectedResults The test expects [1, 3] and then [3].
+     */
+    @Test
+    public void asListIteratorAndSubList_ShouldWrite_Through() {
+        ListAdapter list = new ListAdapter();
+        for (int i = 0; i < 5; i++) {
+            list.add(Integer.valueOf(i));
+        }
+        List<Object> view = HViews.asList(list);
+        for (Iterator<Object> it = view.iterator(); it.hasNext(); ) {
+            if (((Integer) it.next()).intValue() % 2 == 0)
+                it.remove();
+        }
+        Assert.assertEquals("[1, 3]", list.toString());
+        view.subList(0, 1).clear();
+        Assert.assertEquals("[3]", list.toString());
+    }
+
+    /**
+     * Verifies that the view is equal to a java.util.List with the same elements.
+     *
+     * @doc.testCaseDesign The test wraps a ListAdapter and compares it to an ArrayList with the same elements.
+     * @doc.testDescription The test verifies equals and hashCode in both directions.
+     * @doc.preCondition Both lists contain "a" and "b".
+     * @doc.postCondition The lists are unchanged.
+     * @doc.expectedResults The test expects the lists to be equal with the same hash code.
+     */
+    @Test
+    public void asList_ShouldEqual_JavaList() {
+        ListAdapter list = new ListAdapter();
+        list.add("a");
+        list.add("b");
+        List<Object> expected = new ArrayList<Object>();
+        expected.add("a");
+        expected.add("b");
+        List<Object> view = HViews.asList(list);
+        Assert.assertEquals(expected, view);
+        Assert.assertEquals(view, expected);
+        Assert.assertEquals(expected.hashCode(), view.hashCode());
+        Assert.assertEquals(list.hashCode(), view.hashCode());
+    }
+
+    /*
+     * JavaListAsHList Family Tests
+     */
+
+    /**
+     * Verifies that the HList view reads and writes through to the java.util.List.
+     *
+     * @doc.testCaseDesign The test wraps an ArrayList, adds elements at the end and at an index, and removes one.
+     * @doc.testDescription The test verifies that every change is visible in the ArrayList.
+     * @doc.preCondition The ArrayList is empty.
+     * @doc.postCondition The ArrayList has been modified through the view.
+     * @doc.expectedResults The test expects the ArrayList to contain "x", "b".
+     */
+    @Test
+    public void asHList_ShouldWrite_Through() {
+        List<Object> list = new ArrayList<Object>();
+        HList view = HViews.asHList(list);
+        view.add("a");
+        view.add("b");
+        view.add(0, "x");
+        view.remove(1);
+        Assert.assertEquals(2, list.size());
+        Assert.assertEquals("x", list.get(0));
+        Assert.assertEquals("b", list.get(1));
+    }
+
+    /**
+     * Verifies that the HList view is HRandomAccess only when the wrapped list is RandomAccess.
+     *
+     * @doc.testCaseDesign The test wraps an ArrayList and a LinkedList.
+     * @doc.testDescription The test verifies which views implement HRandomAccess.
+     * @doc.preCondition Both lists are empty.
+     * @doc.postCondition The views have been created.
+     * @doc.expectedResults The test expects only the view of the ArrayList to be HRandomAccess.
+     */
+    @Test
+    public void asHList_ShouldBe_RandomAccess_WhenAppropriate() {
+        Assert.assertTrue(HViews.asHList(new ArrayList<Object>()) instanceof HRandomAccess);
+        Assert.assertFalse(HViews.asHList(new LinkedList<Object>()) instanceof HRandomAccess);
+    }
+
+    /**
+     * Verifies that the list iterator of the HList view follows the HListIterator contract.
+     *
+     * @doc.testCaseDesign The test wraps an ArrayList, calls remove on a fresh list iterator, then adds and sets elements through it.
+     * @doc.testDescription The test verifies that myAdapter.IllegalStateException is thrown and that the changes reach the ArrayList.
+     * @doc.preCondition The ArrayList contains "a".
+     * @doc.postCondition The ArrayList has been modified through the iterator.
+     * @doc.expectedResults The test expects the exception and the ArrayList to contain "b", "c".
+     */
+    @Test
+    public void asHListIterator_ShouldFollow_Contract() {
+        List<Object> list = new ArrayList<Object>();
+        list.add("a");
+        HListIterator it = HViews.asHList(list).listIterator();
+        Assert.assertThrows(myAdapter.IllegalStateException.class, it::remove);
+        it.next();
+        it.set("b");
+        it.add("c");
+        Assert.assertEquals(2, it.nextIndex());
+        Assert.assertEquals("[b, c]", list.toString());
+    }
+
+    /**
+     * Verifies that the subList and the bulk operations of the HList view work on the java.util.List.
+     *
+     * @doc.testCaseDesign The test wraps an ArrayList, inserts a ListAdapter at an index and removes a subList.
+     * @doc.testDescription The test verifies the contents of the ArrayList after each step.
+     * @doc.preCondition The ArrayList contains "a" and "d".
+     * @doc.postCondition The ArrayList has been modified through the view.
+     * @doc.expectedResults The test expects [a, b, c, d] and then [a, d].
+     */
+    @Test
+    public void asHListSubListAndAddAll_ShouldWrite_Through() {
+        List<Object> list = new ArrayList<Object>();
+        list.add("a");
+        list.add("d");
+        ListAdapter middle = new ListAdapter();
+        middle.add("b");
+        middle.add("c");
+        HList view = HViews.asHList(list);
+        view.addAll(1, middle);
+        Assert.assertEquals("[a, b, c, d]", list.toString());
+        Assert.assertTrue(view.containsAll(middle));
+        view.subList(1, 3).clear();
+        Assert.assertEquals("[a, d]", list.toString());
+    }
+
+    /**
+     * Verifies that the HList view is equal to a ListAdapter with the same elements.
+     *
+     * @doc.testCaseDesign The test wraps an ArrayList and compares it to a ListAdapter with the same elements.
+     * @doc.testDescription The test verifies equals and hashCode in both directions.
+     * @doc.preCondition Both lists contain "a" and null.
+     * @doc.postCondition The lists are unchanged.
+     * @doc.expectedResults The test expects the lists to be equal with the same hash code.
+     */
+    @Test
+    public void asHList_ShouldEqual_ListAdapter() {
+        List<Object> list = new ArrayList<Object>();
+        list.add("a");
+        list.add(null);
+        ListAdapter other = new ListAdapter();
+        other.add("a");
+        other.add(null);
+        HList view = HViews.asHList(list);
+        Assert.assertTrue(view.equals(other));
+        Assert.assertTrue(other.equals(view));
+        Assert.assertEquals(other.hashCode(), view.hashCode());
+    }
+
+    /**
+     * Verifies that wrapping a view returns the original list.
+     *
+     * @doc.testCaseDesign The test wraps a ListAdapter and an ArrayList twice.
+     * @doc.testDescription The test verifies that the second wrapping unwraps the first.
+     * @doc.preCondition Both lists are empty.
+     * @doc.postCondition The views have been created.
+     * @doc.expectedResults The test expects the original lists to be returned.
+     */
+    @Test
+    public void doubleWrapping_ShouldReturn_Original() {
+        ListAdapter list = new ListAdapter();
+        Assert.assertSame(list, HViews.asHList(HViews.asList(list)));
+        List<Object> javaList = new ArrayList<Object>();
+        Assert.assertSame(javaList, HViews.asList(HViews.asHList(javaList)));
+    }
+}
@@ -0,0 +1,176 @@
+package myTest;
+
+import myAdapter.*;
+import myMonitor.*;
+import org.junit.*;
+
+/**
+ * <p>
+ * Contains a series of unit tests designed to verify the functionality of the InstrumentedHList
+ * class and of the metrics it records.
+ * </p>
+ * <p>
+ * Test Case Design: <br>
+ * The tests decorate a ListAdapter, make a known sequence of operations and compare the counters
+ * with the calls and the elements scanned that the sequence implies. The histogram is filled with
+ * known values, so that its percentiles can be checked within the precision of its buckets.
+ * </p>
+ *
+ * @author Matteo Trevisan
+ */
+public class InstrumentedHListTest {
+
+    /**
+     * Returns a decorated ListAdapter of the Integers from 0 to {@code n - 1}, with its counters reset.
+     *
+     * @param n the number of elements.
+     * @return the list.
+     */
+    private static InstrumentedHList filled(int n) {
+        InstrumentedHList list = new InstrumentedHList(new ListAdapter());
+        for (int i = 0; i < n; i++) {
+            list.add(Integer.valueOf(i));
+        }
+        list.metrics().reset();
+        return list;
+    }
+
+    /**
+     * Verifies that the calls and the elements scanned are counted for every operation.
+     *
+     * @doc.testCaseDesign The test makes searches, insertions, removals and a subList clear on a decorated list of 10 elements.
+     * @doc.testDescription The test compares the calls and the elements scanned with those of the sequence, and the list with a ListAdapter.
+     * @doc.preCondition The list contains the Integers from 0 to 9.
+     * @doc.postCondition The list contains 8 elements.
+     * @doc.expectedResults The test expects the exact counters, the operations of the subList in the same metrics, and the results of the decorated list.
+     */
+    @Test
+    public void operations_ShouldBe_Counted() {
+        InstrumentedHList list = filled(10);
+        Assert.assertEquals(3, list.indexOf(Integer.valueOf(3)));
+        Assert.assertEquals(-1, list.indexOf("x"));
+        Assert.assertTrue(list.contains(Integer.valueOf(0)));
+        Assert.assertEquals(7, list.lastIndexOf(Integer.valueOf(7)));
+        list.add(2, "a");
+        Assert.assertEquals("a", list.remove(2));
+        Assert.assertEquals(Integer.valueOf(5), list.get(5));
+        list.iterator();
+        list.listIterator(3);
+        list.subList(1, 3).clear();
+        HListMetrics m = list.metrics();
+        Assert.assertEquals(2, m.calls(HListMetrics.INDEX_OF));
+        Assert.assertEquals(4 + 10, m.scanned(HListMetrics.INDEX_OF));
+        Assert.assertEquals(1, m.calls(HListMetrics.CONTAINS));
+        Assert.assertEquals(1, m.scanned(HListMetrics.CONTAINS));
+        Assert.assertEquals(3, m.scanned(HListMetrics.LAST_INDEX_OF));
+        Assert.assertEquals(8, m.scanned(HListMetrics.ADD_AT));
+        Assert.assertEquals(8, m.scanned(HListMetrics.REMOVE_AT));
+        Assert.assertEquals(1, m.calls(HListMetrics.GET));
+        Assert.assertEquals(0, m.scanned(HListMetrics.GET));
+        Assert.assertEquals(2, m.calls(HListMetrics.ITERATOR));
+        Assert.assertEquals(1, m.calls(HListMetrics.SUB_LIST));
+        Assert.assertEquals(1, m.calls(HListMetrics.REMOVE_ALL));
+        Assert.assertEquals(2, m.scanned(HListMetrics.REMOVE_ALL));
+        ListAdapter expected = new ListAdapter();
+        for (int i = 0; i < 10; i++) {
+            if (i != 1 && i != 2)
+                expected.add(Integer.valueOf(i));
+        }
+        Assert.assertEquals(expected, list.delegate());
+        Assert.assertThrows(IndexOutOfBoundsException.class, () -> list.get(8));
+        Assert.assertEquals(2, m.calls(HListMetrics.GET));
+    }
+
+    /**
+     * Verifies that one call in the sample interval is timed, on average.
+     *
+     * @doc.testCaseDesign The test makes 1000 get calls on a list with a sample interval of 6.
+     * @doc.testDescription The test verifies the interval, rounded to 8, and the calls counted and timed.
+     * @doc.preCondition The list contains 10 elements.
+     * @doc.postCondition The counters are reset.
+     * @doc.expectedResults The test expects 1000 calls, about 125 of them timed, and no counters after the reset.
+     */
+    @Test
+    public void sampling_ShouldTime_OneCallPerInterval() {
+        InstrumentedHList list = new InstrumentedHList(new ListAdapter(), 6);
+        for (int i = 0; i < 10; i++) {
+            list.add(Integer.valueOf(i));
+        }
+        list.metrics().reset();
+        for (int i = 0; i < 1000; i++) {
+            list.get(i % 10);
+        }
+        Assert.assertEquals(8, list.metrics().sampleInterval());
+        MetricsSnapshot.Row get = list.snapshot().row("get");
+        Assert.assertEquals(1000, get.calls());
+        long timed = get.latencies().count();
+        Assert.assertTrue("timed " + timed, timed >= 80 && timed <= 170);
+        Assert.assertNull(list.snapshot().row("add"));
+        list.metrics().reset();
+        Assert.assertEquals(0, list.snapshot().rows().length);
+        Assert.assertThrows(IllegalArgumentException.class, () -> new HListMetrics(0));
+    }
+
+    /**
+     * Verifies the percentiles of the histogram.
+     *
+     * @doc.testCaseDesign The test records the values from 1 to 100000 in a histogram.
+     * @doc.testDescription The test verifies the count, the mean, the maximum and several percentiles.
+     * @doc.preCondition The histogram is empty.
+     * @doc.postCondition The histogram contains 100000 values.
+     * @doc.expectedResults The test expects every percentile within 1/16 of the exact one, and the exact maximum.
+     */
+    @Test
+    public void histogram_ShouldEstimate_Percentiles() {
+        LatencyHistogram h = new LatencyHistogram();
+        Assert.assertEquals(0, h.percentile(50));
+        for (int i = 1; i <= 100000; i++) {
+            h.record(i);
+        }
+        h.record(-5);
+        Assert.assertEquals(100001, h.count());
+        Assert.assertEquals(100000, h.max());
+        Assert.assertEquals(50000.5 * 100000 / 100001, h.mean(), 1e-6);
+        double[] percents = {1, 50, 90, 99, 99.9};
+        for (int i = 0; i < percents.length; i++) {
+            double exact = percents[i] * 1000;
+            long estimate = h.percentile(percents[i]);
+            Assert.assertTrue(percents[i] + ": " + estimate, estimate >= exact - 1 && estimate <= exact * (1 + 1.0 / 16));
+        }
+        Assert.assertEquals(100000, h.percentile(100));
+        Assert.assertEquals(0, h.percentile(0));
+        LatencyHistogram copy = h.copy();
+        h.record(1L << 50);
+        Assert.assertEquals(100001, copy.count());
+        Assert.assertEquals(1L << 50, h.percentile(100));
+        Assert.assertThrows(IllegalArgumentException.class, () -> h.percentile(101));
+    }
+
+    /**
+     * Verifies the formats of the snapshot.
+     *
+     * @doc.testCaseDesign The test makes an add and an indexOf on an empty list, then exports a snapshot.
+     * @doc.testDescription The test verifies the JSON text and the lines of the table.
+     * @doc.preCondition The list is empty.
+     * @doc.postCondition The list contains 1 element.
+     * @doc.expectedResults The test expects a JSON object with both operations and a table of a header and two lines.
+     */
+    @Test
+    public void snapshot_ShouldExport_JsonAndTable() {
+        InstrumentedHList list = new InstrumentedHList(new ListAdapter());
+        list.add("a");
+        list.indexOf("a");
+        MetricsSnapshot snapshot = list.snapshot();
+        String json = snapshot.toJson();
+        Assert.assertTrue(json, json.startsWith("{\"sampleInterval\":1,\"operations\":[{\"name\":\"add\",\"calls\":1,\"scanned\":0,\"timed\":1,"));
+        Assert.assertTrue(json, json.contains("{\"name\":\"indexOf\",\"calls\":1,\"scanned\":1,\"timed\":1,\"mean_ns\":"));
+        Assert.assertTrue(json, json.endsWith("}]}"));
+        String[] lines = snapshot.toTable().split("\\R");
+        Assert.assertEquals(3, lines.length);
+        Assert.assertTrue(lines[0].startsWith("operation"));
+        Assert.assertTrue(lines[1].startsWith("add "));
+        Assert.assertTrue(lines[2].startsWith("indexOf "));
+        list.add("b");
+        Assert.assertEquals(1, snapshot.row("add").calls());
+    }
+}
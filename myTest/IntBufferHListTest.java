@@ -0,0 +1,126 @@
+package myTest;
+
+import myAdapter.*;
+import myIO.*;
+import org.junit.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * <p>
+ * Contains a series of unit tests designed to verify the functionality of the IntBufferHList class.
+ * </p>
+ * <p>
+ * Test Case Design: <br>
+ * The tests compare the list, on the heap and off-heap, with a ListAdapter that receives the same
+ * operations, and transfer lists through a file channel and through stream channels, including a
+ * channel that ends too early.
+ * </p>
+ *
+ * @author Matteo Trevisan
+ */
+public class IntBufferHListTest {
+
+    /**
+     * Verifies that the list behaves as a ListAdapter of Integers.
+     *
+     * @doc.testCaseDesign The test appends 100 Integers to a heap and to a direct list, starting from capacity 0, then inserts, removes, replaces and clears a subList.
+     * @doc.testDescription The test compares both lists with a ListAdapter after the operations, and checks the elements that are rejected.
+     * @doc.preCondition The lists are empty.
+     * @doc.postCondition The lists contain 95 elements.
+     * @doc.expectedResults The test expects the lists to be equal to the ListAdapter, and null and Strings to be rejected.
+     */
+    @Test
+    public void operations_ShouldMatch_ListAdapter() {
+        IntBufferHList[] lists = {new IntBufferHList(0, false), new IntBufferHList(0, true)};
+        for (IntBufferHList list : lists) {
+            ListAdapter expected = new ListAdapter();
+            for (int i = 0; i < 100; i++) {
+                list.addInt(i * 3);
+                expected.add(Integer.valueOf(i * 3));
+            }
+            list.add(0, Integer.valueOf(-1));
+            expected.add(0, Integer.valueOf(-1));
+            list.add(50, Integer.valueOf(-2));
+            expected.add(50, Integer.valueOf(-2));
+            Assert.assertEquals(expected.remove(10), list.remove(10));
+            Assert.assertEquals(expected.set(20, Integer.valueOf(7)), list.set(20, Integer.valueOf(7)));
+            Assert.assertEquals(7, list.getInt(20));
+            Assert.assertEquals(3 * 99, list.setInt(100, 5));
+            expected.set(100, Integer.valueOf(5));
+            list.subList(30, 36).clear();
+            expected.subList(30, 36).clear();
+            Assert.assertEquals(expected, list);
+            Assert.assertEquals(95, list.size());
+            Assert.assertThrows(NullPointerException.class, () -> list.add(null));
+            Assert.assertThrows(ClassCastException.class, () -> list.set(0, "x"));
+            Assert.assertThrows(IndexOutOfBoundsException.class, () -> list.getInt(95));
+        }
+        Assert.assertTrue(lists[1].isDirect());
+    }
+
+    /**
+     * Verifies that a list written to a file is read back by another list.
+     *
+     * @doc.testCaseDesign The test writes a direct list of 100000 elements to a temporary file through a FileChannel, then reads it into a direct list that already contains one element.
+     * @doc.testDescription The test verifies the length of the file and the elements read.
+     * @doc.preCondition The written list contains 100000 elements.
+     * @doc.postCondition The temporary file is deleted.
+     * @doc.expectedResults The test expects a file of 400000 bytes and the elements after the existing one.
+     * @throws IOException if an I/O error occurs.
+     */
+    @Test
+    public void fileChannel_ShouldTransfer_Elements() throws IOException {
+        IntBufferHList list = new IntBufferHList(100000, true);
+        for (int i = 0; i < 100000; i++) {
+            list.addInt(i * 31 - 50000);
+        }
+        Path file = Files.createTempFile("ints", ".bin");
+        try {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                Assert.assertEquals(400000, list.writeTo(channel));
+            }
+            Assert.assertEquals(400000, Files.size(file));
+            IntBufferHList read = new IntBufferHList(0, true);
+            read.addInt(42);
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                read.readFrom(channel, 100000);
+            }
+            Assert.assertEquals(100001, read.size());
+            Assert.assertEquals(42, read.getInt(0));
+            Assert.assertEquals(list, read.subList(1, 100001));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    /**
+     * Verifies the byte format and that a short channel leaves the list unchanged.
+     *
+     * @doc.testCaseDesign The test reads 2 elements from 8 little-endian bytes, then tries to read 2 elements from 6 bytes.
+     * @doc.testDescription The test verifies the elements read and the exception.
+     * @doc.preCondition The list is empty.
+     * @doc.postCondition The list contains 2 elements.
+     * @doc.expectedResults The test expects 1 and -2, then an EOFException with the list unchanged.
+     * @throws IOException if an I/O error occurs.
+     */
+    @Test
+    public void readFrom_ShouldUse_LittleEndianAndFailAtomically() throws IOException {
+        IntBufferHList list = new IntBufferHList();
+        byte[] bytes = {1, 0, 0, 0, (byte) 0xFE, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF};
+        list.readFrom(Channels.newChannel(new ByteArrayInputStream(bytes)), 2);
+        Assert.assertEquals(1, list.getInt(0));
+        Assert.assertEquals(-2, list.getInt(1));
+        byte[] shorter = new byte[6];
+        Assert.assertThrows(EOFException.class, () -> list.readFrom(Channels.newChannel(new ByteArrayInputStream(shorter)), 2));
+        Assert.assertEquals(2, list.size());
+        Assert.assertThrows(IllegalArgumentException.class, () -> list.readFrom(Channels.newChannel(new ByteArrayInputStream(shorter)), -1));
+    }
+}
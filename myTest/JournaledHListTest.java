@@ -0,0 +1,317 @@
+package myTest;
+
+import myAdapter.*;
+import myIO.*;
+import org.junit.*;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * <p>
+ * Contains a series of unit tests designed to verify the functionality of the JournaledHList class.
+ * </p>
+ * <p>
+ * Test Case Design: <br>
+ * Every test works in a new temporary directory. The tests mutate a list, close it or abandon it
+ * without closing it, as a crash would, then open the directory again and compare the recovered
+ * list with a ListAdapter that received the same operations. They also damage the end of the
+ * journal, write checkpoints and let the background thread compact the journal.
+ * </p>
+ *
+ * @author Matteo Trevisan
+ */
+public class JournaledHListTest {
+
+    /**
+     * The directory of the list under test.
+     */
+    private Path directory;
+
+    /**
+     * Creates the temporary directory.
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    @Before
+    public void setup() throws IOException {
+        directory = Files.createTempDirectory("journal");
+    }
+
+    /**
+     * Deletes the temporary directory and its files.
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    @After
+    public void cleanup() throws IOException {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(directory);
+    }
+
+    /**
+     * Returns the number of files in the directory whose name starts with the specified prefix.
+     *
+     * @param prefix the prefix.
+     * @return the number of files.
+     * @throws IOException if an I/O error occurs.
+     */
+    private int count(String prefix) throws IOException {
+        int n = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, prefix + "*")) {
+            for (Path file : files) {
+                n++;
+            }
+        }
+        return n;
+    }
+
+    /**
+     * Verifies that every kind of mutation is recovered by replaying the journal.
+     *
+     * @doc.testCaseDesign The test applies add, add at an index, set, remove, addAll, subList clear, iterator removal and removeAll to a journaled list and to a ListAdapter, then abandons the journaled list.
+     * @doc.testDescription The test opens the directory again and compares the lists.
+     * @doc.preCondition The directory is empty.
+     * @doc.postCondition The recovered list is closed.
+     * @doc.expectedResults The test expects the recovered list to be equal to the ListAdapter.
+     * @throws IOException if an I/O error occurs.
+     */
+    @Test
+    public void mutations_ShouldBe_Replayed() throws IOException {
+        HListCodec codec = new HListCodec();
+        JournaledHList journaled = new JournaledHList(directory, codec, 0, 0);
+        ListAdapter expected = new ListAdapter();
+        HList[] lists = {journaled, expected};
+        for (HList list : lists) {
+            for (int i = 0; i < 50; i++) {
+                list.add(Integer.valueOf(i));
+            }
+            list.add(3, "three");
+            list.add(null);
+            list.set(10, Long.valueOf(-10));
+            list.remove(0);
+            list.remove("three");
+            ListAdapter more = new ListAdapter();
+            more.add("a");
+            more.add(null);
+            more.add(Double.valueOf(0.5));
+            list.addAll(5, more);
+            list.addAll(more);
+            list.subList(20, 30).clear();
+            HIterator it = list.iterator();
+            it.next();
+            it.remove();
+            ListAdapter odd = new ListAdapter();
+            odd.add(Integer.valueOf(41));
+            odd.add(Integer.valueOf(43));
+            list.removeAll(odd);
+        }
+        Assert.assertEquals(expected, journaled);
+        Assert.assertThrows(IllegalArgumentException.class, () -> journaled.add(new Object()));
+        Assert.assertEquals(expected, journaled);
+        JournaledHList recovered = new JournaledHList(directory, codec, 0, 0);
+        Assert.assertEquals(expected, recovered);
+        recovered.clear();
+        recovered.close();
+        Assert.assertThrows(java.lang.IllegalStateException.class, () -> recovered.add("x"));
+        JournaledHList empty = new JournaledHList(directory, codec);
+        Assert.assertTrue(empty.isEmpty());
+        empty.close();
+    }
+
+    /**
+     * Verifies that a record torn by a crash is discarded and cut from the journal.
+     *
+     * @doc.testCaseDesign The test appends 10 elements, then cuts 3 bytes from the end of the journal and corrupts the checksum of the record before it.
+     * @doc.testDescription The test opens the directory again after each damage and appends an element.
+     * @doc.preCondition The directory is empty.
+     * @doc.postCondition The recovered list is closed.
+     * @doc.expectedResults The test expects the damaged records to be lost, the others to be recovered and the appended element to follow them.
+     * @throws IOException if an I/O error occurs.
+     */
+    @Test
+    public void tornRecord_ShouldBe_Discarded() throws IOException {
+        HListCodec codec = new HListCodec();
+        JournaledHList list = new JournaledHList(directory, codec, 0, 0);
+        for (int i = 0; i < 10; i++) {
+            list.add("e" + i);
+        }
+        list.close();
+        Path journal = directory.resolve("journal-0.log");
+        long length = Files.size(journal);
+        try (FileChannel channel = FileChannel.open(journal, StandardOpenOption.WRITE)) {
+            channel.truncate(length - 3);
+        }
+        list = new JournaledHList(directory, codec, 0, 0);
+        Assert.assertEquals(9, list.size());
+        Assert.assertEquals("e8", list.get(8));
+        list.close();
+        byte[] bytes = Files.readAllBytes(journal);
+        int last = bytes.length - (8 + 1 + 1 + 1 + 2);
+        bytes[last + 4] ^= 1;
+        Files.write(journal, bytes);
+        list = new JournaledHList(directory, codec, 0, 0);
+        Assert.assertEquals(8, list.size());
+        list.add("z");
+        list.close();
+        list = new JournaledHList(directory, codec, 0, 0);
+        Assert.assertEquals(9, list.size());
+        Assert.assertEquals("e7", list.get(7));
+        Assert.assertEquals("z", list.get(8));
+        list.close();
+    }
+
+    /**
+     * Verifies that a removeAll and a retainAll are recovered entirely or not at all.
+     *
+     * @doc.testCaseDesign The test journals a removeAll of "x" on a list that alternates "x" and other elements and a retainAll, then cuts the journal at every byte of the two records.
+     * @doc.testDescription The test opens the directory after every cut and compares the recovered list with the states before and after each operation.
+     * @doc.preCondition The directory is empty.
+     * @doc.postCondition The recovered lists are closed.
+     * @doc.expectedResults The test expects every recovered list to be one of the three states the list went through.
+     * @throws IOException if an I/O error occurs.
+     */
+    @Test
+    public void batchRemoval_ShouldBe_Atomic() throws IOException {
+        HListCodec codec = new HListCodec();
+        JournaledHList list = new JournaledHList(directory, codec, 0, 0);
+        for (int i = 0; i < 8; i++) {
+            list.add(i % 2 == 0 ? "x" : "k" + i);
+        }
+        ListAdapter before = new ListAdapter();
+        before.addAll(list);
+        Path journal = directory.resolve("journal-0.log");
+        long start = Files.size(journal);
+        ListAdapter x = new ListAdapter();
+        x.add("x");
+        Assert.assertTrue(list.removeAll(x));
+        Assert.assertFalse(list.removeAll(x));
+        ListAdapter removed = new ListAdapter();
+        removed.addAll(list);
+        ListAdapter kept = new ListAdapter();
+        kept.add("k3");
+        kept.add("k7");
+        Assert.assertTrue(list.retainAll(kept));
+        Assert.assertEquals("[k3, k7]", list.toString());
+        list.close();
+        byte[] bytes = Files.readAllBytes(journal);
+        for (int length = (int) start; length <= bytes.length; length++) {
+            Files.write(journal, Arrays.copyOf(bytes, length));
+            JournaledHList recovered = new JournaledHList(directory, codec, 0, 0);
+            Assert.assertTrue("cut at " + length + ": " + recovered,
+                    recovered.equals(before) || recovered.equals(removed) || recovered.equals(kept));
+            recovered.close();
+        }
+        list = new JournaledHList(directory, codec, 0, 0);
+        Assert.assertEquals(kept, list);
+        list.close();
+    }
+
+    /**
+     * Verifies that a checkpoint replaces the journal and that the journal that follows it is replayed on it.
+     *
+     * @doc.testCaseDesign The test appends 100 elements, writes a checkpoint, removes 10 elements and abandons the list.
+     * @doc.testDescription The test verifies the files in the directory and the recovered list.
+     * @doc.preCondition The directory is empty.
+     * @doc.postCondition The recovered list is closed.
+     * @doc.expectedResults The test expects one checkpoint and one journal of generation 1, and 90 recovered elements.
+     * @throws IOException if an I/O error occurs.
+     */
+    @Test
+    public void checkpoint_ShouldReplace_Journal() throws IOException {
+        HListCodec codec = new HListCodec();
+        JournaledHList list = new JournaledHList(directory, codec, 0, 0);
+        for (int i = 0; i < 100; i++) {
+            list.add(Integer.valueOf(i));
+        }
+        list.checkpoint();
+        Assert.assertEquals(1, list.generation());
+        Assert.assertTrue(Files.exists(directory.resolve("checkpoint-1.hl")));
+        Assert.assertFalse(Files.exists(directory.resolve("journal-0.log")));
+        Assert.assertEquals(0, Files.size(directory.resolve("journal-1.log")));
+        list.subList(0, 10).clear();
+        JournaledHList recovered = new JournaledHList(directory, codec, 0, 0);
+        Assert.assertEquals(90, recovered.size());
+        Assert.assertEquals(Integer.valueOf(10), recovered.get(0));
+        Assert.assertEquals(1, recovered.generation());
+        recovered.close();
+        list.close();
+    }
+
+    /**
+     * Verifies that the records of concurrent writers are all committed.
+     *
+     * @doc.testCaseDesign The test starts 4 threads that append 200 elements each to a list that commits every mutation, then abandons the list.
+     * @doc.testDescription The test opens the directory again and verifies the recovered elements.
+     * @doc.preCondition The directory is empty.
+     * @doc.postCondition The recovered list is closed.
+     * @doc.expectedResults The test expects 800 elements, with the elements of each thread in the order they were appended.
+     * @throws Exception if a thread fails.
+     */
+    @Test
+    public void concurrentWriters_ShouldAll_BeCommitted() throws Exception {
+        HListCodec codec = new HListCodec();
+        JournaledHList list = new JournaledHList(directory, codec, 0, 0);
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            int id = t;
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 200; i++) {
+                    list.add(Integer.valueOf(id * 1000 + i));
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        JournaledHList recovered = new JournaledHList(directory, codec, 0, 0);
+        Assert.assertEquals(800, recovered.size());
+        int[] next = new int[threads.length];
+        for (int i = 0; i < 800; i++) {
+            int v = ((Integer) recovered.get(i)).intValue();
+            Assert.assertEquals(next[v / 1000]++, v % 1000);
+        }
+        recovered.close();
+        list.close();
+    }
+
+    /**
+     * Verifies the background commits and compaction.
+     *
+     * @doc.testCaseDesign The test opens a list that commits every 5 milliseconds and compacts its journal beyond 1000 bytes, and appends 2000 elements.
+     * @doc.testDescription The test waits for the first compaction, closes the list and opens the directory again.
+     * @doc.preCondition The directory is empty.
+     * @doc.postCondition The recovered list is closed.
+     * @doc.expectedResults The test expects the journal to have been compacted, a single checkpoint and all the elements to be recovered.
+     * @throws Exception if an I/O error occurs or the test is interrupted.
+     */
+    @Test
+    public void backgroundCompaction_ShouldKeep_Elements() throws Exception {
+        HListCodec codec = new HListCodec();
+        JournaledHList list = new JournaledHList(directory, codec, 5, 1000);
+        for (int i = 0; i < 2000; i++) {
+            list.add("element " + i);
+        }
+        long deadline = System.currentTimeMillis() + 10000;
+        while (list.generation() == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        list.close();
+        Assert.assertTrue(list.generation() > 0);
+        Assert.assertEquals(1, count("checkpoint-"));
+        JournaledHList recovered = new JournaledHList(directory, codec, 5, 1000);
+        Assert.assertEquals(2000, recovered.size());
+        Assert.assertEquals("element 1999", recovered.get(1999));
+        recovered.close();
+    }
+}
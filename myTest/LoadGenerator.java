@@ -0,0 +1,749 @@
+package myTest;
+
+import myAdapter.HConcurrencyPolicy;
+import myAdapter.HList;
+import myAdapter.ListAdapter;
+import myConcurrent.AppendOnlyConcurrentList;
+import myConcurrent.ReadWriteConcurrencyPolicy;
+import myConcurrent.SegmentedConcurrentList;
+import myConcurrent.StampedConcurrencyPolicy;
+import myConcurrent.VersionedList;
+import myMonitor.LatencyHistogram;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p>
+ * Runs a mixed workload on one list shared by many threads, and prints the throughput, the
+ * distribution of the latencies and how long the threads were stopped by the locks of the list.
+ * Unlike the benchmarks of the myBench package, which measure one operation at a time, the
+ * workload is a mix of operations chosen at random with the specified weights, on indices drawn
+ * from the specified distribution, so it reproduces how a list is used by an application.
+ * </p>
+ * <p>
+ * Usage: {@code java myTest.LoadGenerator [--option=value ...]}, with the options:
+ * </p>
+ * <ul>
+ * <li>{@code impl}: the list, one of {@code none}, {@code monitor}, {@code read-write} and
+ * {@code stamped} for a ListAdapter with that concurrency policy, {@code segmented},
+ * {@code versioned}, {@code append-only}, or the name of a class with a constructor without
+ * arguments (default {@code read-write});</li>
+ * <li>{@code threads}: the number of threads (default the number of processors);</li>
+ * <li>{@code mix}: the operations and their weights, such as {@code get:90,add:8,remove-at:2},
+ * among {@code get}, {@code set}, {@code add}, {@code add-at}, {@code remove-at},
+ * {@code contains}, {@code indexOf} and {@code size} (default {@code get:90,add:8,remove-at:2});</li>
+ * <li>{@code keys}: the distribution of the indices, {@code uniform}, {@code zipf[:theta]} with
+ * theta in (0, 1) (default 0.99), where index 0 is the most frequent, or
+ * {@code hotspot[:keys[:accesses]]}, where the first fraction {@code keys} of the list receives the
+ * fraction {@code accesses} of the operations (default 0.1 and 0.9) (default {@code uniform});</li>
+ * <li>{@code size}: the number of elements of the list at the start (default 100000);</li>
+ * <li>{@code duration} and {@code warmup}: the seconds measured and the seconds run before them
+ * (default 10 and 2);</li>
+ * <li>{@code seed}: the seed of the random choices (default 1).</li>
+ * </ul>
+ * <p>
+ * The element searched by {@code contains} and {@code indexOf}, and stored by the insertions, is
+ * the one that was at the drawn index at the start, so the length of a search follows the same
+ * distribution. The indices, with the size of the list they depend on, and the elements are drawn
+ * before the clock starts, so the latencies are those of the operations alone. An operation that throws an exception, such as a {@code get} on an index removed
+ * by another thread in the meantime, is counted as an error. The times a thread was blocked or
+ * waited are those of {@link ThreadMXBean}: a thread blocks on a monitor, and waits when it is
+ * parked by a lock of java.util.concurrent.
+ * </p>
+ */
+public class LoadGenerator {
+
+    /**
+     * The names of the operations.
+     */
+    static final String[] OPERATIONS = {"get", "set", "add", "add-at", "remove-at", "contains", "indexOf", "size"};
+
+    /**
+     * The configuration of a run.
+     */
+    static final class Config {
+        /**
+         * The name of the list.
+         */
+        String impl = "read-write";
+
+        /**
+         * The number of threads.
+         */
+        int threads = Runtime.getRuntime().availableProcessors();
+
+        /**
+         * The mix of operations as written in the options.
+         */
+        String mix = "get:90,add:8,remove-at:2";
+
+        /**
+         * The weight of every operation.
+         */
+        int[] weights = {90, 0, 8, 0, 2, 0, 0, 0};
+
+        /**
+         * The distribution of the indices as written in the options.
+         */
+        String keys = "uniform";
+
+        /**
+         * The number of elements at the start.
+         */
+        int size = 100000;
+
+        /**
+         * The seconds measured.
+         */
+        double duration = 10;
+
+        /**
+         * The seconds run before the measure.
+         */
+        double warmup = 2;
+
+        /**
+         * The seed of the random choices.
+         */
+        long seed = 1;
+    }
+
+    /**
+     * A distribution of the indices of the list.
+     */
+    abstract static class Keys {
+        /**
+         * Returns an index from 0, included, to the specified bound, excluded.
+         *
+         * @param random the generator of the thread.
+         * @param bound  the bound, 0 if the list is empty.
+         * @return the index, or 0 if the bound is 0.
+         */
+        abstract int next(SplittableRandom random, int bound);
+    }
+
+    /**
+     * The indices drawn with the same probability.
+     */
+    static final class UniformKeys extends Keys {
+        int next(SplittableRandom random, int bound) {
+            return bound <= 0 ? 0 : random.nextInt(bound);
+        }
+    }
+
+    /**
+     * The indices drawn from a Zipf distribution, where index {@code i} is drawn with a
+     * probability proportional to {@code 1 / (i + 1)^theta}. The ranks are drawn over the size of
+     * the list at the start, with the method of Gray et al. used by YCSB, which takes constant
+     * time, and are reduced modulo the current size.
+     */
+    static final class ZipfKeys extends Keys {
+        /**
+         * The number of ranks.
+         */
+        private final int n;
+
+        /**
+         * The exponent of the distribution.
+         */
+        private final double theta;
+
+        /**
+         * The sum of {@code 1 / i^theta} for {@code i} from 1 to {@code n}.
+         */
+        private final double zetan;
+
+        /**
+         * The constants of the method.
+         */
+        private final double alpha, eta;
+
+        /**
+         * Constructs the distribution.
+         *
+         * @param n     the number of ranks.
+         * @param theta the exponent, from 0 to 1 excluded.
+         */
+        ZipfKeys(int n, double theta) {
+            this.n = Math.max(n, 2);
+            this.theta = theta;
+            double z = 0;
+            for (int i = 1; i <= this.n; i++) {
+                z += 1 / Math.pow(i, theta);
+            }
+            zetan = z;
+            double zeta2 = 1 + 1 / Math.pow(2, theta);
+            alpha = 1 / (1 - theta);
+            eta = (1 - Math.pow(2.0 / this.n, 1 - theta)) / (1 - zeta2 / zetan);
+        }
+
+        int next(SplittableRandom random, int bound) {
+            if (bound <= 0)
+                return 0;
+            double u = random.nextDouble();
+            double uz = u * zetan;
+            int rank;
+            if (uz < 1)
+                rank = 0;
+            else if (uz < 1 + Math.pow(0.5, theta))
+                rank = 1;
+            else
+                rank = Math.min((int) (n * Math.pow(eta * u - eta + 1, alpha)), n - 1);
+            return rank < bound ? rank : rank % bound;
+        }
+    }
+
+    /**
+     * The indices drawn from a hot range at the start of the list with a fixed probability, and
+     * from the rest of the list otherwise.
+     */
+    static final class HotspotKeys extends Keys {
+        /**
+         * The fraction of the list that is hot.
+         */
+        private final double hotKeys;
+
+        /**
+         * The fraction of the operations on the hot range.
+         */
+        private final double hotAccesses;
+
+        /**
+         * Constructs the distribution.
+         *
+         * @param hotKeys     the fraction of the list that is hot.
+         * @param hotAccesses the fraction of the operations on the hot range.
+         */
+        HotspotKeys(double hotKeys, double hotAccesses) {
+            this.hotKeys = hotKeys;
+            this.hotAccesses = hotAccesses;
+        }
+
+        int next(SplittableRandom random, int bound) {
+            if (bound <= 0)
+                return 0;
+            int hot = Math.max(1, (int) (bound * hotKeys));
+            if (hot >= bound || random.nextDouble() < hotAccesses)
+                return random.nextInt(hot);
+            return hot + random.nextInt(bound - hot);
+        }
+    }
+
+    /**
+     * The result of a run.
+     */
+    static final class Result {
+        /**
+         * The configuration of the run.
+         */
+        Config config;
+
+        /**
+         * The seconds measured.
+         */
+        double seconds;
+
+        /**
+         * The number of elements at the end.
+         */
+        int finalSize;
+
+        /**
+         * The calls and the errors of every operation.
+         */
+        final long[] calls = new long[OPERATIONS.length], errors = new long[OPERATIONS.length];
+
+        /**
+         * The latencies of every operation.
+         */
+        final LatencyHistogram[] latencies = new LatencyHistogram[OPERATIONS.length];
+
+        /**
+         * The latencies of all the operations.
+         */
+        final LatencyHistogram total = new LatencyHistogram();
+
+        /**
+         * The times the threads blocked or waited, and the milliseconds they spent, or -1 if
+         * they could not be measured.
+         */
+        long blockedCount, blockedMillis, waitedCount, waitedMillis;
+
+        /**
+         * The CPU time of the threads in nanoseconds, or -1 if it could not be measured.
+         */
+        long cpuNanos;
+
+        /**
+         * Constructs an empty result.
+         */
+        Result() {
+            for (int i = 0; i < latencies.length; i++) {
+                latencies[i] = new LatencyHistogram();
+            }
+        }
+
+        /**
+         * Returns the number of operations measured.
+         *
+         * @return the number of operations.
+         */
+        long operations() {
+            long n = 0;
+            for (int i = 0; i < calls.length; i++) {
+                n += calls[i];
+            }
+            return n;
+        }
+
+        /**
+         * Returns the number of operations that threw an exception.
+         *
+         * @return the number of errors.
+         */
+        long errors() {
+            long n = 0;
+            for (int i = 0; i < errors.length; i++) {
+                n += errors[i];
+            }
+            return n;
+        }
+
+        /**
+         * Returns the number of operations per second.
+         *
+         * @return the throughput.
+         */
+        double throughput() {
+            return seconds <= 0 ? 0 : operations() / seconds;
+        }
+
+        /**
+         * Returns the report of the run.
+         *
+         * @return the report.
+         */
+        public String toString() {
+            StringBuilder sb = new StringBuilder();
+            sb.append(String.format(Locale.ROOT, "impl=%s threads=%d mix=%s keys=%s size=%d duration=%.1fs%n",
+                    config.impl, config.threads, config.mix, config.keys, config.size, seconds));
+            sb.append(String.format(Locale.ROOT, "throughput=%.0f ops/s operations=%d errors=%d final_size=%d%n",
+                    throughput(), operations(), errors(), finalSize));
+            sb.append(String.format(Locale.ROOT, "latency_ns p50=%d p99=%d p999=%d max=%d mean=%.1f%n",
+                    total.percentile(50), total.percentile(99), total.percentile(99.9), total.max(), total.mean()));
+            String format = "%-12s %12s %10s %8s %10s %10s %10s %12s%n";
+            sb.append(String.format(Locale.ROOT, format, "operation", "calls", "errors", "share", "p50_ns", "p99_ns",
+                    "p999_ns", "max_ns"));
+            long n = operations();
+            for (int i = 0; i < OPERATIONS.length; i++) {
+                if (calls[i] == 0)
+                    continue;
+                LatencyHistogram h = latencies[i];
+                sb.append(String.format(Locale.ROOT, format, OPERATIONS[i], calls[i], errors[i],
+                        String.format(Locale.ROOT, "%.1f%%", 100.0 * calls[i] / n), h.percentile(50),
+                        h.percentile(99), h.percentile(99.9), h.max()));
+            }
+            double threadMillis = seconds * 1000 * config.threads;
+            sb.append(String.format(Locale.ROOT, "contention blocked=%d (%s) waited=%d (%s) cpu=%s%n",
+                    blockedCount, share(blockedMillis, threadMillis), waitedCount, share(waitedMillis, threadMillis),
+                    share(cpuNanos < 0 ? -1 : cpuNanos / 1000000, threadMillis)));
+            return sb.toString();
+        }
+
+        /**
+         * Formats milliseconds and their share of the time of the threads.
+         *
+         * @param millis the milliseconds, or -1 if they were not measured.
+         * @param total  the milliseconds of all the threads.
+         * @return the formatted time.
+         */
+        private static String share(long millis, double total) {
+            if (millis < 0)
+                return "unavailable";
+            return String.format(Locale.ROOT, "%d ms, %.1f%% of thread time", millis, total <= 0 ? 0 : 100 * millis / total);
+        }
+    }
+
+    /**
+     * The phases of a run.
+     */
+    private static final int WARMUP = 0, MEASURE = 1, STOP = 2;
+
+    /**
+     * Private Constructor, this class only contains static methods.
+     */
+    private LoadGenerator() {
+    }
+
+    /**
+     * Parses the options.
+     *
+     * @param args the options, as {@code --name=value}.
+     * @return the configuration.
+     * @throws IllegalArgumentException if an option is unknown or its value is not valid.
+     */
+    static Config parse(String[] args) {
+        Config c = new Config();
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            int eq = arg.indexOf('=');
+            if (!arg.startsWith("--") || eq < 0)
+                throw new IllegalArgumentException("expected --option=value: " + arg);
+            String name = arg.substring(2, eq);
+            String value = arg.substring(eq + 1);
+            try {
+                if (name.equals("impl"))
+                    c.impl = value;
+                else if (name.equals("threads"))
+                    c.threads = Integer.parseInt(value);
+                else if (name.equals("mix")) {
+                    c.weights = weights(value);
+                    c.mix = value;
+                } else if (name.equals("keys"))
+                    c.keys = value;
+                else if (name.equals("size"))
+                    c.size = Integer.parseInt(value);
+                else if (name.equals("duration"))
+                    c.duration = Double.parseDouble(value);
+                else if (name.equals("warmup"))
+                    c.warmup = Double.parseDouble(value);
+                else if (name.equals("seed"))
+                    c.seed = Long.parseLong(value);
+                else
+                    throw new IllegalArgumentException("unknown option: " + name);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("not a number: " + arg);
+            }
+        }
+        if (c.threads < 1 || c.size < 0 || c.duration <= 0 || c.warmup < 0)
+            throw new IllegalArgumentException("threads must be positive, size and warmup not negative, duration positive");
+        if (c.impl.equals("none") && c.threads > 1)
+            throw new IllegalArgumentException("the policy none cannot be shared by " + c.threads + " threads");
+        keys(c.keys, c.size);
+        return c;
+    }
+
+    /**
+     * Parses a mix of operations.
+     *
+     * @param mix the operations and their weights, such as {@code get:90,add:10}.
+     * @return the weight of every operation.
+     * @throws IllegalArgumentException if an operation is unknown or a weight is negative, or they are all 0.
+     */
+    static int[] weights(String mix) {
+        int[] w = new int[OPERATIONS.length];
+        String[] parts = mix.split(",");
+        int sum = 0;
+        for (int i = 0; i < parts.length; i++) {
+            int colon = parts[i].indexOf(':');
+            String name = colon < 0 ? parts[i] : parts[i].substring(0, colon);
+            int op = indexOf(name);
+            int weight = colon < 0 ? 1 : Integer.parseInt(parts[i].substring(colon + 1));
+            if (weight < 0)
+                throw new IllegalArgumentException("negative weight: " + parts[i]);
+            w[op] += weight;
+            sum += weight;
+        }
+        if (sum <= 0)
+            throw new IllegalArgumentException("empty mix: " + mix);
+        return w;
+    }
+
+    /**
+     * Returns the index of an operation.
+     *
+     * @param name the name of the operation.
+     * @return the index in {@link #OPERATIONS}.
+     * @throws IllegalArgumentException if the operation is unknown.
+     */
+    private static int indexOf(String name) {
+        for (int i = 0; i < OPERATIONS.length; i++) {
+            if (OPERATIONS[i].equals(name))
+                return i;
+        }
+        throw new IllegalArgumentException("unknown operation: " + name);
+    }
+
+    /**
+     * Parses a distribution of the indices.
+     *
+     * @param spec the distribution.
+     * @param size the number of elements of the list at the start.
+     * @return the distribution.
+     * @throws IllegalArgumentException if the distribution is unknown or its parameters are not valid.
+     */
+    static Keys keys(String spec, int size) {
+        String[] parts = spec.split(":");
+        try {
+            if (parts[0].equals("uniform") && parts.length == 1)
+                return new UniformKeys();
+            if (parts[0].equals("zipf") && parts.length <= 2) {
+                double theta = parts.length > 1 ? Double.parseDouble(parts[1]) : 0.99;
+                if (!(theta > 0 && theta < 1))
+                    throw new IllegalArgumentException("theta must be between 0 and 1: " + spec);
+                return new ZipfKeys(size, theta);
+            }
+            if (parts[0].equals("hotspot") && parts.length <= 3) {
+                double hotKeys = parts.length > 1 ? Double.parseDouble(parts[1]) : 0.1;
+                double hotAccesses = parts.length > 2 ? Double.parseDouble(parts[2]) : 0.9;
+                if (!(hotKeys > 0 && hotKeys <= 1 && hotAccesses >= 0 && hotAccesses <= 1))
+                    throw new IllegalArgumentException("the fractions must be between 0 and 1: " + spec);
+                return new HotspotKeys(hotKeys, hotAccesses);
+            }
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("not a number: " + spec);
+        }
+        throw new IllegalArgumentException("unknown distribution: " + spec);
+    }
+
+    /**
+     * Returns a new empty list.
+     *
+     * @param impl the name of the list or of its class.
+     * @return the list.
+     * @throws IllegalArgumentException if the list cannot be created.
+     */
+    static HList create(String impl) {
+        if (impl.equals("none"))
+            return new ListAdapter(HConcurrencyPolicy.NONE);
+        if (impl.equals("monitor"))
+            return new ListAdapter(HConcurrencyPolicy.monitor());
+        if (impl.equals("read-write"))
+            return new ListAdapter(new ReadWriteConcurrencyPolicy());
+        if (impl.equals("stamped"))
+            return new ListAdapter(new StampedConcurrencyPolicy());
+        if (impl.equals("segmented"))
+            return new SegmentedConcurrentList();
+        if (impl.equals("versioned"))
+            return new VersionedList();
+        if (impl.equals("append-only"))
+            return new AppendOnlyConcurrentList();
+        try {
+            return (HList) Class.forName(impl).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | ClassCastException e) {
+            throw new IllegalArgumentException("cannot create " + impl + ": " + e);
+        }
+    }
+
+    /**
+     * Runs a workload and returns its measures.
+     *
+     * @param config the configuration of the run.
+     * @return the result.
+     * @throws InterruptedException if the thread is interrupted while waiting for the workers.
+     */
+    static Result run(final Config config) throws InterruptedException {
+        final HList list = create(config.impl);
+        final Integer[] values = new Integer[Math.max(config.size, 1)];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = Integer.valueOf(i);
+        }
+        for (int i = 0; i < config.size; i++) {
+            list.add(values[i]);
+        }
+        final Keys keys = keys(config.keys, config.size);
+        final int[] cumulative = new int[OPERATIONS.length];
+        int sum = 0;
+        for (int i = 0; i < OPERATIONS.length; i++) {
+            sum += config.weights[i];
+            cumulative[i] = sum;
+        }
+        final int totalWeight = sum;
+        final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        final boolean contention = threads.isThreadContentionMonitoringSupported();
+        if (contention)
+            threads.setThreadContentionMonitoringEnabled(true);
+        final boolean cpu = threads.isCurrentThreadCpuTimeSupported();
+        final Result result = new Result();
+        result.config = config;
+        result.blockedCount = result.waitedCount = contention ? 0 : -1;
+        result.blockedMillis = result.waitedMillis = contention ? 0 : -1;
+        result.cpuNanos = cpu ? 0 : -1;
+        final AtomicInteger phase = new AtomicInteger(WARMUP);
+        final Object lock = new Object();
+        final CountDownLatch ready = new CountDownLatch(config.threads);
+        final CountDownLatch start = new CountDownLatch(1);
+        SplittableRandom seeds = new SplittableRandom(config.seed);
+        Thread[] workers = new Thread[config.threads];
+        for (int t = 0; t < config.threads; t++) {
+            final SplittableRandom random = seeds.split();
+            workers[t] = new Thread(() -> {
+                long[] calls = new long[OPERATIONS.length];
+                long[] errors = new long[OPERATIONS.length];
+                LatencyHistogram[] latencies = new LatencyHistogram[OPERATIONS.length];
+                for (int i = 0; i < latencies.length; i++) {
+                    latencies[i] = new LatencyHistogram();
+                }
+                ThreadInfo first = null;
+                long firstCpu = 0;
+                int seen = WARMUP;
+                long sink = 0;
+                int[] args = new int[2];
+                ready.countDown();
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                while (true) {
+                    int now = phase.get();
+                    if (now != seen) {
+                        if (now == STOP)
+                            break;
+                        seen = now;
+                        for (int i = 0; i < latencies.length; i++) {
+                            latencies[i].reset();
+                            calls[i] = 0;
+                            errors[i] = 0;
+                        }
+                        first = contention ? threads.getThreadInfo(Thread.currentThread().getId()) : null;
+                        firstCpu = cpu ? threads.getCurrentThreadCpuTime() : 0;
+                    }
+                    for (int k = 0; k < 64; k++) {
+                        int w = random.nextInt(totalWeight);
+                        int op = 0;
+                        while (cumulative[op] <= w) {
+                            op++;
+                        }
+                        draw(list, op, keys, random, values.length, args);
+                        long begin = System.nanoTime();
+                        try {
+                            sink += call(list, op, args, values);
+                        } catch (RuntimeException e) {
+                            errors[op]++;
+                        }
+                        latencies[op].record(System.nanoTime() - begin);
+                        calls[op]++;
+                    }
+                }
+                ThreadInfo last = contention ? threads.getThreadInfo(Thread.currentThread().getId()) : null;
+                long lastCpu = cpu ? threads.getCurrentThreadCpuTime() : 0;
+                synchronized (lock) {
+                    for (int i = 0; i < OPERATIONS.length; i++) {
+                        result.calls[i] += calls[i];
+                        result.errors[i] += errors[i];
+                        result.latencies[i].add(latencies[i]);
+                        result.total.add(latencies[i]);
+                    }
+                    if (first != null && last != null) {
+                        result.blockedCount += last.getBlockedCount() - first.getBlockedCount();
+                        result.waitedCount += last.getWaitedCount() - first.getWaitedCount();
+                        result.blockedMillis += Math.max(last.getBlockedTime() - first.getBlockedTime(), 0);
+                        result.waitedMillis += Math.max(last.getWaitedTime() - first.getWaitedTime(), 0);
+                    }
+                    if (cpu)
+                        result.cpuNanos += lastCpu - firstCpu;
+                }
+                if (sink == 42)
+                    System.out.print("");
+            }, "load-" + t);
+            workers[t].start();
+        }
+        ready.await();
+        start.countDown();
+        Thread.sleep((long) (config.warmup * 1000));
+        phase.set(MEASURE);
+        long begin = System.nanoTime();
+        Thread.sleep((long) (config.duration * 1000));
+        phase.set(STOP);
+        long end = System.nanoTime();
+        for (int t = 0; t < workers.length; t++) {
+            workers[t].join();
+        }
+        result.seconds = (end - begin) / 1e9;
+        result.finalSize = list.size();
+        return result;
+    }
+
+    /**
+     * Draws the arguments of one operation: the index, if it takes one, in the first element of
+     * the array, and the index of the element in {@code values}, if it takes one, in the second.
+     * Only the operations that take an index read the size of the list.
+     *
+     * @param list   the list.
+     * @param op     the index of the operation in {@link #OPERATIONS}.
+     * @param keys   the distribution of the indices.
+     * @param random the generator of the thread.
+     * @param values the number of elements of the list at the start.
+     * @param args   the array that receives the arguments.
+     */
+    private static void draw(HList list, int op, Keys keys, SplittableRandom random, int values, int[] args) {
+        switch (op) {
+            case 0:
+            case 1:
+            case 4:
+                args[0] = keys.next(random, list.size());
+                break;
+            case 3:
+                args[0] = keys.next(random, list.size() + 1);
+                args[1] = keys.next(random, values);
+                break;
+            case 2:
+            case 5:
+            case 6:
+                args[1] = keys.next(random, values);
+                break;
+        }
+    }
+
+    /**
+     * Runs one operation on the list.
+     *
+     * @param list   the list.
+     * @param op     the index of the operation in {@link #OPERATIONS}.
+     * @param args   the arguments drawn by {@link #draw(HList, int, Keys, SplittableRandom, int, int[])}.
+     * @param values the elements of the list at the start.
+     * @return a value that depends on the result, so that the call is not removed.
+     */
+    private static int call(HList list, int op, int[] args, Integer[] values) {
+        switch (op) {
+            case 0:
+                return list.get(args[0]).hashCode();
+            case 1:
+                list.set(args[0], values[args[0] % values.length]);
+                return 1;
+            case 2:
+                list.add(values[args[1]]);
+                return 1;
+            case 3:
+                list.add(args[0], values[args[1]]);
+                return 1;
+            case 4:
+                list.remove(args[0]);
+                return 1;
+            case 5:
+                return list.contains(values[args[1]]) ? 1 : 0;
+            case 6:
+                return list.indexOf(values[args[1]]);
+            default:
+                return list.size();
+        }
+    }
+
+    /**
+     * Runs the workload described by the options and prints its report.
+     *
+     * @param args the options, as {@code --name=value}.
+     * @throws InterruptedException if the main thread is interrupted while waiting for the workers.
+     */
+    public static void main(String[] args) throws InterruptedException {
+        Config config;
+        try {
+            config = parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println("usage: LoadGenerator [--impl=read-write] [--threads=N] [--mix=get:90,add:8,remove-at:2]"
+                    + " [--keys=uniform|zipf[:theta]|hotspot[:keys[:accesses]]] [--size=100000] [--duration=10]"
+                    + " [--warmup=2] [--seed=1]");
+            System.exit(2);
+            return;
+        }
+        System.out.print(run(config));
+    }
+}
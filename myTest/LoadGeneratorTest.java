@@ -0,0 +1,123 @@
+package myTest;
+
+import org.junit.*;
+
+import java.util.SplittableRandom;
+
+/**
+ * <p>
+ * Contains a series of unit tests designed to verify the functionality of the LoadGenerator class.
+ * </p>
+ * <p>
+ * Test Case Design: <br>
+ * The tests parse the options, draw many indices from each distribution and compare their
+ * frequencies with the expected ones, and run short workloads on shared lists.
+ * </p>
+ *
+ * @author Matteo Trevisan
+ */
+@RunSerially
+public class LoadGeneratorTest {
+
+    /**
+     * Verifies the parsing of the options and the rejection of the wrong ones.
+     *
+     * @doc.testCaseDesign The test parses no options, a complete set of options and several wrong options.
+     * @doc.testDescription The test verifies the configurations and the exceptions.
+     * @doc.preCondition None.
+     * @doc.postCondition None.
+     * @doc.expectedResults The test expects the default and the parsed values, and an IllegalArgumentException for every wrong option.
+     */
+    @Test
+    public void parse_ShouldRead_Options() {
+        LoadGenerator.Config c = LoadGenerator.parse(new String[0]);
+        Assert.assertEquals("read-write", c.impl);
+        Assert.assertArrayEquals(new int[]{90, 0, 8, 0, 2, 0, 0, 0}, c.weights);
+        c = LoadGenerator.parse(new String[]{"--impl=stamped", "--threads=32", "--mix=get:70,set:10,contains:20",
+                "--keys=zipf:0.8", "--size=5000", "--duration=0.5", "--warmup=0", "--seed=7"});
+        Assert.assertEquals("stamped", c.impl);
+        Assert.assertEquals(32, c.threads);
+        Assert.assertArrayEquals(new int[]{70, 10, 0, 0, 0, 20, 0, 0}, c.weights);
+        Assert.assertEquals(5000, c.size);
+        Assert.assertEquals(0.5, c.duration, 0);
+        Assert.assertEquals(7, c.seed);
+        String[][] wrong = {{"--mix=get:90,push:10"}, {"--mix=get:0"}, {"--keys=zipf:1"}, {"--keys=gauss"},
+                {"--threads=0"}, {"--threads=x"}, {"--impl=none", "--threads=2"}, {"threads=2"}, {"--color=red"}};
+        for (int i = 0; i < wrong.length; i++) {
+            final String[] args = wrong[i];
+            Assert.assertThrows(args[0], IllegalArgumentException.class, () -> LoadGenerator.parse(args));
+        }
+        Assert.assertThrows(IllegalArgumentException.class, () -> LoadGenerator.create("java.lang.String"));
+    }
+
+    /**
+     * Verifies the frequencies of the indices of every distribution.
+     *
+     * @doc.testCaseDesign The test draws 200000 indices below 1000 from each distribution.
+     * @doc.testDescription The test compares the frequencies with those of the distributions.
+     * @doc.preCondition None.
+     * @doc.postCondition None.
+     * @doc.expectedResults The test expects every index in bounds, uniform frequencies about 1/1000, Zipf frequencies decreasing with the index as 1/i^theta, and 90% of the hotspot indices in the first 10%.
+     */
+    @Test
+    public void keys_ShouldFollow_Distributions() {
+        int n = 1000;
+        int draws = 200000;
+        SplittableRandom random = new SplittableRandom(47);
+        String[] specs = {"uniform", "zipf:0.99", "hotspot:0.1:0.9"};
+        int[][] counts = new int[specs.length][n];
+        for (int s = 0; s < specs.length; s++) {
+            LoadGenerator.Keys keys = LoadGenerator.keys(specs[s], n);
+            for (int i = 0; i < draws; i++) {
+                counts[s][keys.next(random, n)]++;
+            }
+            Assert.assertEquals(0, keys.next(random, 0));
+        }
+        Assert.assertEquals(draws / n, counts[0][0], draws / n * 0.5);
+        Assert.assertEquals(draws / n, counts[0][n - 1], draws / n * 0.5);
+        int[] zipf = counts[1];
+        Assert.assertTrue(zipf[0] > zipf[1] && zipf[1] > zipf[10] && zipf[10] > zipf[500]);
+        Assert.assertEquals(Math.pow(2, 0.99), (double) zipf[0] / zipf[1], 0.2);
+        int hot = 0;
+        for (int i = 0; i < n / 10; i++) {
+            hot += counts[2][i];
+        }
+        Assert.assertEquals(0.9, (double) hot / draws, 0.01);
+    }
+
+    /**
+     * Verifies that a short run measures the mix of operations on a shared list.
+     *
+     * @doc.testCaseDesign The test runs 4 threads for 0.3 seconds on a ListAdapter with the read-write policy and on an AppendOnlyConcurrentList, with a mix of 90% get, 8% add and 2% remove-at.
+     * @doc.testDescription The test verifies the counts, the shares of the operations, the final size and the report.
+     * @doc.preCondition The lists contain 10000 elements.
+     * @doc.postCondition The lists are discarded.
+     * @doc.expectedResults The test expects the final size to follow from the successful insertions and removals, the shares of the mix, no errors on the ListAdapter and an error for every remove-at on the append-only list.
+     * @throws InterruptedException if the test is interrupted.
+     */
+    @Test
+    public void run_ShouldMeasure_Mix() throws InterruptedException {
+        String[] impls = {"read-write", "append-only"};
+        for (int i = 0; i < impls.length; i++) {
+            LoadGenerator.Config c = LoadGenerator.parse(new String[]{"--impl=" + impls[i], "--threads=4",
+                    "--size=10000", "--duration=0.3", "--warmup=0.1", "--keys=zipf"});
+            LoadGenerator.Result r = LoadGenerator.run(c);
+            long n = r.operations();
+            Assert.assertTrue(n > 1000);
+            Assert.assertEquals(n, r.total.count());
+            Assert.assertEquals(0.9, (double) r.calls[0] / n, 0.02);
+            Assert.assertEquals(0.08, (double) r.calls[2] / n, 0.02);
+            Assert.assertEquals(r.calls[4], r.latencies[4].count());
+            Assert.assertEquals(0, r.errors[0] + r.errors[2]);
+            Assert.assertTrue(r.throughput() > 0);
+            String report = r.toString();
+            Assert.assertTrue(report, report.contains("p999="));
+            Assert.assertTrue(report, report.contains("contention blocked="));
+            if (i == 0)
+                Assert.assertEquals(0, r.errors());
+            else
+                Assert.assertEquals(r.calls[4], r.errors[4]);
+            Assert.assertTrue(r.finalSize >= 10000 + r.calls[2] - r.calls[4]);
+        }
+    }
+}
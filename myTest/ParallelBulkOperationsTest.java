@@ -0,0 +1,150 @@
+package myTest;
+
+import myAdapter.*;
+import myConcurrent.*;
+import org.junit.*;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * <p>
+ * Contains a series of unit tests designed to verify the functionality of the ParallelBulkOperations class.
+ * </p>
+ * <p>
+ * Test Case Design: <br>
+ * The tests run every operation on lists of 100000 elements with a pool of 4 threads and a
+ * threshold of 0, so that the parallel path is always taken, and compare the results with the
+ * sequential methods of ListAdapter, including matches at the first, the last and a middle index.
+ * </p>
+ *
+ * @author Matteo Trevisan
+ */
+public class ParallelBulkOperationsTest {
+
+    /**
+     * The number of elements of the lists.
+     */
+    private static final int SIZE = 100000;
+
+    /**
+     * The pool that runs the tasks.
+     */
+    private static ForkJoinPool pool;
+
+    /**
+     * The list containing the numbers from 0 to SIZE - 1, with null at index 1000.
+     */
+    private ListAdapter list;
+
+    /**
+     * Creates the pool.
+     */
+    @BeforeClass
+    public static void setUpClass() {
+        pool = new ForkJoinPool(4);
+    }
+
+    /**
+     * Shuts down the pool.
+     */
+    @AfterClass
+    public static void tearDownClass() {
+        pool.shutdown();
+    }
+
+    /**
+     * Fills the list.
+     */
+    @Before
+    public void setUp() {
+        list = new ListAdapter();
+        for (int i = 0; i < SIZE; i++) {
+            list.add(i == 1000 ? null : Integer.valueOf(i));
+        }
+    }
+
+    /**
+     * Verifies that indexOf finds the first occurrence anywhere in the list.
+     *
+     * @doc.testCaseDesign The test searches elements at the start, in the middle, at the end, a duplicated one, null and a missing one.
+     * @doc.testDescription The test verifies that the returned indexes are those returned by ListAdapter.indexOf.
+     * @doc.preCondition The list contains SIZE elements and the element 77 also at the end.
+     * @doc.postCondition The list is unchanged.
+     * @doc.expectedResults The test expects the same index as the sequential method.
+     */
+    @Test
+    public void indexOf_ShouldMatch_Sequential() {
+        list.add(Integer.valueOf(77));
+        Object[] searched = {Integer.valueOf(0), Integer.valueOf(54321), Integer.valueOf(SIZE - 1),
+                Integer.valueOf(77), null, "missing"};
+        for (int i = 0; i < searched.length; i++) {
+            Assert.assertEquals(list.indexOf(searched[i]), ParallelBulkOperations.indexOf(list, searched[i], pool, 0));
+        }
+    }
+
+    /**
+     * Verifies that containsAll works with few and with many searched elements.
+     *
+     * @doc.testCaseDesign The test searches two elements, then 1000 elements, first all present and then with one missing.
+     * @doc.testDescription The test verifies the result for each collection.
+     * @doc.preCondition The list contains SIZE elements.
+     * @doc.postCondition The list is unchanged.
+     * @doc.expectedResults The test expects true for the present elements and false when one is missing.
+     */
+    @Test
+    public void containsAll_ShouldMatch_Sequential() {
+        ListAdapter few = new ListAdapter();
+        few.add(Integer.valueOf(SIZE - 1));
+        few.add(null);
+        Assert.assertTrue(ParallelBulkOperations.containsAll(list, few, pool, 0));
+        few.add(Integer.valueOf(-1));
+        Assert.assertFalse(ParallelBulkOperations.containsAll(list, few, pool, 0));
+        ListAdapter many = new ListAdapter();
+        for (int i = 0; i < 1000; i++) {
+            many.add(Integer.valueOf(i * 97));
+        }
+        Assert.assertTrue(ParallelBulkOperations.containsAll(list, many, pool, 0));
+        many.add(500, Integer.valueOf(SIZE));
+        Assert.assertFalse(ParallelBulkOperations.containsAll(list, many, pool, 0));
+        Assert.assertThrows(NullPointerException.class, () -> ParallelBulkOperations.containsAll(list, null, pool, 0));
+    }
+
+    /**
+     * Verifies that equals compares the elements in order.
+     *
+     * @doc.testCaseDesign The test compares the list with a copy, with a copy differing at the last index, with a shorter copy and with a non-list.
+     * @doc.testDescription The test verifies the result of each comparison.
+     * @doc.preCondition The list contains SIZE elements.
+     * @doc.postCondition The list is unchanged.
+     * @doc.expectedResults The test expects true only for the identical copy.
+     */
+    @Test
+    public void equals_ShouldMatch_Sequential() {
+        ListAdapter copy = new ListAdapter();
+        copy.addAll(list);
+        Assert.assertTrue(ParallelBulkOperations.equals(list, copy, pool, 0));
+        copy.set(SIZE - 1, "x");
+        Assert.assertFalse(ParallelBulkOperations.equals(list, copy, pool, 0));
+        copy.remove(SIZE - 1);
+        Assert.assertFalse(ParallelBulkOperations.equals(list, copy, pool, 0));
+        Assert.assertFalse(ParallelBulkOperations.equals(list, "x", pool, 0));
+    }
+
+    /**
+     * Verifies that the combined hash code is the sequential one.
+     *
+     * @doc.testCaseDesign The test computes the hash code of lists of several sizes, which split into chunks of different lengths.
+     * @doc.testDescription The test verifies that the result is equal to ListAdapter.hashCode.
+     * @doc.preCondition The list contains SIZE elements.
+     * @doc.postCondition The list is unchanged.
+     * @doc.expectedResults The test expects the same hash code as the sequential method.
+     */
+    @Test
+    public void hashCode_ShouldMatch_Sequential() {
+        Assert.assertEquals(list.hashCode(), ParallelBulkOperations.hashCode(list, pool, 0));
+        list.add("odd");
+        Assert.assertEquals(list.hashCode(), ParallelBulkOperations.hashCode(list, pool, 0));
+        Assert.assertEquals(1, ParallelBulkOperations.hashCode(new ListAdapter(), pool, 0));
+        Assert.assertEquals(list.hashCode(), ParallelBulkOperations.hashCode(list));
+    }
+}
@@ -0,0 +1,20 @@
+package myTest;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a test class that {@link TestRunner} must not run together with other tests, because it
+ * measures something shared by the whole virtual machine, such as the used heap, the events of
+ * Flight Recorder or the time of the processors, or counts in static fields, so that the other
+ * tests, or its own methods running together, would disturb the measure. The marked classes run
+ * one at a time, with their methods in order, after the parallel part of the suite.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface RunSerially {
+}
@@ -0,0 +1,350 @@
+package myTest;
+
+import myAdapter.*;
+import myConcurrent.*;
+import org.junit.*;
+
+import java.util.Random;
+import java.util.function.IntConsumer;
+
+/**
+ * <p>
+ * Contains a series of unit tests designed to verify the functionality of the SegmentedConcurrentList class.
+ * </p>
+ * <p>
+ * Test Case Design: <br>
+ * The single thread tests use a very small segment capacity, so that a few elements are enough
+ * to split segments and to drop empty ones, and compare the list with a ListAdapter after a
+ * random sequence of operations. The multi thread tests check that concurrent sets, inserts,
+ * appends and removals are neither lost nor duplicated.
+ * </p>
+ *
+ * @author Matteo Trevisan
+ */
+public class SegmentedConcurrentListTest {
+
+    /**
+     * Runs the specified task on the specified number of threads and waits for all of them.
+     *
+     * @param threads the number of threads.
+     * @param task    the task to run, which receives the number of its thread.
+     * @throws InterruptedException if the test thread is interrupted.
+     */
+    private static void runThreads(int threads, final IntConsumer task) throws InterruptedException {
+        Thread[] workers = new Thread[threads];
+        for (int i = 0; i < threads; i++) {
+            final int id = i;
+            workers[i] = new Thread(() -> task.accept(id));
+            workers[i].start();
+        }
+        for (int i = 0; i < threads; i++) {
+            workers[i].join();
+        }
+    }
+
+    /*
+     * SegmentedConcurrentList Single Thread Family Tests
+     */
+
+    /**
+     * Verifies that the list behaves like a ListAdapter across segment splits.
+     *
+     * @doc.testCaseDesign The test runs 5000 random inserts, appends, sets and removals on a list with segments of 4 elements and on a ListAdapter.
+     * @doc.testDescription The test verifies that both lists return the same values and have the same contents after every operation.
+     * @doc.preCondition Both lists are empty.
+     * @doc.postCondition Both lists have the same contents.
+     * @doc.expectedResults The test expects equal lists and more than one segment.
+     */
+    @Test
+    public void randomOperations_ShouldMatch_ListAdapter() {
+        SegmentedConcurrentList list = new SegmentedConcurrentList(4);
+        ListAdapter expected = new ListAdapter();
+        Random random = new Random(42);
+        for (int i = 0; i < 5000; i++) {
+            int size = expected.size();
+            int op = random.nextInt(4);
+            Integer value = Integer.valueOf(i);
+            if (op == 0 || size == 0) {
+                int index = random.nextInt(size + 1);
+                list.add(index, value);
+                expected.add(index, value);
+            } else if (op == 1) {
+                Assert.assertTrue(list.add(value));
+                expected.add(value);
+            } else if (op == 2) {
+                int index = random.nextInt(size);
+                Assert.assertEquals(expected.set(index, value), list.set(index, value));
+            } else {
+                int index = random.nextInt(size);
+                Assert.assertEquals(expected.remove(index), list.remove(index));
+            }
+            Assert.assertEquals(expected.size(), list.size());
+        }
+        Assert.assertEquals(expected, list);
+        Assert.assertTrue(list.segmentCount() > 1);
+        Object[] array = list.toArray();
+        for (int i = 0; i < array.length; i++) {
+            Assert.assertEquals(expected.get(i), array[i]);
+            Assert.assertEquals(expected.get(i), list.get(i));
+        }
+    }
+
+    /**
+     * Verifies that the searches, clear and null elements are supported.
+     *
+     * @doc.testCaseDesign The test fills a list with segments of 2 elements, including null, searches it and clears it.
+     * @doc.testDescription The test verifies the indexes returned by the searches and that clear leaves one empty segment.
+     * @doc.preCondition The list is empty.
+     * @doc.postCondition The list is empty.
+     * @doc.expectedResults The test expects the first and last indexes of the elements and an empty list.
+     */
+    @Test
+    public void searchesAndClear_ShouldWork() {
+        SegmentedConcurrentList list = new SegmentedConcurrentList(2);
+        list.add("a");
+        list.add(null);
+        list.add("b");
+        list.add("a");
+        list.add(null);
+        Assert.assertEquals(1, list.indexOf(null));
+        Assert.assertEquals(4, list.lastIndexOf(null));
+        Assert.assertEquals(3, list.lastIndexOf("a"));
+        Assert.assertTrue(list.contains("b"));
+        Assert.assertEquals(-1, list.indexOf("c"));
+        Assert.assertEquals("[a, null, b, a, null]", list.toString());
+        list.clear();
+        Assert.assertTrue(list.isEmpty());
+        Assert.assertEquals(1, list.segmentCount());
+        list.add("c");
+        Assert.assertEquals("[c]", list.toString());
+    }
+
+    /**
+     * Verifies that the removals by element compact the segments.
+     *
+     * @doc.testCaseDesign The test fills a list with segments of 4 elements, removes elements with remove(Object), removeAll and retainAll.
+     * @doc.testDescription The test verifies the contents after each removal and that the emptied segments are dropped.
+     * @doc.preCondition The list contains the integers from 0 to 15 and null.
+     * @doc.postCondition The list contains 9 and 15.
+     * @doc.expectedResults The test expects the remaining elements in order and fewer segments.
+     */
+    @Test
+    public void removalsByElement_ShouldCompact_Segments() {
+        SegmentedConcurrentList list = new SegmentedConcurrentList(4);
+        for (int i = 0; i < 16; i++) {
+            list.add(Integer.valueOf(i));
+        }
+        list.add(2, null);
+        Assert.assertTrue(list.remove(null));
+        Assert.assertFalse(list.remove(null));
+        Assert.assertTrue(list.remove(Integer.valueOf(3)));
+        Assert.assertFalse(list.remove(Integer.valueOf(3)));
+        int segments = list.segmentCount();
+        ListAdapter removed = new ListAdapter();
+        for (int i = 0; i < 8; i++) {
+            removed.add(Integer.valueOf(i));
+        }
+        Assert.assertTrue(list.removeAll(removed));
+        Assert.assertFalse(list.removeAll(removed));
+        Assert.assertEquals("[8, 9, 10, 11, 12, 13, 14, 15]", list.toString());
+        Assert.assertTrue(list.segmentCount() < segments);
+        ListAdapter retained = new ListAdapter();
+        retained.add(Integer.valueOf(9));
+        retained.add(Integer.valueOf(15));
+        Assert.assertTrue(list.retainAll(retained));
+        Assert.assertFalse(list.retainAll(retained));
+        Assert.assertEquals("[9, 15]", list.toString());
+        Assert.assertEquals(Integer.valueOf(15), list.get(1));
+        Assert.assertTrue(list.retainAll(new ListAdapter()));
+        Assert.assertTrue(list.isEmpty());
+        Assert.assertEquals(1, list.segmentCount());
+        Assert.assertThrows(NullPointerException.class, () -> list.removeAll(null));
+    }
+
+    /**
+     * Verifies that the indexes are checked.
+     *
+     * @doc.testCaseDesign The test accesses a list of two elements at invalid indexes and creates a list with an invalid capacity.
+     * @doc.testDescription The test verifies that the right exceptions are thrown.
+     * @doc.preCondition The list contains "a", "b".
+     * @doc.postCondition The list is unchanged.
+     * @doc.expectedResults The test expects IndexOutOfBoundsException and IllegalArgumentException.
+     */
+    @Test
+    public void invalidArguments_ShouldThrow() {
+        SegmentedConcurrentList list = new SegmentedConcurrentList(2);
+        list.add("a");
+        list.add("b");
+        Assert.assertThrows(IndexOutOfBoundsException.class, () -> list.get(2));
+        Assert.assertThrows(IndexOutOfBoundsException.class, () -> list.set(-1, "c"));
+        Assert.assertThrows(IndexOutOfBoundsException.class, () -> list.add(3, "c"));
+        Assert.assertThrows(IndexOutOfBoundsException.class, () -> list.remove(2));
+        Assert.assertThrows(IllegalArgumentException.class, () -> new SegmentedConcurrentList(1));
+        Assert.assertEquals("[a, b]", list.toString());
+    }
+
+    /*
+     * SegmentedConcurrentList Multi Thread Family Tests
+     */
+
+    /**
+     * Verifies that concurrent sets on disjoint positions are not lost.
+     *
+     * @doc.testCaseDesign 8 threads each set every eighth position of a list of 8000 elements, 10 times over.
+     * @doc.testDescription The test verifies that every position holds the value written by its thread.
+     * @doc.preCondition The list contains 8000 elements.
+     * @doc.postCondition Every position i holds -i.
+     * @doc.expectedResults The test expects -i at every position i.
+     * @throws InterruptedException if the test thread is interrupted.
+     */
+    @Test
+    public void concurrentSet_ShouldNotLose_Updates() throws InterruptedException {
+        final SegmentedConcurrentList list = new SegmentedConcurrentList(64);
+        for (int i = 0; i < 8000; i++) {
+            list.add(Integer.valueOf(i));
+        }
+        runThreads(8, id -> {
+            for (int round = 0; round < 10; round++) {
+                for (int i = id; i < 8000; i += 8) {
+                    list.set(i, Integer.valueOf(-i));
+                }
+            }
+        });
+        for (int i = 0; i < 8000; i++) {
+            Assert.assertEquals(Integer.valueOf(-i), list.get(i));
+        }
+    }
+
+    /**
+     * Verifies that concurrent inserts, appends and removals keep every element exactly once.
+     *
+     * @doc.testCaseDesign 4 threads insert at random positions, 4 threads append, and afterwards 4 threads remove the first element, on a list with segments of 16 elements.
+     * @doc.testDescription The test verifies the size after the inserts and that every value is removed once.
+     * @doc.preCondition The list is empty.
+     * @doc.postCondition The list is empty.
+     * @doc.expectedResults The test expects 16000 elements, each value seen once, then an empty list.
+     * @throws InterruptedException if the test thread is interrupted.
+     */
+    @Test
+    public void concurrentStructuralChanges_ShouldKeep_Elements() throws InterruptedException {
+        final SegmentedConcurrentList list = new SegmentedConcurrentList(16);
+        runThreads(8, id -> {
+            Random random = new Random(id);
+            for (int i = 0; i < 2000; i++) {
+                Integer value = Integer.valueOf(id * 2000 + i);
+                if (id < 4)
+                    list.add(random.nextInt(list.size() + 1), value);
+                else
+                    list.add(value);
+            }
+        });
+        Assert.assertEquals(16000, list.size());
+        final boolean[] seen = new boolean[16000];
+        final boolean[] duplicate = new boolean[1];
+        runThreads(4, id -> {
+            for (int i = 0; i < 4000; i++) {
+                int value = ((Integer) list.remove(0)).intValue();
+                synchronized (seen) {
+                    if (seen[value])
+                        duplicate[0] = true;
+                    seen[value] = true;
+                }
+            }
+        });
+        Assert.assertFalse(duplicate[0]);
+        Assert.assertTrue(list.isEmpty());
+    }
+
+    /**
+     * Verifies that the removals by element remove the right elements while other threads insert.
+     *
+     * @doc.testCaseDesign 2 threads insert 2000 strings each at the head and at the index equal to the number of strings inserted so far, while a third removes the even integers one by one with remove(Object) and a fourth removes the multiples of 3 with removeAll.
+     * @doc.testDescription The test verifies that every string is still in the list and that exactly the integers not divisible by 2 or 3 are left, in order.
+     * @doc.preCondition The list contains the integers from 0 to 2999.
+     * @doc.postCondition The list contains the 4000 strings and the integers not divisible by 2 or 3.
+     * @doc.expectedResults The test expects no string to be lost and the right integers to be left.
+     * @throws InterruptedException if the test thread is interrupted.
+     */
+    @Test
+    public void concurrentRemovalsByElement_ShouldRemove_RightElements() throws InterruptedException {
+        final SegmentedConcurrentList list = new SegmentedConcurrentList(16);
+        final ListAdapter multiplesOfThree = new ListAdapter();
+        for (int i = 0; i < 3000; i++) {
+            list.add(Integer.valueOf(i));
+            if (i % 3 == 0)
+                multiplesOfThree.add(Integer.valueOf(i));
+        }
+        runThreads(4, id -> {
+            if (id < 2) {
+                for (int i = 0; i < 2000; i++) {
+                    list.add(id == 0 ? 0 : i, "m" + (id * 2000 + i));
+                }
+            } else if (id == 2) {
+                for (int i = 0; i < 3000; i += 2) {
+                    list.remove(Integer.valueOf(i));
+                }
+            } else {
+                for (int i = 0; i < 10; i++) {
+                    list.removeAll(multiplesOfThree);
+                }
+            }
+        });
+        int markers = 0;
+        int expected = 0;
+        Object[] array = list.toArray();
+        for (int i = 0; i < array.length; i++) {
+            if (array[i] instanceof String) {
+                markers++;
+            } else {
+                while (expected % 2 == 0 || expected % 3 == 0)
+                    expected++;
+                Assert.assertEquals(Integer.valueOf(expected), array[i]);
+                expected++;
+            }
+        }
+        Assert.assertEquals(4000, markers);
+        Assert.assertEquals(1000, array.length - markers);
+    }
+
+    /**
+     * Verifies that the searches find the elements that are never removed while the structure
+     * changes, and that an equals method can read the list during a search.
+     *
+     * @doc.testCaseDesign 2 threads insert and remove strings at the head of a list of 1000 Integers, while 4 threads search the Integers; then an element whose equals reads the list is searched.
+     * @doc.testDescription The test verifies that every search of an Integer finds it and that the last search returns.
+     * @doc.preCondition The list contains the Integers from 0 to 999 in segments of 16 elements.
+     * @doc.postCondition The list contains the Integers from 0 to 999.
+     * @doc.expectedResults The test expects no failed search and the index of the element.
+     * @throws InterruptedException if the test thread is interrupted.
+     */
+    @Test
+    public void concurrentSearches_ShouldFind_StableElements() throws InterruptedException {
+        final SegmentedConcurrentList list = new SegmentedConcurrentList(16);
+        for (int i = 0; i < 1000; i++) {
+            list.add(Integer.valueOf(i));
+        }
+        final boolean[] missed = new boolean[1];
+        runThreads(6, id -> {
+            Random random = new Random(id);
+            for (int i = 0; i < 3000; i++) {
+                if (id < 2) {
+                    list.add(0, "s" + id);
+                    list.remove("s" + id);
+                } else {
+                    Integer value = Integer.valueOf(random.nextInt(1000));
+                    if (list.indexOf(value) < 0 || list.lastIndexOf(value) < 0 || !list.contains(value))
+                        missed[0] = true;
+                }
+            }
+        });
+        Assert.assertFalse(missed[0]);
+        Assert.assertEquals(1000, list.size());
+        Object reader = new Object() {
+            public boolean equals(Object o) {
+                return list.get(0).equals(Integer.valueOf(0)) && Integer.valueOf(500).equals(o);
+            }
+        };
+        Assert.assertEquals(500, list.indexOf(reader));
+        Assert.assertEquals(500, list.lastIndexOf(reader));
+    }
+}
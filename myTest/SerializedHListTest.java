@@ -0,0 +1,203 @@
+package myTest;
+
+import myAdapter.*;
+import myIO.*;
+import org.junit.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * <p>
+ * Contains a series of unit tests designed to verify the functionality of the SerializedHList class.
+ * </p>
+ * <p>
+ * Test Case Design: <br>
+ * The tests encode lists with HListCodec and open them from a byte array, from a slice of a
+ * ByteBuffer and from a mapped file. They check random access, sequential iteration, the cache
+ * and that only the accessed elements are decoded, counted through a registered codec.
+ * </p>
+ *
+ * @author Matteo Trevisan
+ */
+public class SerializedHListTest {
+
+    /**
+     * Encodes the specified list.
+     *
+     * @param codec the codec.
+     * @param list  the list.
+     * @return the encoded list.
+     * @throws IOException if an I/O error occurs.
+     */
+    private static byte[] encode(HListCodec codec, HList list) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        codec.write(list, new DataOutputStream(bytes));
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Returns a list of 1000 elements: Strings, Integers, nulls and Longs, so that there are homogeneous and mixed blocks.
+     *
+     * @return the list.
+     */
+    private static ListAdapter sample() {
+        ListAdapter list = new ListAdapter();
+        for (int i = 0; i < 1000; i++) {
+            if (i < 300)
+                list.add("s" + i);
+            else if (i < 600)
+                list.add(i % 7 == 0 ? null : Integer.valueOf(i));
+            else
+                list.add(i % 2 == 0 ? (Object) Long.valueOf(-i) : "t" + i);
+        }
+        return list;
+    }
+
+    /**
+     * A codec of StringBuffers that counts the decoded elements.
+     */
+    private static class CountingCodec implements HElementCodec {
+        /**
+         * The number of decoded elements.
+         */
+        int reads;
+
+        public boolean accepts(Object o) {
+            return o instanceof StringBuffer;
+        }
+
+        public void write(Object o, DataOutput out) throws IOException {
+            out.writeUTF(o.toString());
+        }
+
+        public Object read(DataInput in) throws IOException {
+            reads++;
+            return new StringBuffer(in.readUTF());
+        }
+    }
+
+    /**
+     * Verifies that random access and iteration return the encoded elements.
+     *
+     * @doc.testCaseDesign The test opens an encoded list of 1000 elements from a byte array and reads it by index, in a scattered order, and by iterator.
+     * @doc.testDescription The test verifies every element and the size.
+     * @doc.preCondition The encoded list contains 1000 elements.
+     * @doc.postCondition The view is unchanged.
+     * @doc.expectedResults The test expects the same elements as the original list.
+     * @throws IOException if an I/O error occurs.
+     */
+    @Test
+    public void getAndIterator_ShouldReturn_EncodedElements() throws IOException {
+        ListAdapter list = sample();
+        HListCodec codec = new HListCodec();
+        SerializedHList view = new SerializedHList(encode(codec, list), codec);
+        Assert.assertEquals(1000, view.size());
+        for (int k = 0; k < 1000; k++) {
+            int i = k * 379 % 1000;
+            Assert.assertEquals(list.get(i), view.get(i));
+        }
+        Assert.assertEquals(list, view);
+        Assert.assertEquals(view, list);
+        Assert.assertThrows(IndexOutOfBoundsException.class, () -> view.get(1000));
+        Assert.assertThrows(myAdapter.UnsupportedOperationException.class, () -> view.add("x"));
+        Assert.assertThrows(myAdapter.UnsupportedOperationException.class, () -> view.iterator().remove());
+    }
+
+    /**
+     * Verifies that get decodes only the requested element and that the cache avoids decoding it again.
+     *
+     * @doc.testCaseDesign The test encodes 200 StringBuffers with a counting codec, then reads some of them with and without a cache.
+     * @doc.testDescription The test verifies the number of elements decoded by the codec.
+     * @doc.preCondition The encoded list contains 200 StringBuffers.
+     * @doc.postCondition The views are unchanged.
+     * @doc.expectedResults The test expects one decoding per uncached get and none for cached ones.
+     * @throws IOException if an I/O error occurs.
+     */
+    @Test
+    public void get_ShouldDecode_OnlyTheElement() throws IOException {
+        CountingCodec counter = new CountingCodec();
+        HListCodec codec = new HListCodec();
+        codec.register(HListCodec.FIRST_USER_TAG, counter);
+        ListAdapter list = new ListAdapter();
+        for (int i = 0; i < 200; i++) {
+            list.add(new StringBuffer("e" + i));
+        }
+        byte[] bytes = encode(codec, list);
+        SerializedHList uncached = new SerializedHList(ByteBuffer.wrap(bytes), codec, 0);
+        counter.reads = 0;
+        Assert.assertEquals("e150", uncached.get(150).toString());
+        Assert.assertEquals("e150", uncached.get(150).toString());
+        int walk = counter.reads - 2;
+        Assert.assertEquals("e151", uncached.get(151).toString());
+        Assert.assertEquals(walk + 3, counter.reads);
+        SerializedHList cached = new SerializedHList(ByteBuffer.wrap(bytes), codec, 16);
+        Object first = cached.get(10);
+        int reads = counter.reads;
+        Assert.assertSame(first, cached.get(10));
+        Assert.assertEquals(reads, counter.reads);
+    }
+
+    /**
+     * Verifies that a list can be opened from a slice of a buffer and from a mapped file.
+     *
+     * @doc.testCaseDesign The test places an encoded list after 3 other bytes of a buffer, and writes it to a temporary file.
+     * @doc.testDescription The test verifies that both views are equal to the original list.
+     * @doc.preCondition The encoded list contains 1000 elements.
+     * @doc.postCondition The temporary file is deleted.
+     * @doc.expectedResults The test expects both views to be equal to the original list.
+     * @throws IOException if an I/O error occurs.
+     */
+    @Test
+    public void bufferSliceAndMappedFile_ShouldBe_Supported() throws IOException {
+        ListAdapter list = sample();
+        HListCodec codec = new HListCodec();
+        byte[] bytes = encode(codec, list);
+        ByteBuffer buffer = ByteBuffer.allocate(bytes.length + 3);
+        buffer.put(new byte[]{9, 9, 9}).put(bytes).position(3);
+        Assert.assertEquals(list, new SerializedHList(buffer, codec, 8));
+        Assert.assertEquals(3, buffer.position());
+        Path file = Files.createTempFile("list", ".bin");
+        try {
+            Files.write(file, bytes);
+            SerializedHList mapped = SerializedHList.map(file, codec, 0);
+            Assert.assertEquals(list, mapped);
+            Assert.assertEquals(list.get(999), mapped.get(999));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    /**
+     * Verifies that malformed data is reported.
+     *
+     * @doc.testCaseDesign The test opens a truncated encoding, then corrupts the tag of the first block, which follows the 5 bytes of the header and its length.
+     * @doc.testDescription The test verifies the exceptions thrown when opening and when reading.
+     * @doc.preCondition The encoded list contains 1000 elements.
+     * @doc.postCondition The exceptions are thrown.
+     * @doc.expectedResults The test expects an IOException when opening and an UncheckedIOException when reading.
+     * @throws IOException if an I/O error occurs.
+     */
+    @Test
+    public void malformedData_ShouldThrow() throws IOException {
+        HListCodec codec = new HListCodec();
+        byte[] bytes = encode(codec, sample());
+        byte[] truncated = new byte[bytes.length / 2];
+        System.arraycopy(bytes, 0, truncated, 0, truncated.length);
+        Assert.assertThrows(IOException.class, () -> new SerializedHList(truncated, codec));
+        int header = 5;
+        while ((bytes[header] & 0x80) != 0) {
+            header++;
+        }
+        bytes[header + 1] = (byte) (100 << 1);
+        SerializedHList view = new SerializedHList(bytes, codec);
+        Assert.assertThrows(UncheckedIOException.class, () -> view.get(0));
+    }
+}
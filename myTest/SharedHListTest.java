@@ -0,0 +1,169 @@
+package myTest;
+
+import myAdapter.*;
+import myIO.*;
+import org.junit.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * <p>
+ * Contains a series of unit tests designed to verify the functionality of the SharedHList class.
+ * </p>
+ * <p>
+ * Test Case Design: <br>
+ * Every test creates a shared list in a temporary file and opens readers on it with separate
+ * mappings, as another process would. The tests check that the readers see the published
+ * elements, and only complete ones while the writer is appending, and the limits of the file.
+ * </p>
+ *
+ * @author Matteo Trevisan
+ */
+public class SharedHListTest {
+
+    /**
+     * The file of the list under test.
+     */
+    private Path file;
+
+    /**
+     * Creates the name of the temporary file.
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    @Before
+    public void setup() throws IOException {
+        file = Files.createTempFile("shared", ".hl");
+    }
+
+    /**
+     * Deletes the temporary file.
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    @After
+    public void cleanup() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    /**
+     * Verifies that a reader sees the elements appended by the writer.
+     *
+     * @doc.testCaseDesign The test appends elements of several types one at a time and with addAll, opening a reader before and one after, then reopens the writer.
+     * @doc.testDescription The test compares the readers with a ListAdapter of the same elements.
+     * @doc.preCondition The file is new.
+     * @doc.postCondition The lists are closed.
+     * @doc.expectedResults The test expects both readers, and the reopened writer, to contain all the elements.
+     * @throws IOException if an I/O error occurs.
+     */
+    @Test
+    public void readers_ShouldSee_PublishedElements() throws IOException {
+        HListCodec codec = new HListCodec();
+        SharedHList writer = SharedHList.create(file, codec, 100, 4096);
+        SharedHList early = SharedHList.openReader(file, codec);
+        Assert.assertTrue(early.isEmpty());
+        ListAdapter expected = new ListAdapter();
+        expected.add("first");
+        expected.add(null);
+        expected.add(Integer.valueOf(-7));
+        expected.add(Long.valueOf(1L << 40));
+        writer.add("first");
+        writer.add(null);
+        ListAdapter rest = new ListAdapter();
+        rest.add(Integer.valueOf(-7));
+        rest.add(Long.valueOf(1L << 40));
+        writer.addAll(rest);
+        SharedHList late = SharedHList.openReader(file, codec);
+        Assert.assertEquals(expected, early);
+        Assert.assertEquals(expected, late);
+        Assert.assertFalse(late.isWriter());
+        Assert.assertThrows(myAdapter.UnsupportedOperationException.class, () -> late.add("x"));
+        Assert.assertThrows(IOException.class, () -> SharedHList.openWriter(file, codec));
+        writer.close();
+        SharedHList reopened = SharedHList.openWriter(file, codec);
+        reopened.add("last");
+        Assert.assertEquals("last", early.get(4));
+        Assert.assertEquals(5, late.size());
+        reopened.close();
+        early.close();
+        late.close();
+    }
+
+    /**
+     * Verifies that a reader sees only complete elements while the writer appends.
+     *
+     * @doc.testCaseDesign The test starts a thread that appends 20000 Strings of growing length while the main thread reads the last published element in a loop through its own mapping.
+     * @doc.testDescription The test verifies every element read during the appends and all the elements at the end.
+     * @doc.preCondition The file is new.
+     * @doc.postCondition The lists are closed.
+     * @doc.expectedResults The test expects every element read to be the one appended at its index.
+     * @throws Exception if a thread fails.
+     */
+    @Test
+    public void concurrentReader_ShouldSee_CompleteElements() throws Exception {
+        HListCodec codec = new HListCodec();
+        SharedHList writer = SharedHList.create(file, codec, 20000, 1 << 20);
+        SharedHList reader = SharedHList.openReader(file, codec);
+        AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+        Thread appender = new Thread(() -> {
+            try {
+                for (int i = 0; i < 20000; i++) {
+                    writer.add("e" + i);
+                }
+            } catch (Throwable t) {
+                failure.set(t);
+            }
+        });
+        appender.start();
+        while (appender.isAlive()) {
+            int n = reader.size();
+            if (n > 0)
+                Assert.assertEquals("e" + (n - 1), reader.get(n - 1));
+        }
+        appender.join();
+        Assert.assertNull(failure.get());
+        Assert.assertEquals(20000, reader.size());
+        for (int i = 0; i < 20000; i += 101) {
+            Assert.assertEquals("e" + i, reader.get(i));
+        }
+        writer.close();
+        reader.close();
+    }
+
+    /**
+     * Verifies the limits of the file.
+     *
+     * @doc.testCaseDesign The test fills a file of 3 elements and one of 10 bytes of data, and opens a file that is not a shared list.
+     * @doc.testDescription The test verifies the exceptions and that a failed addAll publishes nothing.
+     * @doc.preCondition The files are new.
+     * @doc.postCondition The lists are closed.
+     * @doc.expectedResults The test expects an IllegalStateException when a file is full and an IOException for the wrong file.
+     * @throws IOException if an I/O error occurs.
+     */
+    @Test
+    public void fullOrMalformedFile_ShouldThrow() throws IOException {
+        HListCodec codec = new HListCodec();
+        SharedHList list = SharedHList.create(file, codec, 3, 1000);
+        list.add("a");
+        ListAdapter three = new ListAdapter();
+        three.add("b");
+        three.add("c");
+        three.add("d");
+        Assert.assertThrows(java.lang.IllegalStateException.class, () -> list.addAll(three));
+        Assert.assertEquals(1, list.size());
+        list.add("b");
+        list.add("c");
+        Assert.assertThrows(java.lang.IllegalStateException.class, () -> list.add("d"));
+        list.close();
+        SharedHList small = SharedHList.create(file, codec, 100, 10);
+        small.add("12345");
+        Assert.assertThrows(java.lang.IllegalStateException.class, () -> small.add("12345"));
+        Assert.assertEquals(1, small.size());
+        small.close();
+        Files.write(file, new byte[100]);
+        Assert.assertThrows(IOException.class, () -> SharedHList.openReader(file, codec));
+    }
+}
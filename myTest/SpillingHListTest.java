@@ -0,0 +1,256 @@
+package myTest;
+
+import myAdapter.*;
+import myIO.*;
+import org.junit.*;
+
+import java.io.IOException;
+import java.util.Random;
+
+/**
+ * <p>
+ * Contains a series of unit tests designed to verify the functionality of the SpillingHList class.
+ * </p>
+ * <p>
+ * Test Case Design: <br>
+ * The tests use small pages and working sets, so that nearly every operation faults in or spills
+ * a page. They compare the list with a ListAdapter that receives the same random operations,
+ * check the limits on the resident pages and their weight, and iterate over lists whose pages
+ * are mostly spilled.
+ * </p>
+ *
+ * @author Matteo Trevisan
+ */
+public class SpillingHListTest {
+
+    /**
+     * Verifies that random operations give the same results as on a ListAdapter.
+     *
+     * @doc.testCaseDesign The test applies 5000 random insertions, removals and replacements, with a bias towards insertions, to a list of pages of 8 elements with 2 resident pages and to a ListAdapter.
+     * @doc.testDescription The test compares the results of the operations, the lists and the number of resident pages.
+     * @doc.preCondition The lists are empty.
+     * @doc.postCondition The spilling list is closed.
+     * @doc.expectedResults The test expects the same results and elements, and never more than 2 resident pages.
+     * @throws IOException if an I/O error occurs.
+     */
+    @Test
+    public void randomOperations_ShouldMatch_ListAdapter() throws IOException {
+        SpillingHList list = new SpillingHList(new HListCodec(), 8, 2, 0);
+        ListAdapter expected = new ListAdapter();
+        Random random = new Random(38);
+        for (int k = 0; k < 5000; k++) {
+            int op = random.nextInt(10);
+            if (op < 5 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                Object o = random.nextInt(8) == 0 ? null : "v" + k;
+                list.add(index, o);
+                expected.add(index, o);
+            } else if (op < 8) {
+                int index = random.nextInt(expected.size());
+                Assert.assertEquals(expected.remove(index), list.remove(index));
+            } else {
+                int index = random.nextInt(expected.size());
+                Integer o = Integer.valueOf(k);
+                Assert.assertEquals(expected.set(index, o), list.set(index, o));
+            }
+            Assert.assertTrue(list.residentPages() <= 2);
+        }
+        Assert.assertEquals(expected.size(), list.size());
+        for (int i = 0; i < expected.size(); i++) {
+            Assert.assertEquals(expected.get(i), list.get(i));
+        }
+        Assert.assertArrayEquals(expected.toArray(), list.toArray());
+        list.close();
+    }
+
+    /**
+     * Verifies that the memory budget is honoured.
+     *
+     * @doc.testCaseDesign The test appends 10000 Strings to a list of pages of 100 elements with a budget of 10000 bytes and no practical limit on the number of pages.
+     * @doc.testDescription The test verifies the weight of the resident pages after every append and the elements at the end.
+     * @doc.preCondition The list is empty.
+     * @doc.postCondition The list is closed.
+     * @doc.expectedResults The test expects the weight never to exceed the budget and all the elements to be kept.
+     * @throws IOException if an I/O error occurs.
+     */
+    @Test
+    public void memoryBudget_ShouldBe_Honoured() throws IOException {
+        SpillingHList list = new SpillingHList(new HListCodec(), 100, 1000, 10000);
+        for (int i = 0; i < 10000; i++) {
+            list.add("element " + i);
+            Assert.assertTrue(list.residentWeight() <= 10000);
+        }
+        Assert.assertTrue(list.residentPages() < 10);
+        for (int i = 0; i < 10000; i += 97) {
+            Assert.assertEquals("element " + i, list.get(i));
+        }
+        list.close();
+    }
+
+    /**
+     * Verifies that the weight of the resident pages is the size of their arrays and elements.
+     *
+     * @doc.testCaseDesign The test applies 2000 random insertions, removals and replacements of Strings of growing length to a list of pages of 16 elements with 4 resident pages.
+     * @doc.testDescription The test compares the resident weight with the backing and element bytes of the footprint estimated by the default model.
+     * @doc.preCondition The list is empty.
+     * @doc.postCondition The list is closed.
+     * @doc.expectedResults The test expects the weight to be always equal to the sum of the backing and element bytes.
+     * @throws IOException if an I/O error occurs.
+     */
+    @Test
+    public void residentWeight_ShouldMatch_Footprint() throws IOException {
+        SpillingHList list = new SpillingHList(new HListCodec(), 16, 4, 0);
+        Random random = new Random(380);
+        for (int k = 0; k < 2000; k++) {
+            int op = random.nextInt(10);
+            String o = "v" + "x".repeat(k % 50);
+            if (op < 6 || list.isEmpty())
+                list.add(random.nextInt(list.size() + 1), o);
+            else if (op < 8)
+                list.remove(random.nextInt(list.size()));
+            else
+                list.set(random.nextInt(list.size()), o);
+            HFootprint footprint = list.footprint(HSizeModel.DEFAULT, true);
+            Assert.assertEquals(footprint.backingBytes() + footprint.elementBytes(), list.residentWeight());
+        }
+        list.close();
+    }
+
+    /**
+     * Verifies that the slots of the file are reused when pages are split and removed.
+     *
+     * @doc.testCaseDesign The test grows a list of pages of 32 elements with 2 resident pages to 3300 Strings with insertions at random positions, then shrinks it to 100 with random removals, for 10 cycles.
+     * @doc.testDescription The test verifies the size of the file after every cycle and the remaining elements.
+     * @doc.preCondition The list is empty.
+     * @doc.postCondition The list is closed.
+     * @doc.expectedResults The test expects the file never to grow beyond twice its size after the first cycle.
+     * @throws IOException if an I/O error occurs.
+     */
+    @Test
+    public void fileSlots_ShouldBe_Reused() throws IOException {
+        SpillingHList list = new SpillingHList(new HListCodec(), 32, 2, 0);
+        ListAdapter expected = new ListAdapter();
+        Random random = new Random(381);
+        long bound = -1;
+        for (int cycle = 0; cycle < 10; cycle++) {
+            for (int i = 0; i < 3200; i++) {
+                int index = random.nextInt(expected.size() + 1);
+                list.add(index, "e" + i);
+                expected.add(index, "e" + i);
+            }
+            while (expected.size() > 100) {
+                int index = random.nextInt(expected.size());
+                Assert.assertEquals(expected.remove(index), list.remove(index));
+            }
+            if (bound < 0)
+                bound = 2 * list.fileBytes();
+            Assert.assertTrue(list.fileBytes() <= bound);
+        }
+        Assert.assertArrayEquals(expected.toArray(), list.toArray());
+        list.close();
+    }
+
+    /**
+     * Verifies that batch removals of concurrent threads are applied one at a time.
+     *
+     * @doc.testCaseDesign The test fills a list of pages of 16 elements with 2 resident pages with 4000 Integers, then 4 threads remove the multiples of 2, 3, 5 and 7 with removeAll, while another retains the numbers below 3000.
+     * @doc.testDescription The test compares the list with the numbers that no thread removes.
+     * @doc.preCondition The list contains the Integers from 0 to 3999.
+     * @doc.postCondition The list is closed.
+     * @doc.expectedResults The test expects exactly the numbers below 3000 that are not multiples of 2, 3, 5 and 7, in order.
+     * @throws Exception if an I/O error occurs or a thread is interrupted.
+     */
+    @Test
+    public void batchRemovals_ShouldBe_Synchronized() throws Exception {
+        SpillingHList list = new SpillingHList(new HListCodec(), 16, 2, 0);
+        for (int i = 0; i < 4000; i++) {
+            list.add(Integer.valueOf(i));
+        }
+        int[] divisors = { 2, 3, 5, 7 };
+        Thread[] threads = new Thread[divisors.length + 1];
+        for (int t = 0; t < divisors.length; t++) {
+            ListAdapter multiples = new ListAdapter();
+            for (int i = 0; i < 4000; i += divisors[t]) {
+                multiples.add(Integer.valueOf(i));
+            }
+            threads[t] = new Thread(() -> list.removeAll(multiples));
+        }
+        ListAdapter below = new ListAdapter();
+        for (int i = 0; i < 3000; i++) {
+            below.add(Integer.valueOf(i));
+        }
+        threads[divisors.length] = new Thread(() -> list.retainAll(below));
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        ListAdapter expected = new ListAdapter();
+        for (int i = 0; i < 3000; i++) {
+            if (i % 2 != 0 && i % 3 != 0 && i % 5 != 0 && i % 7 != 0)
+                expected.add(Integer.valueOf(i));
+        }
+        Assert.assertArrayEquals(expected.toArray(), list.toArray());
+        list.close();
+    }
+
+    /**
+     * Verifies that the iterator returns the elements of spilled pages in order and can remove them.
+     *
+     * @doc.testCaseDesign The test appends 5000 Integers to a list of pages of 50 elements with 3 resident pages, then iterates over it twice, removing the multiples of 3 the first time.
+     * @doc.testDescription The test verifies the elements returned by the iterators and the number of faults.
+     * @doc.preCondition The list contains 5000 Integers.
+     * @doc.postCondition The list is closed.
+     * @doc.expectedResults The test expects the elements in order, the multiples of 3 removed and no more faults than pages in the second iteration.
+     * @throws IOException if an I/O error occurs.
+     */
+    @Test
+    public void iterator_ShouldPrefetch_SpilledPages() throws IOException {
+        SpillingHList list = new SpillingHList(new HListCodec(), 50, 3, 0);
+        for (int i = 0; i < 5000; i++) {
+            list.add(Integer.valueOf(i));
+        }
+        HIterator it = list.iterator();
+        for (int i = 0; i < 5000; i++) {
+            Assert.assertEquals(Integer.valueOf(i), it.next());
+            if (i % 3 == 0)
+                it.remove();
+        }
+        Assert.assertFalse(it.hasNext());
+        Assert.assertEquals(3333, list.size());
+        long faults = list.faults();
+        it = list.iterator();
+        int expected = 1;
+        while (it.hasNext()) {
+            Assert.assertEquals(Integer.valueOf(expected), it.next());
+            expected += expected % 3 == 1 ? 1 : 2;
+        }
+        Assert.assertTrue(list.faults() - faults <= 100);
+        list.close();
+    }
+
+    /**
+     * Verifies that elements without a codec are rejected and that a closed list cannot be used.
+     *
+     * @doc.testCaseDesign The test adds an Object that no codec accepts, then closes the list and reads it.
+     * @doc.testDescription The test verifies the exceptions and that the list is unchanged by the rejected element.
+     * @doc.preCondition The list contains one element.
+     * @doc.postCondition The list is closed.
+     * @doc.expectedResults The test expects an IllegalArgumentException and then an IllegalStateException.
+     * @throws IOException if an I/O error occurs.
+     */
+    @Test
+    public void invalidUse_ShouldThrow() throws IOException {
+        SpillingHList list = new SpillingHList(new HListCodec());
+        list.add("a");
+        Assert.assertThrows(IllegalArgumentException.class, () -> list.add(new Object()));
+        Assert.assertThrows(IllegalArgumentException.class, () -> list.set(0, new Object()));
+        Assert.assertEquals(1, list.size());
+        Assert.assertEquals("a", list.get(0));
+        Assert.assertThrows(IllegalArgumentException.class, () -> new SpillingHList(new HListCodec(), 0, 1, 0));
+        list.close();
+        list.close();
+        Assert.assertThrows(java.lang.IllegalStateException.class, () -> list.get(0));
+    }
+}
@@ -1,31 +1,222 @@
 package myTest;
 
+import org.junit.runner.Computer;
 import org.junit.runner.JUnitCore;
 import org.junit.runner.Result;
+import org.junit.runner.Runner;
+import org.junit.runner.notification.Failure;
+import org.junit.runners.ParentRunner;
+import org.junit.runners.model.InitializationError;
+import org.junit.runners.model.RunnerBuilder;
+import org.junit.runners.model.RunnerScheduler;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
- * This class is used to run the unit tests for the ListAdapter class.
+ * This class is used to run the unit tests for the classes of the myAdapter package.
  * It uses the JUnitCore class from the JUnit framework to run the tests and display the results.
  * The results include the total number of tests run, the number of failed tests, details of the failed tests, and the total time taken to run the tests.
+ * <p>
+ * The test classes, and the methods of every class, run in parallel on as many threads as there
+ * are processors, except the classes marked with {@link RunSerially}, which run one at a time
+ * afterwards. The duration of every test is collected by a {@link TimingListener}: the slowest
+ * tests are printed, and all the results are written to a JUnit XML report.
+ * </p>
+ * <p>
+ * Usage: {@code java myTest.TestRunner [--threads=N] [--slowest=N] [--report=file]}, by default
+ * the number of processors, 10 and {@code test-report.xml}.
+ * </p>
  */
 public class TestRunner {
+
+    /**
+     * The test classes of the suite.
+     */
+    static final Class<?>[] CLASSES = {ListAdapterTest.class, HPipelineTest.class, HStreamsTest.class, HViewsTest.class, ConcurrencyPolicyTest.class,
+            AbstractHListTest.class, AppendOnlyConcurrentListTest.class,
+            SegmentedConcurrentListTest.class, VersionedListTest.class,
+            ParallelBulkOperationsTest.class, HListCodecTest.class,
+            SerializedHListTest.class, JournaledHListTest.class, SpillingHListTest.class,
+            IntBufferHListTest.class, SharedHListTest.class, ComplexityRegressionTest.class,
+            InstrumentedHListTest.class, FlightRecorderHListTest.class, FootprintTest.class,
+            TraceReplayTest.class, LoadGeneratorTest.class, TimingListenerTest.class,
+            HListEnginesTest.class, HListDifferentialTest.class, AllocationFreeTest.class};
+
     /**
-     * The main method that runs the unit tests for the ListAdapter class.
-     * It creates a Result object by running the tests in the ListAdapterTest class.
-     * It then prints the total number of tests run, the number of failed tests, details of the failed tests, and the total time taken to run the tests.
+     * A computer that runs the classes, and the methods of every class, on two pools of threads.
+     * The methods have a pool of their own because the thread of a class waits for its methods,
+     * which would never run if the waiting classes took all the threads of a single pool.
+     */
+    static final class PooledComputer extends Computer {
+        /**
+         * The threads that run the classes.
+         */
+        private final ExecutorService classes;
+
+        /**
+         * The threads that run the methods.
+         */
+        private final ExecutorService methods;
+
+        /**
+         * Constructs a computer with the specified number of threads in each pool.
+         *
+         * @param threads the number of threads.
+         */
+        PooledComputer(int threads) {
+            classes = Executors.newFixedThreadPool(threads, factory("test-class-"));
+            methods = Executors.newFixedThreadPool(threads, factory("test-method-"));
+        }
+
+        /**
+         * Returns a factory of daemon threads with the specified prefix.
+         *
+         * @param prefix the prefix of the names.
+         * @return the factory.
+         */
+        private static ThreadFactory factory(final String prefix) {
+            final AtomicInteger count = new AtomicInteger();
+            return r -> {
+                Thread t = new Thread(r, prefix + count.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            };
+        }
+
+        public Runner getSuite(RunnerBuilder builder, Class<?>[] classes) throws InitializationError {
+            return schedule(super.getSuite(builder, classes), this.classes);
+        }
+
+        protected Runner getRunner(RunnerBuilder builder, Class<?> testClass) throws Throwable {
+            return schedule(super.getRunner(builder, testClass), methods);
+        }
+
+        /**
+         * Makes a runner run its children on a pool, if it has children.
+         *
+         * @param runner the runner.
+         * @param pool   the pool.
+         * @return the runner.
+         */
+        private static Runner schedule(Runner runner, final ExecutorService pool) {
+            if (runner instanceof ParentRunner)
+                ((ParentRunner<?>) runner).setScheduler(new RunnerScheduler() {
+                    private final List<Future<?>> children = new ArrayList<Future<?>>();
+
+                    public void schedule(Runnable child) {
+                        children.add(pool.submit(child));
+                    }
+
+                    public void finished() {
+                        try {
+                            for (int i = 0; i < children.size(); i++) {
+                                children.get(i).get();
+                            }
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        } catch (ExecutionException e) {
+                            throw new RuntimeException(e.getCause());
+                        }
+                    }
+                });
+            return runner;
+        }
+
+        /**
+         * Stops the threads of the pools and waits for them to end, so that they do not run
+         * together with the tests that follow.
+         *
+         * @throws InterruptedException if the thread is interrupted while waiting.
+         */
+        void shutdown() throws InterruptedException {
+            classes.shutdown();
+            methods.shutdown();
+            classes.awaitTermination(1, TimeUnit.MINUTES);
+            methods.awaitTermination(1, TimeUnit.MINUTES);
+        }
+    }
+
+    /**
+     * The main method that runs the unit tests for the classes of the myAdapter package.
+     * It runs the tests in parallel, then the tests that must run alone, and merges their results.
+     * It then prints the total number of tests run, the number of failed tests, details of the failed tests, and the total time taken to run the tests,
+     * followed by the slowest tests, and writes the report.
      *
-     * @param args The command line arguments. This is not used in this method.
+     * @param args The options {@code --threads=N}, {@code --slowest=N} and {@code --report=file}.
+     * @throws IOException          if the report cannot be written.
+     * @throws InterruptedException if the thread is interrupted while waiting for the parallel tests.
      */
-    public static void main(String[] args) {
-        Result result = JUnitCore.runClasses(ListAdapterTest.class);
-        System.out.println("Numero totale di test eseguiti: " + result.getRunCount());
-        System.out.println("Numero di test falliti: " + result.getFailureCount());
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int threads = Runtime.getRuntime().availableProcessors();
+        int slowest = 10;
+        String report = "test-report.xml";
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].startsWith("--threads="))
+                threads = Math.max(1, Integer.parseInt(args[i].substring(10)));
+            else if (args[i].startsWith("--slowest="))
+                slowest = Integer.parseInt(args[i].substring(10));
+            else if (args[i].startsWith("--report="))
+                report = args[i].substring(9);
+            else
+                throw new IllegalArgumentException("unknown option: " + args[i]);
+        }
+        List<Class<?>> parallel = new ArrayList<Class<?>>();
+        List<Class<?>> serial = new ArrayList<Class<?>>();
+        for (int i = 0; i < CLASSES.length; i++) {
+            (CLASSES[i].isAnnotationPresent(RunSerially.class) ? serial : parallel).add(CLASSES[i]);
+        }
+        TimingListener timing = new TimingListener();
+        JUnitCore core = new JUnitCore();
+        core.addListener(timing);
+        PooledComputer computer = new PooledComputer(threads);
+        long begin = System.nanoTime();
+        Result first;
+        try {
+            first = core.run(computer, parallel.toArray(new Class<?>[0]));
+        } finally {
+            computer.shutdown();
+        }
+        Result second = core.run(serial.toArray(new Class<?>[0]));
+        long nanos = System.nanoTime() - begin;
+        List<Failure> failures = new ArrayList<Failure>(first.getFailures());
+        failures.addAll(second.getFailures());
+        System.out.println("Numero totale di test eseguiti: " + (first.getRunCount() + second.getRunCount()));
+        System.out.println("Numero di test falliti: " + failures.size());
         System.out.println("Test falliti:");
-        for (int i = 0; i < result.getFailures().size(); i++) {
-            System.out.println(result.getFailures().get(i).toString());
+        for (int i = 0; i < failures.size(); i++) {
+            System.out.println(failures.get(i).toString());
         }
         System.out.println();
-        System.out.println("Tempo richiesto per l'esecuzione dei test: " + result.getRunTime() + "ms");
-        System.out.println("Tutti i test sono passati: " + result.wasSuccessful());
+        List<TimingListener.TestResult> slow = timing.slowest(slowest);
+        if (!slow.isEmpty()) {
+            System.out.println("Test con la durata maggiore:");
+            for (int i = 0; i < slow.size(); i++) {
+                TimingListener.TestResult r = slow.get(i);
+                System.out.println(String.format("%8d ms  %s.%s", r.nanos() / 1000000, r.className(), r.methodName()));
+            }
+            System.out.println();
+        }
+        File file = new File(report);
+        try (Writer out = new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8)) {
+            timing.writeXml(out, nanos);
+        }
+        System.out.println("Report JUnit XML: " + file.getPath());
+        System.out.println("Tempo richiesto per l'esecuzione dei test: " + nanos / 1000000 + "ms ("
+                + (first.getRunTime() + second.getRunTime()) + "ms in JUnit, " + threads + " thread)");
+        System.out.println("Tutti i test sono passati: " + (first.wasSuccessful() && second.wasSuccessful()));
     }
 }
@@ -0,0 +1,290 @@
+package myTest;
+
+import org.junit.runner.Description;
+import org.junit.runner.notification.Failure;
+import org.junit.runner.notification.RunListener;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * <p>
+ * Collects the duration and the outcome of every test of a run, to print the slowest tests and to
+ * write a report in the XML format of JUnit read by Ant, Maven Surefire and the continuous
+ * integration servers.
+ * </p>
+ * <p>
+ * The listener is not marked as thread safe, so JUnitCore calls it under a lock when the tests
+ * run in parallel. The duration of a test is measured from its start to its end as seen by the
+ * thread that runs it, so it includes the time the test waited for a processor.
+ * </p>
+ */
+public class TimingListener extends RunListener {
+
+    /**
+     * The duration and the outcome of a test.
+     */
+    public static final class TestResult {
+        /**
+         * The description of the test.
+         */
+        private final Description description;
+
+        /**
+         * The duration of the test in nanoseconds.
+         */
+        private long nanos;
+
+        /**
+         * The failure of the test, or {@code null} if it passed or was skipped.
+         */
+        private Failure failure;
+
+        /**
+         * Whether the test was ignored or one of its assumptions failed.
+         */
+        private boolean skipped;
+
+        /**
+         * Constructs the result of a test.
+         *
+         * @param description the description of the test.
+         */
+        TestResult(Description description) {
+            this.description = description;
+        }
+
+        /**
+         * Returns the name of the class of the test.
+         *
+         * @return the name of the class.
+         */
+        public String className() {
+            String name = description.getClassName();
+            return name == null ? description.getDisplayName() : name;
+        }
+
+        /**
+         * Returns the name of the test method, or the display name if the result is not of a method.
+         *
+         * @return the name of the test.
+         */
+        public String methodName() {
+            String name = description.getMethodName();
+            return name == null ? description.getDisplayName() : name;
+        }
+
+        /**
+         * Returns the duration of the test in nanoseconds.
+         *
+         * @return the duration.
+         */
+        public long nanos() {
+            return nanos;
+        }
+
+        /**
+         * Returns the failure of the test.
+         *
+         * @return the failure, or {@code null} if the test passed or was skipped.
+         */
+        public Failure failure() {
+            return failure;
+        }
+
+        /**
+         * Returns whether the test was ignored or one of its assumptions failed.
+         *
+         * @return {@code true} if the test was skipped.
+         */
+        public boolean skipped() {
+            return skipped;
+        }
+
+        /**
+         * Returns whether the test failed with an error rather than a failed assertion.
+         *
+         * @return {@code true} if the test threw an exception that is not an AssertionError.
+         */
+        public boolean error() {
+            return failure != null && !(failure.getException() instanceof AssertionError);
+        }
+    }
+
+    /**
+     * The results of the tests, in the order they started.
+     */
+    private final Map<Description, TestResult> results = new LinkedHashMap<Description, TestResult>();
+
+    /**
+     * The time every running test started, from {@link System#nanoTime()}.
+     */
+    private final Map<Description, Long> started = new HashMap<Description, Long>();
+
+    /**
+     * Returns the result of a test, adding it if it is new.
+     *
+     * @param description the description of the test.
+     * @return the result.
+     */
+    private TestResult result(Description description) {
+        TestResult r = results.get(description);
+        if (r == null) {
+            r = new TestResult(description);
+            results.put(description, r);
+        }
+        return r;
+    }
+
+    public void testStarted(Description description) {
+        result(description);
+        started.put(description, Long.valueOf(System.nanoTime()));
+    }
+
+    public void testFinished(Description description) {
+        Long start = started.remove(description);
+        if (start != null)
+            result(description).nanos = System.nanoTime() - start.longValue();
+    }
+
+    public void testFailure(Failure failure) {
+        result(failure.getDescription()).failure = failure;
+    }
+
+    public void testAssumptionFailure(Failure failure) {
+        result(failure.getDescription()).skipped = true;
+    }
+
+    public void testIgnored(Description description) {
+        result(description).skipped = true;
+    }
+
+    /**
+     * Returns the results of all the tests, in the order they started.
+     *
+     * @return a new list of the results.
+     */
+    public List<TestResult> results() {
+        return new ArrayList<TestResult>(results.values());
+    }
+
+    /**
+     * Returns the slowest tests, from the slowest.
+     *
+     * @param n the largest number of tests to return.
+     * @return a new list of at most {@code n} results.
+     */
+    public List<TestResult> slowest(int n) {
+        List<TestResult> all = results();
+        all.sort(Comparator.comparingLong(TestResult::nanos).reversed());
+        return all.subList(0, Math.min(Math.max(n, 0), all.size()));
+    }
+
+    /**
+     * Writes the results as a JUnit XML report, with a {@code testsuite} element for every class.
+     *
+     * @param out   the writer, which is not closed.
+     * @param nanos the duration of the whole run in nanoseconds.
+     * @throws IOException if an I/O error occurs.
+     */
+    public void writeXml(Writer out, long nanos) throws IOException {
+        Map<String, List<TestResult>> suites = new LinkedHashMap<String, List<TestResult>>();
+        List<TestResult> all = results();
+        for (int i = 0; i < all.size(); i++) {
+            suites.computeIfAbsent(all.get(i).className(), k -> new ArrayList<TestResult>()).add(all.get(i));
+        }
+        out.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+        out.write("<testsuites" + counts(all) + " time=\"" + seconds(nanos) + "\">\n");
+        for (Map.Entry<String, List<TestResult>> suite : suites.entrySet()) {
+            List<TestResult> tests = suite.getValue();
+            long time = 0;
+            for (int i = 0; i < tests.size(); i++) {
+                time += tests.get(i).nanos;
+            }
+            out.write("  <testsuite name=\"" + escape(suite.getKey()) + "\"" + counts(tests)
+                    + " time=\"" + seconds(time) + "\">\n");
+            for (int i = 0; i < tests.size(); i++) {
+                TestResult r = tests.get(i);
+                out.write("    <testcase classname=\"" + escape(r.className()) + "\" name=\""
+                        + escape(r.methodName()) + "\" time=\"" + seconds(r.nanos) + "\"");
+                if (r.failure != null) {
+                    Throwable e = r.failure.getException();
+                    String tag = r.error() ? "error" : "failure";
+                    out.write(">\n      <" + tag + " message=\"" + escape(r.failure.getMessage() == null ? "" : r.failure.getMessage())
+                            + "\" type=\"" + escape(e == null ? "" : e.getClass().getName()) + "\">"
+                            + escape(r.failure.getTrace()) + "</" + tag + ">\n    </testcase>\n");
+                } else if (r.skipped) {
+                    out.write(">\n      <skipped/>\n    </testcase>\n");
+                } else {
+                    out.write("/>\n");
+                }
+            }
+            out.write("  </testsuite>\n");
+        }
+        out.write("</testsuites>\n");
+    }
+
+    /**
+     * Returns the attributes that count the tests, the failures, the errors and the skipped tests.
+     *
+     * @param tests the results.
+     * @return the attributes, starting with a space.
+     */
+    private static String counts(List<TestResult> tests) {
+        int failures = 0;
+        int errors = 0;
+        int skipped = 0;
+        for (int i = 0; i < tests.size(); i++) {
+            TestResult r = tests.get(i);
+            if (r.error())
+                errors++;
+            else if (r.failure != null)
+                failures++;
+            else if (r.skipped)
+                skipped++;
+        }
+        return " tests=\"" + tests.size() + "\" failures=\"" + failures + "\" errors=\"" + errors
+                + "\" skipped=\"" + skipped + "\"";
+    }
+
+    /**
+     * Formats nanoseconds as seconds with three decimals.
+     *
+     * @param nanos the nanoseconds.
+     * @return the seconds.
+     */
+    static String seconds(long nanos) {
+        return String.format(Locale.ROOT, "%.3f", nanos / 1e9);
+    }
+
+    /**
+     * Escapes a string for an XML attribute or text, dropping the characters that XML 1.0 does not allow.
+     *
+     * @param s the string.
+     * @return the escaped string.
+     */
+    static String escape(String s) {
+        StringBuilder sb = new StringBuilder(s.length());
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c == '<')
+                sb.append("&lt;");
+            else if (c == '>')
+                sb.append("&gt;");
+            else if (c == '&')
+                sb.append("&amp;");
+            else if (c == '"')
+                sb.append("&quot;");
+            else if (c >= 0x20 || c == '\t' || c == '\n' || c == '\r')
+                sb.append(c);
+        }
+        return sb.toString();
+    }
+}
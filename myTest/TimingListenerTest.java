@@ -0,0 +1,172 @@
+package myTest;
+
+import org.junit.*;
+import org.junit.runner.JUnitCore;
+import org.junit.runner.Result;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.ByteArrayInputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * <p>
+ * Contains a series of unit tests designed to verify the functionality of the TimingListener class
+ * and of the parallel execution of TestRunner.
+ * </p>
+ * <p>
+ * Test Case Design: <br>
+ * The tests run the methods of a sample class, which pass, fail, throw, sleep or are ignored, with
+ * JUnitCore and the listener, and check the durations and the report.
+ * </p>
+ *
+ * @author Matteo Trevisan
+ */
+public class TimingListenerTest {
+
+    /**
+     * The tests run by the tests of this class, with one outcome each.
+     */
+    public static class Sample {
+        @Test
+        public void passes() {
+        }
+
+        @Test
+        public void sleeps() throws InterruptedException {
+            Thread.sleep(50);
+        }
+
+        @Test
+        public void fails() {
+            Assert.fail("expected <1> & \"2\"");
+        }
+
+        @Test
+        public void throwsError() {
+            throw new IllegalStateException("broken");
+        }
+
+        @Ignore
+        @Test
+        public void ignored() {
+        }
+
+        @Test
+        public void assumes() {
+            Assume.assumeTrue(false);
+        }
+    }
+
+    /**
+     * Runs the sample tests with a listener.
+     *
+     * @param parallel whether the tests run on a PooledComputer.
+     * @return the listener.
+     * @throws InterruptedException if the test is interrupted.
+     */
+    private static TimingListener run(boolean parallel) throws InterruptedException {
+        TimingListener timing = new TimingListener();
+        JUnitCore core = new JUnitCore();
+        core.addListener(timing);
+        Result result;
+        if (parallel) {
+            TestRunner.PooledComputer computer = new TestRunner.PooledComputer(4);
+            result = core.run(computer, Sample.class);
+            computer.shutdown();
+        } else {
+            result = core.run(Sample.class);
+        }
+        Assert.assertEquals(2, result.getFailureCount());
+        return timing;
+    }
+
+    /**
+     * Verifies that the listener measures every test and finds the slowest.
+     *
+     * @doc.testCaseDesign The test runs the sample class serially, then in parallel.
+     * @doc.testDescription The test verifies the results and the slowest tests.
+     * @doc.preCondition None.
+     * @doc.postCondition None.
+     * @doc.expectedResults The test expects 6 results, the sleeping test first among the slowest with at least 50 ms, and the outcomes of the tests.
+     * @throws InterruptedException if the test is interrupted.
+     */
+    @Test
+    public void listener_ShouldTime_Tests() throws InterruptedException {
+        TimingListener timing = run(false);
+        List<TimingListener.TestResult> results = timing.results();
+        Assert.assertEquals(6, results.size());
+        List<TimingListener.TestResult> slow = timing.slowest(2);
+        Assert.assertEquals(2, slow.size());
+        Assert.assertEquals("sleeps", slow.get(0).methodName());
+        Assert.assertEquals(Sample.class.getName(), slow.get(0).className());
+        Assert.assertTrue(slow.get(0).nanos() >= 50000000L);
+        Assert.assertTrue(slow.get(0).nanos() >= slow.get(1).nanos());
+        Assert.assertEquals(6, timing.slowest(100).size());
+        Assert.assertEquals(0, timing.slowest(-1).size());
+        int failures = 0;
+        int errors = 0;
+        int skipped = 0;
+        for (int i = 0; i < results.size(); i++) {
+            TimingListener.TestResult r = results.get(i);
+            if (r.error())
+                errors++;
+            else if (r.failure() != null)
+                failures++;
+            else if (r.skipped())
+                skipped++;
+        }
+        Assert.assertEquals(1, failures);
+        Assert.assertEquals(1, errors);
+        Assert.assertEquals(2, skipped);
+        Assert.assertEquals(6, run(true).results().size());
+    }
+
+    /**
+     * Verifies that the report is well formed XML with the counts and outcomes of JUnit.
+     *
+     * @doc.testCaseDesign The test writes the report of the sample class and parses it.
+     * @doc.testDescription The test verifies the attributes and the elements of the report.
+     * @doc.preCondition None.
+     * @doc.postCondition None.
+     * @doc.expectedResults The test expects one suite with 6 tests, 1 failure, 1 error and 2 skipped, the escaped message of the failure and the time of the sleeping test.
+     * @throws Exception if the report cannot be parsed.
+     */
+    @Test
+    public void report_ShouldBe_JUnitXml() throws Exception {
+        StringWriter out = new StringWriter();
+        run(false).writeXml(out, 1234000000L);
+        Document doc = DocumentBuilderFactory.newInstance().newDocumentBuilder()
+                .parse(new ByteArrayInputStream(out.toString().getBytes(StandardCharsets.UTF_8)));
+        Element root = doc.getDocumentElement();
+        Assert.assertEquals("testsuites", root.getTagName());
+        Assert.assertEquals("1.234", root.getAttribute("time"));
+        NodeList suites = root.getElementsByTagName("testsuite");
+        Assert.assertEquals(1, suites.getLength());
+        Element suite = (Element) suites.item(0);
+        Assert.assertEquals(Sample.class.getName(), suite.getAttribute("name"));
+        Assert.assertEquals("6", suite.getAttribute("tests"));
+        Assert.assertEquals("1", suite.getAttribute("failures"));
+        Assert.assertEquals("1", suite.getAttribute("errors"));
+        Assert.assertEquals("2", suite.getAttribute("skipped"));
+        Assert.assertEquals(6, suite.getElementsByTagName("testcase").getLength());
+        Assert.assertEquals(2, suite.getElementsByTagName("skipped").getLength());
+        Element failure = (Element) suite.getElementsByTagName("failure").item(0);
+        Assert.assertEquals("expected <1> & \"2\"", failure.getAttribute("message"));
+        Assert.assertEquals(AssertionError.class.getName(), failure.getAttribute("type"));
+        Element error = (Element) suite.getElementsByTagName("error").item(0);
+        Assert.assertEquals(IllegalStateException.class.getName(), error.getAttribute("type"));
+        Assert.assertTrue(error.getTextContent().contains("broken"));
+        NodeList cases = suite.getElementsByTagName("testcase");
+        for (int i = 0; i < cases.getLength(); i++) {
+            Element c = (Element) cases.item(i);
+            if (c.getAttribute("name").equals("sleeps"))
+                Assert.assertTrue(Double.parseDouble(c.getAttribute("time")) >= 0.05);
+        }
+        Assert.assertEquals("a&lt;b&amp;c", TimingListener.escape("a<b&\u0001c"));
+    }
+}
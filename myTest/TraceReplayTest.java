@@ -0,0 +1,218 @@
+package myTest;
+
+import myAdapter.*;
+import myConcurrent.*;
+import myMonitor.*;
+import org.junit.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * <p>
+ * Contains a series of unit tests designed to verify the functionality of the TracingHList and
+ * TraceReplayer classes.
+ * </p>
+ * <p>
+ * Test Case Design: <br>
+ * The tests record calls on a ListAdapter into a trace in memory and replay it on other lists.
+ * Since the trace replaces every element with its number, the replayed list is compared with the
+ * recorded one through the numbers, assigned in the order the elements first appear.
+ * </p>
+ *
+ * @author Matteo Trevisan
+ */
+public class TraceReplayTest {
+
+    /**
+     * Verifies that a replay rebuilds the recorded list and reports every call.
+     *
+     * @doc.testCaseDesign The test records insertions, removals, searches, a subList clear, a bulk operation and a call out of bounds.
+     * @doc.testDescription The test replays the trace on a ListAdapter and verifies its contents and the report.
+     * @doc.preCondition The recorded list is empty.
+     * @doc.postCondition The recorded list contains 4 elements.
+     * @doc.expectedResults The test expects the numbers of the recorded elements in the same order, every call replayed and one error.
+     * @throws IOException if the trace cannot be read.
+     */
+    @Test
+    public void replay_ShouldRebuild_RecordedList() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        TracingHList list = new TracingHList(new ListAdapter(), bytes);
+        list.add("a");
+        list.add(null);
+        list.add("b");
+        list.add(1, "c");
+        list.add("a");
+        Assert.assertEquals(3, list.indexOf("b"));
+        Assert.assertTrue(list.contains(null));
+        list.subList(1, 3).clear();
+        ListAdapter d = new ListAdapter();
+        d.add("d");
+        list.addAll(0, d);
+        Assert.assertThrows(IndexOutOfBoundsException.class, () -> list.get(10));
+        list.iterator();
+        Assert.assertEquals(12, list.records());
+        list.close();
+        Assert.assertThrows(UncheckedIOException.class, () -> list.add("x"));
+        Assert.assertEquals(4, list.delegate().size());
+
+        ListAdapter target = new ListAdapter();
+        TraceReplayer.Report report = TraceReplayer.replay(new ByteArrayInputStream(bytes.toByteArray()), target);
+        ListAdapter expected = new ListAdapter();
+        expected.add(Integer.valueOf(4));
+        expected.add(Integer.valueOf(1));
+        expected.add(Integer.valueOf(2));
+        expected.add(Integer.valueOf(1));
+        Assert.assertEquals(expected, target);
+        Assert.assertEquals(12, report.operations());
+        Assert.assertEquals(1, report.errors());
+        Assert.assertEquals(12, report.latencies().count());
+        Assert.assertTrue(report.throughput() > 0);
+        Assert.assertEquals(4, report.metrics().row("add").calls());
+        Assert.assertEquals(1, report.metrics().row("clear").calls());
+        Assert.assertEquals(1, report.metrics().row("contains").calls());
+        Assert.assertEquals(0, report.metrics().row("subList").scanned());
+        Assert.assertTrue(report.toString().startsWith("operations=12 errors=1 "));
+    }
+
+    /**
+     * Verifies that the changes made through the iterators are recorded and replayed.
+     *
+     * @doc.testCaseDesign The test removes an element through an iterator, then sets, adds and removes elements through a list iterator of a subList, and removes twice in a row.
+     * @doc.testDescription The test replays the trace on a ListAdapter and verifies its contents and the report.
+     * @doc.preCondition The recorded list contains "a", "b", "c", "d", "e".
+     * @doc.postCondition The recorded list contains "a", "c", null, "e".
+     * @doc.expectedResults The test expects the numbers of the recorded elements in the same order, every change recorded once and no error.
+     * @throws IOException if the trace cannot be read.
+     */
+    @Test
+    public void replay_ShouldRepeat_IteratorChanges() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        TracingHList list = new TracingHList(new ListAdapter(), bytes);
+        list.add("a");
+        list.add("b");
+        list.add("c");
+        list.add("d");
+        list.add("e");
+        HIterator it = list.iterator();
+        it.next();
+        it.next();
+        it.remove();
+        Assert.assertThrows(myAdapter.IllegalStateException.class, () -> it.remove());
+        HListIterator li = list.subList(1, 4).listIterator(1);
+        Assert.assertEquals("d", li.next());
+        li.set("x");
+        li.add("y");
+        Assert.assertEquals("y", li.previous());
+        li.remove();
+        Assert.assertEquals("x", li.previous());
+        li.set(null);
+        Assert.assertEquals("[a, c, null, e]", list.delegate().toString());
+        Assert.assertEquals(13, list.records());
+        list.close();
+
+        ListAdapter target = new ListAdapter();
+        TraceReplayer.Report report = TraceReplayer.replay(new ByteArrayInputStream(bytes.toByteArray()), target);
+        ListAdapter expected = new ListAdapter();
+        expected.add(Integer.valueOf(1));
+        expected.add(Integer.valueOf(3));
+        expected.add(null);
+        expected.add(Integer.valueOf(5));
+        Assert.assertEquals(expected, target);
+        Assert.assertEquals(13, report.operations());
+        Assert.assertEquals(0, report.errors());
+        Assert.assertEquals(2, report.metrics().row("set").calls());
+        Assert.assertEquals(2, report.metrics().row("remove-at").calls());
+        Assert.assertEquals(1, report.metrics().row("add-at").calls());
+    }
+
+    /**
+     * Verifies that a random trace gives the same list on every implementation.
+     *
+     * @doc.testCaseDesign The test records 20000 random calls among add, add-at, set, remove-at, remove, get, indexOf and subList operations, then replays the trace on a ListAdapter, a VersionedList and a SegmentedConcurrentList.
+     * @doc.testDescription The test compares the replayed lists with each other and their size with the recorded one.
+     * @doc.preCondition The lists are empty.
+     * @doc.postCondition The lists contain the same elements.
+     * @doc.expectedResults The test expects equal lists and the same number of calls and errors in every report.
+     * @throws IOException if the trace cannot be read.
+     */
+    @Test
+    public void replay_ShouldMatch_AcrossImplementations() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        TracingHList list = new TracingHList(new ListAdapter(), bytes);
+        Random random = new Random(46);
+        for (int i = 0; i < 20000; i++) {
+            int n = list.delegate().size();
+            Integer e = Integer.valueOf(random.nextInt(500));
+            switch (random.nextInt(8)) {
+                case 0:
+                case 1:
+                    list.add(e);
+                    break;
+                case 2:
+                    list.add(random.nextInt(n + 1), e);
+                    break;
+                case 3:
+                    if (n > 0)
+                        list.set(random.nextInt(n), e);
+                    break;
+                case 4:
+                    if (n > 0)
+                        list.remove(random.nextInt(n));
+                    break;
+                case 5:
+                    list.remove(e);
+                    break;
+                case 6:
+                    list.indexOf(e);
+                    break;
+                default:
+                    int from = random.nextInt(n + 1);
+                    HList sub = list.subList(from, from + random.nextInt(n - from + 1));
+                    sub.add(0, e);
+                    if (sub.size() > 3)
+                        sub.remove(1);
+            }
+        }
+        list.close();
+        HList[] targets = {new ListAdapter(), new VersionedList(), new SegmentedConcurrentList(8)};
+        TraceReplayer.Report first = null;
+        for (int t = 0; t < targets.length; t++) {
+            TraceReplayer.Report report = TraceReplayer.replay(new ByteArrayInputStream(bytes.toByteArray()), targets[t]);
+            Assert.assertEquals(list.delegate().size(), targets[t].size());
+            Assert.assertEquals(targets[0], targets[t]);
+            if (first == null)
+                first = report;
+            Assert.assertEquals(first.operations(), report.operations());
+            Assert.assertEquals(0, report.errors());
+        }
+        Assert.assertEquals(list.records(), first.operations());
+    }
+
+    /**
+     * Verifies that a stream that is not a trace is rejected.
+     *
+     * @doc.testCaseDesign The test replays an empty stream, a stream with a wrong header and a truncated trace.
+     * @doc.testDescription The test verifies the exceptions.
+     * @doc.preCondition None.
+     * @doc.postCondition None.
+     * @doc.expectedResults The test expects an IOException for every stream.
+     * @throws IOException if the trace cannot be written.
+     */
+    @Test
+    public void malformedTrace_ShouldThrow() throws IOException {
+        Assert.assertThrows(IOException.class, () -> TraceReplayer.replay(new ByteArrayInputStream(new byte[0]), new ListAdapter()));
+        Assert.assertThrows(IOException.class, () -> TraceReplayer.replay(new ByteArrayInputStream(new byte[8]), new ListAdapter()));
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        TracingHList list = new TracingHList(new ListAdapter(), bytes);
+        list.add(Integer.valueOf(1 << 20));
+        list.close();
+        byte[] complete = bytes.toByteArray();
+        byte[] trace = Arrays.copyOf(complete, complete.length - 1);
+        Assert.assertThrows(IOException.class, () -> TraceReplayer.replay(new ByteArrayInputStream(trace), new ListAdapter()));
+    }
+}
@@ -0,0 +1,206 @@
+package myTest;
+
+import myAdapter.*;
+import myConcurrent.*;
+import org.junit.*;
+
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * <p>
+ * Contains a series of unit tests designed to verify the functionality of the VersionedList class.
+ * </p>
+ * <p>
+ * Test Case Design: <br>
+ * The single thread tests compare the list with a ListAdapter after a random sequence of
+ * operations, which exercises the rebalancing of the trees, and check that snapshots and
+ * iterators keep the version they were created on. The multi thread tests check that
+ * concurrent writers do not lose updates and that a reader always iterates a consistent version.
+ * </p>
+ *
+ * @author Matteo Trevisan
+ */
+public class VersionedListTest {
+
+    /*
+     * VersionedList Single Thread Family Tests
+     */
+
+    /**
+     * Verifies that the list behaves like a ListAdapter.
+     *
+     * @doc.testCaseDesign The test runs 5000 random inserts, appends, sets and removals on a VersionedList and on a ListAdapter.
+     * @doc.testDescription The test verifies that both lists return the same values and have the same size after every operation.
+     * @doc.preCondition Both lists are empty.
+     * @doc.postCondition Both lists have the same contents.
+     * @doc.expectedResults The test expects equal lists.
+     */
+    @Test
+    public void randomOperations_ShouldMatch_ListAdapter() {
+        VersionedList list = new VersionedList();
+        ListAdapter expected = new ListAdapter();
+        Random random = new Random(7);
+        for (int i = 0; i < 5000; i++) {
+            int size = expected.size();
+            int op = random.nextInt(4);
+            Integer value = Integer.valueOf(i);
+            if (op == 0 || size == 0) {
+                int index = random.nextInt(size + 1);
+                list.add(index, value);
+                expected.add(index, value);
+            } else if (op == 1) {
+                Assert.assertTrue(list.add(value));
+                expected.add(value);
+            } else if (op == 2) {
+                int index = random.nextInt(size);
+                Assert.assertEquals(expected.set(index, value), list.set(index, value));
+            } else {
+                int index = random.nextInt(size);
+                Assert.assertEquals(expected.remove(index), list.remove(index));
+            }
+            Assert.assertEquals(expected.size(), list.size());
+        }
+        Assert.assertEquals(expected, list);
+        Assert.assertEquals(list, expected);
+        Assert.assertEquals(expected.hashCode(), list.hashCode());
+    }
+
+    /**
+     * Verifies that a snapshot keeps its version while the list changes.
+     *
+     * @doc.testCaseDesign The test takes a snapshot of [a, b, c], then modifies the list in several ways.
+     * @doc.testDescription The test verifies the contents and the version of the snapshot and of the list.
+     * @doc.preCondition The list contains a, b, c.
+     * @doc.postCondition The list contains x, c, d; the snapshot still contains a, b, c.
+     * @doc.expectedResults The test expects [a, b, c] from the snapshot and a read-only snapshot.
+     */
+    @Test
+    public void snapshot_ShouldKeep_Version() {
+        VersionedList list = new VersionedList();
+        list.add("a");
+        list.add("b");
+        list.add("c");
+        VersionedList.Snapshot snapshot = list.snapshot();
+        Assert.assertEquals(3, snapshot.version());
+        list.set(0, "x");
+        list.remove(1);
+        list.add("d");
+        Assert.assertEquals("[x, c, d]", list.toString());
+        Assert.assertEquals("[a, b, c]", snapshot.toString());
+        Assert.assertEquals(6, list.version());
+        Assert.assertThrows(myAdapter.UnsupportedOperationException.class, () -> snapshot.add("e"));
+        Assert.assertThrows(myAdapter.UnsupportedOperationException.class, () -> snapshot.set(0, "e"));
+        Assert.assertThrows(myAdapter.UnsupportedOperationException.class, snapshot::clear);
+    }
+
+    /**
+     * Verifies that an iterator keeps iterating the version it was created on.
+     *
+     * @doc.testCaseDesign The test creates an iterator and a list iterator, then clears the list and adds other elements.
+     * @doc.testDescription The test verifies that both iterators return the original elements and do not support remove.
+     * @doc.preCondition The list contains 0, 1, 2, 3, 4.
+     * @doc.postCondition The list contains 9.
+     * @doc.expectedResults The test expects 0 to 4 from the iterator and 4 to 0 from the list iterator going backwards.
+     */
+    @Test
+    public void iterators_ShouldIterate_TheirVersion() {
+        VersionedList list = new VersionedList();
+        for (int i = 0; i < 5; i++) {
+            list.add(Integer.valueOf(i));
+        }
+        HIterator it = list.iterator();
+        HListIterator lit = list.listIterator(5);
+        list.clear();
+        list.add(Integer.valueOf(9));
+        for (int i = 0; i < 5; i++) {
+            Assert.assertEquals(Integer.valueOf(i), it.next());
+        }
+        Assert.assertFalse(it.hasNext());
+        Assert.assertThrows(myAdapter.UnsupportedOperationException.class, it::remove);
+        for (int i = 4; i >= 0; i--) {
+            Assert.assertEquals(Integer.valueOf(i), lit.previous());
+        }
+        Assert.assertThrows(myAdapter.UnsupportedOperationException.class, lit::remove);
+    }
+
+    /**
+     * Verifies the bulk operations, subLists and null elements.
+     *
+     * @doc.testCaseDesign The test inserts a list into itself, removes and retains elements, and clears a subList.
+     * @doc.testDescription The test verifies the contents of the list after each operation.
+     * @doc.preCondition The list contains a, null.
+     * @doc.postCondition The list contains a.
+     * @doc.expectedResults The test expects [a, a, null, null], then [a, a], then [a].
+     */
+    @Test
+    public void bulkOperations_ShouldBe_Atomic() {
+        VersionedList list = new VersionedList();
+        list.add("a");
+        list.add(null);
+        Assert.assertTrue(list.addAll(1, list));
+        Assert.assertEquals("[a, a, null, null]", list.toString());
+        Assert.assertEquals(2, list.indexOf(null));
+        Assert.assertTrue(list.retainAll(new VersionedList(list.subList(0, 1))));
+        Assert.assertEquals("[a, a]", list.toString());
+        list.subList(1, 2).clear();
+        Assert.assertEquals("[a]", list.toString());
+        Assert.assertTrue(list.remove("a"));
+        Assert.assertTrue(list.isEmpty());
+        Assert.assertThrows(IndexOutOfBoundsException.class, () -> list.get(0));
+    }
+
+    /*
+     * VersionedList Multi Thread Family Tests
+     */
+
+    /**
+     * Verifies that concurrent writers do not lose updates and that readers see consistent versions.
+     *
+     * @doc.testCaseDesign 4 threads append 5000 elements each, in pairs (n, -n), while a reader repeatedly iterates snapshots.
+     * @doc.testDescription The test verifies that every snapshot has an even size and sums to zero, and the final size.
+     * @doc.preCondition The list is empty.
+     * @doc.postCondition The list contains 40000 elements.
+     * @doc.expectedResults The test expects consistent snapshots and a size of 40000.
+     * @throws InterruptedException if the test thread is interrupted.
+     */
+    @Test
+    public void concurrentWriters_ShouldPublish_ConsistentVersions() throws InterruptedException {
+        final VersionedList list = new VersionedList();
+        final AtomicBoolean done = new AtomicBoolean();
+        final boolean[] inconsistent = new boolean[1];
+        Thread reader = new Thread(() -> {
+            while (!done.get()) {
+                VersionedList.Snapshot snapshot = list.snapshot();
+                long sum = 0;
+                HIterator it = snapshot.iterator();
+                while (it.hasNext()) {
+                    sum += ((Integer) it.next()).intValue();
+                }
+                if (sum != 0 || snapshot.size() % 2 != 0)
+                    inconsistent[0] = true;
+            }
+        });
+        reader.start();
+        Thread[] writers = new Thread[4];
+        for (int t = 0; t < writers.length; t++) {
+            writers[t] = new Thread(() -> {
+                for (int i = 1; i <= 5000; i++) {
+                    VersionedList pair = new VersionedList();
+                    pair.add(Integer.valueOf(i));
+                    pair.add(Integer.valueOf(-i));
+                    list.addAll(pair);
+                }
+            });
+            writers[t].start();
+        }
+        for (int t = 0; t < writers.length; t++) {
+            writers[t].join();
+        }
+        done.set(true);
+        reader.join();
+        Assert.assertFalse(inconsistent[0]);
+        Assert.assertEquals(40000, list.size());
+        Assert.assertEquals(20000, list.version());
+    }
+}